@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.annotationprocessor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor generating a {@code GeneratedHandlerMetaModel} for every type declaring message handlers, being
+ * methods or constructors (meta-)annotated with {@code @MessageHandler}. This includes handlers annotated with {@code
+ * @CommandHandler}, {@code @EventHandler}, {@code @QueryHandler}, {@code @EventSourcingHandler}, {@code
+ * @SagaEventHandler} and {@code @MessageHandlerInterceptor}, as well as custom handler annotations.
+ * <p>
+ * The generated meta model of a type named {@code com.example.MyHandler} is named {@code
+ * com.example.MyHandler_AxonHandlerMetaModel}. It lists the handlers declared by the type, allowing Axon to inspect
+ * the type without reflectively scanning all of its methods and constructors, and it invokes these handlers directly
+ * instead of through reflection. Private handlers are listed, but are still invoked through reflection.
+ * <p>
+ * The binary names of all types for which a meta model was generated are listed in the {@code
+ * META-INF/axon/handler-meta-models} resource, one per line. Axon only looks for the meta model of types listed there.
+ * <p>
+ * Meta models are not generated for private or local types, nor for inner classes, as their members can not be
+ * referenced from generated code. Such types are inspected reflectively, as they would be without this processor.
+ *
+ * @since 4.6.0
+ */
+@SupportedAnnotationTypes("*")
+public class HandlerMetaModelProcessor extends AbstractProcessor {
+
+    private static final String MESSAGE_HANDLER = "org.axonframework.messaging.annotation.MessageHandler";
+    private static final String META_MODEL_TYPE = "org.axonframework.messaging.annotation.GeneratedHandlerMetaModel";
+    private static final String CLASS_NAME_SUFFIX = "_AxonHandlerMetaModel";
+    private static final String INDEX_RESOURCE = "META-INF/axon/handler-meta-models";
+
+    private final Set<String> indexedHandlerTypes = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element rootElement : roundEnv.getRootElements()) {
+            if (rootElement instanceof TypeElement) {
+                processType((TypeElement) rootElement);
+            }
+        }
+        if (roundEnv.processingOver() && !indexedHandlerTypes.isEmpty()) {
+            writeIndex();
+        }
+        // handler annotations are not claimed, as other processors may be interested in them as well
+        return false;
+    }
+
+    private void processType(TypeElement type) {
+        List<ExecutableElement> handlers = new ArrayList<>();
+        for (Element member : type.getEnclosedElements()) {
+            if (member instanceof TypeElement) {
+                processType((TypeElement) member);
+            } else if ((member.getKind() == ElementKind.METHOD || member.getKind() == ElementKind.CONSTRUCTOR)
+                    && isMessageHandler(member)) {
+                handlers.add((ExecutableElement) member);
+            }
+        }
+        if (!handlers.isEmpty() && supportsMetaModel(type, handlers)) {
+            writeMetaModel(type, handlers);
+        }
+    }
+
+    private boolean isMessageHandler(Element member) {
+        Set<String> visited = new HashSet<>();
+        for (AnnotationMirror annotation : member.getAnnotationMirrors()) {
+            if (isMessageHandlerAnnotation(annotation, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isMessageHandlerAnnotation(AnnotationMirror annotation, Set<String> visited) {
+        TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+        String annotationName = annotationType.getQualifiedName().toString();
+        if (MESSAGE_HANDLER.equals(annotationName)) {
+            return true;
+        }
+        if (!visited.add(annotationName)) {
+            return false;
+        }
+        for (AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+            if (isMessageHandlerAnnotation(metaAnnotation, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean supportsMetaModel(TypeElement type, List<ExecutableElement> handlers) {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.INTERFACE) {
+            return false;
+        }
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        Element current = type;
+        while (current instanceof TypeElement) {
+            if (((TypeElement) current).getNestingKind() == NestingKind.MEMBER
+                    && !isStaticMember((TypeElement) current)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return isAccessible(type, packageElement)
+                && handlers.stream()
+                           .flatMap(handler -> handler.getParameters().stream())
+                           .allMatch(parameter -> isAccessible(parameter.asType(), packageElement));
+    }
+
+    private boolean isAccessible(TypeMirror type, PackageElement fromPackage) {
+        TypeMirror erasedType = processingEnv.getTypeUtils().erasure(type);
+        if (erasedType.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) erasedType).getComponentType(), fromPackage);
+        }
+        return erasedType.getKind() != TypeKind.DECLARED
+                || isAccessible((TypeElement) ((DeclaredType) erasedType).asElement(), fromPackage);
+    }
+
+    private boolean isAccessible(TypeElement type, PackageElement fromPackage) {
+        boolean samePackage = processingEnv.getElementUtils().getPackageOf(type).equals(fromPackage);
+        Element current = type;
+        while (current instanceof TypeElement) {
+            TypeElement currentType = (TypeElement) current;
+            NestingKind nestingKind = currentType.getNestingKind();
+            if (currentType.getModifiers().contains(Modifier.PRIVATE)
+                    || nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS
+                    || (!samePackage && !currentType.getModifiers().contains(Modifier.PUBLIC))) {
+                return false;
+            }
+            current = currentType.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isStaticMember(TypeElement type) {
+        return type.getModifiers().contains(Modifier.STATIC)
+                || type.getKind().isInterface()
+                || type.getEnclosingElement().getKind().isInterface();
+    }
+
+    private void writeMetaModel(TypeElement type, List<ExecutableElement> handlers) {
+        Elements elements = processingEnv.getElementUtils();
+        PackageElement packageElement = elements.getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleBinaryName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String metaModelName = simpleBinaryName + CLASS_NAME_SUFFIX;
+        String typeName = type.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+              .append(" * Handler meta model of {@link ").append(typeName).append("}.\n")
+              .append(" * Generated by the ").append(HandlerMetaModelProcessor.class.getName())
+              .append(". Do not edit.\n")
+              .append(" */\n")
+              .append("public final class ").append(metaModelName).append(" implements ")
+              .append(META_MODEL_TYPE).append(" {\n\n");
+
+        source.append("    @Override\n")
+              .append("    public Class<?> handlerType() {\n")
+              .append("        return ").append(typeName).append(".class;\n")
+              .append("    }\n\n");
+
+        source.append("    @Override\n")
+              .append("    public java.lang.reflect.Executable[] handlerMembers() throws NoSuchMethodException {\n")
+              .append("        return new java.lang.reflect.Executable[]{\n");
+        for (ExecutableElement handler : handlers) {
+            source.append("                ").append(typeName).append(".class");
+            if (handler.getKind() == ElementKind.CONSTRUCTOR) {
+                source.append(".getDeclaredConstructor(");
+            } else {
+                source.append(".getDeclaredMethod(\"").append(handler.getSimpleName()).append('"');
+                if (!handler.getParameters().isEmpty()) {
+                    source.append(", ");
+                }
+            }
+            source.append(handler.getParameters().stream()
+                                 .map(parameter -> erasure(parameter) + ".class")
+                                 .collect(Collectors.joining(", ")))
+                  .append("),\n");
+        }
+        source.append("        };\n")
+              .append("    }\n\n");
+
+        source.append("    @Override\n")
+              .append("    public boolean canInvoke(int memberIndex) {\n")
+              .append("        switch (memberIndex) {\n");
+        boolean anyInvocable = false;
+        for (int i = 0; i < handlers.size(); i++) {
+            if (canInvoke(type, handlers.get(i))) {
+                source.append("            case ").append(i).append(":\n");
+                anyInvocable = true;
+            }
+        }
+        if (anyInvocable) {
+            source.append("                return true;\n");
+        }
+        source.append("            default:\n")
+              .append("                return false;\n")
+              .append("        }\n")
+              .append("    }\n\n");
+
+        source.append("    @Override\n")
+              .append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+              .append("    public Object invoke(int memberIndex, Object target, Object[] arguments) throws Exception {\n")
+              .append("        switch (memberIndex) {\n");
+        for (int i = 0; i < handlers.size(); i++) {
+            ExecutableElement handler = handlers.get(i);
+            if (canInvoke(type, handler)) {
+                source.append("            case ").append(i).append(":\n");
+                appendInvocation(source, typeName, handler);
+            }
+        }
+        source.append("            default:\n")
+              .append("                throw new IllegalArgumentException(\n")
+              .append("                        \"Member \" + memberIndex + \" of \" + handlerType() ")
+              .append("+ \" can not be invoked through its meta model\");\n")
+              .append("        }\n")
+              .append("    }\n")
+              .append("}\n");
+
+        Filer filer = processingEnv.getFiler();
+        String qualifiedMetaModelName = packageName.isEmpty() ? metaModelName : packageName + "." + metaModelName;
+        try (Writer writer = filer.createSourceFile(qualifiedMetaModelName, type).openWriter()) {
+            writer.write(source.toString());
+            indexedHandlerTypes.add(binaryName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.WARNING,
+                    "Unable to generate the handler meta model of " + typeName + ": " + e.getMessage(),
+                    type
+            );
+        }
+    }
+
+    private void writeIndex() {
+        try (Writer writer = processingEnv.getFiler()
+                                          .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE)
+                                          .openWriter()) {
+            for (String handlerType : indexedHandlerTypes) {
+                writer.write(handlerType);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.WARNING,
+                    "Unable to write the index of handler meta models. The generated meta models will not be used: "
+                            + e.getMessage()
+            );
+        }
+    }
+
+    private boolean canInvoke(TypeElement type, ExecutableElement handler) {
+        if (handler.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        if (handler.getKind() == ElementKind.CONSTRUCTOR && type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror exception = elements.getTypeElement(Exception.class.getName()).asType();
+        TypeMirror error = elements.getTypeElement(Error.class.getName()).asType();
+        for (TypeMirror thrownType : handler.getThrownTypes()) {
+            if (!types.isAssignable(thrownType, exception) && !types.isAssignable(thrownType, error)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendInvocation(StringBuilder source, String typeName, ExecutableElement handler) {
+        String arguments = argumentList(handler);
+        if (handler.getKind() == ElementKind.CONSTRUCTOR) {
+            source.append("                return new ").append(typeName).append('(').append(arguments).append(");\n");
+            return;
+        }
+        String invocation = (handler.getModifiers().contains(Modifier.STATIC)
+                ? typeName
+                : "((" + typeName + ") target)")
+                + "." + handler.getSimpleName() + "(" + arguments + ")";
+        if (handler.getReturnType().getKind() == TypeKind.VOID) {
+            source.append("                ").append(invocation).append(";\n")
+                  .append("                return null;\n");
+        } else {
+            source.append("                return ").append(invocation).append(";\n");
+        }
+    }
+
+    private String argumentList(ExecutableElement handler) {
+        List<String> arguments = new ArrayList<>();
+        List<? extends VariableElement> parameters = handler.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            arguments.add("(" + erasure(parameters.get(i)) + ") arguments[" + i + "]");
+        }
+        return String.join(", ", arguments);
+    }
+
+    private String erasure(VariableElement parameter) {
+        return sourceName(processingEnv.getTypeUtils().erasure(parameter.asType()));
+    }
+
+    private String sourceName(TypeMirror erasedType) {
+        switch (erasedType.getKind()) {
+            case ARRAY:
+                return sourceName(((ArrayType) erasedType).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) erasedType).asElement()).getQualifiedName().toString();
+            default:
+                return erasedType.getKind().name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
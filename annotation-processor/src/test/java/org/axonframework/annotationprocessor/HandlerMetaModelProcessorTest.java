@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.annotationprocessor;
+
+import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.messaging.annotation.AnnotatedHandlerInspector;
+import org.axonframework.messaging.annotation.GeneratedHandlerMetaModel;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.queryhandling.QueryHandler;
+import org.junit.jupiter.api.*;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Executable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.Collections.singletonList;
+import static org.axonframework.eventhandling.GenericEventMessage.asEventMessage;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link HandlerMetaModelProcessor}. The processor is applied to this class when compiling
+ * the test sources, generating the meta models validated by these tests.
+ */
+class HandlerMetaModelProcessorTest {
+
+    @Test
+    void testMetaModelListsDeclaredHandlers() throws Exception {
+        GeneratedHandlerMetaModel testSubject = metaModelOf(StubHandler.class);
+
+        assertEquals(StubHandler.class, testSubject.handlerType());
+        Set<Executable> expected = new HashSet<>(Arrays.asList(
+                StubHandler.class.getDeclaredConstructor(Long.class),
+                StubHandler.class.getDeclaredMethod("on", String.class),
+                StubHandler.class.getDeclaredMethod("on", List.class),
+                StubHandler.class.getDeclaredMethod("count", Integer.class),
+                StubHandler.class.getDeclaredMethod("failing", Boolean.class),
+                StubHandler.class.getDeclaredMethod("query", Double.class)
+        ));
+        assertEquals(expected, new HashSet<>(Arrays.asList(testSubject.handlerMembers())));
+    }
+
+    @Test
+    void testMetaModelInvokesHandlers() throws Exception {
+        GeneratedHandlerMetaModel testSubject = metaModelOf(StubHandler.class);
+        List<Executable> members = Arrays.asList(testSubject.handlerMembers());
+        StubHandler target = new StubHandler();
+
+        int constructorIndex = members.indexOf(StubHandler.class.getDeclaredConstructor(Long.class));
+        Object created = testSubject.invoke(constructorIndex, null, new Object[]{42L});
+        assertEquals(42L, ((StubHandler) created).handled);
+
+        int onStringIndex = members.indexOf(StubHandler.class.getDeclaredMethod("on", String.class));
+        assertNull(testSubject.invoke(onStringIndex, target, new Object[]{"event"}));
+        assertEquals("event", target.handled);
+
+        int onListIndex = members.indexOf(StubHandler.class.getDeclaredMethod("on", List.class));
+        testSubject.invoke(onListIndex, target, new Object[]{singletonList("events")});
+        assertEquals(singletonList("events"), target.handled);
+
+        int countIndex = members.indexOf(StubHandler.class.getDeclaredMethod("count", Integer.class));
+        assertEquals(2, testSubject.invoke(countIndex, target, new Object[]{1}));
+    }
+
+    @Test
+    void testExceptionsThrownByHandlersArePropagatedAsIs() throws Exception {
+        GeneratedHandlerMetaModel testSubject = metaModelOf(StubHandler.class);
+        int failingIndex = Arrays.asList(testSubject.handlerMembers())
+                                 .indexOf(StubHandler.class.getDeclaredMethod("failing", Boolean.class));
+
+        assertThrows(StubException.class,
+                     () -> testSubject.invoke(failingIndex, new StubHandler(), new Object[]{true}));
+    }
+
+    @Test
+    void testPrivateHandlersCanNotBeInvokedThroughMetaModel() throws Exception {
+        GeneratedHandlerMetaModel testSubject = metaModelOf(StubHandler.class);
+        int queryIndex = Arrays.asList(testSubject.handlerMembers())
+                               .indexOf(StubHandler.class.getDeclaredMethod("query", Double.class));
+
+        assertFalse(testSubject.canInvoke(queryIndex));
+        assertThrows(IllegalArgumentException.class,
+                     () -> testSubject.invoke(queryIndex, new StubHandler(), new Object[]{1.0}));
+    }
+
+    @Test
+    void testNoMetaModelIsGeneratedForTypesWithoutHandlersOrForInnerClasses() {
+        assertThrows(ClassNotFoundException.class, () -> metaModelOf(NoHandlers.class));
+        assertThrows(ClassNotFoundException.class, () -> metaModelOf(InnerHandler.class));
+    }
+
+    @Test
+    void testHandlerTypesWithMetaModelAreIndexed() throws Exception {
+        Set<String> indexedTypes = new HashSet<>();
+        try (InputStream index = getClass().getClassLoader()
+                                           .getResourceAsStream("META-INF/axon/handler-meta-models");
+             BufferedReader reader = new BufferedReader(new InputStreamReader(
+                     Objects.requireNonNull(index), StandardCharsets.UTF_8
+             ))) {
+            reader.lines().forEach(indexedTypes::add);
+        }
+
+        assertTrue(indexedTypes.contains(StubHandler.class.getName()));
+        assertFalse(indexedTypes.contains(NoHandlers.class.getName()));
+        assertFalse(indexedTypes.contains(InnerHandler.class.getName()));
+    }
+
+    @Test
+    void testInspectedHandlersAreInvokedWithoutReflection() throws Exception {
+        StubHandler target = new StubHandler();
+        MessageHandlingMember<? super StubHandler> handler =
+                AnnotatedHandlerInspector.inspectType(StubHandler.class)
+                                         .getHandlers(StubHandler.class)
+                                         .filter(h -> h.canHandle(asEventMessage("event")))
+                                         .findFirst()
+                                         .orElseThrow(AssertionError::new);
+
+        handler.handle(asEventMessage("event"), target);
+
+        assertEquals("event", target.handled);
+        // only the frames between this test and the handler are relevant, as the test itself is invoked reflectively
+        assertTrue(Arrays.stream(target.handlingStackTrace)
+                         .limit(framesUpTo("testInspectedHandlersAreInvokedWithoutReflection", target))
+                         .noneMatch(element -> element.getClassName().startsWith("java.lang.reflect")
+                                 || element.getClassName().startsWith("jdk.internal.reflect")
+                                 || element.getClassName().startsWith("sun.reflect")));
+    }
+
+    private static long framesUpTo(String methodName, StubHandler target) {
+        StackTraceElement[] stackTrace = target.handlingStackTrace;
+        int frames = 0;
+        while (frames < stackTrace.length && !stackTrace[frames].getMethodName().equals(methodName)) {
+            frames++;
+        }
+        return frames;
+    }
+
+    private static GeneratedHandlerMetaModel metaModelOf(Class<?> handlerType) throws Exception {
+        return (GeneratedHandlerMetaModel) Class.forName(handlerType.getName() + "_AxonHandlerMetaModel")
+                                                .getDeclaredConstructor()
+                                                .newInstance();
+    }
+
+    @SuppressWarnings("unused")
+    static class StubHandler {
+
+        private Object handled;
+        private StackTraceElement[] handlingStackTrace;
+
+        StubHandler() {
+        }
+
+        @CommandHandler
+        public StubHandler(Long command) {
+            this.handled = command;
+        }
+
+        @EventHandler
+        public void on(String event) {
+            this.handled = event;
+            this.handlingStackTrace = new Throwable().getStackTrace();
+        }
+
+        @EventHandler
+        protected void on(List<String> events) {
+            this.handled = events;
+        }
+
+        @EventHandler
+        int count(Integer event) {
+            return event + 1;
+        }
+
+        @EventHandler
+        public void failing(Boolean event) throws StubException {
+            throw new StubException();
+        }
+
+        @QueryHandler
+        private String query(Double query) {
+            return "private";
+        }
+
+        public void notAHandler(String event) {
+        }
+    }
+
+    static class NoHandlers {
+
+        public void notAHandler(String event) {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    class InnerHandler {
+
+        @EventHandler
+        public void on(String event) {
+        }
+    }
+
+    private static class StubException extends Exception {
+
+    }
+}
@@ -23,12 +23,14 @@
 import org.axonframework.axonserver.connector.event.axon.EventProcessorInfoConfiguration;
 import org.axonframework.axonserver.connector.query.AxonServerQueryBus;
 import org.axonframework.axonserver.connector.query.QueryPriorityCalculator;
+import org.axonframework.axonserver.connector.util.ExecutorServiceBuilder;
 import org.axonframework.commandhandling.CommandBus;
 import org.axonframework.commandhandling.DuplicateCommandHandlerResolver;
 import org.axonframework.commandhandling.LoggingDuplicateCommandHandlerResolver;
 import org.axonframework.commandhandling.SimpleCommandBus;
 import org.axonframework.commandhandling.distributed.AnnotationRoutingStrategy;
 import org.axonframework.commandhandling.distributed.RoutingStrategy;
+import org.axonframework.common.ThreadingMode;
 import org.axonframework.common.transaction.NoTransactionManager;
 import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.config.Configuration;
@@ -124,6 +126,9 @@ private AxonServerCommandBus buildCommandBus(Configuration c) {
                                            () -> command -> CommandLoadFactorProvider.DEFAULT_VALUE
                                    ))
                                    .targetContextResolver(c.getComponent(TargetContextResolver.class))
+                                   .executorServiceBuilder(
+                                           ExecutorServiceBuilder.defaultCommandExecutorServiceBuilder(threadingMode(c))
+                                   )
                                    .build();
     }
 
@@ -153,9 +158,16 @@ private QueryBus buildQueryBus(Configuration c) {
                                          QueryPriorityCalculator::defaultQueryPriorityCalculator
                                  ))
                                  .targetContextResolver(c.getComponent(TargetContextResolver.class))
+                                 .executorServiceBuilder(
+                                         ExecutorServiceBuilder.defaultQueryExecutorServiceBuilder(threadingMode(c))
+                                 )
                                  .build();
     }
 
+    private static ThreadingMode threadingMode(Configuration c) {
+        return c.getComponent(ThreadingMode.class, () -> ThreadingMode.PLATFORM);
+    }
+
     @Override
     public int order() {
         return Integer.MIN_VALUE;
@@ -18,6 +18,7 @@
 
 import org.axonframework.axonserver.connector.AxonServerConfiguration;
 import org.axonframework.common.AxonThreadFactory;
+import org.axonframework.common.ThreadingMode;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
@@ -50,13 +51,22 @@ public interface ExecutorServiceBuilder extends
      * @return a default ExecutorServiceBuilder to create an executor for processing commands
      */
     static ExecutorServiceBuilder defaultCommandExecutorServiceBuilder() {
-        return (configuration, commandProcessQueue) -> new ThreadPoolExecutor(
-                configuration.getCommandThreads(),
-                configuration.getCommandThreads(),
-                THREAD_KEEP_ALIVE_TIME,
-                TimeUnit.MILLISECONDS,
-                commandProcessQueue,
-                new AxonThreadFactory("CommandProcessor")
+        return defaultCommandExecutorServiceBuilder(ThreadingMode.PLATFORM);
+    }
+
+    /**
+     * Create a default ExecutorServiceBuilder used to create a {@link ThreadPoolExecutor} for processing incoming
+     * commands, using threads of the given {@link ThreadingMode}. In {@link ThreadingMode#PLATFORM} mode, this
+     * executor equals the one created by {@link #defaultCommandExecutorServiceBuilder()}. In {@link
+     * ThreadingMode#VIRTUAL} mode, every command is processed on a new virtual thread, ignoring the {@link
+     * AxonServerConfiguration#getCommandThreads()}.
+     *
+     * @param threadingMode the {@link ThreadingMode} defining the kind of threads used to process commands
+     * @return a default ExecutorServiceBuilder to create an executor for processing commands
+     */
+    static ExecutorServiceBuilder defaultCommandExecutorServiceBuilder(ThreadingMode threadingMode) {
+        return (configuration, commandProcessQueue) -> buildExecutor(
+                threadingMode, configuration.getCommandThreads(), commandProcessQueue, "CommandProcessor"
         );
     }
 
@@ -69,13 +79,46 @@ static ExecutorServiceBuilder defaultCommandExecutorServiceBuilder() {
      * @return a default ExecutorServiceBuilder to create an executor for processing queries
      */
     static ExecutorServiceBuilder defaultQueryExecutorServiceBuilder() {
-        return (configuration, queryProcessQueue) -> new ThreadPoolExecutor(
-                configuration.getQueryThreads(),
-                configuration.getQueryThreads(),
-                THREAD_KEEP_ALIVE_TIME,
-                TimeUnit.MILLISECONDS,
-                queryProcessQueue,
-                new AxonThreadFactory("QueryProcessor")
+        return defaultQueryExecutorServiceBuilder(ThreadingMode.PLATFORM);
+    }
+
+    /**
+     * Create a default ExecutorServiceBuilder used to create a {@link ThreadPoolExecutor} for processing incoming
+     * queries, using threads of the given {@link ThreadingMode}. In {@link ThreadingMode#PLATFORM} mode, this executor
+     * equals the one created by {@link #defaultQueryExecutorServiceBuilder()}. In {@link ThreadingMode#VIRTUAL} mode,
+     * every query is processed on a new virtual thread, ignoring the {@link AxonServerConfiguration#getQueryThreads()}.
+     *
+     * @param threadingMode the {@link ThreadingMode} defining the kind of threads used to process queries
+     * @return a default ExecutorServiceBuilder to create an executor for processing queries
+     */
+    static ExecutorServiceBuilder defaultQueryExecutorServiceBuilder(ThreadingMode threadingMode) {
+        return (configuration, queryProcessQueue) -> buildExecutor(
+                threadingMode, configuration.getQueryThreads(), queryProcessQueue, "QueryProcessor"
+        );
+    }
+
+    /**
+     * Builds an {@link ExecutorService} using threads of the given {@code threadingMode}. In {@link
+     * ThreadingMode#PLATFORM} mode, this is a {@link ThreadPoolExecutor} with a fixed pool of the given {@code
+     * poolSize} taking its tasks from the given {@code workQueue}. In {@link ThreadingMode#VIRTUAL} mode, every task is
+     * executed on a new virtual thread as soon as it is submitted. As tasks are never queued, the {@code workQueue} is
+     * not used in that case.
+     *
+     * @param threadingMode the {@link ThreadingMode} defining the kind of threads used by the executor
+     * @param poolSize      the core and maximum pool size in {@link ThreadingMode#PLATFORM} mode
+     * @param workQueue     the queue holding the tasks before they are executed in {@link ThreadingMode#PLATFORM} mode
+     * @param name          the name used as a prefix for the threads of the executor
+     * @return an {@link ExecutorService} using threads of the given {@code threadingMode}
+     */
+    static ExecutorService buildExecutor(ThreadingMode threadingMode,
+                                         int poolSize,
+                                         BlockingQueue<Runnable> workQueue,
+                                         String name) {
+        if (threadingMode == ThreadingMode.VIRTUAL && ThreadingMode.virtualThreadsSupported()) {
+            return threadingMode.executor(name);
+        }
+        return new ThreadPoolExecutor(
+                poolSize, poolSize, THREAD_KEEP_ALIVE_TIME, TimeUnit.MILLISECONDS, workQueue, new AxonThreadFactory(name)
         );
     }
 }
@@ -80,6 +80,7 @@
     private final Component<AggregateModel<A>> metaModel;
     private final Component<Predicate<? super DomainEventMessage<?>>> eventStreamFilter;
     private final Component<Boolean> filterEventsByType;
+    private final Component<Boolean> validateCachedAggregates;
     private final Set<Class<? extends A>> subtypes = new HashSet<>();
     private final List<Registration> registrations = new ArrayList<>();
 
@@ -205,6 +206,7 @@ protected AggregateConfigurer(Class<A> aggregate) {
         cache = new Component<>(() -> parent, name("aggregateCache"), c -> null);
         eventStreamFilter = new Component<>(() -> parent, name("eventStreamFilter"), c -> null);
         filterEventsByType = new Component<>(() -> parent, name("filterByAggregateType"), c -> false);
+        validateCachedAggregates = new Component<>(() -> parent, name("validateCachedAggregates"), c -> false);
         repository = new Component<>(
                 () -> parent, name("Repository"),
                 c -> {
@@ -231,6 +233,7 @@ protected AggregateConfigurer(Class<A> aggregate) {
                                                    .eventStore(c.eventStore())
                                                    .snapshotTriggerDefinition(snapshotTriggerDefinition.get())
                                                    .cache(cache.get())
+                                                   .validateCachedAggregates(validateCachedAggregates.get())
                                                    .repositoryProvider(c::repository);
                     if (eventStreamFilter.get() != null) {
                         builder = builder.eventStreamFilter(eventStreamFilter.get());
@@ -381,6 +384,25 @@ public AggregateConfigurer<A> configureWeakReferenceCache() {
         return configureCache(c -> new WeakReferenceCache());
     }
 
+    /**
+     * Configures a function that determines whether or not the EventSourcingRepository for the Aggregate type under
+     * configuration should validate the aggregates it finds in its Cache, by applying the events appended after the
+     * version of the cached aggregate. This allows caching aggregates when multiple nodes may append events to the same
+     * aggregate.
+     * <p>
+     * Note that this configuration is ignored if a custom repository instance is configured, or if no Cache is
+     * configured.
+     *
+     * @param validateCachedAggregates The function determining whether or not to validate cached aggregates.
+     * @return this configurer instance for chaining
+     * @see EventSourcingRepository.Builder#validateCachedAggregates(boolean)
+     */
+    public AggregateConfigurer<A> configureCachedAggregateValidation(
+            Function<Configuration, Boolean> validateCachedAggregates) {
+        this.validateCachedAggregates.update(validateCachedAggregates);
+        return this;
+    }
+
     /**
      * Configures a function that determines whether or not the EventSourcingRepository for the Aggregate type under
      * configuration should filter out events with non-matching types. This may be used to support installations where
@@ -18,6 +18,7 @@
 
 import org.axonframework.commandhandling.CommandBus;
 import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.ThreadingMode;
 import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.deadline.DeadlineManager;
 import org.axonframework.eventhandling.EventBus;
@@ -399,6 +400,19 @@ default Configurer configureSerializer(Function<Configuration, Serializer> seria
      */
     Configurer configureMessageSerializer(Function<Configuration, Serializer> messageSerializerBuilder);
 
+    /**
+     * Configures the {@link ThreadingMode} used for the thread pools Axon creates by default, like those of the
+     * {@link org.axonframework.eventhandling.TrackingEventProcessor} and the
+     * {@link org.axonframework.eventhandling.pooled.PooledStreamingEventProcessor}. Defaults to {@link
+     * ThreadingMode#PLATFORM}. Thread pools or thread factories configured explicitly are left untouched.
+     *
+     * @param threadingMode the {@link ThreadingMode} used for the thread pools Axon creates by default
+     * @return the current instance of the Configurer, for chaining purposes
+     */
+    default Configurer configureThreadingMode(ThreadingMode threadingMode) {
+        return registerComponent(ThreadingMode.class, c -> threadingMode);
+    }
+
     /**
      * Configures the given Transaction Manager to use in this configuration. The builder receives the Configuration as
      * input and is expected to return a fully initialized {@link TransactionManager}
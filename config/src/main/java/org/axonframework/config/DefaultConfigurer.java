@@ -75,6 +75,8 @@
 import org.axonframework.serialization.upcasting.event.EventUpcaster;
 import org.axonframework.serialization.upcasting.event.EventUpcasterChain;
 import org.axonframework.serialization.xml.XStreamSerializer;
+import org.axonframework.tracing.NoOpSpanFactory;
+import org.axonframework.tracing.SpanFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -219,6 +221,9 @@ public static Configurer jpaConfiguration(EntityManagerProvider entityManagerPro
                                                   )
                                                   .eventSerializer(c.eventSerializer())
                                                   .snapshotFilter(c.snapshotFilter())
+                                                  .spanFactory(c.getComponent(
+                                                          SpanFactory.class, () -> NoOpSpanFactory.INSTANCE
+                                                  ))
                                                   .entityManagerProvider(c.getComponent(EntityManagerProvider.class))
                                                   .transactionManager(c.getComponent(TransactionManager.class))
                                                   .build()
@@ -315,6 +320,9 @@ protected QueryBus defaultQueryBus(Configuration config) {
                                                   () -> LoggingQueryInvocationErrorHandler.builder().build()
                                           ))
                                           .queryUpdateEmitter(config.getComponent(QueryUpdateEmitter.class))
+                                          .spanFactory(config.getComponent(
+                                                  SpanFactory.class, () -> NoOpSpanFactory.INSTANCE
+                                          ))
                                           .build();
         queryBus.registerHandlerInterceptor(new CorrelationDataInterceptor<>(config.correlationDataProviders()));
         return queryBus;
@@ -373,6 +381,7 @@ protected CommandBus defaultCommandBus(Configuration config) {
                                         LoggingDuplicateCommandHandlerResolver::instance
                                 ))
                                 .messageMonitor(config.messageMonitor(SimpleCommandBus.class, "commandBus"))
+                                .spanFactory(config.getComponent(SpanFactory.class, () -> NoOpSpanFactory.INSTANCE))
                                 .build();
         commandBus.registerHandlerInterceptor(new CorrelationDataInterceptor<>(config.correlationDataProviders()));
         return commandBus;
@@ -17,7 +17,7 @@
 package org.axonframework.config;
 
 import org.axonframework.common.AxonConfigurationException;
-import org.axonframework.common.AxonThreadFactory;
+import org.axonframework.common.ThreadingMode;
 import org.axonframework.common.transaction.NoTransactionManager;
 import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.eventhandling.DirectEventProcessingStrategy;
@@ -50,6 +50,8 @@
 import org.axonframework.modelling.saga.repository.SagaStore;
 import org.axonframework.modelling.saga.repository.inmemory.InMemorySagaStore;
 import org.axonframework.monitoring.MessageMonitor;
+import org.axonframework.tracing.NoOpSpanFactory;
+import org.axonframework.tracing.SpanFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -58,7 +60,6 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -168,7 +169,9 @@
                     "trackingEventProcessorConfiguration",
                     c -> c.getComponent(
                             TrackingEventProcessorConfiguration.class,
-                            TrackingEventProcessorConfiguration::forSingleThreadedProcessing
+                            () -> TrackingEventProcessorConfiguration.forSingleThreadedProcessing().andThreadFactory(
+                                    pn -> threadingMode().threadFactory("EventProcessor[" + pn + "]")
+                            )
                     )
             );
     private PooledStreamingProcessorConfiguration defaultPooledStreamingProcessorConfiguration = noOp();
@@ -763,6 +766,10 @@ private TrackingEventProcessorConfiguration trackingEventProcessorConfig(String
         return tepConfigs.getOrDefault(name, defaultTrackingEventProcessorConfiguration).get();
     }
 
+    private SpanFactory spanFactory() {
+        return configuration.getComponent(SpanFactory.class, () -> NoOpSpanFactory.INSTANCE);
+    }
+
     private SubscribingEventProcessor subscribingEventProcessor(String name,
                                                                 EventHandlerInvoker eventHandlerInvoker,
                                                                 SubscribableMessageSource<? extends EventMessage<?>> messageSource) {
@@ -772,6 +779,7 @@ private SubscribingEventProcessor subscribingEventProcessor(String name,
                                         .rollbackConfiguration(rollbackConfiguration(name))
                                         .errorHandler(errorHandler(name))
                                         .messageMonitor(messageMonitor(SubscribingEventProcessor.class, name))
+                                        .spanFactory(spanFactory())
                                         .messageSource(messageSource)
                                         .processingStrategy(DirectEventProcessingStrategy.INSTANCE)
                                         .transactionManager(transactionManager(name))
@@ -788,6 +796,7 @@ private TrackingEventProcessor trackingEventProcessor(String name,
                                      .rollbackConfiguration(rollbackConfiguration(name))
                                      .errorHandler(errorHandler(name))
                                      .messageMonitor(messageMonitor(TrackingEventProcessor.class, name))
+                                     .spanFactory(spanFactory())
                                      .messageSource(source)
                                      .tokenStore(tokenStore(name))
                                      .transactionManager(transactionManager(name))
@@ -809,6 +818,7 @@ private PooledStreamingEventProcessor pooledStreamingEventProcessor(
                                              .rollbackConfiguration(rollbackConfiguration(name))
                                              .errorHandler(errorHandler(name))
                                              .messageMonitor(messageMonitor(PooledStreamingEventProcessor.class, name))
+                                             .spanFactory(spanFactory())
                                              .messageSource(messageSource)
                                              .tokenStore(tokenStore(name))
                                              .transactionManager(transactionManager(name))
@@ -831,7 +841,11 @@ private PooledStreamingEventProcessor pooledStreamingEventProcessor(
     }
 
     private ScheduledExecutorService defaultExecutor(String factoryName) {
-        return Executors.newScheduledThreadPool(1, new AxonThreadFactory(factoryName));
+        return threadingMode().scheduledExecutor(factoryName, 1);
+    }
+
+    private ThreadingMode threadingMode() {
+        return configuration.getComponent(ThreadingMode.class, () -> ThreadingMode.PLATFORM);
     }
 
     /**
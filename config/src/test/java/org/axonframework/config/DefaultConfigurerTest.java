@@ -21,6 +21,7 @@
 import org.axonframework.commandhandling.CommandHandler;
 import org.axonframework.commandhandling.GenericCommandMessage;
 import org.axonframework.commandhandling.callbacks.FutureCallback;
+import org.axonframework.common.ThreadingMode;
 import org.axonframework.common.caching.WeakReferenceCache;
 import org.axonframework.common.jdbc.PersistenceExceptionResolver;
 import org.axonframework.common.jpa.SimpleEntityManagerProvider;
@@ -69,6 +70,8 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
@@ -84,6 +87,7 @@
 import static org.axonframework.config.ConfigAssertions.assertExpectedModules;
 import static org.axonframework.config.utils.AssertUtils.assertRetryingWithin;
 import static org.axonframework.config.utils.TestSerializer.secureXStreamSerializer;
+import static org.axonframework.eventhandling.GenericEventMessage.asEventMessage;
 import static org.axonframework.modelling.command.AggregateLifecycle.apply;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -150,6 +154,27 @@ void defaultConfigurationWithTrackingProcessorConfigurationInMainConfig() {
         }
     }
 
+    @Test
+    void defaultConfigurationWithTrackingProcessorUsesConfiguredThreadingMode() throws Exception {
+        CompletableFuture<String> handlingThread = new CompletableFuture<>();
+        Configurer configurer = DefaultConfigurer.defaultConfiguration();
+        configurer.eventProcessing()
+                  .registerEventHandler(c -> (EventMessageHandler) event -> {
+                      handlingThread.complete(Thread.currentThread().getName());
+                      return null;
+                  });
+        Configuration config = configurer.configureThreadingMode(ThreadingMode.VIRTUAL)
+                                         .configureEmbeddedEventStore(c -> new InMemoryEventStorageEngine())
+                                         .start();
+        try {
+            assertEquals(ThreadingMode.VIRTUAL, config.getComponent(ThreadingMode.class));
+            config.eventBus().publish(asEventMessage("test"));
+            assertTrue(handlingThread.get(5, TimeUnit.SECONDS).startsWith("EventProcessor["));
+        } finally {
+            config.shutdown();
+        }
+    }
+
     @Test
     void defaultConfigurationWithTrackingProcessorExplicitlyConfigured() {
         Configurer configurer = DefaultConfigurer.defaultConfiguration();
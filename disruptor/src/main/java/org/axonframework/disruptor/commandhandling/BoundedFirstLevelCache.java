@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.disruptor.commandhandling;
+
+import org.axonframework.eventsourcing.EventSourcedAggregate;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link FirstLevelCache} keeping strong references to a bounded number of aggregates. When the cache exceeds its
+ * maximum size, the least recently used aggregates are evicted. Contrary to the {@code FirstLevelCache}, cached
+ * aggregates are not dropped when the garbage collector runs, at the cost of keeping them in memory until evicted.
+ * <p>
+ * Aggregates either count as one towards the maximum size, or are weighed by the number of events applied to them, as
+ * an approximation of their size in memory. As the weight of an aggregate grows while it handles commands, it is
+ * reevaluated every time the aggregate is retrieved from the cache.
+ * <p>
+ * Aggregates that are {@link #pin(String) pinned} are skipped on eviction, as their Unit of Work has not been
+ * committed yet. Evicting them would cause the next command to load the aggregate without the events that are still
+ * pending. The cache may temporarily exceed its maximum size as a result.
+ *
+ * @param <T> the type of the aggregate root
+ * @since 4.6.0
+ */
+class BoundedFirstLevelCache<T> extends FirstLevelCache<T> {
+
+    private final long maxSize;
+    private final boolean weighByEventCount;
+    private final Map<String, CacheEntry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Integer> pins = new HashMap<>();
+    private long totalWeight;
+
+    /**
+     * Creates a bounded FirstLevelCache holding at most {@code maxSize} aggregates or, when {@code weighByEventCount}
+     * is {@code true}, aggregates with at most {@code maxSize} events applied in total.
+     *
+     * @param maxSize           the maximum number of aggregates, or the maximum total number of events applied to
+     *                          the aggregates, in the cache
+     * @param weighByEventCount whether to weigh aggregates by the number of events applied to them
+     */
+    BoundedFirstLevelCache(long maxSize, boolean weighByEventCount) {
+        this.maxSize = maxSize;
+        this.weighByEventCount = weighByEventCount;
+    }
+
+    @Override
+    public synchronized EventSourcedAggregate<T> put(String key, EventSourcedAggregate<T> value) {
+        CacheEntry<T> entry = new CacheEntry<>(value, weigh(value));
+        CacheEntry<T> previous = entries.put(key, entry);
+        totalWeight += entry.weight;
+        if (previous != null) {
+            totalWeight -= previous.weight;
+        }
+        evictExcept(key);
+        return previous == null ? null : previous.aggregate;
+    }
+
+    @Override
+    public synchronized EventSourcedAggregate<T> get(Object key) {
+        CacheEntry<T> entry = entries.get(key);
+        if (entry == null) {
+            recordMiss();
+            return null;
+        }
+        recordHit();
+        if (weighByEventCount) {
+            long weight = weigh(entry.aggregate);
+            totalWeight += weight - entry.weight;
+            entry.weight = weight;
+            evictExcept(key);
+        }
+        return entry.aggregate;
+    }
+
+    @Override
+    public synchronized EventSourcedAggregate<T> remove(Object key) {
+        CacheEntry<T> removed = entries.remove(key);
+        if (removed == null) {
+            return null;
+        }
+        totalWeight -= removed.weight;
+        return removed.aggregate;
+    }
+
+    @Override
+    synchronized void pin(String key) {
+        pins.merge(key, 1, Integer::sum);
+    }
+
+    @Override
+    synchronized void unpin(String key) {
+        if (pins.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null) == null) {
+            evictExcept(null);
+        }
+    }
+
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void evictExcept(Object retainedKey) {
+        Iterator<Map.Entry<String, CacheEntry<T>>> iterator = entries.entrySet().iterator();
+        while (totalWeight > maxSize && iterator.hasNext()) {
+            Map.Entry<String, CacheEntry<T>> eldest = iterator.next();
+            if (!eldest.getKey().equals(retainedKey) && !pins.containsKey(eldest.getKey())) {
+                iterator.remove();
+                totalWeight -= eldest.getValue().weight;
+                recordEviction();
+            }
+        }
+    }
+
+    private long weigh(EventSourcedAggregate<T> aggregate) {
+        if (!weighByEventCount) {
+            return 1;
+        }
+        Long version = aggregate.version();
+        return version == null ? 1 : version + 1;
+    }
+
+    private static class CacheEntry<T> {
+
+        private final EventSourcedAggregate<T> aggregate;
+        private long weight;
+
+        private CacheEntry(EventSourcedAggregate<T> aggregate, long weight) {
+            this.aggregate = aggregate;
+            this.weight = weight;
+        }
+    }
+}
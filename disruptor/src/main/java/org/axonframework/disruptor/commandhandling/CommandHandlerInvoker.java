@@ -66,6 +66,8 @@ public class CommandHandlerInvoker implements EventHandler<CommandHandlingEntry>
     private final Map<Class<?>, DisruptorRepository> repositories = new ConcurrentHashMap<>();
     private final Cache cache;
     private final int segmentId;
+    private final int firstLevelCacheSize;
+    private final boolean weighFirstLevelCacheByEventCount;
 
     /**
      * Returns the Repository instance for Aggregate with given {@code typeIdentifier} used by the
@@ -92,8 +94,31 @@ public static <T> DisruptorRepository<T> getRepository(Class<?> type) {
      * @param segmentId The id of the segment this invoker should handle
      */
     public CommandHandlerInvoker(Cache cache, int segmentId) {
+        this(cache, segmentId, 0, false);
+    }
+
+    /**
+     * Create an aggregate invoker instance for the given {@code segment} and {@code cache}, keeping at most {@code
+     * firstLevelCacheSize} aggregates in the first level cache of each aggregate type. When {@code
+     * weighFirstLevelCacheByEventCount} is {@code true}, the {@code firstLevelCacheSize} limits the total number of
+     * events applied to the cached aggregates instead. A {@code firstLevelCacheSize} of {@code 0} keeps weak references
+     * to any number of aggregates instead, allowing the garbage collector to remove them.
+     *
+     * @param cache                            The cache temporarily storing aggregate instances
+     * @param segmentId                        The id of the segment this invoker should handle
+     * @param firstLevelCacheSize              The maximum size of the first level cache of each aggregate type, or
+     *                                         {@code 0} to weakly reference any number of aggregates
+     * @param weighFirstLevelCacheByEventCount Whether aggregates are weighed by the number of events applied to them
+     *                                         in the first level cache
+     */
+    public CommandHandlerInvoker(Cache cache,
+                                 int segmentId,
+                                 int firstLevelCacheSize,
+                                 boolean weighFirstLevelCacheByEventCount) {
         this.cache = cache;
         this.segmentId = segmentId;
+        this.firstLevelCacheSize = firstLevelCacheSize;
+        this.weighFirstLevelCacheByEventCount = weighFirstLevelCacheByEventCount;
     }
 
     @Override
@@ -161,6 +186,7 @@ public <T> Repository<T> createRepository(EventStore eventStore,
                 aggregateFactory.getAggregateType(),
                 k -> new DisruptorRepository<>(
                         aggregateFactory,
+                        createFirstLevelCache(),
                         cache,
                         eventStore,
                         parameterResolverFactory,
@@ -170,6 +196,28 @@ public <T> Repository<T> createRepository(EventStore eventStore,
                 ));
     }
 
+    private <T> FirstLevelCache<T> createFirstLevelCache() {
+        return firstLevelCacheSize > 0
+                ? new BoundedFirstLevelCache<>(firstLevelCacheSize, weighFirstLevelCacheByEventCount)
+                : new FirstLevelCache<>();
+    }
+
+    /**
+     * Returns the combined statistics of the first level caches of the repositories created by this invoker.
+     *
+     * @return the combined statistics of the first level caches of the repositories created by this invoker
+     */
+    public FirstLevelCacheStatistics firstLevelCacheStatistics() {
+        FirstLevelCacheStatistics statistics = new FirstLevelCacheStatistics(0, 0, 0);
+        for (DisruptorRepository<?> repository : repositories.values()) {
+            FirstLevelCache<?> firstLevelCache = repository.firstLevelCache;
+            statistics = statistics.combine(new FirstLevelCacheStatistics(firstLevelCache.hitCount(),
+                                                                          firstLevelCache.missCount(),
+                                                                          firstLevelCache.evictionCount()));
+        }
+        return statistics;
+    }
+
     private void removeEntry(String aggregateIdentifier) {
         for (DisruptorRepository repository : repositories.values()) {
             repository.removeFromCache(aggregateIdentifier);
@@ -198,7 +246,7 @@ public void onShutdown() {
         private final RepositoryProvider repositoryProvider;
         private final SnapshotTriggerDefinition snapshotTriggerDefinition;
         private final AggregateFactory<T> aggregateFactory;
-        private final FirstLevelCache<T> firstLevelCache = new FirstLevelCache<>();
+        private final FirstLevelCache<T> firstLevelCache;
         private final Cache cache;
         private final AggregateModel<T> model;
 
@@ -209,6 +257,7 @@ private DisruptorRepository(AggregateFactory<T> aggregateFactory,
                                     SnapshotTriggerDefinition snapshotTriggerDefinition,
                                     RepositoryProvider repositoryProvider) {
             this.aggregateFactory = aggregateFactory;
+            this.firstLevelCache = new FirstLevelCache<>();
             this.cache = cache;
             this.eventStore = eventStore;
             this.snapshotTriggerDefinition = snapshotTriggerDefinition;
@@ -217,12 +266,14 @@ private DisruptorRepository(AggregateFactory<T> aggregateFactory,
             this.repositoryProvider = repositoryProvider;
         }
 
-        private DisruptorRepository(AggregateFactory<T> aggregateFactory, Cache cache, EventStore eventStore,
+        private DisruptorRepository(AggregateFactory<T> aggregateFactory, FirstLevelCache<T> firstLevelCache,
+                                    Cache cache, EventStore eventStore,
                                     ParameterResolverFactory parameterResolverFactory,
                                     HandlerDefinition handlerDefinition,
                                     SnapshotTriggerDefinition snapshotTriggerDefinition,
                                     RepositoryProvider repositoryProvider) {
             this.aggregateFactory = aggregateFactory;
+            this.firstLevelCache = firstLevelCache;
             this.cache = cache;
             this.eventStore = eventStore;
             this.snapshotTriggerDefinition = snapshotTriggerDefinition;
@@ -281,6 +332,7 @@ public Aggregate<T> load(String aggregateIdentifier) {
                 firstLevelCache.put(aggregateRoot.identifierAsString(), aggregateRoot);
                 cache.put(aggregateIdentifier, new AggregateCacheEntry<>(aggregateRoot));
             }
+            pinUntilCleanup(aggregateIdentifier);
             return aggregateRoot;
         }
 
@@ -298,6 +350,7 @@ public Aggregate<T> newInstance(Callable<T> factoryMethod) throws Exception {
             if (aggregate.identifierAsString() != null) {
                 firstLevelCache.put(aggregate.identifierAsString(), aggregate);
                 cache.put(aggregate.identifierAsString(), new AggregateCacheEntry<>(aggregate));
+                pinUntilCleanup(aggregate.identifierAsString());
             }
 
             return aggregate;
@@ -311,7 +364,8 @@ public Aggregate<T> loadOrCreate(String aggregateIdentifier, Callable<T> factory
                 Aggregate<T> newInstance = newInstance(factoryMethod);
                 firstLevelCache.put(aggregateIdentifier, (EventSourcedAggregate<T>) newInstance);
                 cache.put(aggregateIdentifier, new AggregateCacheEntry<>((EventSourcedAggregate<T>) newInstance));
-                
+                pinUntilCleanup(aggregateIdentifier);
+
                 return newInstance;
             } catch (Exception e) {
                 logger.debug("Exception occurred while trying to load/create an aggregate. ", e);
@@ -319,6 +373,17 @@ public Aggregate<T> loadOrCreate(String aggregateIdentifier, Callable<T> factory
             }
         }
 
+        /**
+         * Pins the aggregate with given {@code aggregateIdentifier} in the first level cache until the current Unit of
+         * Work is cleaned up, as the publisher may not have stored its events yet.
+         *
+         * @param aggregateIdentifier the identifier of the aggregate to pin
+         */
+        private void pinUntilCleanup(String aggregateIdentifier) {
+            firstLevelCache.pin(aggregateIdentifier);
+            CurrentUnitOfWork.get().onCleanup(u -> firstLevelCache.unpin(aggregateIdentifier));
+        }
+
         private void removeFromCache(String aggregateIdentifier) {
             EventSourcedAggregate<T> removed = firstLevelCache.remove(aggregateIdentifier);
             if (removed != null) {
@@ -55,6 +55,7 @@
 import static java.lang.String.format;
 import static org.axonframework.commandhandling.GenericCommandResultMessage.asCommandResultMessage;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertPositive;
 import static org.axonframework.common.BuilderUtils.assertThat;
 import static org.axonframework.common.ObjectUtils.getOrDefault;
 
@@ -146,6 +147,7 @@ public class DisruptorCommandBus implements CommandBus {
      * <li>The {@code coolingDownPeriod} defaults to {@code 1000}.</li>
      * <li>The {@link CommandTargetResolver} defaults to an {@link AnnotationCommandTargetResolver}.</li>
      * <li>The {@code publisherThreadCount} defaults to {@code 1}.</li>
+     * <li>The {@code groupCommitSize} defaults to {@code 1}.</li>
      * <li>The {@link MessageMonitor} defaults to {@link NoOpMessageMonitor#INSTANCE}.</li>
      * <li>The {@link RollbackConfiguration} defaults to {@link RollbackConfigurationType#UNCHECKED_EXCEPTIONS}.</li>
      * <li>The {@code bufferSize} defaults to {@code 4096}.</li>
@@ -153,6 +155,8 @@ public class DisruptorCommandBus implements CommandBus {
      * <li>The {@link WaitStrategy} defaults to a {@link BlockingWaitStrategy}.</li>
      * <li>The {@code invokerThreadCount} defaults to {@code 1}.</li>
      * <li>The {@link Cache} defaults to {@link NoCache#INSTANCE}.</li>
+     * <li>The {@code firstLevelCacheSize} defaults to {@code 0}, weakly referencing cached aggregates.</li>
+     * <li>The {@code weighFirstLevelCacheByEventCount} defaults to {@code false}.</li>
      * <li>The {@link DuplicateCommandHandlerResolver} defaults to {@link DuplicateCommandHandlerResolution#logAndOverride()}.</li>
      * </ul>
      * The (2) Threads required for command execution are created immediately. Additional threads are used to invoke
@@ -162,8 +166,8 @@ public class DisruptorCommandBus implements CommandBus {
      * The {@link CommandTargetResolver}, {@link MessageMonitor}, {@link RollbackConfiguration}, {@link ProducerType},
      * {@link WaitStrategy} and {@link Cache} are a <b>hard requirements</b>. Thus setting them to {@code null} will
      * result in an {@link AxonConfigurationException}.
-     * Additionally, the {@code coolingDownPeriod}, {@code publisherThreadCount}, {@code bufferSize} and
-     * {@code invokerThreadCount} have a positive number constraint, thus will also result in an
+     * Additionally, the {@code coolingDownPeriod}, {@code publisherThreadCount}, {@code groupCommitSize},
+     * {@code bufferSize} and {@code invokerThreadCount} have a positive number constraint, thus will also result in an
      * AxonConfigurationException if set otherwise.
      *
      * @return a Builder to be able to create a {@link DisruptorCommandBus}
@@ -209,7 +213,8 @@ protected DisruptorCommandBus(Builder builder) {
         EventPublisher[] publishers = initializePublisherThreads(builder.publisherThreadCount,
                                                                  executor,
                                                                  builder.transactionManager,
-                                                                 builder.rollbackConfiguration);
+                                                                 builder.rollbackConfiguration,
+                                                                 builder.groupCommitSize);
         publisherCount = publishers.length;
         messageMonitor = builder.messageMonitor;
         duplicateCommandHandlerResolver = builder.duplicateCommandHandlerResolver;
@@ -220,7 +225,10 @@ protected DisruptorCommandBus(Builder builder) {
                                     builder.producerType,
                                     builder.waitStrategy);
         // Configure invoker Threads
-        commandHandlerInvokers = initializeInvokerThreads(builder.invokerThreadCount, builder.cache);
+        commandHandlerInvokers = initializeInvokerThreads(builder.invokerThreadCount,
+                                                          builder.cache,
+                                                          builder.firstLevelCacheSize,
+                                                          builder.weighFirstLevelCacheByEventCount);
 
         disruptor.setDefaultExceptionHandler(new ExceptionHandler());
         disruptor.handleEventsWith(commandHandlerInvokers).then(publishers);
@@ -230,18 +238,38 @@ protected DisruptorCommandBus(Builder builder) {
     private EventPublisher[] initializePublisherThreads(int publisherThreadCount,
                                                         Executor executor,
                                                         TransactionManager transactionManager,
-                                                        RollbackConfiguration rollbackConfiguration) {
+                                                        RollbackConfiguration rollbackConfiguration,
+                                                        int groupCommitSize) {
         EventPublisher[] publishers = new EventPublisher[publisherThreadCount];
-        Arrays.setAll(publishers, t -> new EventPublisher(executor, transactionManager, rollbackConfiguration, t));
+        Arrays.setAll(publishers, t -> new EventPublisher(
+                executor, transactionManager, rollbackConfiguration, t, groupCommitSize
+        ));
         return publishers;
     }
 
-    private CommandHandlerInvoker[] initializeInvokerThreads(int invokerThreadCount, Cache cache) {
+    private CommandHandlerInvoker[] initializeInvokerThreads(int invokerThreadCount,
+                                                            Cache cache,
+                                                            int firstLevelCacheSize,
+                                                            boolean weighFirstLevelCacheByEventCount) {
         CommandHandlerInvoker[] invokers = new CommandHandlerInvoker[invokerThreadCount];
-        Arrays.setAll(invokers, t -> new CommandHandlerInvoker(cache, t));
+        Arrays.setAll(invokers, t -> new CommandHandlerInvoker(
+                cache, t, firstLevelCacheSize, weighFirstLevelCacheByEventCount
+        ));
         return invokers;
     }
 
+    /**
+     * Returns the combined statistics of the first level caches in which the invoker threads keep the aggregates they
+     * handle commands for. These statistics can be used to monitor whether the first level cache is sized correctly.
+     *
+     * @return the combined statistics of the first level caches of the invoker threads
+     */
+    public FirstLevelCacheStatistics firstLevelCacheStatistics() {
+        return Arrays.stream(commandHandlerInvokers)
+                     .map(CommandHandlerInvoker::firstLevelCacheStatistics)
+                     .reduce(new FirstLevelCacheStatistics(0, 0, 0), FirstLevelCacheStatistics::combine);
+    }
+
     @Override
     public <C> void dispatch(CommandMessage<C> command) {
         dispatch(command, defaultCommandCallback);
@@ -573,6 +601,7 @@ public void onResult(CommandMessage<?> commandMessage, CommandResultMessage<?> c
      * <li>The {@code coolingDownPeriod} defaults to {@code 1000}.</li>
      * <li>The {@link CommandTargetResolver} defaults to an {@link AnnotationCommandTargetResolver}.</li>
      * <li>The {@code publisherThreadCount} defaults to {@code 1}.</li>
+     * <li>The {@code groupCommitSize} defaults to {@code 1}.</li>
      * <li>The {@link MessageMonitor} defaults to {@link NoOpMessageMonitor#INSTANCE}.</li>
      * <li>The {@link RollbackConfiguration} defaults to {@link RollbackConfigurationType#UNCHECKED_EXCEPTIONS}.</li>
      * <li>The {@code bufferSize} defaults to {@code 4096}.</li>
@@ -580,6 +609,8 @@ public void onResult(CommandMessage<?> commandMessage, CommandResultMessage<?> c
      * <li>The {@link WaitStrategy} defaults to a {@link BlockingWaitStrategy}.</li>
      * <li>The {@code invokerThreadCount} defaults to {@code 1}.</li>
      * <li>The {@link Cache} defaults to {@link NoCache#INSTANCE}.</li>
+     * <li>The {@code firstLevelCacheSize} defaults to {@code 0}, weakly referencing cached aggregates.</li>
+     * <li>The {@code weighFirstLevelCacheByEventCount} defaults to {@code false}.</li>
      * <li>The {@link DuplicateCommandHandlerResolver} defaults to {@link DuplicateCommandHandlerResolution#logAndOverride()}.</li>
      * </ul>
      * The (2) Threads required for command execution are created immediately. Additional threads are used to invoke
@@ -589,8 +620,8 @@ public void onResult(CommandMessage<?> commandMessage, CommandResultMessage<?> c
      * The {@link CommandTargetResolver}, {@link MessageMonitor}, {@link RollbackConfiguration}, {@link ProducerType},
      * {@link WaitStrategy} and {@link Cache} are a <b>hard requirements</b>. Thus setting them to {@code null} will
      * result in an {@link AxonConfigurationException}.
-     * Additionally, the {@code coolingDownPeriod}, {@code publisherThreadCount}, {@code bufferSize} and
-     * {@code invokerThreadCount} have a positive number constraint, thus will also result in an
+     * Additionally, the {@code coolingDownPeriod}, {@code publisherThreadCount}, {@code groupCommitSize},
+     * {@code bufferSize} and {@code invokerThreadCount} have a positive number constraint, thus will also result in an
      * AxonConfigurationException if set otherwise.
      */
     public static class Builder {
@@ -608,6 +639,7 @@ public static class Builder {
         private long coolingDownPeriod = 1000;
         private CommandTargetResolver commandTargetResolver = AnnotationCommandTargetResolver.builder().build();
         private int publisherThreadCount = 1;
+        private int groupCommitSize = 1;
         private MessageMonitor<? super CommandMessage<?>> messageMonitor = NoOpMessageMonitor.INSTANCE;
         private TransactionManager transactionManager;
         private RollbackConfiguration rollbackConfiguration = RollbackConfigurationType.UNCHECKED_EXCEPTIONS;
@@ -616,6 +648,8 @@ public static class Builder {
         private WaitStrategy waitStrategy = new BlockingWaitStrategy();
         private int invokerThreadCount = 1;
         private Cache cache = NoCache.INSTANCE;
+        private int firstLevelCacheSize = 0;
+        private boolean weighFirstLevelCacheByEventCount = false;
         private DuplicateCommandHandlerResolver duplicateCommandHandlerResolver = DuplicateCommandHandlerResolution.logAndOverride();
         private CommandCallback<Object, Object> defaultCommandCallback = FailureLoggingCommandCallback.INSTANCE;
 
@@ -754,6 +788,36 @@ public Builder publisherThreadCount(int publisherThreadCount) {
             return this;
         }
 
+        /**
+         * Sets the maximum number of commands of which the generated Events are stored in a single transaction.
+         * Defaults to {@code 1}, meaning every command is committed in a transaction of its own.
+         * <p/>
+         * With a larger value, the publisher commits the Units of Work of consecutive commands within one transaction,
+         * which is committed at the end of each batch of commands taken from the ring buffer, or once it contains this
+         * number of commands. This reduces the number of transactions on the event store, at the cost of the results of
+         * these commands being reported only after the whole group is committed. The after commit handlers of the
+         * commands are invoked once the group's transaction is committed. When storing the Events of any of the
+         * commands fails, the group's transaction is rolled back and each command is committed again in a transaction
+         * of its own, so that only the aggregates of the commands that fail on their own are blacklisted. Only applies
+         * when a {@link TransactionManager} is configured.
+         * <p/>
+         * Note that this gives at-least-once semantics to the prepare commit and commit handlers of the commands in a
+         * group that fails. When committed again, these handlers are invoked again, including those of commands that
+         * had committed successfully within the group. Most notably, the events of these commands are dispatched to
+         * subscribing event processors a second time. Work these processors performed in the group's transaction has
+         * been rolled back along with it, but side effects outside of that transaction are not. Handlers of subscribing
+         * processors with such side effects should be idempotent when using a value larger than {@code 1}.
+         *
+         * @param groupCommitSize the maximum number of commands of which the generated Events are stored in a single
+         *                        transaction
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder groupCommitSize(int groupCommitSize) {
+            assertThat(groupCommitSize, size -> size > 0, "The group commit size must be at least 1");
+            this.groupCommitSize = groupCommitSize;
+            return this;
+        }
+
         /**
          * Sets the {@link MessageMonitor} of generic type {@link CommandMessage} used the to monitor the command bus.
          * Defaults to a {@link NoOpMessageMonitor}.
@@ -880,6 +944,42 @@ public Builder cache(Cache cache) {
             return this;
         }
 
+        /**
+         * Sets the maximum size of the first level cache in which every invoker thread keeps the aggregates it handles
+         * commands for, per aggregate type. When set to a positive value, aggregates are strongly referenced and the
+         * least recently used aggregates are evicted once the maximum size is exceeded. This prevents aggregates from
+         * being reloaded after a garbage collection, at the cost of a predictable amount of memory.
+         * <p/>
+         * Defaults to {@code 0}, which weakly references any number of aggregates, leaving their removal to the
+         * garbage collector.
+         *
+         * @param firstLevelCacheSize the maximum size of the first level cache per aggregate type and invoker thread,
+         *                            or {@code 0} to weakly reference cached aggregates
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder firstLevelCacheSize(int firstLevelCacheSize) {
+            assertPositive(firstLevelCacheSize, "The first level cache size may not be negative");
+            this.firstLevelCacheSize = firstLevelCacheSize;
+            return this;
+        }
+
+        /**
+         * Sets whether aggregates in a bounded first level cache are weighed by the number of events applied to them,
+         * rather than counting each aggregate once. When enabled, the {@link #firstLevelCacheSize(int)} limits the
+         * total number of events of the cached aggregates, favoring many small aggregates over a few large ones. Has no
+         * effect if the {@code firstLevelCacheSize} is {@code 0}.
+         * <p/>
+         * Defaults to {@code false}.
+         *
+         * @param weighFirstLevelCacheByEventCount whether aggregates are weighed by the number of events applied to
+         *                                         them
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder weighFirstLevelCacheByEventCount(boolean weighFirstLevelCacheByEventCount) {
+            this.weighFirstLevelCacheByEventCount = weighFirstLevelCacheByEventCount;
+            return this;
+        }
+
         /**
          * Sets the {@link DuplicateCommandHandlerResolver} used to resolves the road to take when a duplicate command
          * handler is subscribed. Defaults to {@link DuplicateCommandHandlerResolution#logAndOverride() Log and Override}.
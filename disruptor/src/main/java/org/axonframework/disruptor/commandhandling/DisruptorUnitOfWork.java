@@ -16,10 +16,15 @@
 
 package org.axonframework.disruptor.commandhandling;
 
+import org.axonframework.common.Assert;
 import org.axonframework.messaging.Message;
 import org.axonframework.messaging.ResultMessage;
 import org.axonframework.messaging.unitofwork.*;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Consumer;
@@ -36,6 +41,7 @@
  */
 public abstract class DisruptorUnitOfWork<T extends Message<?>> extends AbstractUnitOfWork<T> {
 
+    private final List<Map.Entry<Phase, Consumer<UnitOfWork<T>>>> startHandlers = new ArrayList<>();
     private MessageProcessingContext<T> processingContext;
 
     /**
@@ -50,11 +56,71 @@ public void reset(T message) {
         } else {
             processingContext.reset(message);
         }
+        startHandlers.clear();
         setPhase(Phase.NOT_STARTED);
         resources().clear();
         correlationDataProviders().clear();
     }
 
+    /**
+     * Commits this Unit of Work up to and including the {@link Phase#COMMIT commit} phase. The after commit and
+     * cleanup phases are deferred until {@link #completeCommit()} is invoked. This allows the Unit of Work to take
+     * part in a transaction that is committed after this method returns.
+     * <p/>
+     * If the commit fails, the exception is rethrown without rolling back this Unit of Work. The caller may either
+     * {@link #rollback(Throwable) roll back} this Unit of Work, or {@link #restart() restart} it and commit it again.
+     * In either case, this Unit of Work needs to be {@link #resume() resumed} first.
+     */
+    public void commitDeferringAfterCommit() {
+        Assert.state(phase() == Phase.STARTED,
+                     () -> String.format("The UnitOfWork is in an incompatible phase: %s", phase()));
+        Assert.state(isCurrent(), () -> "The UnitOfWork is not the current Unit of Work");
+        try {
+            changePhase(Phase.PREPARE_COMMIT, Phase.COMMIT);
+        } finally {
+            CurrentUnitOfWork.clear(this);
+        }
+    }
+
+    /**
+     * Completes the commit of a Unit of Work that has been committed using {@link #commitDeferringAfterCommit()}, by
+     * invoking its after commit and cleanup handlers. This Unit of Work needs to be {@link #resume() resumed} before
+     * invoking this method.
+     */
+    public void completeCommit() {
+        Assert.state(phase() == Phase.COMMIT,
+                     () -> String.format("The UnitOfWork is in an incompatible phase: %s", phase()));
+        Assert.state(isCurrent(), () -> "The UnitOfWork is not the current Unit of Work");
+        try {
+            changePhase(Phase.AFTER_COMMIT);
+        } finally {
+            try {
+                changePhase(Phase.CLEANUP, Phase.CLOSED);
+            } finally {
+                CurrentUnitOfWork.clear(this);
+            }
+        }
+    }
+
+    /**
+     * Restarts a Unit of Work of which the commit did not complete, by returning it to the {@link Phase#STARTED
+     * started} phase with the handlers that had been registered before it was committed. The resources and execution
+     * result of this Unit of Work are retained, allowing it to be committed again.
+     * <p/>
+     * Note that the prepare commit and commit handlers of this Unit of Work are invoked again on the next commit.
+     */
+    public void restart() {
+        Assert.state(phase() == Phase.PREPARE_COMMIT || phase() == Phase.COMMIT,
+                     () -> String.format("The UnitOfWork is in an incompatible phase: %s", phase()));
+        ExecutionResult executionResult = processingContext.getExecutionResult();
+        processingContext.reset(processingContext.getMessage());
+        if (executionResult != null) {
+            processingContext.setExecutionResult(executionResult);
+        }
+        startHandlers.forEach(handler -> processingContext.addHandler(handler.getKey(), handler.getValue()));
+        setPhase(Phase.STARTED);
+    }
+
     /**
      * Pause this Unit of Work by unregistering it with the {@link CurrentUnitOfWork}. This will detach it from the
      * current thread.
@@ -94,6 +160,9 @@ protected void notifyHandlers(Phase phase) {
 
     @Override
     protected void addHandler(Phase phase, Consumer<UnitOfWork<T>> handler) {
+        if (phase().isBefore(Phase.PREPARE_COMMIT)) {
+            startHandlers.add(new AbstractMap.SimpleImmutableEntry<>(phase, handler));
+        }
         processingContext.addHandler(phase, handler);
     }
 
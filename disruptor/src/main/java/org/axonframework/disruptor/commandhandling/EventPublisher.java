@@ -20,13 +20,16 @@
 import org.axonframework.commandhandling.CommandCallback;
 import org.axonframework.commandhandling.CommandMessage;
 import org.axonframework.commandhandling.CommandResultMessage;
+import org.axonframework.common.transaction.Transaction;
 import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.messaging.unitofwork.RollbackConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
 
@@ -35,6 +38,17 @@
 
 /**
  * Component of the DisruptorCommandBus that stores and publishes events generated by the command's execution.
+ * <p>
+ * By default, the Unit of Work of every command is committed in a transaction of its own. When a {@code groupSize}
+ * larger than one is given, the Units of Work of consecutive commands are committed in a single transaction, which is
+ * committed at the end of each batch of commands delivered by the ring buffer, or once it contains {@code groupSize}
+ * commands. The after commit handlers of these Units of Work are invoked, and the results of their commands are
+ * reported, once the transaction is committed. If one of the commands fails to commit, or if the transaction itself
+ * fails to commit, the transaction is rolled back and each of the commands in it is committed again in a transaction
+ * of its own. This way, only the aggregates of the commands that fail on their own are blacklisted. Note that the
+ * prepare commit and commit handlers of these Units of Work are invoked again when they are committed individually,
+ * also for the Units of Work that committed successfully within the group. As such, their events are dispatched to
+ * subscribing event processors at least once, rather than exactly once.
  *
  * @author Allard Buijze
  * @since 2.0
@@ -48,6 +62,10 @@ public class EventPublisher implements EventHandler<CommandHandlingEntry> {
     private final int segmentId;
     private final Set<Object> blackListedAggregates = new HashSet<>();
     private final TransactionManager transactionManager;
+    private final int groupSize;
+    private final List<PendingResult> group = new ArrayList<>();
+    private Transaction groupTransaction;
+    private Throwable groupFailure;
 
     /**
      * Initializes the EventPublisher to publish Events to the given {@code eventStore} and {@code eventBus}
@@ -61,10 +79,29 @@ public class EventPublisher implements EventHandler<CommandHandlingEntry> {
      */
     public EventPublisher(Executor executor, TransactionManager transactionManager,
                           RollbackConfiguration rollbackConfiguration, int segmentId) {
+        this(executor, transactionManager, rollbackConfiguration, segmentId, 1);
+    }
+
+    /**
+     * Initializes the EventPublisher to publish Events to the given {@code eventStore} and {@code eventBus}
+     * for aggregate of given {@code aggregateType}, committing the Units of Work of up to {@code groupSize}
+     * consecutive commands in a single transaction.
+     *
+     * @param executor              The executor which schedules response reporting
+     * @param transactionManager    The transaction manager that manages the transaction around event storage and
+     *                              publication
+     * @param rollbackConfiguration The configuration that indicates which exceptions should result in a UnitOfWork
+     * @param segmentId             The ID of the segment this publisher should handle
+     * @param groupSize             The maximum number of commands of which the Units of Work are committed in a
+     *                              single transaction
+     */
+    public EventPublisher(Executor executor, TransactionManager transactionManager,
+                          RollbackConfiguration rollbackConfiguration, int segmentId, int groupSize) {
         this.executor = executor;
         this.transactionManager = transactionManager;
         this.rollbackConfiguration = rollbackConfiguration;
         this.segmentId = segmentId;
+        this.groupSize = transactionManager == null ? 1 : groupSize;
     }
 
     @Override
@@ -80,6 +117,9 @@ public void onEvent(CommandHandlingEntry entry, long sequence, boolean endOfBatc
                 processPublication(entry, entry, aggregateIdentifier);
             }
         }
+        if (groupTransaction != null && (endOfBatch || group.size() >= groupSize || groupFailure != null)) {
+            completeGroup();
+        }
     }
 
     private void recoverAggregate(CommandHandlingEntry entry) {
@@ -116,9 +156,17 @@ private void processPublication(CommandHandlingEntry entry,
 
         if (exceptionResult != null && rollbackConfiguration.rollBackOn(exceptionResult)) {
             phaseExceptionResult = performRollback(unitOfWork, aggregateIdentifier, exceptionResult);
+        } else if (groupSize > 1) {
+            performGroupedCommit(unitOfWork);
+            group.add(new PendingResult(entry, aggregateIdentifier, exceptionResult));
+            return;
         } else {
             phaseExceptionResult = performCommit(unitOfWork, exceptionResult, aggregateIdentifier);
         }
+        reportResult(entry, phaseExceptionResult);
+    }
+
+    private void reportResult(CommandHandlingEntry entry, Throwable phaseExceptionResult) {
         if (entry.getCallback().hasDelegate()) {
             if (phaseExceptionResult == null) {
                 executor.execute(new ReportResultTask(
@@ -175,6 +223,74 @@ private Throwable performCommit(DisruptorUnitOfWork unitOfWork,
         return exceptionResult;
     }
 
+    private void performGroupedCommit(DisruptorUnitOfWork unitOfWork) {
+        if (groupTransaction == null) {
+            groupTransaction = transactionManager.startTransaction();
+        }
+        try {
+            unitOfWork.commitDeferringAfterCommit();
+        } catch (Exception e) {
+            groupFailure = e;
+        }
+    }
+
+    private void completeGroup() {
+        if (groupFailure == null) {
+            try {
+                groupTransaction.commit();
+            } catch (Exception e) {
+                groupFailure = e;
+            }
+        } else {
+            try {
+                groupTransaction.rollback();
+            } catch (Exception e) {
+                logger.warn("Failed to roll back the transaction of a group of commands.", e);
+            }
+        }
+        if (groupFailure == null) {
+            group.forEach(this::completeGroupedCommit);
+        } else {
+            logger.warn("Failed to commit a group of {} commands. Committing each of them individually.",
+                        group.size(), groupFailure);
+            group.forEach(this::retryGroupedCommit);
+        }
+        group.clear();
+        groupTransaction = null;
+        groupFailure = null;
+    }
+
+    private void completeGroupedCommit(PendingResult pending) {
+        CommandHandlingEntry entry = pending.entry;
+        Throwable phaseExceptionResult = pending.exceptionResult;
+        entry.resume();
+        try {
+            entry.completeCommit();
+        } catch (Exception e) {
+            logger.warn("An error occurred while completing the commit of a command in a group.", e);
+        }
+        reportResult(entry, phaseExceptionResult);
+    }
+
+    private void retryGroupedCommit(PendingResult pending) {
+        CommandHandlingEntry entry = pending.entry;
+        String aggregateIdentifier = pending.aggregateIdentifier;
+        entry.resume();
+        entry.restart();
+        Throwable phaseExceptionResult;
+        if (aggregateIdentifier != null && blackListedAggregates.contains(aggregateIdentifier)) {
+            phaseExceptionResult = new AggregateStateCorruptedException(
+                    aggregateIdentifier,
+                    format("Aggregate %s has been blacklisted and will be ignored until its state has been recovered.",
+                           aggregateIdentifier)
+            );
+            entry.rollback(phaseExceptionResult);
+        } else {
+            phaseExceptionResult = performCommit(entry, pending.exceptionResult, aggregateIdentifier);
+        }
+        reportResult(entry, phaseExceptionResult);
+    }
+
     private Throwable notifyBlacklisted(DisruptorUnitOfWork unitOfWork, String aggregateIdentifier,
                                         Throwable cause) {
         blackListedAggregates.add(aggregateIdentifier);
@@ -189,6 +305,19 @@ private Throwable notifyBlacklisted(DisruptorUnitOfWork unitOfWork, String aggre
         return exceptionResult;
     }
 
+    private static class PendingResult {
+
+        private final CommandHandlingEntry entry;
+        private final String aggregateIdentifier;
+        private final Throwable exceptionResult;
+
+        private PendingResult(CommandHandlingEntry entry, String aggregateIdentifier, Throwable exceptionResult) {
+            this.entry = entry;
+            this.aggregateIdentifier = aggregateIdentifier;
+            this.exceptionResult = exceptionResult;
+        }
+    }
+
     private static class ReportResultTask<C, R> implements Runnable {
 
         private final CommandMessage<C> commandMessage;
@@ -24,6 +24,7 @@
 import java.util.Map;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Works as an in-memory cache to keep a weak reference to the cached object,
@@ -39,6 +40,9 @@
  * map automatically.
  * <p>
  * This implementation is heavily inspired by http://www.java2s.com/Code/Java/Collections-Data-Structure/WeakValueHashMap.htm
+ * <p>
+ * The cache counts the number of hits, misses and evictions, the latter being the entries removed because their
+ * value was garbage collected.
  *
  * @param <T> the type of the aggregate root
  * @author Premanand Chandrasekaran
@@ -48,6 +52,9 @@
 
     private Map<String, WeakValue> delegate;
     private ReferenceQueue<EventSourcedAggregate<T>> queue;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
 
     /**
      * Creates a FirstLevelCache with a desired initial capacity.
@@ -87,7 +94,13 @@ public EventSourcedAggregate<T> put(String key, EventSourcedAggregate<T> value)
      */
     public EventSourcedAggregate<T> get(Object key) {
         processQueue();
-        return getReferenceValue(delegate.get(key));
+        EventSourcedAggregate<T> value = getReferenceValue(delegate.get(key));
+        if (value == null) {
+            recordMiss();
+        } else {
+            recordHit();
+        }
+        return value;
     }
 
     /**
@@ -108,7 +121,9 @@ private EventSourcedAggregate<T> getReferenceValue(WeakValue valueRef) {
     private void processQueue() {
         WeakValue valueRef;
         while ((valueRef = (WeakValue) queue.poll()) != null) {
-            delegate.remove(valueRef.getKey());
+            if (delegate.remove(valueRef.getKey(), valueRef)) {
+                recordEviction();
+            }
         }
     }
 
@@ -117,6 +132,66 @@ public int size() {
         return delegate.size();
     }
 
+    /**
+     * Returns the number of times {@link #get(Object)} found an entry.
+     *
+     * @return the number of times {@link #get(Object)} found an entry
+     */
+    long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of times {@link #get(Object)} did not find an entry.
+     *
+     * @return the number of times {@link #get(Object)} did not find an entry
+     */
+    long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries removed from this cache without being explicitly removed.
+     *
+     * @return the number of entries removed from this cache without being explicitly removed
+     */
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Prevents the entry under given {@code key} from being evicted until it is {@link #unpin(String) unpinned}. Used
+     * to retain aggregates of which the Unit of Work has not completed yet. An entry pinned multiple times needs to
+     * be unpinned as many times.
+     * <p>
+     * This implementation does nothing, as the aggregate is weakly referenced and therefore retained as long as the
+     * Unit of Work refers to it.
+     *
+     * @param key The key of the entry to pin
+     */
+    void pin(String key) {
+    }
+
+    /**
+     * Releases a pin placed on the entry under given {@code key} through {@link #pin(String)}.
+     *
+     * @param key The key of the entry to unpin
+     */
+    void unpin(String key) {
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
     private class WeakValue extends WeakReference<EventSourcedAggregate<T>> {
         private final String key;
 
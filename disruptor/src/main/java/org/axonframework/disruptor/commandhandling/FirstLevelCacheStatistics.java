@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.disruptor.commandhandling;
+
+/**
+ * Statistics of the first level caches in which the {@link CommandHandlerInvoker}s of a {@link DisruptorCommandBus}
+ * keep the aggregates they handle commands for. Every aggregate not found in a first level cache is retrieved from the
+ * configured {@link org.axonframework.common.caching.Cache}, or loaded from the event store.
+ *
+ * @since 4.6.0
+ */
+public class FirstLevelCacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    /**
+     * Instantiate {@link FirstLevelCacheStatistics} with the given counts.
+     *
+     * @param hitCount      the number of times an aggregate was found in a first level cache
+     * @param missCount     the number of times an aggregate was not found in a first level cache
+     * @param evictionCount the number of aggregates evicted from a first level cache, either because the cache
+     *                      exceeded its maximum size or because the aggregate was garbage collected
+     */
+    public FirstLevelCacheStatistics(long hitCount, long missCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Returns the number of times an aggregate was found in a first level cache.
+     *
+     * @return the number of times an aggregate was found in a first level cache
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of times an aggregate was not found in a first level cache.
+     *
+     * @return the number of times an aggregate was not found in a first level cache
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of aggregates evicted from a first level cache, either because the cache exceeded its maximum
+     * size or because the aggregate was garbage collected.
+     *
+     * @return the number of aggregates evicted from a first level cache
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Combines these statistics with the given {@code other} statistics, by adding up their counts.
+     *
+     * @param other the statistics to combine these statistics with
+     * @return statistics containing the sum of the counts of these and the {@code other} statistics
+     */
+    public FirstLevelCacheStatistics combine(FirstLevelCacheStatistics other) {
+        return new FirstLevelCacheStatistics(hitCount + other.hitCount,
+                                             missCount + other.missCount,
+                                             evictionCount + other.evictionCount);
+    }
+
+    @Override
+    public String toString() {
+        return "FirstLevelCacheStatistics{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                '}';
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.disruptor.commandhandling;
+
+import org.axonframework.eventsourcing.EventSourcedAggregate;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link BoundedFirstLevelCache}.
+ */
+class BoundedFirstLevelCacheTest {
+
+    @Test
+    void shouldEvictLeastRecentlyUsedAggregates() {
+        BoundedFirstLevelCache<Object> testSubject = new BoundedFirstLevelCache<>(2, false);
+        EventSourcedAggregate<Object> first = aggregate(0L);
+        EventSourcedAggregate<Object> second = aggregate(0L);
+        EventSourcedAggregate<Object> third = aggregate(0L);
+
+        testSubject.put("first", first);
+        testSubject.put("second", second);
+        assertSame(first, testSubject.get("first"));
+        testSubject.put("third", third);
+
+        assertEquals(2, testSubject.size());
+        assertSame(first, testSubject.get("first"));
+        assertNull(testSubject.get("second"));
+        assertSame(third, testSubject.get("third"));
+        assertEquals(1, testSubject.evictionCount());
+    }
+
+    @Test
+    void shouldWeighAggregatesByEventCount() {
+        BoundedFirstLevelCache<Object> testSubject = new BoundedFirstLevelCache<>(10, true);
+        EventSourcedAggregate<Object> small = aggregate(1L);
+        EventSourcedAggregate<Object> large = aggregate(4L);
+
+        testSubject.put("small", small);
+        testSubject.put("large", large);
+        assertEquals(2, testSubject.size());
+
+        when(large.version()).thenReturn(8L);
+        assertSame(large, testSubject.get("large"));
+
+        assertEquals(1, testSubject.size());
+        assertNull(testSubject.get("small"));
+        assertEquals(1, testSubject.evictionCount());
+    }
+
+    @Test
+    void shouldNeverEvictTheAggregateJustCached() {
+        BoundedFirstLevelCache<Object> testSubject = new BoundedFirstLevelCache<>(5, true);
+        EventSourcedAggregate<Object> oversized = aggregate(10L);
+
+        testSubject.put("oversized", oversized);
+
+        assertSame(oversized, testSubject.get("oversized"));
+        assertEquals(0, testSubject.evictionCount());
+    }
+
+    @Test
+    void shouldNotEvictPinnedAggregatesUntilUnpinned() {
+        BoundedFirstLevelCache<Object> testSubject = new BoundedFirstLevelCache<>(1, false);
+        EventSourcedAggregate<Object> pending = aggregate(0L);
+        EventSourcedAggregate<Object> other = aggregate(0L);
+
+        testSubject.put("pending", pending);
+        testSubject.pin("pending");
+        testSubject.put("other", other);
+
+        assertEquals(2, testSubject.size());
+        assertEquals(0, testSubject.evictionCount());
+
+        testSubject.unpin("pending");
+
+        assertEquals(1, testSubject.size());
+        assertNull(testSubject.get("pending"));
+        assertSame(other, testSubject.get("other"));
+        assertEquals(1, testSubject.evictionCount());
+    }
+
+    @Test
+    void shouldEvictUnpinnedAggregatesBeforePinnedOnes() {
+        BoundedFirstLevelCache<Object> testSubject = new BoundedFirstLevelCache<>(2, false);
+        EventSourcedAggregate<Object> pending = aggregate(0L);
+        EventSourcedAggregate<Object> committed = aggregate(0L);
+        EventSourcedAggregate<Object> latest = aggregate(0L);
+
+        testSubject.put("pending", pending);
+        testSubject.pin("pending");
+        testSubject.put("committed", committed);
+        testSubject.put("latest", latest);
+
+        assertEquals(2, testSubject.size());
+        assertSame(pending, testSubject.get("pending"));
+        assertNull(testSubject.get("committed"));
+        assertSame(latest, testSubject.get("latest"));
+    }
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        BoundedFirstLevelCache<Object> testSubject = new BoundedFirstLevelCache<>(10, false);
+        testSubject.put("key", aggregate(0L));
+
+        testSubject.get("key");
+        testSubject.get("key");
+        testSubject.get("unknown");
+        testSubject.remove("key");
+        testSubject.get("key");
+
+        assertEquals(2, testSubject.hitCount());
+        assertEquals(2, testSubject.missCount());
+        assertEquals(0, testSubject.evictionCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EventSourcedAggregate<Object> aggregate(Long version) {
+        EventSourcedAggregate<Object> aggregate = mock(EventSourcedAggregate.class);
+        when(aggregate.version()).thenReturn(version);
+        return aggregate;
+    }
+}
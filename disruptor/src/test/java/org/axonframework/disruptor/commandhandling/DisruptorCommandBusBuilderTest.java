@@ -32,4 +32,9 @@ void testSetIllegalPublisherThreadCount() {
     void testSetIllegalInvokerThreadCount() {
         assertThrows(AxonConfigurationException.class, () -> DisruptorCommandBus.builder().invokerThreadCount(0));
     }
+
+    @Test
+    void testSetIllegalFirstLevelCacheSize() {
+        assertThrows(AxonConfigurationException.class, () -> DisruptorCommandBus.builder().firstLevelCacheSize(-1));
+    }
 }
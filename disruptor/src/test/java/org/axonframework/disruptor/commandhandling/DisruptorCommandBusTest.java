@@ -65,6 +65,7 @@
 import java.util.function.Consumer;
 
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.axonframework.commandhandling.GenericCommandMessage.asCommandMessage;
 import static org.axonframework.modelling.command.AggregateLifecycle.apply;
 import static org.junit.jupiter.api.Assertions.*;
@@ -248,6 +249,140 @@ void testEventPublicationExecutedWithinTransaction() throws Exception {
         verifyNoMoreInteractions(mockTransaction, mockTransactionManager);
     }
 
+    @Test
+    @Timeout(value = 10)
+    void testEventsOfConsecutiveCommandsAreStoredInGroupTransactions() throws Exception {
+        int commandCount = 100;
+        CountDownLatch commandsDispatched = new CountDownLatch(1);
+        Transaction mockTransaction = mock(Transaction.class);
+        doAnswer(invocation -> commandsDispatched.await(5, TimeUnit.SECONDS)).when(mockTransaction).commit();
+        mockTransactionManager = mock(TransactionManager.class);
+        when(mockTransactionManager.startTransaction()).thenReturn(mockTransaction);
+        testSubject = DisruptorCommandBus.builder()
+                                         .transactionManager(mockTransactionManager)
+                                         .groupCommitSize(10)
+                                         .build();
+        testSubject.subscribe(StubCommand.class.getName(), stubHandler);
+        stubHandler.setRepository(testSubject.createRepository(eventStore,
+                                                               new GenericAggregateFactory<>(StubAggregate.class)));
+
+        CountDownLatch successfulResults = new CountDownLatch(commandCount);
+        for (int i = 0; i < commandCount; i++) {
+            testSubject.dispatch(asCommandMessage(new StubCommand(aggregateIdentifier)), (command, result) -> {
+                if (!result.isExceptional()) {
+                    successfulResults.countDown();
+                }
+            });
+        }
+        commandsDispatched.countDown();
+
+        assertTrue(successfulResults.await(5, TimeUnit.SECONDS));
+        assertEquals(COMMAND_COUNT - commandCount, eventStore.countDownLatch.getCount());
+        verify(mockTransactionManager, atMost(commandCount / 2)).startTransaction();
+        verify(mockTransaction, never()).rollback();
+    }
+
+    @Test
+    @Timeout(value = 10)
+    void testOnlyAggregateOfFailingCommandInGroupIsBlacklisted() throws Exception {
+        String otherAggregateIdentifier = UUID.randomUUID().toString();
+        eventStore.publish(singletonList(new GenericDomainEventMessage<>(
+                "StubAggregate", otherAggregateIdentifier, 0, new StubDomainEvent()
+        )));
+        CountDownLatch commandsDispatched = new CountDownLatch(1);
+        Transaction mockTransaction = mock(Transaction.class);
+        doAnswer(invocation -> commandsDispatched.await(5, TimeUnit.SECONDS)).when(mockTransaction).commit();
+        mockTransactionManager = mock(TransactionManager.class);
+        when(mockTransactionManager.startTransaction()).thenReturn(mockTransaction);
+        testSubject = DisruptorCommandBus.builder()
+                                         .transactionManager(mockTransactionManager)
+                                         .groupCommitSize(20)
+                                         .invokerInterceptors(singletonList((unitOfWork, chain) -> {
+                                             if (unitOfWork.getMessage().getMetaData().containsKey("failOnCommit")) {
+                                                 unitOfWork.onPrepareCommit(u -> {
+                                                     throw new MockException("Simulating a failing commit");
+                                                 });
+                                             }
+                                             return chain.proceed();
+                                         }))
+                                         .build();
+        testSubject.subscribe(StubCommand.class.getName(), stubHandler);
+        stubHandler.setRepository(testSubject.createRepository(eventStore,
+                                                               new GenericAggregateFactory<>(StubAggregate.class)));
+
+        int commandCount = 10;
+        CountDownLatch successfulResults = new CountDownLatch(commandCount);
+        FutureCallback<Object, Object> errorCallback = new FutureCallback<>();
+        for (int i = 0; i < commandCount; i++) {
+            if (i == commandCount / 2) {
+                testSubject.dispatch(asCommandMessage(new StubCommand(aggregateIdentifier))
+                                             .andMetaData(singletonMap("failOnCommit", true)), errorCallback);
+            }
+            testSubject.dispatch(asCommandMessage(new StubCommand(otherAggregateIdentifier)), (command, result) -> {
+                if (!result.isExceptional()) {
+                    successfulResults.countDown();
+                }
+            });
+        }
+        commandsDispatched.countDown();
+
+        assertTrue(successfulResults.await(5, TimeUnit.SECONDS));
+        CommandResultMessage<?> errorResult = errorCallback.getResult(5, TimeUnit.SECONDS);
+        assertTrue(errorResult.isExceptional());
+        assertTrue(errorResult.exceptionResult() instanceof MockException);
+        verify(mockTransaction, atLeastOnce()).rollback();
+    }
+
+    @Test
+    @Timeout(value = 10)
+    void testCommandsOfFailedGroupTransactionAreCommittedIndividually() throws Exception {
+        CountDownLatch commandsDispatched = new CountDownLatch(1);
+        AtomicInteger commits = new AtomicInteger();
+        Transaction mockTransaction = mock(Transaction.class);
+        doAnswer(invocation -> {
+            if (commits.incrementAndGet() == 1) {
+                commandsDispatched.await(5, TimeUnit.SECONDS);
+                throw new MockException("Simulating a failing group transaction");
+            }
+            return null;
+        }).when(mockTransaction).commit();
+        mockTransactionManager = mock(TransactionManager.class);
+        when(mockTransactionManager.startTransaction()).thenReturn(mockTransaction);
+        AtomicInteger afterCommitInvocations = new AtomicInteger();
+        testSubject = DisruptorCommandBus.builder()
+                                         .transactionManager(mockTransactionManager)
+                                         .groupCommitSize(20)
+                                         .invokerInterceptors(singletonList((unitOfWork, chain) -> {
+                                             unitOfWork.afterCommit(u -> afterCommitInvocations.incrementAndGet());
+                                             return chain.proceed();
+                                         }))
+                                         .build();
+        testSubject.subscribe(StubCommand.class.getName(), stubHandler);
+        stubHandler.setRepository(testSubject.createRepository(eventStore,
+                                                               new GenericAggregateFactory<>(StubAggregate.class)));
+
+        int commandCount = 10;
+        CountDownLatch successfulResults = new CountDownLatch(commandCount);
+        for (int i = 0; i < commandCount; i++) {
+            testSubject.dispatch(asCommandMessage(new StubCommand(aggregateIdentifier)), (command, result) -> {
+                if (!result.isExceptional()) {
+                    successfulResults.countDown();
+                }
+            });
+        }
+        commandsDispatched.countDown();
+
+        assertTrue(successfulResults.await(5, TimeUnit.SECONDS));
+        assertEquals(commandCount, afterCommitInvocations.get());
+        assertTrue(commits.get() > 1);
+        verify(mockTransactionManager, times(commits.get())).startTransaction();
+        verify(mockTransaction, never()).rollback();
+
+        FutureCallback<Object, Object> callback = new FutureCallback<>();
+        testSubject.dispatch(asCommandMessage(new StubCommand(aggregateIdentifier)), callback);
+        assertFalse(callback.getResult(5, TimeUnit.SECONDS).isExceptional());
+    }
+
     @SuppressWarnings({"unchecked", "Duplicates"})
     @Test
     @Timeout(value = 10)
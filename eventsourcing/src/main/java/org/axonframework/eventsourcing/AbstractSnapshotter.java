@@ -29,17 +29,32 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertPositive;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
 
 /**
  * Abstract implementation of the {@link org.axonframework.eventsourcing.Snapshotter} that uses a task executor to
  * creates snapshots. Actual snapshot creation logic should be provided by a subclass.
+ * <p>
+ * By default, every scheduled snapshot is handed to the executor directly. When a {@code queueCapacity} is configured,
+ * scheduled snapshots are placed in a bounded queue instead, which is drained by a configurable number of tasks on the
+ * executor. Scheduling a snapshot for an aggregate which is already queued does not add another snapshot to the queue,
+ * but moves the aggregate ahead of aggregates for which a snapshot was requested less often. Starting queued snapshots
+ * can additionally be limited to a maximum number per second, to limit the load snapshotting puts on the event store.
  *
  * @author Allard Buijze
  * @since 0.6
@@ -54,6 +69,11 @@ public abstract class AbstractSnapshotter implements Snapshotter {
     private final Executor executor;
     private final TransactionManager transactionManager;
     private final Set<AggregateTypeId> snapshotsInProgress = ConcurrentHashMap.newKeySet();
+    private final SnapshotQueue snapshotQueue;
+    private final long snapshotIntervalNanos;
+    private final AtomicLong nextSnapshotStart = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong skippedDuplicates = new AtomicLong();
+    private final AtomicLong rejectedSnapshots = new AtomicLong();
 
     /**
      * Instantiate a {@link AbstractSnapshotter} based on the fields contained in the {@link Builder}.
@@ -68,6 +88,12 @@ protected AbstractSnapshotter(Builder builder) {
         this.eventStore = builder.eventStore;
         this.executor = builder.executor;
         this.transactionManager = builder.transactionManager;
+        this.snapshotQueue = builder.queueCapacity > 0
+                ? new SnapshotQueue(builder.queueCapacity, builder.parallelism)
+                : null;
+        this.snapshotIntervalNanos = builder.maxSnapshotsPerSecond > 0
+                ? TimeUnit.SECONDS.toNanos(1) / builder.maxSnapshotsPerSecond
+                : 0;
     }
 
     @Override
@@ -87,10 +113,13 @@ private void doScheduleSnapshot(Class<?> aggregateType, String aggregateIdentifi
                                      .root()
                                      .getOrComputeResource(SCHEDULED_SNAPSHOT_SET, key -> new HashSet<>());
             if (!scheduledSnapshotMap.add(typeAndId)) {
+                skippedDuplicates.incrementAndGet();
                 return;
             }
         }
-        if (snapshotsInProgress.add(typeAndId)) {
+        if (snapshotQueue != null) {
+            snapshotQueue.offer(typeAndId);
+        } else if (snapshotsInProgress.add(typeAndId)) {
             try {
                 executor.execute(
                         silently(() -> transactionManager.executeInTransaction(createSnapshotterTask(aggregateType, aggregateIdentifier)))
@@ -99,6 +128,47 @@ private void doScheduleSnapshot(Class<?> aggregateType, String aggregateIdentifi
                 snapshotsInProgress.remove(typeAndId);
                 throw e;
             }
+        } else {
+            skippedDuplicates.incrementAndGet();
+        }
+    }
+
+    private void processQueuedSnapshots() {
+        boolean drained = false;
+        try {
+            AggregateTypeId next;
+            while ((next = snapshotQueue.poll()) != null) {
+                AggregateTypeId typeAndId = next;
+                try {
+                    awaitSnapshotPermit();
+                    silently(() -> transactionManager.executeInTransaction(
+                            createSnapshotterTask(typeAndId.aggregateType, typeAndId.aggregateIdentifier)
+                    )).run();
+                } finally {
+                    snapshotsInProgress.remove(typeAndId);
+                }
+            }
+            drained = true;
+        } finally {
+            if (!drained) {
+                // polling an empty queue ends the task, any other way out must end it explicitly
+                snapshotQueue.endTask();
+            }
+        }
+    }
+
+    private void awaitSnapshotPermit() {
+        if (snapshotIntervalNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long permittedStart = Math.max(now, nextSnapshotStart.getAndAccumulate(
+                now, (previous, current) -> Math.max(previous, current) + snapshotIntervalNanos
+        ));
+        long remainingNanos = permittedStart - now;
+        while (remainingNanos > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(this, remainingNanos);
+            remainingNanos = permittedStart - System.nanoTime();
         }
     }
 
@@ -148,6 +218,35 @@ protected Executor getExecutor() {
         return executor;
     }
 
+    /**
+     * Returns the number of snapshots waiting in the queue to be created. Is always {@code 0} if no {@code
+     * queueCapacity} is configured, as snapshots are then handed to the executor directly.
+     *
+     * @return the number of snapshots waiting in the queue to be created
+     */
+    public int queueDepth() {
+        return snapshotQueue == null ? 0 : snapshotQueue.size();
+    }
+
+    /**
+     * Returns the number of times scheduling a snapshot was skipped, because a snapshot for the same aggregate was
+     * already scheduled, queued or in progress.
+     *
+     * @return the number of times scheduling a snapshot was skipped because of a duplicate
+     */
+    public long skippedDuplicates() {
+        return skippedDuplicates.get();
+    }
+
+    /**
+     * Returns the number of snapshots which were not created because the queue was full when they were scheduled.
+     *
+     * @return the number of snapshots which were not created because the queue was full
+     */
+    public long rejectedSnapshots() {
+        return rejectedSnapshots.get();
+    }
+
     private static class AggregateTypeId {
         private final Class<?> aggregateType;
         private final String aggregateIdentifier;
@@ -176,18 +275,115 @@ public int hashCode() {
         }
     }
 
+    /**
+     * A bounded queue of aggregates to create a snapshot for, ordering the aggregates by the number of times a snapshot
+     * was requested while queued, and then by the order in which they were queued. Starts up to the configured number
+     * of tasks on the executor to process the queued snapshots.
+     */
+    private class SnapshotQueue {
+
+        private final int capacity;
+        private final int parallelism;
+        private final Map<AggregateTypeId, QueuedSnapshot> queuedSnapshots = new HashMap<>();
+        private final TreeSet<QueuedSnapshot> queue = new TreeSet<>(
+                Comparator.comparingLong((QueuedSnapshot queued) -> queued.requests).reversed()
+                          .thenComparingLong(queued -> queued.order)
+        );
+        private long queuedCount;
+        private int activeTasks;
+
+        private SnapshotQueue(int capacity, int parallelism) {
+            this.capacity = capacity;
+            this.parallelism = parallelism;
+        }
+
+        private void offer(AggregateTypeId typeAndId) {
+            synchronized (this) {
+                QueuedSnapshot queued = queuedSnapshots.get(typeAndId);
+                if (queued != null) {
+                    queue.remove(queued);
+                    queued.requests++;
+                    queue.add(queued);
+                    skippedDuplicates.incrementAndGet();
+                    return;
+                }
+                if (snapshotsInProgress.contains(typeAndId)) {
+                    skippedDuplicates.incrementAndGet();
+                    return;
+                }
+                if (queue.size() >= capacity) {
+                    rejectedSnapshots.incrementAndGet();
+                    logger.debug("Snapshot queue is full. Skipping snapshot of aggregate [{}] of type [{}].",
+                                 typeAndId.aggregateIdentifier, typeAndId.aggregateType.getName());
+                    return;
+                }
+                queued = new QueuedSnapshot(typeAndId, queuedCount++);
+                queuedSnapshots.put(typeAndId, queued);
+                queue.add(queued);
+                if (activeTasks >= parallelism) {
+                    return;
+                }
+                activeTasks++;
+            }
+            try {
+                executor.execute(AbstractSnapshotter.this::processQueuedSnapshots);
+            } catch (Exception e) {
+                synchronized (this) {
+                    activeTasks--;
+                }
+                throw e;
+            }
+        }
+
+        private synchronized AggregateTypeId poll() {
+            QueuedSnapshot next = queue.pollFirst();
+            if (next == null) {
+                activeTasks--;
+                return null;
+            }
+            queuedSnapshots.remove(next.typeAndId);
+            snapshotsInProgress.add(next.typeAndId);
+            return next.typeAndId;
+        }
+
+        private synchronized void endTask() {
+            activeTasks--;
+        }
+
+        private synchronized int size() {
+            return queue.size();
+        }
+    }
+
+    private static class QueuedSnapshot {
+
+        private final AggregateTypeId typeAndId;
+        private final long order;
+        private long requests = 1;
+
+        private QueuedSnapshot(AggregateTypeId typeAndId, long order) {
+            this.typeAndId = typeAndId;
+            this.order = order;
+        }
+    }
+
     /**
      * Abstract Builder class to instantiate {@link AbstractSnapshotter} implementations.
      * <p>
      * The {@link Executor} is defaulted to an {@link DirectExecutor#INSTANCE} and the {@link TransactionManager}
-     * defaults to a {@link NoTransactionManager}. The {@link EventStore} is a <b>hard requirement</b> and as such
-     * should be provided.
+     * defaults to a {@link NoTransactionManager}. The {@code queueCapacity} defaults to {@code 0}, meaning snapshots
+     * are not queued, the {@code parallelism} to {@code 1} and the {@code maxSnapshotsPerSecond} to {@code 0}, meaning
+     * the snapshot rate is not limited. The {@link EventStore} is a <b>hard requirement</b> and as such should be
+     * provided.
      */
     public abstract static class Builder {
 
         private EventStore eventStore;
         private Executor executor = DirectExecutor.INSTANCE;
         private TransactionManager transactionManager = NoTransactionManager.INSTANCE;
+        private int queueCapacity = 0;
+        private int parallelism = 1;
+        private int maxSnapshotsPerSecond = 0;
 
         /**
          * Sets the {@link EventStore} instance which this {@link AbstractSnapshotter} implementation will store
@@ -230,6 +426,51 @@ public Builder transactionManager(TransactionManager transactionManager) {
             return this;
         }
 
+        /**
+         * Sets the maximum number of snapshots waiting to be created. When set, scheduled snapshots are placed in a
+         * queue which is processed by up to {@link #parallelism(int)} tasks on the configured {@link Executor}, instead
+         * of handing every snapshot to the {@code Executor} directly. Snapshots scheduled while the queue is full are
+         * skipped. As queued snapshots are created by tasks on the {@code Executor}, the queue should be combined with
+         * an {@code Executor} providing threads of its own. Defaults to {@code 0}, meaning snapshots are not queued.
+         *
+         * @param queueCapacity the maximum number of snapshots waiting to be created, or {@code 0} to hand snapshots to
+         *                      the {@link Executor} directly
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            assertPositive(queueCapacity, "The queueCapacity must be a positive number or zero");
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of snapshots created concurrently when a {@link #queueCapacity(int)} is configured.
+         * Defaults to {@code 1}.
+         *
+         * @param parallelism the maximum number of snapshots created concurrently when snapshots are queued
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder parallelism(int parallelism) {
+            assertStrictPositive(parallelism, "The parallelism must be a positive number");
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of queued snapshots started per second, limiting the load snapshotting puts on the
+         * event store. Only applies when a {@link #queueCapacity(int)} is configured. Defaults to {@code 0}, meaning
+         * the snapshot rate is not limited.
+         *
+         * @param maxSnapshotsPerSecond the maximum number of queued snapshots started per second, or {@code 0} to not
+         *                              limit the snapshot rate
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maxSnapshotsPerSecond(int maxSnapshotsPerSecond) {
+            assertPositive(maxSnapshotsPerSecond, "The maxSnapshotsPerSecond must be a positive number or zero");
+            this.maxSnapshotsPerSecond = maxSnapshotsPerSecond;
+            return this;
+        }
+
         /**
          * Validates whether the fields contained in this Builder are set accordingly.
          *
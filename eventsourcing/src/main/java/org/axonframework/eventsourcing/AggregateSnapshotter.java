@@ -189,6 +189,24 @@ public Builder transactionManager(TransactionManager transactionManager) {
             return this;
         }
 
+        @Override
+        public Builder queueCapacity(int queueCapacity) {
+            super.queueCapacity(queueCapacity);
+            return this;
+        }
+
+        @Override
+        public Builder parallelism(int parallelism) {
+            super.parallelism(parallelism);
+            return this;
+        }
+
+        @Override
+        public Builder maxSnapshotsPerSecond(int maxSnapshotsPerSecond) {
+            super.maxSnapshotsPerSecond(maxSnapshotsPerSecond);
+            return this;
+        }
+
         /**
          * Sets the {@code aggregateFactories} supported by this snapshotter. The {@link AggregateFactory} instances are
          * used to create the relevant Aggregate Root instance, which represent the snapshots.
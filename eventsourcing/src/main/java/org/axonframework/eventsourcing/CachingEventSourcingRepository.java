@@ -18,11 +18,14 @@
 
 import org.axonframework.common.caching.Cache;
 import org.axonframework.common.lock.LockFactory;
+import org.axonframework.eventsourcing.eventstore.DomainEventStream;
 import org.axonframework.eventsourcing.eventstore.EventStore;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.modelling.command.Aggregate;
 import org.axonframework.modelling.command.RepositoryProvider;
 import org.axonframework.modelling.command.inspection.AggregateModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
 
@@ -32,6 +35,11 @@
  * <p>
  * Note that an entry of a cached aggregate is immediately invalidated when an error occurs while saving that
  * aggregate. This is done to prevent the cache from returning aggregates that may not have fully persisted to disk.
+ * <p>
+ * By default, cached aggregates are used as is, which requires this repository to be the only one appending events to
+ * them. When {@link Builder#validateCachedAggregates(boolean) cached aggregate validation} is enabled, the events
+ * appended after the version of a cached aggregate are read and applied to it before it is used. This allows caching
+ * in deployments where multiple nodes may append events to the same aggregate.
  *
  * @param <T> The type of aggregate this repository stores
  * @author Allard Buijze
@@ -39,10 +47,13 @@
  */
 public class CachingEventSourcingRepository<T> extends EventSourcingRepository<T> {
 
+    private static final Logger logger = LoggerFactory.getLogger(CachingEventSourcingRepository.class);
+
     private final EventStore eventStore;
     private final RepositoryProvider repositoryProvider;
     private final Cache cache;
     private final SnapshotTriggerDefinition snapshotTriggerDefinition;
+    private final boolean validateCachedAggregates;
 
     /**
      * Instantiate a {@link CachingEventSourcingRepository} based on the fields contained in the
@@ -72,6 +83,7 @@ protected CachingEventSourcingRepository(Builder<T> builder) {
         this.eventStore = builder.eventStore;
         this.snapshotTriggerDefinition = builder.snapshotTriggerDefinition;
         this.repositoryProvider = builder.repositoryProvider;
+        this.validateCachedAggregates = builder.validateCachedAggregates;
     }
 
     @Override
@@ -94,8 +106,9 @@ protected void doDeleteWithLock(EventSourcedAggregate<T> aggregate) {
 
     /**
      * Perform the actual loading of an aggregate. The necessary locks have been obtained. If the aggregate is
-     * available in the cache, it is returned from there. Otherwise the underlying persistence logic is called to
-     * retrieve the aggregate.
+     * available in the cache, it is returned from there, after applying the events appended since it was cached if
+     * cached aggregates are validated. Otherwise the underlying persistence logic is called to retrieve the
+     * aggregate.
      *
      * @param aggregateIdentifier the identifier of the aggregate to load
      * @param expectedVersion     The expected version of the aggregate
@@ -110,6 +123,9 @@ protected EventSourcedAggregate<T> doLoadWithLock(String aggregateIdentifier, Lo
                                                      eventStore,
                                                      repositoryProvider,
                                                      snapshotTriggerDefinition);
+            if (aggregate != null && validateCachedAggregates) {
+                aggregate = catchUp(aggregateIdentifier, aggregate);
+            }
         }
         if (aggregate == null) {
             aggregate = super.doLoadWithLock(aggregateIdentifier, expectedVersion);
@@ -118,4 +134,26 @@ protected EventSourcedAggregate<T> doLoadWithLock(String aggregateIdentifier, Lo
         }
         return aggregate;
     }
+
+    /**
+     * Applies the events appended after the version of the given cached {@code aggregate}. If these events can not be
+     * applied, the aggregate is evicted from the cache and {@code null} is returned, to have the aggregate be loaded
+     * from its entire event stream instead.
+     */
+    private EventSourcedAggregate<T> catchUp(String aggregateIdentifier, EventSourcedAggregate<T> aggregate) {
+        Long version = aggregate.version();
+        try {
+            DomainEventStream tailStream = readEvents(aggregateIdentifier, version == null ? 0 : version + 1);
+            if (tailStream.hasNext()) {
+                aggregate.initializeState(tailStream);
+            }
+            return aggregate;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to apply the latest events to cached aggregate [{}]. "
+                                + "Evicting it from the cache and loading it from its entire event stream instead.",
+                        aggregateIdentifier, e);
+            cache.remove(aggregateIdentifier);
+            return null;
+        }
+    }
 }
@@ -148,6 +148,21 @@ protected DomainEventStream readEvents(String aggregateIdentifier) {
         return eventStreamFilter != null ? fullStream.filter(eventStreamFilter) : fullStream;
     }
 
+    /**
+     * Reads the events for the given aggregateIdentifier from the eventStore, starting at the given {@code
+     * firstSequenceNumber}. Snapshots are not taken into account. This method may be overridden to add pre or
+     * postprocessing to the loading of an event stream
+     *
+     * @param aggregateIdentifier the identifier of the aggregate to load
+     * @param firstSequenceNumber the sequence number of the first event to read
+     * @return the domain event stream for the given aggregateIdentifier starting at the given {@code
+     * firstSequenceNumber}, with {@link #eventStreamFilter} applied if one was configured
+     */
+    protected DomainEventStream readEvents(String aggregateIdentifier, long firstSequenceNumber) {
+        DomainEventStream tailStream = eventStore.readEvents(aggregateIdentifier, firstSequenceNumber);
+        return eventStreamFilter != null ? tailStream.filter(eventStreamFilter) : tailStream;
+    }
+
     @Override
     protected void validateOnLoad(Aggregate<T> aggregate, Long expectedVersion) {
         if (expectedVersion != null && expectedVersion < aggregate.version()) {
@@ -217,6 +232,7 @@ public AggregateFactory<T> getAggregateFactory() {
         private AggregateFactory<T> aggregateFactory;
         protected RepositoryProvider repositoryProvider;
         protected Cache cache;
+        protected boolean validateCachedAggregates = false;
         protected Predicate<? super DomainEventMessage<?>> eventStreamFilter;
 
         /**
@@ -319,6 +335,25 @@ public Builder<T> cache(Cache cache) {
             return this;
         }
 
+        /**
+         * Sets whether a {@link CachingEventSourcingRepository} should validate aggregates it finds in the {@link
+         * Cache}. When enabled, the events appended after the version of a cached aggregate are read from the {@link
+         * EventStore} and applied to it before it is used, making the cache safe to use when other nodes append events
+         * to the same aggregates. A cache hit then only costs a read of the events the cached aggregate is missing,
+         * instead of a read of the entire event stream. Defaults to {@code false}, in which case cached aggregates are
+         * used as is, assuming this repository is the only one appending events to them.
+         * <p>
+         * Has no effect if no {@link #cache(Cache)} has been set.
+         *
+         * @param validateCachedAggregates whether to validate cached aggregates against the {@link EventStore} when
+         *                                 loading them
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder<T> validateCachedAggregates(boolean validateCachedAggregates) {
+            this.validateCachedAggregates = validateCachedAggregates;
+            return this;
+        }
+
         /**
          * Sets the {@link Predicate} used to filter events when reading from the EventStore. By default, all
          * events with the Aggregate identifier passed to {@link EventSourcingRepository#readEvents(String)} are
@@ -27,13 +27,20 @@
 import org.axonframework.eventsourcing.snapshotting.SnapshotFilter;
 import org.axonframework.modelling.command.AggregateStreamCreationException;
 import org.axonframework.modelling.command.ConcurrencyException;
+import org.axonframework.serialization.SerializedType;
 import org.axonframework.serialization.Serializer;
 import org.axonframework.serialization.upcasting.event.EventUpcaster;
 import org.axonframework.serialization.upcasting.event.NoOpEventUpcaster;
 import org.axonframework.serialization.xml.XStreamSerializer;
+import org.axonframework.tracing.NoOpSpanFactory;
+import org.axonframework.tracing.Span;
+import org.axonframework.tracing.SpanFactory;
 
+import java.util.AbstractSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -45,17 +52,27 @@
 
 /**
  * Abstract {@link EventStorageEngine} implementation that takes care of event serialization and upcasting.
+ * <p>
+ * Appending events, storing snapshots and opening event and snapshot streams is traced through the configured {@link
+ * SpanFactory}. Note that reading the events from a returned stream happens lazily, and is thus not part of the span.
  *
  * @author Rene de Waele
  * @since 3.0
  */
 public abstract class AbstractEventStorageEngine implements EventStorageEngine {
 
+    private static final String APPEND_EVENTS_SPAN_NAME = "EventStorageEngine.appendEvents";
+    private static final String STORE_SNAPSHOT_SPAN_NAME = "EventStorageEngine.storeSnapshot";
+    private static final String READ_EVENTS_SPAN_NAME = "EventStorageEngine.readEvents";
+    private static final String READ_TRACKED_EVENTS_SPAN_NAME = "EventStorageEngine.readTrackedEvents";
+    private static final String READ_SNAPSHOT_SPAN_NAME = "EventStorageEngine.readSnapshot";
+
     private final Serializer snapshotSerializer;
     protected final EventUpcaster upcasterChain;
     private final PersistenceExceptionResolver persistenceExceptionResolver;
     private final Serializer eventSerializer;
     private final SnapshotFilter snapshotFilter;
+    private final SpanFactory spanFactory;
 
     /**
      * Instantiate a {@link AbstractEventStorageEngine} based on the fields contained in the {@link Builder}.
@@ -69,41 +86,111 @@ protected AbstractEventStorageEngine(Builder builder) {
         this.persistenceExceptionResolver = builder.persistenceExceptionResolver;
         this.eventSerializer = builder.eventSerializer.get();
         this.snapshotFilter = builder.snapshotFilter;
+        this.spanFactory = builder.spanFactory;
     }
 
     @Override
     public Stream<? extends TrackedEventMessage<?>> readEvents(TrackingToken trackingToken, boolean mayBlock) {
-        Stream<? extends TrackedEventData<?>> input = readEventData(trackingToken, mayBlock);
-        return upcastAndDeserializeTrackedEvents(input, getEventSerializer(), upcasterChain);
+        Span span = spanFactory.createSpan(READ_TRACKED_EVENTS_SPAN_NAME, null).start();
+        try {
+            Stream<? extends TrackedEventData<?>> input = readEventData(trackingToken, mayBlock);
+            return upcastAndDeserializeTrackedEvents(input, getEventSerializer(), upcasterChain);
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The skipped payload types are only taken into account if no upcasters have been configured, as upcasters may
+     * change the payload type of the stored events. The serialized payload type names are resolved through the event
+     * {@link Serializer}, whenever the storage engine consults them. Payload types added to the given {@code
+     * skippedPayloadTypes} while the stream is read are thus taken into account as well.
+     */
+    @Override
+    public Stream<? extends TrackedEventMessage<?>> readEvents(TrackingToken trackingToken,
+                                                               boolean mayBlock,
+                                                               Set<Class<?>> skippedPayloadTypes) {
+        if (upcasterChain != NoOpEventUpcaster.INSTANCE) {
+            return readEvents(trackingToken, mayBlock);
+        }
+        Span span = spanFactory.createSpan(READ_TRACKED_EVENTS_SPAN_NAME, null).start();
+        try {
+            Set<String> skippedSerializedTypes = new SerializedTypeNames(skippedPayloadTypes, getEventSerializer());
+            Stream<? extends TrackedEventData<?>> input =
+                    readEventData(trackingToken, mayBlock, skippedSerializedTypes);
+            return upcastAndDeserializeTrackedEvents(input, getEventSerializer(), upcasterChain);
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            throw e;
+        } finally {
+            span.end();
+        }
     }
 
     @Override
     public DomainEventStream readEvents(String aggregateIdentifier, long firstSequenceNumber) {
-        Stream<? extends DomainEventData<?>> input = readEventData(aggregateIdentifier, firstSequenceNumber);
-        return upcastAndDeserializeDomainEvents(input, getEventSerializer(), upcasterChain);
+        Span span = spanFactory.createSpan(READ_EVENTS_SPAN_NAME, null).start();
+        try {
+            Stream<? extends DomainEventData<?>> input = readEventData(aggregateIdentifier, firstSequenceNumber);
+            return upcastAndDeserializeDomainEvents(input, getEventSerializer(), upcasterChain);
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            throw e;
+        } finally {
+            span.end();
+        }
     }
 
     @Override
     public Optional<DomainEventMessage<?>> readSnapshot(String aggregateIdentifier) {
-        return readSnapshotData(aggregateIdentifier)
-                .filter(snapshotFilter::allow)
-                .map(snapshot -> upcastAndDeserializeDomainEvents(Stream.of(snapshot),
-                                                                  getSnapshotSerializer(),
-                                                                  upcasterChain
-                ))
-                .flatMap(DomainEventStream::asStream)
-                .findFirst()
-                .map(event -> (DomainEventMessage<?>) event);
+        Span span = spanFactory.createSpan(READ_SNAPSHOT_SPAN_NAME, null).start();
+        try {
+            return readSnapshotData(aggregateIdentifier)
+                    .filter(snapshotFilter::allow)
+                    .map(snapshot -> upcastAndDeserializeDomainEvents(Stream.of(snapshot),
+                                                                      getSnapshotSerializer(),
+                                                                      upcasterChain
+                    ))
+                    .flatMap(DomainEventStream::asStream)
+                    .findFirst()
+                    .map(event -> (DomainEventMessage<?>) event);
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            throw e;
+        } finally {
+            span.end();
+        }
     }
 
     @Override
     public void appendEvents(List<? extends EventMessage<?>> events) {
-        appendEvents(events, getEventSerializer());
+        Span span = spanFactory.createSpan(APPEND_EVENTS_SPAN_NAME, events.isEmpty() ? null : events.get(0)).start();
+        try {
+            appendEvents(events, getEventSerializer());
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            throw e;
+        } finally {
+            span.end();
+        }
     }
 
     @Override
     public void storeSnapshot(DomainEventMessage<?> snapshot) {
-        storeSnapshot(snapshot, getSnapshotSerializer());
+        Span span = spanFactory.createSpan(STORE_SNAPSHOT_SPAN_NAME, snapshot).start();
+        try {
+            storeSnapshot(snapshot, getSnapshotSerializer());
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            throw e;
+        } finally {
+            span.end();
+        }
     }
 
     /**
@@ -209,6 +296,29 @@ private String buildExceptionMessage(EventMessage<?> failedEvent) {
     protected abstract Stream<? extends TrackedEventData<?>> readEventData(TrackingToken trackingToken,
                                                                            boolean mayBlock);
 
+    /**
+     * Returns a global {@link Stream} containing all serialized event data entries in the event storage that have a
+     * {@link TrackingToken} greater than the given {@code trackingToken}, as {@link #readEventData(TrackingToken,
+     * boolean)} does. Entries of which the serialized payload type name is one of the given {@code
+     * skippedPayloadTypes} should remain part of the stream, but implementations may leave out their payload. The
+     * {@code skippedPayloadTypes} may grow while the stream is read, and should thus be consulted for every read.
+     * <p>
+     * By default, the skipped payload types are ignored.
+     *
+     * @param trackingToken       Object describing the global index of the last processed event or {@code null} to
+     *                            create a stream of all events in the store
+     * @param mayBlock            If {@code true} the storage engine may optionally choose to block to wait for new
+     *                            event messages if the end of the stream is reached.
+     * @param skippedPayloadTypes The names of the serialized payload types of which the entries do not have to be
+     *                            read completely
+     * @return A stream containing all tracked event messages stored since the given tracking token
+     */
+    protected Stream<? extends TrackedEventData<?>> readEventData(TrackingToken trackingToken,
+                                                                  boolean mayBlock,
+                                                                  Set<String> skippedPayloadTypes) {
+        return readEventData(trackingToken, mayBlock);
+    }
+
     /**
      * Returns a stream of serialized event entries for given {@code aggregateIdentifier} if the backing database
      * contains a snapshot of the aggregate.
@@ -240,12 +350,41 @@ public Serializer getEventSerializer() {
         return eventSerializer;
     }
 
+    /**
+     * View on a set of payload types, providing the names of their serialized types. Changes to the underlying set are
+     * reflected in this view.
+     */
+    private static final class SerializedTypeNames extends AbstractSet<String> {
+
+        private final Set<Class<?>> payloadTypes;
+        private final Serializer serializer;
+
+        private SerializedTypeNames(Set<Class<?>> payloadTypes, Serializer serializer) {
+            this.payloadTypes = payloadTypes;
+            this.serializer = serializer;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return payloadTypes.stream()
+                               .map(serializer::typeForClass)
+                               .map(SerializedType::getName)
+                               .iterator();
+        }
+
+        @Override
+        public int size() {
+            return payloadTypes.size();
+        }
+    }
+
     /**
      * Abstract Builder class to instantiate an {@link AbstractEventStorageEngine}.
      * <p>
      * The {@link Serializer} used for snapshots is defaulted to a {@link XStreamSerializer}, the {@link EventUpcaster}
      * defaults to a {@link NoOpEventUpcaster}, the Serializer used for events is also defaulted to a XStreamSerializer
-     * and the {@code snapshotFilter} defaults to a {@link SnapshotFilter#allowAll()} instance.
+     * the {@code snapshotFilter} defaults to a {@link SnapshotFilter#allowAll()} instance and the {@link SpanFactory}
+     * defaults to a {@link NoOpSpanFactory}.
      */
     public abstract static class Builder {
 
@@ -254,6 +393,7 @@ public abstract static class Builder {
         private PersistenceExceptionResolver persistenceExceptionResolver;
         private Supplier<Serializer> eventSerializer;
         private SnapshotFilter snapshotFilter = SnapshotFilter.allowAll();
+        private SpanFactory spanFactory = NoOpSpanFactory.INSTANCE;
 
         /**
          * Sets the {@link Serializer} used to serialize and deserialize snapshots. Defaults to a {@link
@@ -338,6 +478,19 @@ public Builder snapshotFilter(SnapshotFilter snapshotFilter) {
             return this;
         }
 
+        /**
+         * Sets the {@link SpanFactory} used to trace appending events, storing snapshots and opening event and snapshot
+         * streams. Defaults to a {@link NoOpSpanFactory}.
+         *
+         * @param spanFactory the {@link SpanFactory} used to trace the operations of this storage engine
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder spanFactory(SpanFactory spanFactory) {
+            assertNonNull(spanFactory, "SpanFactory may not be null");
+            this.spanFactory = spanFactory;
+            return this;
+        }
+
         /**
          * Validates whether the fields contained in this Builder are set accordingly.
          *
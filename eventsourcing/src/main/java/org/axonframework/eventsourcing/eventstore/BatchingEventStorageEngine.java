@@ -24,10 +24,13 @@
 import org.axonframework.eventsourcing.snapshotting.SnapshotFilter;
 import org.axonframework.serialization.Serializer;
 import org.axonframework.serialization.upcasting.event.EventUpcaster;
+import org.axonframework.tracing.SpanFactory;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -74,6 +77,27 @@ protected BatchingEventStorageEngine(Builder builder) {
      */
     protected abstract List<? extends TrackedEventData<?>> fetchTrackedEvents(TrackingToken lastToken, int batchSize);
 
+    /**
+     * Returns a batch of serialized event data entries in the event storage that have a {@link TrackingToken} greater
+     * than the given {@code lastToken}, as {@link #fetchTrackedEvents(TrackingToken, int)} does. Entries of which the
+     * serialized payload type name is one of the given {@code skippedPayloadTypes} should still be part of the batch,
+     * to allow consumers to move their position past them, but implementations may leave out their payload.
+     * <p>
+     * By default, the skipped payload types are ignored.
+     *
+     * @param lastToken           Object describing the global index of the last processed event or {@code null} to
+     *                            return all entries in the store
+     * @param batchSize           the maximum number of events that should be returned
+     * @param skippedPayloadTypes the names of the serialized payload types of which the entries do not have to be read
+     *                            completely
+     * @return a batch of serialized event entries stored since the given tracking token
+     */
+    protected List<? extends TrackedEventData<?>> fetchTrackedEvents(TrackingToken lastToken,
+                                                                     int batchSize,
+                                                                     Set<String> skippedPayloadTypes) {
+        return fetchTrackedEvents(lastToken, batchSize);
+    }
+
     /**
      * Returns a batch of events published by an aggregate with given {@code aggregateIdentifier}.
      * <p/>
@@ -126,6 +150,19 @@ protected Stream<? extends TrackedEventData<?>> readEventData(TrackingToken trac
         return StreamSupport.stream(spliterator, false);
     }
 
+    @Override
+    protected Stream<? extends TrackedEventData<?>> readEventData(TrackingToken trackingToken,
+                                                                  boolean mayBlock,
+                                                                  Set<String> skippedPayloadTypes) {
+        EventStreamSpliterator<? extends TrackedEventData<?>> spliterator = new EventStreamSpliterator<>(
+                // copy the skipped types per batch, as they may grow while the stream is read
+                lastItem -> fetchTrackedEvents(lastItem == null ? trackingToken : lastItem.trackingToken(),
+                                               batchSize,
+                                               new HashSet<>(skippedPayloadTypes)),
+                batchSize, true);
+        return StreamSupport.stream(spliterator, false);
+    }
+
     /**
      * Returns the maximum number of event entries to be fetched per batch.
      *
@@ -192,6 +229,12 @@ public BatchingEventStorageEngine.Builder snapshotFilter(SnapshotFilter snapshot
             return this;
         }
 
+        @Override
+        public BatchingEventStorageEngine.Builder spanFactory(SpanFactory spanFactory) {
+            super.spanFactory(spanFactory);
+            return this;
+        }
+
         /**
          * Sets the {@code batchSize} specifying the number of events that should be read at each database access. When
          * more than this number of events must be read to rebuild an aggregate's state, the events are read in batches
@@ -28,11 +28,13 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -313,6 +315,7 @@ private class EventConsumer implements TrackingEventStream {
         private volatile TrackingToken lastToken;
         private volatile Node lastNode;
         private TrackedEventMessage<?> peekedEvent;
+        private final Set<Class<?>> skippedPayloadTypes = ConcurrentHashMap.newKeySet();
 
         private EventConsumer(Node lastNode) {
             this(lastNode.event.trackingToken());
@@ -392,7 +395,10 @@ private TrackedEventMessage<?> peekPrivateStream(boolean allowSwitchToTailingCon
                                                          int timeout,
                                                          TimeUnit timeUnit) throws InterruptedException {
             if (privateIterator == null) {
-                privateStream = storageEngine().readEvents(lastToken, false);
+                // pass a live view, so types skipped while replaying apply to the batches read afterwards
+                privateStream = storageEngine().readEvents(
+                        lastToken, false, Collections.unmodifiableSet(skippedPayloadTypes)
+                );
                 privateIterator = privateStream.iterator();
             }
             if (privateIterator.hasNext()) {
@@ -436,6 +442,17 @@ private TrackingToken lastToken() {
             return lastToken;
         }
 
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The payload types of skipped messages are passed to the storage engine when a new private stream is opened,
+         * allowing the engine to leave out the payload of messages the consumer will not handle.
+         */
+        @Override
+        public void skipMessagesWithPayloadTypeOf(TrackedEventMessage<?> ignoredMessage) {
+            skippedPayloadTypes.add(ignoredMessage.getPayloadType());
+        }
+
         @Override
         public void close() {
             closePrivateStream();
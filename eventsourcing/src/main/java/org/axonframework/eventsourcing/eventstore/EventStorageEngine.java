@@ -24,6 +24,7 @@
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
@@ -84,6 +85,30 @@ default void appendEvents(EventMessage<?>... events) {
      */
     Stream<? extends TrackedEventMessage<?>> readEvents(TrackingToken trackingToken, boolean mayBlock);
 
+    /**
+     * Open an event stream containing all events stored since given tracking token, as {@link
+     * #readEvents(TrackingToken, boolean)} does. The given {@code skippedPayloadTypes} are the payload types the
+     * consumer of the stream is not interested in. Events with one of these payload types remain part of the stream,
+     * allowing the consumer to move its position past them, but the storage engine may choose not to retrieve their
+     * serialized payload. The payload of such events should thus not be accessed.
+     * <p>
+     * The given {@code skippedPayloadTypes} may be a view which grows while the stream is read, allowing the consumer
+     * to skip additional payload types over time. Implementations should thus consult it whenever they read further
+     * events, rather than copying it once. By default, the skipped payload types are ignored.
+     *
+     * @param trackingToken       Object describing the global index of the last processed event or {@code null} to
+     *                            create a stream of all events in the store
+     * @param mayBlock            If {@code true} the storage engine may optionally choose to block to wait for new
+     *                            event messages if the end of the stream is reached.
+     * @param skippedPayloadTypes The payload types of which the events do not have to be read completely
+     * @return A stream containing all tracked event messages stored since the given tracking token
+     */
+    default Stream<? extends TrackedEventMessage<?>> readEvents(TrackingToken trackingToken,
+                                                                boolean mayBlock,
+                                                                Set<Class<?>> skippedPayloadTypes) {
+        return readEvents(trackingToken, mayBlock);
+    }
+
     /**
      * Get a {@link DomainEventStream} containing all events published by the aggregate with given {@code
      * aggregateIdentifier}. By default calling this method is shorthand for an invocation of
@@ -27,6 +27,7 @@
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.eventhandling.GapAwareTrackingToken;
 import org.axonframework.eventhandling.GenericDomainEventEntry;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
 import org.axonframework.eventhandling.GenericEventMessage;
 import org.axonframework.eventhandling.TrackedDomainEventData;
 import org.axonframework.eventhandling.TrackedEventData;
@@ -44,18 +45,25 @@
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.JdbcEventStorageEngineStatements;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.LastSequenceNumberForStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataForAggregateStatementBuilder;
+import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataWithGapsSkippingPayloadsStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataWithGapsStatementBuilder;
+import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataWithoutGapsSkippingPayloadsStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataWithoutGapsStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadSnapshotDataStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.TimestampWriter;
+import org.axonframework.eventsourcing.snapshotting.SnapshotDelta;
 import org.axonframework.eventsourcing.snapshotting.SnapshotFilter;
 import org.axonframework.modelling.command.ConcurrencyException;
+import org.axonframework.serialization.Converter;
+import org.axonframework.serialization.SerializedObject;
 import org.axonframework.serialization.Serializer;
 import org.axonframework.serialization.upcasting.event.EventUpcaster;
+import org.axonframework.tracing.SpanFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -67,6 +75,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.function.Predicate;
@@ -104,6 +113,7 @@ public class JdbcEventStorageEngine extends BatchingEventStorageEngine {
     private static final int DEFAULT_GAP_TIMEOUT = 60000;
     private static final int DEFAULT_GAP_CLEANING_THRESHOLD = 250;
     private static final boolean DEFAULT_EXTENDED_GAP_CHECK_ENABLED = true;
+    private static final int DEFAULT_REPLAY_FETCH_SIZE = 1000;
 
     private final ConnectionProvider connectionProvider;
     private final TransactionManager transactionManager;
@@ -112,6 +122,10 @@ public class JdbcEventStorageEngine extends BatchingEventStorageEngine {
     private final int maxGapOffset;
     private final long lowestGlobalSequence;
     private final boolean extendedGapCheckEnabled;
+    private final int replayBatchSize;
+    private final int replayFetchSize;
+    private final int snapshotCompactionThreshold;
+    private volatile long knownHeadIndex = -1;
     private int gapTimeout;
     private int gapCleaningThreshold;
 
@@ -128,6 +142,9 @@ public class JdbcEventStorageEngine extends BatchingEventStorageEngine {
     private final ReadSnapshotDataStatementBuilder readSnapshotData;
     private final ReadEventDataWithoutGapsStatementBuilder readEventDataWithoutGaps;
     private final ReadEventDataWithGapsStatementBuilder readEventDataWithGaps;
+    private final ReadEventDataWithoutGapsSkippingPayloadsStatementBuilder readEventDataWithoutGapsSkippingPayloads;
+    private final ReadEventDataWithGapsSkippingPayloadsStatementBuilder readEventDataWithGapsSkippingPayloads;
+    private final boolean payloadsSkippable;
 
     /**
      * Instantiate a {@link JdbcEventStorageEngine} based on the fields contained in the {@link Builder}.
@@ -148,6 +165,9 @@ protected JdbcEventStorageEngine(Builder builder) {
         this.gapTimeout = builder.gapTimeout;
         this.gapCleaningThreshold = builder.gapCleaningThreshold;
         this.extendedGapCheckEnabled = builder.extendedGapCheckEnabled;
+        this.replayBatchSize = builder.replayBatchSize;
+        this.replayFetchSize = builder.replayFetchSize;
+        this.snapshotCompactionThreshold = builder.snapshotCompactionThreshold;
         this.createTokenAt = builder.createTokenAt;
         this.appendEvents = builder.appendEvents;
         this.lastSequenceNumberFor = builder.lastSequenceNumberFor;
@@ -161,6 +181,35 @@ protected JdbcEventStorageEngine(Builder builder) {
         this.readSnapshotData = builder.readSnapshotData;
         this.readEventDataWithoutGaps = builder.readEventDataWithoutGaps;
         this.readEventDataWithGaps = builder.readEventDataWithGaps;
+        this.readEventDataWithoutGapsSkippingPayloads = builder.readEventDataWithoutGapsSkippingPayloads();
+        this.readEventDataWithGapsSkippingPayloads = builder.readEventDataWithGapsSkippingPayloads();
+        this.payloadsSkippable = (byte[].class.equals(dataType) || String.class.equals(dataType))
+                && readEventDataWithoutGapsSkippingPayloads != null
+                && readEventDataWithGapsSkippingPayloads != null
+                && !overridesReadEventDataOnly();
+    }
+
+    /**
+     * Checks whether a subclass overrides one of the methods creating the statements reading tracked events, without
+     * overriding one of the variants which skips payloads. Skipping payloads would then bypass the customization.
+     */
+    private boolean overridesReadEventDataOnly() {
+        boolean overridesReadEventData = false;
+        boolean overridesSkippingVariant = false;
+        for (Class<?> type = getClass(); !JdbcEventStorageEngine.class.equals(type); type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                if (method.getName().startsWith("readEventData") && parameterTypes.length > 0
+                        && Connection.class.equals(parameterTypes[0])) {
+                    if (Set.class.equals(parameterTypes[parameterTypes.length - 1])) {
+                        overridesSkippingVariant = true;
+                    } else {
+                        overridesReadEventData = true;
+                    }
+                }
+            }
+        }
+        return overridesReadEventData && !overridesSkippingVariant;
     }
 
     /**
@@ -181,6 +230,9 @@ protected JdbcEventStorageEngine(Builder builder) {
      * <li>The {@code gapTimeout} defaults to an integer of size {@code 60000} (1 minute).</li>
      * <li>The {@code gapCleaningThreshold} defaults to an integer of size {@code 250}.</li>
      * <li>The {@code extendedGapCheckEnabled} defaults to {@code true}.</li>
+     * <li>The {@code replayBatchSize} defaults to {@code 0}, disabling wide reads during replays.</li>
+     * <li>The {@code replayFetchSize} defaults to {@code 1000}.</li>
+     * <li>The {@code snapshotCompactionThreshold} defaults to {@code 0}, disabling snapshot deltas.</li>
      * <li>The {@code createTokenAt} defaults to {@link JdbcEventStorageEngineStatements#createTokenAt}.</li>
      * <li>The {@code appendEvents} defaults to {@link JdbcEventStorageEngineStatements#appendEvents}.</li>
      * <li>The {@code lastSequenceNumberFor} defaults to {@link JdbcEventStorageEngineStatements#lastSequenceNumberFor}.</li>
@@ -194,6 +246,10 @@ protected JdbcEventStorageEngine(Builder builder) {
      * <li>The {@code readSnapshotData} defaults to {@link JdbcEventStorageEngineStatements#readSnapshotData}.</li>
      * <li>The {@code readEventDataWithoutGaps} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithoutGaps}.</li>
      * <li>The {@code readEventDataWithGaps} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithGaps}.</li>
+     * <li>The {@code readEventDataWithoutGapsSkippingPayloads} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithoutGaps(Connection, EventSchema, long, int, Set)},
+     * unless the {@code readEventDataWithoutGaps} or {@code readEventDataWithGaps} is customized.</li>
+     * <li>The {@code readEventDataWithGapsSkippingPayloads} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithGaps(Connection, EventSchema, long, int, List, Set)},
+     * unless the {@code readEventDataWithoutGaps} or {@code readEventDataWithGaps} is customized.</li>
      * </ul>
      * <p>
      * The {@link ConnectionProvider} and {@link TransactionManager} are <b>hard requirements</b> and as such should
@@ -374,6 +430,46 @@ protected PreparedStatement readEventDataWithGaps(Connection connection, long gl
         return readEventDataWithGaps.build(connection, schema, globalIndex, batchSize, gaps);
     }
 
+    /**
+     * Creates a statement to be used at {@link JdbcEventStorageEngine#fetchTrackedEvents(TrackingToken, int, Set)}
+     * when there are no gaps, which does not select the payload of entries with one of the given {@code
+     * skippedPayloadTypes}.
+     *
+     * @param connection          The connection to the database.
+     * @param globalIndex         The index taken from the tracking token.
+     * @param batchSize           The number of items to include in the batch
+     * @param skippedPayloadTypes The names of the serialized payload types of which the payload should not be selected
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    protected PreparedStatement readEventDataWithoutGaps(Connection connection, long globalIndex, int batchSize,
+                                                         Set<String> skippedPayloadTypes) throws SQLException {
+        return readEventDataWithoutGapsSkippingPayloads.build(
+                connection, schema, globalIndex, batchSize, skippedPayloadTypes
+        );
+    }
+
+    /**
+     * Creates a statement to be used at {@link JdbcEventStorageEngine#fetchTrackedEvents(TrackingToken, int, Set)}
+     * when there are gaps, which does not select the payload of entries with one of the given {@code
+     * skippedPayloadTypes}.
+     *
+     * @param connection          The connection to the database.
+     * @param globalIndex         The index taken from the tracking token.
+     * @param batchSize           The number of items to include in the batch
+     * @param gaps                The Set of gaps taken from the tracking token.
+     * @param skippedPayloadTypes The names of the serialized payload types of which the payload should not be selected
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    protected PreparedStatement readEventDataWithGaps(Connection connection, long globalIndex, int batchSize,
+                                                      List<Long> gaps, Set<String> skippedPayloadTypes)
+            throws SQLException {
+        return readEventDataWithGapsSkippingPayloads.build(
+                connection, schema, globalIndex, batchSize, gaps, skippedPayloadTypes
+        );
+    }
+
     /**
      * Performs the DDL queries to create the schema necessary for this storage engine implementation.
      *
@@ -399,10 +495,23 @@ protected void appendEvents(List<? extends EventMessage<?>> events, Serializer s
                         e -> handlePersistenceException(e, events.get(0))));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When a {@code snapshotCompactionThreshold} is configured, the snapshot may be stored as a {@link SnapshotDelta}
+     * of the most recent complete snapshot of the aggregate instead. Older snapshots are only removed when a complete
+     * snapshot is stored.
+     */
     @Override
     protected void storeSnapshot(DomainEventMessage<?> snapshot, Serializer serializer) {
         transactionManager.executeInTransaction(() -> {
             try {
+                DomainEventMessage<?> snapshotDelta = createSnapshotDelta(snapshot, serializer);
+                if (snapshotDelta != null) {
+                    executeUpdates(getConnection(), e -> handlePersistenceException(e, snapshot),
+                                   connection -> appendSnapshot(connection, snapshotDelta, serializer));
+                    return;
+                }
                 executeUpdates(
                         getConnection(), e -> handlePersistenceException(e, snapshot),
                         connection -> appendSnapshot(connection, snapshot, serializer),
@@ -491,6 +600,22 @@ protected boolean fetchForAggregateUntilEmpty() {
 
     @Override
     protected List<? extends TrackedEventData<?>> fetchTrackedEvents(TrackingToken lastToken, int batchSize) {
+        return fetchTrackedEvents(lastToken, batchSize, Collections.emptySet());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Entries with one of the given {@code skippedPayloadTypes} are still selected, as leaving them out would make them
+     * appear as gaps in the {@link GapAwareTrackingToken}. Their payload column is however selected as {@code NULL},
+     * see {@link #readEventData(Connection, TrackingToken, int, Set)}, which {@link #readPayload(ResultSet, String)}
+     * replaces by empty data. Payloads are only skipped if the {@code dataType} is {@code byte[]} or {@link String},
+     * and if the statements reading tracked events have not been customized without a variant skipping payloads.
+     */
+    @Override
+    protected List<? extends TrackedEventData<?>> fetchTrackedEvents(TrackingToken lastToken,
+                                                                     int batchSize,
+                                                                     Set<String> skippedPayloadTypes) {
         isTrue(lastToken == null || lastToken instanceof GapAwareTrackingToken,
                () -> "Unsupported token format: " + lastToken);
         List<TrackedEventData<?>> trackedEventData = transactionManager.fetchInTransaction(() -> {
@@ -502,7 +627,17 @@ protected List<? extends TrackedEventData<?>> fetchTrackedEvents(TrackingToken l
                 cleanedToken = (GapAwareTrackingToken) lastToken;
             }
 
-            List<TrackedEventData<?>> eventData = executeEventDataQuery(cleanedToken, batchSize);
+            List<TrackedEventData<?>> eventData =
+                    executeEventDataQuery(cleanedToken, batchSize, 0, skippedPayloadTypes);
+            if (replayBatchSize > batchSize && reachedEndOfRange(cleanedToken, batchSize, eventData)) {
+                GapAwareTrackingToken lastReadToken =
+                        (GapAwareTrackingToken) eventData.get(eventData.size() - 1).trackingToken();
+                if (isFarBehindHead(lastReadToken)) {
+                    eventData.addAll(executeEventDataQuery(
+                            lastReadToken, replayBatchSize - batchSize, replayFetchSize, skippedPayloadTypes
+                    ));
+                }
+            }
 
             // Additional check for empty batches. This may be because there is a gap of more than _batchSize_ items ahead
             // see
@@ -514,7 +649,7 @@ protected List<? extends TrackedEventData<?>> fetchTrackedEvents(TrackingToken l
                                            e -> new EventStoreException("Failed to read globalIndex ahead of token",
                                                                         e));
                 if (result != null) {
-                    return executeEventDataQuery(cleanedToken, (int) (result - index));
+                    return executeEventDataQuery(cleanedToken, (int) (result - index), 0, skippedPayloadTypes);
                 }
             }
             return eventData;
@@ -523,10 +658,57 @@ protected List<? extends TrackedEventData<?>> fetchTrackedEvents(TrackingToken l
         return trackedEventData;
     }
 
-    private List<TrackedEventData<?>> executeEventDataQuery(GapAwareTrackingToken cleanedToken, int batchSize) {
+    /**
+     * Checks whether the given {@code eventData}, read from the given {@code token} with the given {@code batchSize},
+     * contains an event at the end of the range of global indices it was read from. If not, the token is close to the
+     * head of the event store and checking the head can be skipped.
+     */
+    private static boolean reachedEndOfRange(GapAwareTrackingToken token,
+                                             int batchSize,
+                                             List<TrackedEventData<?>> eventData) {
+        if (eventData.isEmpty()) {
+            return false;
+        }
+        long rangeEnd = (token == null ? -1 : token.getIndex()) + batchSize;
+        return ((GapAwareTrackingToken) eventData.get(eventData.size() - 1).trackingToken()).getIndex() >= rangeEnd;
+    }
+
+    /**
+     * Checks whether the given {@code token} is more than the {@code replayBatchSize} positions behind the head of the
+     * event store. The head is only queried when the last known head is not far enough ahead of the token, as it can
+     * only move forward.
+     */
+    private boolean isFarBehindHead(GapAwareTrackingToken token) {
+        long index = token.getIndex();
+        if (knownHeadIndex - index > replayBatchSize) {
+            return true;
+        }
+        Long headIndex = executeQuery(getConnection(),
+                                      this::createHeadToken,
+                                      resultSet -> nextAndExtract(resultSet, 1, Long.class),
+                                      e -> new EventStoreException("Failed to get head token", e));
+        if (headIndex == null) {
+            return false;
+        }
+        knownHeadIndex = headIndex;
+        return headIndex - index > replayBatchSize;
+    }
+
+    private List<TrackedEventData<?>> executeEventDataQuery(GapAwareTrackingToken cleanedToken,
+                                                            int batchSize,
+                                                            int fetchSize,
+                                                            Set<String> skippedPayloadTypes) {
         return executeQuery(
                 getConnection(),
-                connection -> readEventData(connection, cleanedToken, batchSize),
+                connection -> {
+                    PreparedStatement statement = payloadsSkippable && !skippedPayloadTypes.isEmpty()
+                            ? readEventData(connection, cleanedToken, batchSize, skippedPayloadTypes)
+                            : readEventData(connection, cleanedToken, batchSize);
+                    if (fetchSize > 0) {
+                        statement.setFetchSize(fetchSize);
+                    }
+                    return statement;
+                },
                 resultSet -> {
                     GapAwareTrackingToken previousToken = cleanedToken;
                     List<TrackedEventData<?>> results = new ArrayList<>();
@@ -574,17 +756,102 @@ private GapAwareTrackingToken cleanGaps(TrackingToken lastToken) {
                                              e));
     }
 
+    /**
+     * Creates a snapshot containing the {@link SnapshotDelta} between the most recent complete snapshot of the
+     * aggregate and the given {@code snapshot}. Returns {@code null} if the given {@code snapshot} should be stored
+     * completely instead. This is the case if snapshot deltas are disabled, if no complete snapshot is stored yet, if
+     * the {@code snapshotCompactionThreshold} number of deltas are stored on top of the most recent complete snapshot,
+     * or if the delta isn't substantially smaller than the complete snapshot.
+     */
+    private DomainEventMessage<?> createSnapshotDelta(DomainEventMessage<?> snapshot, Serializer serializer) {
+        if (snapshotCompactionThreshold <= 0) {
+            return null;
+        }
+        String deltaType = serializer.typeForClass(SnapshotDelta.class).getName();
+        int storedDeltas = 0;
+        for (DomainEventData<?> storedSnapshot : readStoredSnapshotData(snapshot.getAggregateIdentifier())) {
+            if (deltaType.equals(storedSnapshot.getPayload().getType().getName())) {
+                storedDeltas++;
+                continue;
+            }
+            if (storedDeltas >= snapshotCompactionThreshold
+                    || storedSnapshot.getSequenceNumber() >= snapshot.getSequenceNumber()) {
+                return null;
+            }
+            byte[] base = serializer.getConverter().convert(storedSnapshot.getPayload(), byte[].class).getData();
+            SerializedObject<byte[]> target = snapshot.serializePayload(serializer, byte[].class);
+            SnapshotDelta delta = SnapshotDelta.between(storedSnapshot.getSequenceNumber(), base, target);
+            if (delta.getInstructions().length * 2 > target.getData().length) {
+                return null;
+            }
+            return new GenericDomainEventMessage<>(snapshot.getType(),
+                                                   snapshot.getAggregateIdentifier(),
+                                                   snapshot.getSequenceNumber(),
+                                                   delta,
+                                                   snapshot.getMetaData(),
+                                                   snapshot.getIdentifier(),
+                                                   snapshot.getTimestamp());
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Snapshots stored as a {@link SnapshotDelta} are returned as the complete snapshot they describe, by applying them
+     * to their base snapshot. Deltas of which the base snapshot is no longer available are left out.
+     */
     @Override
     protected Stream<? extends DomainEventData<?>> readSnapshotData(String aggregateIdentifier) {
-        return transactionManager.fetchInTransaction(() -> {
-            List<DomainEventData<?>> result =
-                    executeQuery(
-                            getConnection(),
+        return transactionManager.fetchInTransaction(
+                () -> resolveSnapshotDeltas(readStoredSnapshotData(aggregateIdentifier)).stream()
+        );
+    }
+
+    private List<DomainEventData<?>> readStoredSnapshotData(String aggregateIdentifier) {
+        return executeQuery(getConnection(),
                             connection -> readSnapshotData(connection, aggregateIdentifier),
-                            JdbcUtils.listResults(this::getSnapshotData), e -> new EventStoreException(
-                                    format("Error reading aggregate snapshot [%s]", aggregateIdentifier), e));
-            return result.stream();
-        });
+                            JdbcUtils.listResults(this::getSnapshotData),
+                            e -> new EventStoreException(
+                                    format("Error reading aggregate snapshot [%s]", aggregateIdentifier), e
+                            ));
+    }
+
+    private List<DomainEventData<?>> resolveSnapshotDeltas(List<DomainEventData<?>> snapshots) {
+        Serializer serializer = getSnapshotSerializer();
+        String deltaType = serializer.typeForClass(SnapshotDelta.class).getName();
+        Predicate<DomainEventData<?>> isDelta = snapshot -> deltaType.equals(snapshot.getPayload().getType().getName());
+        if (snapshots.stream().noneMatch(isDelta)) {
+            return snapshots;
+        }
+
+        Converter converter = serializer.getConverter();
+        List<DomainEventData<?>> resolved = new ArrayList<>(snapshots.size());
+        for (DomainEventData<?> snapshot : snapshots) {
+            if (!isDelta.test(snapshot)) {
+                resolved.add(snapshot);
+                continue;
+            }
+            SnapshotDelta delta = serializer.deserialize(snapshot.getPayload());
+            snapshots.stream()
+                     .filter(isDelta.negate())
+                     .filter(base -> base.getSequenceNumber() == delta.getBaseSequenceNumber())
+                     .findFirst()
+                     .map(base -> delta.applyTo(converter.convert(base.getPayload(), byte[].class).getData()))
+                     .map(payload -> new GenericDomainEventEntry<>(
+                             snapshot.getType(),
+                             snapshot.getAggregateIdentifier(),
+                             snapshot.getSequenceNumber(),
+                             snapshot.getEventIdentifier(),
+                             snapshot.getTimestamp(),
+                             payload.getType().getName(),
+                             payload.getType().getRevision(),
+                             payload.getData(),
+                             converter.convert(snapshot.getMetaData(), byte[].class).getData()
+                     ))
+                     .ifPresent(resolved::add);
+        }
+        return resolved;
     }
 
     /**
@@ -629,6 +896,39 @@ protected PreparedStatement readEventData(Connection connection, TrackingToken l
         return readEventDataWithGaps(connection, globalIndex, batchSize, gaps);
     }
 
+    /**
+     * Creates a statement to read tracked event entries stored since given tracking token, as {@link
+     * #readEventData(Connection, TrackingToken, int)} does, without selecting the payload of entries with one of the
+     * given {@code skippedPayloadTypes}. Uses the {@link #readEventDataWithoutGaps(Connection, long, int, Set)} and
+     * {@link #readEventDataWithGaps(Connection, long, int, List, Set)} statements.
+     *
+     * @param connection          The connection to the database.
+     * @param lastToken           Object describing the global index of the last processed event or {@code null} to
+     *                            return all entries in the store.
+     * @param batchSize           The number of items to include in the batch
+     * @param skippedPayloadTypes The names of the serialized payload types of which the payload should not be selected
+     * @return A {@link PreparedStatement} that returns event entries for the given query when executed.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    protected PreparedStatement readEventData(Connection connection,
+                                              TrackingToken lastToken,
+                                              int batchSize,
+                                              Set<String> skippedPayloadTypes) throws SQLException {
+        isTrue(lastToken == null || lastToken instanceof GapAwareTrackingToken,
+               () -> format("Token [%s] is of the wrong type", lastToken));
+        GapAwareTrackingToken previousToken = (GapAwareTrackingToken) lastToken;
+
+        if (previousToken == null) {
+            return readEventDataWithoutGaps(connection, -1, batchSize, skippedPayloadTypes);
+        }
+        List<Long> gaps = new ArrayList<>(previousToken.getGaps());
+        long globalIndex = previousToken.getIndex();
+        if (gaps.isEmpty()) {
+            return readEventDataWithoutGaps(connection, globalIndex, batchSize, skippedPayloadTypes);
+        }
+        return readEventDataWithGaps(connection, globalIndex, batchSize, gaps, skippedPayloadTypes);
+    }
+
     /**
      * Extracts the next tracked event entry from the given {@code resultSet}.
      *
@@ -656,6 +956,12 @@ protected TrackedEventData<?> getTrackedEventData(ResultSet resultSet,
         );
 
         // Now that we have the event itself, we can calculate the token.
+        return new TrackedDomainEventData<>(nextToken(previousToken, globalSequence, domainEvent), domainEvent);
+    }
+
+    private GapAwareTrackingToken nextToken(GapAwareTrackingToken previousToken,
+                                            long globalSequence,
+                                            DomainEventData<?> domainEvent) {
         boolean allowGaps = domainEvent.getTimestamp().isAfter(gapTimeoutFrame());
         GapAwareTrackingToken token = previousToken;
         if (token == null) {
@@ -673,7 +979,7 @@ protected TrackedEventData<?> getTrackedEventData(ResultSet resultSet,
                 token = token.withGapsTruncatedAt(globalSequence);
             }
         }
-        return new TrackedDomainEventData<>(token, domainEvent);
+        return token;
     }
 
     private Instant gapTimeoutFrame() {
@@ -747,6 +1053,9 @@ protected void writeTimestamp(PreparedStatement preparedStatement, int position,
     /**
      * Reads a serialized object from the given {@code resultSet} at given {@code columnIndex}. The resultSet is
      * positioned in the row that contains the data. This method must not change the row in the result set.
+     * <p>
+     * A {@code NULL} value, as selected for the payload of skipped payload types, is read as empty data if the {@code
+     * dataType} is {@code byte[]} or {@link String}.
      *
      * @param resultSet  The resultSet containing the stored data.
      * @param columnName The name of the column containing the payload.
@@ -756,9 +1065,11 @@ protected void writeTimestamp(PreparedStatement preparedStatement, int position,
     @SuppressWarnings("unchecked")
     protected <T> T readPayload(ResultSet resultSet, String columnName) throws SQLException {
         if (byte[].class.equals(dataType)) {
-            return (T) resultSet.getBytes(columnName);
+            byte[] data = resultSet.getBytes(columnName);
+            return (T) (data == null ? new byte[0] : data);
         }
-        return (T) resultSet.getObject(columnName);
+        Object data = resultSet.getObject(columnName);
+        return (T) (data == null && String.class.equals(dataType) ? "" : data);
     }
 
     /**
@@ -848,6 +1159,9 @@ public void setGapCleaningThreshold(int gapCleaningThreshold) {
      * <li>The {@code gapTimeout} defaults to an integer of size {@code 60000} (1 minute).</li>
      * <li>The {@code gapCleaningThreshold} defaults to an integer of size {@code 250}.</li>
      * <li>The {@code extendedGapCheckEnabled} defaults to {@code true}.</li>
+     * <li>The {@code replayBatchSize} defaults to {@code 0}, disabling wide reads during replays.</li>
+     * <li>The {@code replayFetchSize} defaults to {@code 1000}.</li>
+     * <li>The {@code snapshotCompactionThreshold} defaults to {@code 0}, disabling snapshot deltas.</li>
      * <li>The {@code createTokenAt} defaults to {@link JdbcEventStorageEngineStatements#createTokenAt}.</li>
      * <li>The {@code appendEvents} defaults to {@link JdbcEventStorageEngineStatements#appendEvents}.</li>
      * <li>The {@code lastSequenceNumberFor} defaults to {@link JdbcEventStorageEngineStatements#lastSequenceNumberFor}.</li>
@@ -861,6 +1175,10 @@ public void setGapCleaningThreshold(int gapCleaningThreshold) {
      * <li>The {@code readSnapshotData} defaults to {@link JdbcEventStorageEngineStatements#readSnapshotData}.</li>
      * <li>The {@code readEventDataWithoutGaps} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithoutGaps}.</li>
      * <li>The {@code readEventDataWithGaps} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithGaps}.</li>
+     * <li>The {@code readEventDataWithoutGapsSkippingPayloads} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithoutGaps(Connection, EventSchema, long, int, Set)},
+     * unless the {@code readEventDataWithoutGaps} or {@code readEventDataWithGaps} is customized.</li>
+     * <li>The {@code readEventDataWithGapsSkippingPayloads} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithGaps(Connection, EventSchema, long, int, List, Set)},
+     * unless the {@code readEventDataWithoutGaps} or {@code readEventDataWithGaps} is customized.</li>
      * </ul>
      * <p>
      * The {@link ConnectionProvider} and {@link TransactionManager} are <b>hard requirements</b> and as such should
@@ -877,6 +1195,9 @@ public static class Builder extends BatchingEventStorageEngine.Builder {
         private int gapTimeout = DEFAULT_GAP_TIMEOUT;
         private int gapCleaningThreshold = DEFAULT_GAP_CLEANING_THRESHOLD;
         private boolean extendedGapCheckEnabled = DEFAULT_EXTENDED_GAP_CHECK_ENABLED;
+        private int replayBatchSize = 0;
+        private int replayFetchSize = DEFAULT_REPLAY_FETCH_SIZE;
+        private int snapshotCompactionThreshold = 0;
 
         private CreateTokenAtStatementBuilder createTokenAt = JdbcEventStorageEngineStatements::createTokenAt;
         private AppendEventsStatementBuilder appendEvents = JdbcEventStorageEngineStatements::appendEvents;
@@ -891,6 +1212,9 @@ public static class Builder extends BatchingEventStorageEngine.Builder {
         private ReadSnapshotDataStatementBuilder readSnapshotData = JdbcEventStorageEngineStatements::readSnapshotData;
         private ReadEventDataWithoutGapsStatementBuilder readEventDataWithoutGaps = JdbcEventStorageEngineStatements::readEventDataWithoutGaps;
         private ReadEventDataWithGapsStatementBuilder readEventDataWithGaps = JdbcEventStorageEngineStatements::readEventDataWithGaps;
+        private ReadEventDataWithoutGapsSkippingPayloadsStatementBuilder readEventDataWithoutGapsSkippingPayloads;
+        private ReadEventDataWithGapsSkippingPayloadsStatementBuilder readEventDataWithGapsSkippingPayloads;
+        private boolean readEventDataCustomized = false;
 
         /**
          * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#createTokenAt}. Defaults to {@link
@@ -1039,6 +1363,7 @@ public Builder readSnapshotData(ReadSnapshotDataStatementBuilder readSnapshotDat
         public Builder readEventDataWithoutGaps(ReadEventDataWithoutGapsStatementBuilder readEventDataWithoutGaps) {
             assertNonNull(readEventDataWithoutGaps, "readEventDataWithoutGaps may not be null");
             this.readEventDataWithoutGaps = readEventDataWithoutGaps;
+            this.readEventDataCustomized = true;
             return this;
         }
 
@@ -1052,9 +1377,62 @@ public Builder readEventDataWithoutGaps(ReadEventDataWithoutGapsStatementBuilder
         public Builder readEventDataWithGaps(ReadEventDataWithGapsStatementBuilder readEventDataWithGaps) {
             assertNonNull(readEventDataWithGaps, "readEventDataWithGaps may not be null");
             this.readEventDataWithGaps = readEventDataWithGaps;
+            this.readEventDataCustomized = true;
+            return this;
+        }
+
+        /**
+         * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readEventDataWithoutGaps(Connection,
+         * long, int, Set)}. Defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithoutGaps(Connection,
+         * EventSchema, long, int, Set)}, unless the {@link #readEventDataWithoutGaps(ReadEventDataWithoutGapsStatementBuilder)}
+         * or {@link #readEventDataWithGaps(ReadEventDataWithGapsStatementBuilder)} is customized. In that case,
+         * payloads are only skipped if both this and the {@link #readEventDataWithGapsSkippingPayloads(ReadEventDataWithGapsSkippingPayloadsStatementBuilder)}
+         * are set.
+         *
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder readEventDataWithoutGapsSkippingPayloads(
+                ReadEventDataWithoutGapsSkippingPayloadsStatementBuilder readEventDataWithoutGapsSkippingPayloads
+        ) {
+            assertNonNull(readEventDataWithoutGapsSkippingPayloads,
+                          "readEventDataWithoutGapsSkippingPayloads may not be null");
+            this.readEventDataWithoutGapsSkippingPayloads = readEventDataWithoutGapsSkippingPayloads;
             return this;
         }
 
+        /**
+         * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readEventDataWithGaps(Connection,
+         * long, int, List, Set)}. Defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithGaps(Connection,
+         * EventSchema, long, int, List, Set)}, unless the {@link #readEventDataWithoutGaps(ReadEventDataWithoutGapsStatementBuilder)}
+         * or {@link #readEventDataWithGaps(ReadEventDataWithGapsStatementBuilder)} is customized. In that case,
+         * payloads are only skipped if both this and the {@link #readEventDataWithoutGapsSkippingPayloads(ReadEventDataWithoutGapsSkippingPayloadsStatementBuilder)}
+         * are set.
+         *
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder readEventDataWithGapsSkippingPayloads(
+                ReadEventDataWithGapsSkippingPayloadsStatementBuilder readEventDataWithGapsSkippingPayloads
+        ) {
+            assertNonNull(readEventDataWithGapsSkippingPayloads,
+                          "readEventDataWithGapsSkippingPayloads may not be null");
+            this.readEventDataWithGapsSkippingPayloads = readEventDataWithGapsSkippingPayloads;
+            return this;
+        }
+
+        private ReadEventDataWithoutGapsSkippingPayloadsStatementBuilder readEventDataWithoutGapsSkippingPayloads() {
+            if (readEventDataWithoutGapsSkippingPayloads != null || readEventDataCustomized) {
+                return readEventDataWithoutGapsSkippingPayloads;
+            }
+            return JdbcEventStorageEngineStatements::readEventDataWithoutGaps;
+        }
+
+        private ReadEventDataWithGapsSkippingPayloadsStatementBuilder readEventDataWithGapsSkippingPayloads() {
+            if (readEventDataWithGapsSkippingPayloads != null || readEventDataCustomized) {
+                return readEventDataWithGapsSkippingPayloads;
+            }
+            return JdbcEventStorageEngineStatements::readEventDataWithGaps;
+        }
+
         private Builder() {
             persistenceExceptionResolver(new JdbcSQLErrorCodesResolver());
         }
@@ -1106,6 +1484,12 @@ public JdbcEventStorageEngine.Builder snapshotFilter(SnapshotFilter snapshotFilt
             return this;
         }
 
+        @Override
+        public JdbcEventStorageEngine.Builder spanFactory(SpanFactory spanFactory) {
+            super.spanFactory(spanFactory);
+            return this;
+        }
+
         @Override
         public JdbcEventStorageEngine.Builder batchSize(int batchSize) {
             super.batchSize(batchSize);
@@ -1248,6 +1632,70 @@ public Builder extendedGapCheckEnabled(boolean extendedGapCheckEnabled) {
             return this;
         }
 
+        /**
+         * Sets the number of events read by a single query while a tracking token is more than this number of events
+         * behind the head of the event store, as is typically the case during a replay. This replaces the many queries
+         * of {@link #batchSize(int)} events, each seeking the event table's index, by a regular batch followed by a
+         * single query over the rest of a wide range of the index. Once a token is within this number of events of
+         * the head, events are read in batches of the {@link #batchSize(int)} again. The head of the event store is
+         * only checked after a regular batch which reached the end of its range, so reading close to the head takes no
+         * additional queries.
+         * <p>
+         * As the events of such a range are kept in memory until they are handled, the {@code replayBatchSize} should
+         * be chosen with the size of the events in mind. Defaults to {@code 0}, meaning events are always read in
+         * batches of the {@link #batchSize(int)}.
+         *
+         * @param replayBatchSize the number of events to read by a single query while a tracking token is more than
+         *                        this number of events behind the head of the event store, or {@code 0} to disable
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder replayBatchSize(int replayBatchSize) {
+            assertThat(replayBatchSize,
+                       number -> number >= 0,
+                       "The replayBatchSize must be a positive number or zero");
+            this.replayBatchSize = replayBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the JDBC fetch size used by the queries reading a {@link #replayBatchSize(int)} number of events. This
+         * allows the driver to read the results of such a query through a forward-only cursor, in chunks of this size,
+         * instead of loading them all at once. Note that some drivers only use a cursor under specific conditions,
+         * like a connection that is not in auto-commit mode. Defaults to {@code 1000}.
+         *
+         * @param replayFetchSize the JDBC fetch size used by the queries reading a {@link #replayBatchSize(int)} number
+         *                        of events
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder replayFetchSize(int replayFetchSize) {
+            assertPositive(replayFetchSize, "replayFetchSize");
+            this.replayFetchSize = replayFetchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of snapshots stored as a {@link SnapshotDelta} of the most recent complete snapshot of
+         * an aggregate. Once this number of deltas is reached, the next snapshot is stored completely again, removing
+         * the older snapshots. Storing a delta only writes the parts of the serialized aggregate which changed since the
+         * complete snapshot, at the cost of reading that complete snapshot, both when storing and when reading a
+         * snapshot.
+         * <p>
+         * Snapshot deltas are useful for large aggregates of which only a small part changes between snapshots. A
+         * snapshot is stored completely regardless of this threshold if its delta isn't substantially smaller. Defaults
+         * to {@code 0}, meaning every snapshot is stored completely.
+         *
+         * @param snapshotCompactionThreshold the maximum number of snapshots stored as a delta of the most recent
+         *                                    complete snapshot of an aggregate, or {@code 0} to disable
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder snapshotCompactionThreshold(int snapshotCompactionThreshold) {
+            assertThat(snapshotCompactionThreshold,
+                       number -> number >= 0,
+                       "The snapshotCompactionThreshold must be a positive number or zero");
+            this.snapshotCompactionThreshold = snapshotCompactionThreshold;
+            return this;
+        }
+
         private void assertPositive(int num, final String numberDescription) {
             assertThat(num, number -> number > 0, "The " + numberDescription + " must be a positive number");
         }
@@ -32,9 +32,12 @@
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.SortedSet;
+import java.util.stream.Collectors;
 
 import static org.axonframework.common.DateTimeUtils.formatInstant;
 
@@ -443,4 +446,105 @@ public static PreparedStatement readEventDataWithGaps(Connection connection, Eve
         }
         return statement;
     }
+
+    /**
+     * Creates a statement to be used on {@link JdbcEventStorageEngine#fetchTrackedEvents(TrackingToken, int, Set)} when
+     * there are no gaps on the {@link GapAwareTrackingToken}, as {@link #readEventDataWithoutGaps(Connection,
+     * EventSchema, long, int)} does. The payload column of entries with one of the given {@code skippedPayloadTypes}
+     * is selected as {@code NULL}, through {@code "CASE WHEN [payloadTypeColumn] IN (?1 .. ?n) THEN NULL ELSE
+     * [payloadColumn] END"}. If the {@link EventSchema#trackedEventFields()} do not list the payload column, the
+     * payload of all entries is selected.
+     *
+     * @param connection          The connection to the database.
+     * @param schema              The EventSchema to be used
+     * @param globalIndex         The index taken from the tracking token.
+     * @param batchSize           The number of items to include in the batch
+     * @param skippedPayloadTypes The names of the serialized payload types of which the payload should not be selected.
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    public static PreparedStatement readEventDataWithoutGaps(Connection connection, EventSchema schema,
+                                                             long globalIndex, int batchSize,
+                                                             Set<String> skippedPayloadTypes) throws SQLException {
+        String trackedEventFields = trackedEventFieldsSkippingPayload(schema, skippedPayloadTypes);
+        if (trackedEventFields == null) {
+            return readEventDataWithoutGaps(connection, schema, globalIndex, batchSize);
+        }
+        final String sql = "SELECT "
+                + trackedEventFields + " FROM " + schema.domainEventTable() + " WHERE ("
+                + schema.globalIndexColumn() + " > ? AND " + schema.globalIndexColumn()
+                + " <= ?) ORDER BY " + schema.globalIndexColumn() + " ASC";
+        PreparedStatement statement = connection.prepareStatement(sql);
+        int parameterIndex = setSkippedPayloadTypes(statement, skippedPayloadTypes);
+        statement.setLong(parameterIndex++, globalIndex);
+        statement.setLong(parameterIndex, globalIndex + batchSize);
+        return statement;
+    }
+
+    /**
+     * Creates a statement to be used on {@link JdbcEventStorageEngine#fetchTrackedEvents(TrackingToken, int, Set)} when
+     * there are gaps on the {@link GapAwareTrackingToken}, as {@link #readEventDataWithGaps(Connection, EventSchema,
+     * long, int, List)} does. The payload column of entries with one of the given {@code skippedPayloadTypes} is
+     * selected as {@code NULL}, through {@code "CASE WHEN [payloadTypeColumn] IN (?1 .. ?n) THEN NULL ELSE
+     * [payloadColumn] END"}. If the {@link EventSchema#trackedEventFields()} do not list the payload column, the
+     * payload of all entries is selected.
+     *
+     * @param connection          The connection to the database.
+     * @param schema              The EventSchema to be used
+     * @param globalIndex         The index taken from the tracking token.
+     * @param batchSize           The number of items to include in the batch
+     * @param gaps                The Set of gaps taken from the tracking token.
+     * @param skippedPayloadTypes The names of the serialized payload types of which the payload should not be selected.
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    public static PreparedStatement readEventDataWithGaps(Connection connection, EventSchema schema, long globalIndex,
+                                                          int batchSize, List<Long> gaps,
+                                                          Set<String> skippedPayloadTypes) throws SQLException {
+        String trackedEventFields = trackedEventFieldsSkippingPayload(schema, skippedPayloadTypes);
+        if (trackedEventFields == null) {
+            return readEventDataWithGaps(connection, schema, globalIndex, batchSize, gaps);
+        }
+        final String sql =
+                "SELECT " + trackedEventFields + " FROM " + schema.domainEventTable() + " WHERE ("
+                        + schema.globalIndexColumn() + " > ? AND " + schema.globalIndexColumn() + " <= ?) OR "
+                        + schema.globalIndexColumn() + " IN (" + String.join(",", Collections.nCopies(gaps.size(), "?"))
+                        + ") ORDER BY " + schema.globalIndexColumn() + " ASC";
+        PreparedStatement statement = connection.prepareStatement(sql);
+        int parameterIndex = setSkippedPayloadTypes(statement, skippedPayloadTypes);
+        statement.setLong(parameterIndex++, globalIndex);
+        statement.setLong(parameterIndex++, globalIndex + batchSize);
+        for (Long gap : gaps) {
+            statement.setLong(parameterIndex++, gap);
+        }
+        return statement;
+    }
+
+    /**
+     * Returns the tracked event fields of the given {@code schema} with the payload column replaced by an expression
+     * selecting {@code NULL} for the given {@code skippedPayloadTypes}, or {@code null} if there are no payload types
+     * to skip or the payload column is not listed as a separate field.
+     */
+    private static String trackedEventFieldsSkippingPayload(EventSchema schema, Set<String> skippedPayloadTypes) {
+        List<String> fields = Arrays.stream(schema.trackedEventFields().split(","))
+                                    .map(String::trim)
+                                    .collect(Collectors.toList());
+        int payloadIndex = fields.indexOf(schema.payloadColumn());
+        if (skippedPayloadTypes.isEmpty() || payloadIndex < 0) {
+            return null;
+        }
+        fields.set(payloadIndex, "CASE WHEN " + schema.payloadTypeColumn() + " IN ("
+                + String.join(",", Collections.nCopies(skippedPayloadTypes.size(), "?")) + ") THEN NULL ELSE "
+                + schema.payloadColumn() + " END AS " + schema.payloadColumn());
+        return String.join(", ", fields);
+    }
+
+    private static int setSkippedPayloadTypes(PreparedStatement statement, Set<String> skippedPayloadTypes)
+            throws SQLException {
+        int parameterIndex = 1;
+        for (String skippedPayloadType : skippedPayloadTypes) {
+            statement.setString(parameterIndex++, skippedPayloadType);
+        }
+        return parameterIndex;
+    }
 }
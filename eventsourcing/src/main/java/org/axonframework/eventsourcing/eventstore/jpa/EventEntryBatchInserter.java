@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing.eventstore.jpa;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.PostInsertIdentifierGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.EntityManager;
+
+/**
+ * Inserts event entries through a single JDBC batch on the connection of a Hibernate {@link
+ * org.hibernate.Session}, bypassing the persistence context. The table, columns and types of the insert are taken from
+ * the mapping of the entries, so overridden entities and naming strategies are respected.
+ * <p>
+ * Generated keys are never read back. When the identifier of the entries is generated by the database on insert, such
+ * as an identity column, it is left out of the insert. Otherwise, the identifier generator of the mapping provides it
+ * before the entry is added to the batch.
+ */
+final class EventEntryBatchInserter {
+
+    private EventEntryBatchInserter() {
+        // Utility class
+    }
+
+    /**
+     * Indicates whether the given {@code entries} can be inserted by {@link #insert(EntityManager, List)}, which
+     * requires the entries to be mapped to a single table. Hibernate needs to be the JPA provider of the given {@code
+     * entityManager}.
+     *
+     * @param entityManager the {@link EntityManager} to insert the entries with
+     * @param entries       the entries to insert, all of the same type
+     * @return {@code true} if the entries can be inserted in a JDBC batch, {@code false} otherwise
+     */
+    static boolean supports(EntityManager entityManager, List<?> entries) {
+        if (entries.isEmpty()) {
+            return false;
+        }
+        EntityPersister persister = persisterFor(entityManager.unwrap(SessionImplementor.class), entries);
+        return persister instanceof AbstractEntityPersister
+                && !((AbstractEntityPersister) persister).isMultiTable()
+                && !persister.isInherited();
+    }
+
+    /**
+     * Inserts the given {@code entries} in a single JDBC batch on the connection of the given {@code entityManager}.
+     * The entries are not added to the persistence context.
+     *
+     * @param entityManager the {@link EntityManager} to insert the entries with
+     * @param entries       the entries to insert, all of the same type
+     */
+    static void insert(EntityManager entityManager, List<?> entries) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        SessionFactoryImplementor factory = session.getFactory();
+        AbstractEntityPersister persister = (AbstractEntityPersister) persisterFor(session, entries);
+        IdentifierGenerator identifierGenerator = persister.getIdentifierGenerator();
+        boolean identifierGeneratedOnInsert = identifierGenerator instanceof PostInsertIdentifierGenerator;
+        boolean[] insertable = persister.getPropertyInsertability();
+        Type[] types = persister.getPropertyTypes();
+
+        List<String> columns = new ArrayList<>();
+        if (!identifierGeneratedOnInsert) {
+            Collections.addAll(columns, persister.getIdentifierColumnNames());
+        }
+        for (int i = 0; i < types.length; i++) {
+            if (insertable[i]) {
+                Collections.addAll(columns, persister.getPropertyColumnNames(i));
+            }
+        }
+        String sql = "INSERT INTO " + persister.getTableName() + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (Object entry : entries) {
+                    int index = 1;
+                    if (!identifierGeneratedOnInsert) {
+                        Serializable identifier = identifierGenerator.generate(session, entry);
+                        persister.getIdentifierType().nullSafeSet(statement, identifier, index, session);
+                        index += persister.getIdentifierColumnSpan();
+                    }
+                    Object[] values = persister.getPropertyValues(entry);
+                    for (int i = 0; i < types.length; i++) {
+                        if (insertable[i]) {
+                            types[i].nullSafeSet(statement, values[i], index, session);
+                            index += types[i].getColumnSpan(factory);
+                        }
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    private static EntityPersister persisterFor(SessionImplementor session, List<?> entries) {
+        return session.getEntityPersister(null, entries.get(0));
+    }
+}
@@ -36,6 +36,7 @@
 import org.axonframework.eventsourcing.snapshotting.SnapshotFilter;
 import org.axonframework.serialization.Serializer;
 import org.axonframework.serialization.upcasting.event.EventUpcaster;
+import org.axonframework.tracing.SpanFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,6 +66,17 @@
  * <p>
  * By default the payload of events is stored as a serialized blob of bytes. Other columns are used to store meta-data
  * that allow quick finding of DomainEvents for a specific aggregate in the correct order.
+ * <p>
+ * Appended events are inserted as a single flush of the persistence context. When {@link Builder#explicitFlush(boolean)
+ * explicit flushing} is enabled, the inserted entries are detached from the persistence context right after that
+ * flush, so that appending many events does not make later flushes in the same transaction more expensive. With
+ * Hibernate as the JPA provider, {@link Builder#batchInsert(boolean) batch inserts} insert the entries in a single JDBC
+ * batch instead, without passing through the persistence context at all.
+ * <p>
+ * Do not map the global index to a sequence which allocates blocks of values per node, such as a pooled sequence.
+ * Values allocated to one node may be used long after another node committed events with higher values. Tracking
+ * processors regard the unused values as gaps, and stop waiting for a gap once it is older than the {@link
+ * Builder#gapTimeout(int) gap timeout}. Events stored later with such a value are then never read by those processors.
  *
  * @author Rene de Waele
  * @since 3.0
@@ -81,6 +93,7 @@ public class JpaEventStorageEngine extends BatchingEventStorageEngine {
     private final EntityManagerProvider entityManagerProvider;
     private final TransactionManager transactionManager;
     private final boolean explicitFlush;
+    private final boolean batchInsert;
     private final int maxGapOffset;
     private final long lowestGlobalSequence;
     private int gapTimeout;
@@ -99,6 +112,7 @@ protected JpaEventStorageEngine(Builder builder) {
         this.entityManagerProvider = builder.entityManagerProvider;
         this.transactionManager = builder.transactionManager;
         this.explicitFlush = builder.explicitFlush;
+        this.batchInsert = builder.batchInsert;
         this.maxGapOffset = builder.maxGapOffset;
         this.lowestGlobalSequence = builder.lowestGlobalSequence;
         this.gapTimeout = builder.gapTimeout;
@@ -118,6 +132,7 @@ protected JpaEventStorageEngine(Builder builder) {
      * <li>The {@code snapshotFilter} defaults to a {@link SnapshotFilter#allowAll()} intance.</li>
      * <li>The {@code batchSize} defaults to an integer of size {@code 100}.</li>
      * <li>The {@code explicitFlush} defaults to {@code true}.</li>
+     * <li>The {@code batchInsert} defaults to {@code false}.</li>
      * <li>The {@code maxGapOffset} defaults to an  integer of size {@code 10000}.</li>
      * <li>The {@code lowestGlobalSequence} defaults to a long of size {@code 1}.</li>
      * <li>The {@code gapTimeout} defaults to an integer of size {@code 60000} (1 minute).</li>
@@ -282,9 +297,20 @@ protected void appendEvents(List<? extends EventMessage<?>> events, Serializer s
 
         transactionManager.executeInTransaction(() -> {
             try {
-                events.stream().map(event -> createEventEntity(event, serializer)).forEach(entityManager()::persist);
+                EntityManager entityManager = entityManager();
+                List<Object> entries = events.stream()
+                                             .map(event -> createEventEntity(event, serializer))
+                                             .collect(Collectors.toList());
+                if (batchInsert && EventEntryBatchInserter.supports(entityManager, entries)) {
+                    EventEntryBatchInserter.insert(entityManager, entries);
+                    return;
+                }
+                entries.forEach(entityManager::persist);
                 if (explicitFlush) {
-                    entityManager().flush();
+                    entityManager.flush();
+                    // appended entries are never read through the persistence context. Keeping them managed would
+                    // only add to the cost of every subsequent flush in the same transaction.
+                    entries.forEach(entityManager::detach);
                 }
             } catch (Exception e) {
                 handlePersistenceException(e, events.get(0));
@@ -481,6 +507,7 @@ public void setGapCleaningThreshold(int gapCleaningThreshold) {
      * <li>The {@code snapshotFilter} defaults to a {@link SnapshotFilter#allowAll()} intance.</li>
      * <li>The {@code batchSize} defaults to an integer of size {@code 100}.</li>
      * <li>The {@code explicitFlush} defaults to {@code true}.</li>
+     * <li>The {@code batchInsert} defaults to {@code false}.</li>
      * <li>The {@code maxGapOffset} defaults to an  integer of size {@code 10000}.</li>
      * <li>The {@code lowestGlobalSequence} defaults to a long of size {@code 1}.</li>
      * <li>The {@code gapTimeout} defaults to an integer of size {@code 60000} (1 minute).</li>
@@ -495,6 +522,7 @@ public static class Builder extends BatchingEventStorageEngine.Builder {
         private EntityManagerProvider entityManagerProvider;
         private TransactionManager transactionManager;
         private boolean explicitFlush = true;
+        private boolean batchInsert = false;
         private int maxGapOffset = DEFAULT_MAX_GAP_OFFSET;
         private long lowestGlobalSequence = DEFAULT_LOWEST_GLOBAL_SEQUENCE;
         private int gapTimeout = DEFAULT_GAP_TIMEOUT;
@@ -544,6 +572,12 @@ public JpaEventStorageEngine.Builder snapshotFilter(SnapshotFilter snapshotFilte
             return this;
         }
 
+        @Override
+        public JpaEventStorageEngine.Builder spanFactory(SpanFactory spanFactory) {
+            super.spanFactory(spanFactory);
+            return this;
+        }
+
         @Override
         public JpaEventStorageEngine.Builder batchSize(int batchSize) {
             super.batchSize(batchSize);
@@ -612,6 +646,26 @@ public Builder explicitFlush(boolean explicitFlush) {
             return this;
         }
 
+        /**
+         * Sets whether appended events are inserted in a single JDBC batch on the connection of the Hibernate {@code
+         * Session}, rather than being persisted through the {@link EntityManager}. Hibernate does not batch the
+         * inserts of entities with an identity column, as it reads the generated key of every single insert. The
+         * batch insert never reads generated keys back, leaving the global index to the database if it is generated on
+         * insert, or taking it from the identifier generator of the mapping otherwise.
+         * <p>
+         * The entries are inserted right away, regardless of the {@link #explicitFlush(boolean)} setting, and are never
+         * added to the persistence context. This requires Hibernate as the JPA provider. Entries mapped to more than a
+         * single table are persisted through the {@link EntityManager} as usual. Defaults to {@code false}.
+         *
+         * @param batchInsert a {@code boolean} specifying whether to insert the appended events in a single JDBC
+         *                    batch
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder batchInsert(boolean batchInsert) {
+            this.batchInsert = batchInsert;
+            return this;
+        }
+
         /**
          * Sets the {@code maxGapOffset} specifying the maximum distance in sequence numbers between a missing event and
          * the event with the highest known index. If the gap is bigger it is assumed that the missing event will not be
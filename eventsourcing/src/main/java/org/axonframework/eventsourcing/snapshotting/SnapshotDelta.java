@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing.snapshotting;
+
+import org.axonframework.serialization.SerializationException;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.SimpleSerializedObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Payload of a snapshot which only describes how the serialized form of an aggregate differs from the serialized form
+ * of an earlier, complete snapshot of the same aggregate: the base snapshot. Storing such a delta instead of a complete
+ * snapshot reduces the amount of data written for large aggregates of which only a small part changes between two
+ * snapshots.
+ * <p>
+ * The delta consists of instructions either copying a range of bytes from the serialized base snapshot, or inserting
+ * bytes which are not present in the base snapshot. Matching ranges are found by comparing blocks of {@link
+ * #BLOCK_SIZE} bytes, so a delta is only compact if changes are local to some parts of the serialized form.
+ *
+ * @since 4.6.0
+ */
+public class SnapshotDelta implements Serializable {
+
+    /**
+     * The size of the blocks of the serialized base snapshot used to find ranges which can be copied.
+     */
+    public static final int BLOCK_SIZE = 32;
+
+    private static final long serialVersionUID = -2474693519311406743L;
+
+    private static final int HASH_FACTOR = 31;
+    private static final int LEADING_FACTOR = leadingFactor();
+    private static final byte COPY = 0;
+    private static final byte INSERT = 1;
+
+    private long baseSequenceNumber;
+    private String payloadType;
+    private String payloadRevision;
+    private byte[] instructions;
+
+    /**
+     * Computes the delta between the serialized {@code base} snapshot and the serialized {@code target} snapshot.
+     * Applying the result to the {@code base} reconstructs the {@code target}.
+     *
+     * @param baseSequenceNumber the sequence number of the base snapshot
+     * @param base               the serialized payload of the base snapshot
+     * @param target             the serialized payload of the snapshot to describe as a delta of the {@code base}
+     * @return a {@link SnapshotDelta} reconstructing the {@code target} when applied to the {@code base}
+     */
+    public static SnapshotDelta between(long baseSequenceNumber, byte[] base, SerializedObject<byte[]> target) {
+        SerializedType targetType = target.getType();
+        return new SnapshotDelta(baseSequenceNumber,
+                                 targetType.getName(),
+                                 targetType.getRevision(),
+                                 computeInstructions(base, target.getData()));
+    }
+
+    /**
+     * Instantiate a {@link SnapshotDelta} with the given {@code instructions} to apply on the base snapshot with the
+     * given {@code baseSequenceNumber}.
+     *
+     * @param baseSequenceNumber the sequence number of the base snapshot
+     * @param payloadType        the type of the serialized payload reconstructed by this delta
+     * @param payloadRevision    the revision of the serialized payload reconstructed by this delta
+     * @param instructions       the encoded instructions reconstructing the payload from the base snapshot
+     */
+    public SnapshotDelta(long baseSequenceNumber, String payloadType, String payloadRevision, byte[] instructions) {
+        this.baseSequenceNumber = baseSequenceNumber;
+        this.payloadType = payloadType;
+        this.payloadRevision = payloadRevision;
+        this.instructions = instructions;
+    }
+
+    @SuppressWarnings("unused")
+    private SnapshotDelta() {
+        // Used by serializers which require a no-arg constructor
+    }
+
+    /**
+     * Reconstructs the serialized payload described by this delta, by applying it to the given serialized payload of
+     * the base snapshot.
+     *
+     * @param base the serialized payload of the base snapshot
+     * @return the reconstructed serialized payload, of the type and revision described by this delta
+     * @throws SerializationException if the instructions of this delta are corrupt or do not match the given {@code
+     *                                base}
+     */
+    public SerializedObject<byte[]> applyTo(byte[] base) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(base.length);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(instructions))) {
+            while (in.available() > 0) {
+                byte instruction = in.readByte();
+                int length;
+                if (instruction == COPY) {
+                    int offset = in.readInt();
+                    length = in.readInt();
+                    result.write(base, offset, length);
+                } else if (instruction == INSERT) {
+                    length = in.readInt();
+                    byte[] inserted = new byte[length];
+                    in.readFully(inserted);
+                    result.write(inserted);
+                } else {
+                    throw new SerializationException("Unknown snapshot delta instruction [" + instruction + "]");
+                }
+            }
+        } catch (IOException | IndexOutOfBoundsException e) {
+            throw new SerializationException("Failed to apply snapshot delta to its base snapshot", e);
+        }
+        return new SimpleSerializedObject<>(result.toByteArray(), byte[].class, payloadType, payloadRevision);
+    }
+
+    /**
+     * Returns the sequence number of the base snapshot this delta should be applied to.
+     *
+     * @return the sequence number of the base snapshot this delta should be applied to
+     */
+    public long getBaseSequenceNumber() {
+        return baseSequenceNumber;
+    }
+
+    /**
+     * Returns the type of the serialized payload reconstructed by this delta.
+     *
+     * @return the type of the serialized payload reconstructed by this delta
+     */
+    public String getPayloadType() {
+        return payloadType;
+    }
+
+    /**
+     * Returns the revision of the serialized payload reconstructed by this delta.
+     *
+     * @return the revision of the serialized payload reconstructed by this delta
+     */
+    public String getPayloadRevision() {
+        return payloadRevision;
+    }
+
+    /**
+     * Returns the encoded instructions reconstructing the payload from the base snapshot.
+     *
+     * @return the encoded instructions reconstructing the payload from the base snapshot
+     */
+    public byte[] getInstructions() {
+        return instructions;
+    }
+
+    private static byte[] computeInstructions(byte[] base, byte[] target) {
+        Map<Integer, Integer> blockOffsets = new HashMap<>();
+        for (int offset = 0; offset + BLOCK_SIZE <= base.length; offset += BLOCK_SIZE) {
+            blockOffsets.putIfAbsent(hash(base, offset), offset);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DataOutputStream instructions = new DataOutputStream(out)) {
+            int insertStart = 0;
+            int position = 0;
+            int hash = target.length >= BLOCK_SIZE ? hash(target, 0) : 0;
+            while (position + BLOCK_SIZE <= target.length) {
+                Integer baseOffset = blockOffsets.get(hash);
+                if (baseOffset != null && matches(base, baseOffset, target, position)) {
+                    int start = baseOffset;
+                    int length = BLOCK_SIZE;
+                    while (start > 0 && position > insertStart && base[start - 1] == target[position - 1]) {
+                        start--;
+                        position--;
+                        length++;
+                    }
+                    while (start + length < base.length && position + length < target.length
+                            && base[start + length] == target[position + length]) {
+                        length++;
+                    }
+                    writeInsert(instructions, target, insertStart, position);
+                    instructions.writeByte(COPY);
+                    instructions.writeInt(start);
+                    instructions.writeInt(length);
+                    position += length;
+                    insertStart = position;
+                    if (position + BLOCK_SIZE <= target.length) {
+                        hash = hash(target, position);
+                    }
+                } else if (position + BLOCK_SIZE < target.length) {
+                    hash = roll(hash, target[position], target[position + BLOCK_SIZE]);
+                    position++;
+                } else {
+                    break;
+                }
+            }
+            writeInsert(instructions, target, insertStart, target.length);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to compute snapshot delta", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeInsert(DataOutputStream instructions, byte[] target, int start, int end)
+            throws IOException {
+        if (end > start) {
+            instructions.writeByte(INSERT);
+            instructions.writeInt(end - start);
+            instructions.write(target, start, end - start);
+        }
+    }
+
+    private static boolean matches(byte[] base, int baseOffset, byte[] target, int targetOffset) {
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            if (base[baseOffset + i] != target[targetOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(byte[] data, int offset) {
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = hash * HASH_FACTOR + (data[i] & 0xFF);
+        }
+        return hash;
+    }
+
+    private static int roll(int hash, byte removed, byte added) {
+        return (hash - (removed & 0xFF) * LEADING_FACTOR) * HASH_FACTOR + (added & 0xFF);
+    }
+
+    private static int leadingFactor() {
+        int factor = 1;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            factor *= HASH_FACTOR;
+        }
+        return factor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SnapshotDelta that = (SnapshotDelta) o;
+        return baseSequenceNumber == that.baseSequenceNumber &&
+                Objects.equals(payloadType, that.payloadType) &&
+                Objects.equals(payloadRevision, that.payloadRevision) &&
+                Arrays.equals(instructions, that.instructions);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(baseSequenceNumber, payloadType, payloadRevision) + Arrays.hashCode(instructions);
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotDelta{" +
+                "baseSequenceNumber=" + baseSequenceNumber +
+                ", payloadType='" + payloadType + '\'' +
+                ", payloadRevision='" + payloadRevision + '\'' +
+                ", instructions=" + instructions.length + " bytes" +
+                '}';
+    }
+}
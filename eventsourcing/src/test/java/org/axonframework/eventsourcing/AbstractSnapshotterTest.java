@@ -44,6 +44,7 @@
 import static org.axonframework.eventsourcing.utils.EventStoreTestUtils.createEvent;
 import static org.axonframework.eventsourcing.utils.EventStoreTestUtils.createEvents;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.argThat;
@@ -214,6 +215,80 @@ void testScheduleSnapshot_AcceptedWhenOtherSnapshotIsScheduled() {
         assertEquals(1, executor.size());
     }
 
+    @Test
+    void testQueuedSnapshotsAreCoalescedAndCreatedMostRequestedFirst() {
+        StubExecutor executor = new StubExecutor();
+        testSubject = TestSnapshotter.builder()
+                                     .eventStore(mockEventStore)
+                                     .executor(executor)
+                                     .queueCapacity(10)
+                                     .build();
+        when(mockEventStore.readEvents(anyString())).thenAnswer(i -> DomainEventStream.of(createEvents(2)));
+
+        testSubject.scheduleSnapshot(Object.class, "id1");
+        testSubject.scheduleSnapshot(Object.class, "id2");
+        testSubject.scheduleSnapshot(Object.class, "id2");
+        testSubject.scheduleSnapshot(Object.class, "id3");
+
+        assertEquals(1, executor.size());
+        assertEquals(3, testSubject.queueDepth());
+        assertEquals(1, testSubject.skippedDuplicates());
+
+        executor.executeNext();
+
+        assertEquals(0, executor.size());
+        assertEquals(0, testSubject.queueDepth());
+        InOrder inOrder = inOrder(mockEventStore);
+        inOrder.verify(mockEventStore).storeSnapshot(argThat(event("id2", 1)));
+        inOrder.verify(mockEventStore).storeSnapshot(argThat(event("id1", 1)));
+        inOrder.verify(mockEventStore).storeSnapshot(argThat(event("id3", 1)));
+    }
+
+    @Test
+    void testQueuedSnapshotsAreRejectedWhenTheQueueIsFull() {
+        StubExecutor executor = new StubExecutor();
+        testSubject = TestSnapshotter.builder()
+                                     .eventStore(mockEventStore)
+                                     .executor(executor)
+                                     .queueCapacity(1)
+                                     .parallelism(2)
+                                     .build();
+        when(mockEventStore.readEvents(anyString())).thenAnswer(i -> DomainEventStream.of(createEvents(2)));
+
+        testSubject.scheduleSnapshot(Object.class, "id1");
+        testSubject.scheduleSnapshot(Object.class, "id2");
+
+        assertEquals(1, executor.size());
+        assertEquals(1, testSubject.queueDepth());
+        assertEquals(1, testSubject.rejectedSnapshots());
+
+        executor.executeNext();
+
+        verify(mockEventStore).storeSnapshot(argThat(event("id1", 1)));
+        verify(mockEventStore, never()).storeSnapshot(argThat(event("id2", 1)));
+    }
+
+    @Test
+    void testQueuedSnapshotsAreProcessedAfterATaskEndedWithAnError() {
+        StubExecutor executor = new StubExecutor();
+        testSubject = TestSnapshotter.builder()
+                                     .eventStore(mockEventStore)
+                                     .executor(executor)
+                                     .queueCapacity(10)
+                                     .build();
+        when(mockEventStore.readEvents("id1")).thenThrow(new StackOverflowError());
+        when(mockEventStore.readEvents("id2")).thenAnswer(i -> DomainEventStream.of(createEvents(2)));
+
+        testSubject.scheduleSnapshot(Object.class, "id1");
+        assertThrows(StackOverflowError.class, executor::executeNext);
+
+        testSubject.scheduleSnapshot(Object.class, "id2");
+        assertEquals(1, executor.size());
+        executor.executeNext();
+
+        verify(mockEventStore).storeSnapshot(argThat(event("id2", 1)));
+    }
+
     private ArgumentMatcher<DomainEventMessage> event(final Object aggregateIdentifier, final long i) {
         return x -> aggregateIdentifier.equals(x.getAggregateIdentifier())
                 && x.getSequenceNumber() == i;
@@ -280,6 +355,18 @@ public Builder transactionManager(TransactionManager transactionManager) {
                 return this;
             }
 
+            @Override
+            public Builder queueCapacity(int queueCapacity) {
+                super.queueCapacity(queueCapacity);
+                return this;
+            }
+
+            @Override
+            public Builder parallelism(int parallelism) {
+                super.parallelism(parallelism);
+                return this;
+            }
+
             private TestSnapshotter build() {
                 return new TestSnapshotter(this);
             }
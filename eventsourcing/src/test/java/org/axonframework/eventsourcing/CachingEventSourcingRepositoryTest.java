@@ -19,6 +19,7 @@
 import net.sf.ehcache.CacheManager;
 import org.axonframework.common.caching.Cache;
 import org.axonframework.common.caching.EhCacheAdapter;
+import org.axonframework.common.caching.WeakReferenceCache;
 import org.axonframework.eventhandling.DomainEventMessage;
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.eventsourcing.eventstore.DomainEventStream;
@@ -169,6 +170,43 @@ void testCacheClearedAfterRollbackOfAddedAggregate() throws Exception {
         assertNull(cache.get("id1"));
     }
 
+    @Test
+    void testValidatedCachedAggregateCatchesUpWithEventsAppendedElsewhere() throws Exception {
+        CachingEventSourcingRepository<StubAggregate> validatingRepository =
+                CachingEventSourcingRepository.builder(StubAggregate.class)
+                                              .aggregateFactory(new StubAggregateFactory())
+                                              .eventStore(mockEventStore)
+                                              .cache(cache)
+                                              .validateCachedAggregates(true)
+                                              .build();
+        CachingEventSourcingRepository<StubAggregate> otherNodeRepository =
+                CachingEventSourcingRepository.builder(StubAggregate.class)
+                                              .aggregateFactory(new StubAggregateFactory())
+                                              .eventStore(mockEventStore)
+                                              .cache(new WeakReferenceCache())
+                                              .build();
+
+        startAndGetUnitOfWork();
+        validatingRepository.newInstance(() -> new StubAggregate("aggregateId")).execute(StubAggregate::doSomething);
+        CurrentUnitOfWork.commit();
+
+        startAndGetUnitOfWork();
+        otherNodeRepository.load("aggregateId", null).execute(StubAggregate::doSomething);
+        CurrentUnitOfWork.commit();
+
+        startAndGetUnitOfWork();
+        LockAwareAggregate<StubAggregate, EventSourcedAggregate<StubAggregate>> reloadedAggregate =
+                validatingRepository.load("aggregateId", null);
+        assertEquals(1L, reloadedAggregate.version());
+        reloadedAggregate.execute(StubAggregate::doSomething);
+        CurrentUnitOfWork.commit();
+
+        verify(mockEventStore).readEvents("aggregateId", 1L);
+        assertEquals(3, mockEventStore.readEvents("aggregateId").asStream().count());
+        AggregateCacheEntry<StubAggregate> cacheEntry = cache.get("aggregateId");
+        assertEquals(2L, cacheEntry.recreateAggregate(null, null, null).version());
+    }
+
     private UnitOfWork<?> startAndGetUnitOfWork() {
         return DefaultUnitOfWork.startAndGet(null);
     }
@@ -34,18 +34,21 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.mockito.ArgumentCaptor;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import static java.util.Collections.singleton;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toList;
 import static org.axonframework.eventsourcing.utils.EventStoreTestUtils.AGGREGATE;
@@ -229,6 +232,46 @@ void testConsumerStopsTailingWhenItFallsBehindTheCache() throws Exception {
         verify(storageEngine).readEvents(firstEvent.trackingToken(), false);
     }
 
+    @Test
+    @Timeout(value = 5)
+    void testSkippedPayloadTypesArePassedToStorageEngineWhenOpeningPrivateStream() throws Exception {
+        newTestSubject(CACHED_EVENTS, FETCH_DELAY, 20, OPTIMIZE_EVENT_CONSUMPTION);
+        TrackingEventStream stream = testSubject.openStream(null);
+        assertFalse(stream.hasNextAvailable()); //now we should be tailing
+        testSubject.publish(createEvents(CACHED_EVENTS)); //triggers event producer to open a stream
+        Thread.sleep(100);
+        TrackedEventMessage<?> firstEvent = stream.nextAvailable();
+        stream.skipMessagesWithPayloadTypeOf(firstEvent);
+        testSubject.publish(createEvent(CACHED_EVENTS), createEvent(CACHED_EVENTS + 1));
+        Thread.sleep(100); //allow the cleaner thread to evict the consumer
+        reset(storageEngine);
+        assertTrue(stream.hasNextAvailable());
+
+        verify(storageEngine).readEvents(firstEvent.trackingToken(), false, singleton(firstEvent.getPayloadType()));
+    }
+
+    @Test
+    @Timeout(value = 5)
+    void testPayloadTypesSkippedAfterOpeningPrivateStreamAreVisibleToStorageEngine() throws Exception {
+        newTestSubject(CACHED_EVENTS, FETCH_DELAY, 20, OPTIMIZE_EVENT_CONSUMPTION);
+        TrackingEventStream stream = testSubject.openStream(null);
+        assertFalse(stream.hasNextAvailable()); //now we should be tailing
+        testSubject.publish(createEvents(CACHED_EVENTS)); //triggers event producer to open a stream
+        Thread.sleep(100);
+        TrackedEventMessage<?> firstEvent = stream.nextAvailable();
+        testSubject.publish(createEvent(CACHED_EVENTS), createEvent(CACHED_EVENTS + 1));
+        Thread.sleep(100); //allow the cleaner thread to evict the consumer
+        reset(storageEngine);
+        assertTrue(stream.hasNextAvailable());
+        ArgumentCaptor<Set<Class<?>>> skippedPayloadTypes = ArgumentCaptor.forClass(Set.class);
+        verify(storageEngine).readEvents(eq(firstEvent.trackingToken()), eq(false), skippedPayloadTypes.capture());
+        assertTrue(skippedPayloadTypes.getValue().isEmpty());
+
+        stream.skipMessagesWithPayloadTypeOf(firstEvent);
+
+        assertEquals(singleton(firstEvent.getPayloadType()), skippedPayloadTypes.getValue());
+    }
+
     @Test
     void testLoadWithoutSnapshot() {
         testSubject.publish(createEvents(110));
@@ -27,6 +27,7 @@
 import org.axonframework.eventhandling.TrackingToken;
 import org.axonframework.eventsourcing.eventstore.BatchingEventStorageEngineTest;
 import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
+import org.axonframework.eventsourcing.eventstore.jdbc.statements.JdbcEventStorageEngineStatements;
 import org.axonframework.eventsourcing.eventstore.jpa.SQLErrorCodesResolver;
 import org.axonframework.serialization.UnknownSerializedType;
 import org.hsqldb.jdbc.JDBCDataSource;
@@ -42,16 +43,24 @@
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.axonframework.eventsourcing.utils.EventStoreTestUtils.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Test class validating the {@link JdbcEventStorageEngine}.
@@ -80,6 +89,42 @@ void testStoreTwoExactSameSnapshots() {
         testSubject.storeSnapshot(createEvent(1));
     }
 
+    @Test
+    void testSnapshotsAreStoredAsDeltasUntilTheCompactionThresholdIsReached() throws SQLException {
+        testSubject = createEngine(engineBuilder -> engineBuilder.snapshotCompactionThreshold(2));
+        String largeState = String.join(",", Collections.nCopies(500, "someAggregateState"));
+
+        testSubject.storeSnapshot(createEvent(AGGREGATE, 10, "first" + largeState));
+        testSubject.storeSnapshot(createEvent(AGGREGATE, 20, "second" + largeState));
+        testSubject.storeSnapshot(createEvent(AGGREGATE, 30, largeState + "third"));
+
+        assertEquals(3, countSnapshots());
+        DomainEventMessage<?> snapshot = testSubject.readSnapshot(AGGREGATE).orElseThrow(IllegalStateException::new);
+        assertEquals(30, snapshot.getSequenceNumber());
+        assertEquals(largeState + "third", snapshot.getPayload());
+
+        testSubject.storeSnapshot(createEvent(AGGREGATE, 40, "fourth" + largeState));
+
+        assertEquals(1, countSnapshots());
+        snapshot = testSubject.readSnapshot(AGGREGATE).orElseThrow(IllegalStateException::new);
+        assertEquals(40, snapshot.getSequenceNumber());
+        assertEquals("fourth" + largeState, snapshot.getPayload());
+    }
+
+    @Test
+    void testSnapshotDeltaWithoutBaseSnapshotIsIgnored() throws SQLException {
+        testSubject = createEngine(engineBuilder -> engineBuilder.snapshotCompactionThreshold(2));
+        String largeState = String.join(",", Collections.nCopies(500, "someAggregateState"));
+
+        testSubject.storeSnapshot(createEvent(AGGREGATE, 10, "first" + largeState));
+        testSubject.storeSnapshot(createEvent(AGGREGATE, 20, "second" + largeState));
+        try (Connection conn = dataSource.getConnection()) {
+            conn.prepareStatement("DELETE FROM SnapshotEventEntry WHERE sequenceNumber = 10").executeUpdate();
+        }
+
+        assertFalse(testSubject.readSnapshot(AGGREGATE).isPresent());
+    }
+
     @Test
     void testLoadLastSequenceNumber() {
         String aggregateId = UUID.randomUUID().toString();
@@ -268,6 +313,194 @@ void testStreamCrossesInitialConsecutiveGapsOfMoreThanBatchSuccessfully() throws
         assertEquals(80, actualEvents.size());
     }
 
+    @Test
+    void testTrackedEventsAreReadInReplayBatchesWhileFarBehindTheHead() {
+        testSubject = createEngine(engineBuilder -> engineBuilder.batchSize(10).replayBatchSize(50));
+        testSubject.appendEvents(createEvents(300));
+
+        List<? extends TrackedEventData<?>> replayBatch = testSubject.fetchTrackedEvents((TrackingToken) null, 10);
+        assertEquals(50, replayBatch.size());
+
+        long lastReplayedIndex = ((GapAwareTrackingToken) replayBatch.get(49).trackingToken()).getIndex();
+        TrackingToken nearHead = GapAwareTrackingToken.newInstance(lastReplayedIndex + 200, emptySet());
+        assertEquals(10, testSubject.fetchTrackedEvents(nearHead, 10).size());
+
+        Stream<? extends TrackedEventMessage<?>> actual = testSubject.readEvents(null, false);
+        assertEquals(300, actual.count());
+    }
+
+    @Test
+    void testHeadIsNotQueriedWhenReadingCloseToTheHead() throws SQLException {
+        testSubject = spy(createEngine(engineBuilder -> engineBuilder.batchSize(10).replayBatchSize(50)));
+        testSubject.appendEvents(createEvents(25));
+
+        List<? extends TrackedEventData<?>> firstBatch = testSubject.fetchTrackedEvents((TrackingToken) null, 10);
+        TrackingToken lastToken = firstBatch.get(firstBatch.size() - 1).trackingToken();
+        List<? extends TrackedEventData<?>> secondBatch = testSubject.fetchTrackedEvents(lastToken, 10);
+        lastToken = secondBatch.get(secondBatch.size() - 1).trackingToken();
+        reset(testSubject);
+
+        List<? extends TrackedEventData<?>> lastBatch = testSubject.fetchTrackedEvents(lastToken, 10);
+
+        assertFalse(lastBatch.isEmpty());
+        assertTrue(lastBatch.size() < 10);
+        verify(testSubject, never()).createHeadToken(any());
+    }
+
+    @Test
+    void testPayloadOfSkippedPayloadTypesIsNotSelected() throws SQLException {
+        testSubject.appendEvents(createEvents(3));
+        List<? extends TrackedEventData<?>> read = testSubject.fetchTrackedEvents((TrackingToken) null, 10);
+        Set<String> skippedPayloadTypes = singleton(read.get(0).getPayload().getType().getName());
+        EventSchema schema = new EventSchema();
+
+        try (Connection connection = dataSource.getConnection()) {
+            PreparedStatement withoutGaps = JdbcEventStorageEngineStatements.readEventDataWithoutGaps(
+                    connection, schema, -1, 10, skippedPayloadTypes
+            );
+            assertPayloadsNotSelected(3, withoutGaps, schema);
+            PreparedStatement withGaps = JdbcEventStorageEngineStatements.readEventDataWithGaps(
+                    connection, schema, 1, 10, Collections.singletonList(0L), skippedPayloadTypes
+            );
+            assertPayloadsNotSelected(2, withGaps, schema);
+            PreparedStatement otherTypeSkipped = JdbcEventStorageEngineStatements.readEventDataWithoutGaps(
+                    connection, schema, -1, 10, singleton(Integer.class.getName())
+            );
+            try (ResultSet resultSet = otherTypeSkipped.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertNotNull(resultSet.getBytes(schema.payloadColumn()));
+            }
+        }
+
+        List<? extends TrackedEventData<?>> skipped =
+                testSubject.fetchTrackedEvents((TrackingToken) null, 10, skippedPayloadTypes);
+        assertEquals(3, skipped.size());
+        assertEquals(0, ((byte[]) skipped.get(0).getPayload().getData()).length);
+        for (int i = 0; i < read.size(); i++) {
+            assertEquals(read.get(i).trackingToken(), skipped.get(i).trackingToken());
+            assertEquals(read.get(i).getPayload().getType(), skipped.get(i).getPayload().getType());
+            assertEquals(read.get(i).getMetaData().getData().getClass(),
+                         skipped.get(i).getMetaData().getData().getClass());
+        }
+
+        List<? extends TrackedEventMessage<?>> actual =
+                testSubject.readEvents(null, false, singleton(String.class)).collect(toList());
+        assertEquals(3, actual.size());
+        assertEquals(String.class, actual.get(2).getPayloadType());
+        assertEquals(read.get(2).trackingToken(), actual.get(2).trackingToken());
+    }
+
+    @Test
+    void testSkippedPayloadTypesAreReadForEveryBatch() {
+        testSubject = createEngine(engineBuilder -> engineBuilder.batchSize(2));
+        testSubject.appendEvents(createEvents(4));
+        Set<String> skippedPayloadTypes = new CopyOnWriteArraySet<>();
+
+        List<? extends TrackedEventData<?>> firstBatch =
+                testSubject.fetchTrackedEvents((TrackingToken) null, 2, skippedPayloadTypes);
+        skippedPayloadTypes.add(firstBatch.get(0).getPayload().getType().getName());
+        List<? extends TrackedEventData<?>> secondBatch =
+                testSubject.fetchTrackedEvents(firstBatch.get(1).trackingToken(), 2, skippedPayloadTypes);
+
+        assertNotEquals(0, ((byte[]) firstBatch.get(0).getPayload().getData()).length);
+        assertEquals(2, secondBatch.size());
+        assertEquals(0, ((byte[]) secondBatch.get(0).getPayload().getData()).length);
+    }
+
+    @Test
+    void testCustomizedSkippingPayloadsStatementIsUsed() {
+        List<Set<String>> requestedSkippedPayloadTypes = new CopyOnWriteArrayList<>();
+        testSubject = createEngine(engineBuilder -> engineBuilder.readEventDataWithoutGapsSkippingPayloads(
+                (connection, schema, globalIndex, batchSize, skippedPayloadTypes) -> {
+                    requestedSkippedPayloadTypes.add(skippedPayloadTypes);
+                    return JdbcEventStorageEngineStatements.readEventDataWithoutGaps(
+                            connection, schema, globalIndex, batchSize, skippedPayloadTypes
+                    );
+                }
+        ));
+        testSubject.appendEvents(createEvents(3));
+        Set<String> skippedPayloadTypes = singleton(serializedPayloadType());
+
+        List<? extends TrackedEventData<?>> skipped =
+                testSubject.fetchTrackedEvents((TrackingToken) null, 10, skippedPayloadTypes);
+
+        assertEquals(singletonList(skippedPayloadTypes), requestedSkippedPayloadTypes);
+        assertEquals(3, skipped.size());
+        assertEquals(0, ((byte[]) skipped.get(0).getPayload().getData()).length);
+    }
+
+    @Test
+    void testPayloadsAreReadWhenOnlyTheReadEventDataStatementIsCustomized() {
+        List<Long> requestedIndices = new CopyOnWriteArrayList<>();
+        testSubject = createEngine(engineBuilder -> engineBuilder.readEventDataWithoutGaps(
+                (connection, schema, globalIndex, batchSize) -> {
+                    requestedIndices.add(globalIndex);
+                    return JdbcEventStorageEngineStatements.readEventDataWithoutGaps(
+                            connection, schema, globalIndex, batchSize
+                    );
+                }
+        ));
+        testSubject.appendEvents(createEvents(3));
+
+        Set<String> skippedPayloadTypes = singleton(serializedPayloadType());
+        requestedIndices.clear();
+
+        List<? extends TrackedEventData<?>> read =
+                testSubject.fetchTrackedEvents((TrackingToken) null, 10, skippedPayloadTypes);
+
+        assertEquals(singletonList(-1L), requestedIndices);
+        assertEquals(3, read.size());
+        assertNotEquals(0, ((byte[]) read.get(0).getPayload().getData()).length);
+    }
+
+    @Test
+    void testPayloadsAreReadWhenTheReadEventDataMethodIsOverridden() {
+        List<Long> requestedIndices = new CopyOnWriteArrayList<>();
+        JdbcEventStorageEngine.Builder engineBuilder =
+                JdbcEventStorageEngine.builder()
+                                      .persistenceExceptionResolver(defaultPersistenceExceptionResolver)
+                                      .connectionProvider(dataSource::getConnection)
+                                      .transactionManager(NoTransactionManager.INSTANCE);
+        testSubject = new JdbcEventStorageEngine(engineBuilder) {
+            @Override
+            protected PreparedStatement readEventDataWithoutGaps(Connection connection,
+                                                                 long globalIndex,
+                                                                 int batchSize) throws SQLException {
+                requestedIndices.add(globalIndex);
+                return super.readEventDataWithoutGaps(connection, globalIndex, batchSize);
+            }
+        };
+        testSubject.appendEvents(createEvents(3));
+
+        Set<String> skippedPayloadTypes = singleton(serializedPayloadType());
+        requestedIndices.clear();
+
+        List<? extends TrackedEventData<?>> read =
+                testSubject.fetchTrackedEvents((TrackingToken) null, 10, skippedPayloadTypes);
+
+        assertEquals(singletonList(-1L), requestedIndices);
+        assertEquals(3, read.size());
+        assertNotEquals(0, ((byte[]) read.get(0).getPayload().getData()).length);
+    }
+
+    private String serializedPayloadType() {
+        return testSubject.fetchTrackedEvents((TrackingToken) null, 1).get(0).getPayload().getType().getName();
+    }
+
+    private static void assertPayloadsNotSelected(int expectedRows,
+                                                  PreparedStatement statement,
+                                                  EventSchema schema) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+                assertNotNull(resultSet.getString(schema.payloadTypeColumn()));
+                assertNull(resultSet.getBytes(schema.payloadColumn()));
+            }
+        }
+        assertEquals(expectedRows, rows);
+    }
+
     @Test
     void testReadEventsForAggregateReturnsTheCompleteStream() {
         int testBatchSize = 10;
@@ -382,6 +615,14 @@ void testReadEventsForAggregateWithEventsExceedingOneBatchAndGapsReturnsTheCompl
         assertEquals(7, result.get(6).getSequenceNumber());
     }
 
+    private int countSnapshots() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             ResultSet resultSet = conn.prepareStatement("SELECT COUNT(*) FROM SnapshotEventEntry").executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
     @Override
     protected JdbcEventStorageEngine createEngine(UnaryOperator<JdbcEventStorageEngine.Builder> customization) {
         return createEngine(customization, HsqlEventTableFactory.INSTANCE);
@@ -32,10 +32,12 @@
 import org.axonframework.eventhandling.TrackingEventStream;
 import org.axonframework.eventsourcing.eventstore.BatchingEventStorageEngineTest;
 import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
+import org.axonframework.modelling.command.ConcurrencyException;
 import org.axonframework.serialization.Serializer;
 import org.axonframework.serialization.UnknownSerializedType;
 import org.axonframework.serialization.upcasting.event.NoOpEventUpcaster;
 import org.axonframework.serialization.xml.XStreamSerializer;
+import org.hibernate.Session;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -106,6 +108,36 @@ void testStoreAndLoadEventsFromDatastore() {
         assertEquals(2, testSubject.readEvents(AGGREGATE).asStream().count());
     }
 
+    @Test
+    void testAppendedEntriesAreNotKeptInThePersistenceContext() {
+        testSubject.appendEvents(createEvents(3));
+
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        assertEquals(3, testSubject.readEvents(AGGREGATE).asStream().count());
+    }
+
+    @Test
+    void testBatchInsertStoresEventsWithoutPersistenceContext() {
+        // without an explicit flush, persisted entries would remain in the persistence context
+        testSubject = createEngine(engineBuilder -> engineBuilder.batchInsert(true).explicitFlush(false));
+
+        testSubject.appendEvents(createEvents(3));
+
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        assertEquals(3, testSubject.readEvents(AGGREGATE).asStream().count());
+        List<? extends TrackedEventData<?>> trackedEvents = testSubject.fetchTrackedEvents(null, 100);
+        assertEquals(3, trackedEvents.size());
+        assertEquals(3, trackedEvents.stream().map(TrackedEventData::trackingToken).distinct().count());
+    }
+
+    @DirtiesContext
+    @Test
+    void testBatchInsertOfDuplicateEventThrowsConcurrencyException() {
+        testSubject = createEngine(engineBuilder -> engineBuilder.batchInsert(true));
+
+        assertThrows(ConcurrencyException.class, () -> testSubject.appendEvents(createEvent(1), createEvent(1)));
+    }
+
     @Test
     void testLoadLastSequenceNumber() {
         testSubject.appendEvents(createEvents(2));
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing.snapshotting;
+
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.axonframework.serialization.xml.XStreamSerializer;
+import org.junit.jupiter.api.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link SnapshotDelta}.
+ */
+class SnapshotDeltaTest {
+
+    private static final String PAYLOAD_TYPE = "aggregateType";
+    private static final String PAYLOAD_REVISION = "1";
+
+    @Test
+    void testDeltaReconstructsTargetWithLocalChanges() {
+        byte[] base = new byte[64 * 1024];
+        new Random(42).nextBytes(base);
+        byte[] target = new byte[base.length + 100];
+        System.arraycopy(base, 0, target, 0, 1000);
+        System.arraycopy("inserted".getBytes(StandardCharsets.UTF_8), 0, target, 1000, 8);
+        System.arraycopy(base, 1000, target, 1008, base.length - 1000);
+        target[40_000] ^= 0x7F;
+
+        SnapshotDelta testSubject = SnapshotDelta.between(5, base, serialized(target));
+        SerializedObject<byte[]> result = testSubject.applyTo(base);
+
+        assertArrayEquals(target, result.getData());
+        assertEquals(PAYLOAD_TYPE, result.getType().getName());
+        assertEquals(PAYLOAD_REVISION, result.getType().getRevision());
+        assertEquals(5, testSubject.getBaseSequenceNumber());
+        assertTrue(testSubject.getInstructions().length < 200);
+    }
+
+    @Test
+    void testDeltaReconstructsTargetWithoutCommonBlocks() {
+        byte[] base = "short base".getBytes(StandardCharsets.UTF_8);
+        byte[] target = "an entirely different target, longer than a single block".getBytes(StandardCharsets.UTF_8);
+
+        SnapshotDelta testSubject = SnapshotDelta.between(0, base, serialized(target));
+
+        assertArrayEquals(target, testSubject.applyTo(base).getData());
+        assertArrayEquals(new byte[0], SnapshotDelta.between(0, base, serialized(new byte[0])).applyTo(base).getData());
+    }
+
+    @Test
+    void testDeltaSurvivesSerialization() {
+        byte[] base = String.join(",", Collections.nCopies(100, "state")).getBytes(StandardCharsets.UTF_8);
+        byte[] target = ("changed" + new String(base, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+        SnapshotDelta delta = SnapshotDelta.between(3, base, serialized(target));
+        XStreamSerializer serializer = XStreamSerializer.defaultSerializer();
+
+        SnapshotDelta result = serializer.deserialize(serializer.serialize(delta, byte[].class));
+
+        assertEquals(delta, result);
+        assertArrayEquals(target, result.applyTo(base).getData());
+    }
+
+    private static SerializedObject<byte[]> serialized(byte[] data) {
+        return new SimpleSerializedObject<>(data, byte[].class, PAYLOAD_TYPE, PAYLOAD_REVISION);
+    }
+}
@@ -23,14 +23,20 @@
 import org.axonframework.eventhandling.EventMessageHandler;
 import org.axonframework.eventhandling.SimpleEventHandlerInvoker;
 import org.axonframework.eventhandling.SubscribingEventProcessor;
+import org.axonframework.eventhandling.async.AsynchronousEventProcessingStrategy;
+import org.axonframework.eventhandling.async.PartitionedSequenceExecutor;
+import org.axonframework.eventhandling.async.SequentialPolicy;
 import org.axonframework.integrationtests.utils.EventTestUtils;
 import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
 import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
 import org.junit.jupiter.api.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -86,12 +92,39 @@ void testStartTransactionManager() throws Exception {
         assertTrue(transactionManager.started, "Expected Transaction to be started");
     }
 
+    @Test
+    void testEventsPublishedSeparatelyAreProcessedInOneBatchByPartitionedSequenceExecutor() {
+        List<Runnable> pendingTasks = new ArrayList<>();
+        testSubject = SubscribingEventProcessor.builder()
+                                               .name("test")
+                                               .eventHandlerInvoker(eventHandlerInvoker)
+                                               .messageSource(eventBus)
+                                               .transactionManager(transactionManager)
+                                               .processingStrategy(new AsynchronousEventProcessingStrategy(
+                                                       Runnable::run,
+                                                       new PartitionedSequenceExecutor(pendingTasks::add, 1, 10),
+                                                       new SequentialPolicy()
+                                               ))
+                                               .build();
+        testSubject.start();
+
+        eventBus.publish(EventTestUtils.createEvents(1));
+        eventBus.publish(EventTestUtils.createEvents(1));
+        eventBus.publish(EventTestUtils.createEvents(1));
+        assertEquals(1, pendingTasks.size());
+        pendingTasks.remove(0).run();
+
+        assertEquals(1, transactionManager.transactionCount);
+    }
+
     static class TestingTransactionManager implements TransactionManager {
         private boolean started;
+        private int transactionCount;
 
         @Override
         public Transaction startTransaction() {
             started  = true;
+            transactionCount++;
             return NoTransactionManager.INSTANCE.startTransaction();
         }
     }
@@ -45,6 +45,7 @@
 import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
 import org.axonframework.integrationtests.utils.MockException;
 import org.axonframework.messaging.StreamableMessageSource;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.serialization.SerializationException;
 import org.hamcrest.CoreMatchers;
@@ -279,6 +280,64 @@ void testPublishedEventsGetPassedToHandler() throws Exception {
         assertTrue(countDownLatch.await(5, TimeUnit.SECONDS), "Expected Handler to have received 2 published events");
     }
 
+    @Test
+    void testPrefetchedEventsAreHandledInOrder() throws Exception {
+        initProcessor(TrackingEventProcessorConfiguration.forSingleThreadedProcessing()
+                                                         .andBatchSize(5)
+                                                         .andPrefetchBufferSize(8)
+                                                         .andEventAvailabilityTimeout(100, TimeUnit.MILLISECONDS));
+        List<String> handledIdentifiers = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            handledIdentifiers.add(invocation.getArgument(0, EventMessage.class).getIdentifier());
+            return null;
+        }).when(mockHandler).handle(any());
+        List<? extends EventMessage<?>> events = createEvents(20);
+        eventBus.publish(events);
+
+        testSubject.start();
+
+        List<String> expectedIdentifiers = events.stream().map(EventMessage::getIdentifier).collect(toList());
+        assertWithin(2, TimeUnit.SECONDS, () -> assertEquals(expectedIdentifiers, handledIdentifiers));
+        assertWithin(1, TimeUnit.SECONDS,
+                     () -> assertEquals(Collections.singletonMap(0, 0L), testSubject.segmentLag()));
+    }
+
+    @Test
+    void testAdaptiveBatchSizeGrowsWhileBehindAndShrinksOnceCaughtUp() throws Exception {
+        initProcessor(TrackingEventProcessorConfiguration.forSingleThreadedProcessing()
+                                                         .andAdaptiveBatchSize(1, 64)
+                                                         .andEventAvailabilityTimeout(100, TimeUnit.MILLISECONDS));
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            batchSizes.add(((BatchingUnitOfWork<?>) CurrentUnitOfWork.get()).getMessages().size());
+            return null;
+        }).when(mockHandler).handle(any());
+        eventBus.publish(createEvents(1000));
+
+        testSubject.start();
+
+        assertWithin(5, TimeUnit.SECONDS, () -> assertEquals(1000, batchSizes.size()));
+        assertTrue(batchSizes.stream().anyMatch(batchSize -> batchSize > 1));
+
+        eventBus.publish(createEvents(1));
+
+        assertWithin(1, TimeUnit.SECONDS, () -> assertEquals(1001, batchSizes.size()));
+        assertEquals(1, batchSizes.get(1000));
+        assertWithin(1, TimeUnit.SECONDS,
+                     () -> assertEquals(Collections.singletonMap(0, 1), testSubject.segmentBatchSize()));
+    }
+
+    @Test
+    void testSegmentLagIsZeroOnceAllEventsAreProcessed() {
+        eventBus.publish(createEvents(4));
+        assertTrue(testSubject.segmentLag().isEmpty());
+
+        testSubject.start();
+
+        assertWithin(2, TimeUnit.SECONDS, () -> assertEquals(Collections.singletonMap(0, 0L),
+                                                             testSubject.segmentLag()));
+    }
+
     @Test
     void testBlacklist() throws Exception {
         when(mockHandler.canHandle(any())).thenReturn(false);
@@ -25,6 +25,7 @@
 import org.axonframework.messaging.unitofwork.RollbackConfigurationType;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.monitoring.NoOpMessageMonitor;
+import org.axonframework.tracing.SpanFactory;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -155,6 +156,12 @@ public Builder duplicateCommandHandlerResolver(
             return this;
         }
 
+        @Override
+        public Builder spanFactory(SpanFactory spanFactory) {
+            super.spanFactory(spanFactory);
+            return this;
+        }
+
         /**
          * Sets the {@link Executor} which processes the Command dispatching threads.
          *
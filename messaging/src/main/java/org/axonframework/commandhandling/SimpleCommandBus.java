@@ -29,6 +29,9 @@
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.monitoring.NoOpMessageMonitor;
+import org.axonframework.tracing.NoOpSpanFactory;
+import org.axonframework.tracing.Span;
+import org.axonframework.tracing.SpanFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +58,8 @@
 public class SimpleCommandBus implements CommandBus {
 
     private static final Logger logger = LoggerFactory.getLogger(SimpleCommandBus.class);
+    private static final String DISPATCH_SPAN_NAME = "SimpleCommandBus.dispatch";
+    private static final String HANDLE_SPAN_NAME = "SimpleCommandBus.handle";
 
     private final TransactionManager transactionManager;
     private final MessageMonitor<? super CommandMessage<?>> messageMonitor;
@@ -66,6 +71,7 @@ public class SimpleCommandBus implements CommandBus {
     private final List<MessageDispatchInterceptor<? super CommandMessage<?>>> dispatchInterceptors =
             new CopyOnWriteArrayList<>();
     private final CommandCallback<Object, Object> defaultCommandCallback;
+    private final SpanFactory spanFactory;
     private RollbackConfiguration rollbackConfiguration;
 
     /**
@@ -73,10 +79,11 @@ public class SimpleCommandBus implements CommandBus {
      * <p>
      * The {@link TransactionManager} is defaulted to a {@link NoTransactionManager}, the {@link MessageMonitor} is
      * defaulted to a {@link NoOpMessageMonitor}, the {@link RollbackConfiguration} defaults to a
-     * {@link RollbackConfigurationType#UNCHECKED_EXCEPTIONS} and the {@link DuplicateCommandHandlerResolver} defaults
-     * to {@link DuplicateCommandHandlerResolution#logAndOverride()}.
-     * The {@link TransactionManager}, {@link MessageMonitor} and {@link RollbackConfiguration} are <b>hard
-     * requirements</b>. Thus setting them to {@code null} will result in an {@link AxonConfigurationException}.
+     * {@link RollbackConfigurationType#UNCHECKED_EXCEPTIONS}, the {@link DuplicateCommandHandlerResolver} defaults
+     * to {@link DuplicateCommandHandlerResolution#logAndOverride()} and the {@link SpanFactory} defaults to a {@link
+     * NoOpSpanFactory}.
+     * The {@link TransactionManager}, {@link MessageMonitor}, {@link RollbackConfiguration} and {@link SpanFactory}
+     * are <b>hard requirements</b>. Thus setting them to {@code null} will result in an {@link AxonConfigurationException}.
      *
      * @return a Builder to be able to create a {@link SimpleCommandBus}
      */
@@ -87,8 +94,8 @@ public static Builder builder() {
     /**
      * Instantiate a {@link SimpleCommandBus} based on the fields contained in the {@link Builder}.
      * <p>
-     * Will assert that the {@link TransactionManager}, {@link MessageMonitor} and {@link RollbackConfiguration} are not
-     * {@code null}, and will throw an {@link AxonConfigurationException} if any of them is {@code null}.
+     * Will assert that the {@link TransactionManager}, {@link MessageMonitor}, {@link RollbackConfiguration} and {@link
+     * SpanFactory} are not {@code null}, and will throw an {@link AxonConfigurationException} if any of them is {@code null}.
      *
      * @param builder the {@link Builder} used to instantiate a {@link SimpleCommandBus} instance
      */
@@ -99,6 +106,7 @@ protected SimpleCommandBus(Builder builder) {
         this.rollbackConfiguration = builder.rollbackConfiguration;
         this.duplicateCommandHandlerResolver = builder.duplicateCommandHandlerResolver;
         this.defaultCommandCallback = builder.defaultCommandCallback;
+        this.spanFactory = builder.spanFactory;
     }
 
     @Override
@@ -137,15 +145,20 @@ protected <C> CommandMessage<C> intercept(CommandMessage<C> command) {
      */
     protected <C, R> void doDispatch(CommandMessage<C> command, CommandCallback<? super C, ? super R> callback) {
         MessageMonitor.MonitorCallback monitorCallback = messageMonitor.onMessageIngested(command);
-
-        Optional<MessageHandler<? super CommandMessage<?>>> optionalHandler = findCommandHandlerFor(command);
-        if (optionalHandler.isPresent()) {
-            handle(command, optionalHandler.get(), new MonitorAwareCallback<>(callback, monitorCallback));
-        } else {
-            NoHandlerForCommandException exception = new NoHandlerForCommandException(
-                    format("No handler was subscribed to command [%s]", command.getCommandName()));
-            monitorCallback.reportFailure(exception);
-            callback.onResult(command, asCommandResultMessage(exception));
+        Span span = spanFactory.createSpan(DISPATCH_SPAN_NAME, command).start();
+        try {
+            Optional<MessageHandler<? super CommandMessage<?>>> optionalHandler = findCommandHandlerFor(command);
+            if (optionalHandler.isPresent()) {
+                handle(command, optionalHandler.get(), new MonitorAwareCallback<>(callback, monitorCallback));
+            } else {
+                NoHandlerForCommandException exception = new NoHandlerForCommandException(
+                        format("No handler was subscribed to command [%s]", command.getCommandName()));
+                span.recordException(exception);
+                monitorCallback.reportFailure(exception);
+                callback.onResult(command, asCommandResultMessage(exception));
+            }
+        } finally {
+            span.end();
         }
     }
 
@@ -169,13 +182,23 @@ protected <C, R> void handle(CommandMessage<C> command,
             logger.debug("Handling command [{}]", command.getCommandName());
         }
 
-        UnitOfWork<CommandMessage<?>> unitOfWork = DefaultUnitOfWork.startAndGet(command);
-        unitOfWork.attachTransaction(transactionManager);
-        InterceptorChain chain = new DefaultInterceptorChain<>(unitOfWork, handlerInterceptors, handler);
+        Span span = spanFactory.createSpan(HANDLE_SPAN_NAME, command).start();
+        try {
+            DefaultUnitOfWork<CommandMessage<?>> unitOfWork = new DefaultUnitOfWork<>(command);
+            unitOfWork.setSpanFactory(spanFactory);
+            unitOfWork.start();
+            unitOfWork.attachTransaction(transactionManager);
+            InterceptorChain chain = new DefaultInterceptorChain<>(unitOfWork, handlerInterceptors, handler);
 
-        CommandResultMessage<R> resultMessage =
-                asCommandResultMessage(unitOfWork.executeWithResult(chain::proceed, rollbackConfiguration));
-        callback.onResult(command, resultMessage);
+            CommandResultMessage<R> resultMessage =
+                    asCommandResultMessage(unitOfWork.executeWithResult(chain::proceed, rollbackConfiguration));
+            if (resultMessage.isExceptional()) {
+                span.recordException(resultMessage.exceptionResult());
+            }
+            callback.onResult(command, resultMessage);
+        } finally {
+            span.end();
+        }
     }
 
     /**
@@ -242,10 +265,11 @@ public void setRollbackConfiguration(RollbackConfiguration rollbackConfiguration
      * <p>
      * The {@link TransactionManager} is defaulted to a {@link NoTransactionManager}, the {@link MessageMonitor} is
      * defaulted to a {@link NoOpMessageMonitor}, the {@link RollbackConfiguration} defaults to a
-     * {@link RollbackConfigurationType#UNCHECKED_EXCEPTIONS} and the {@link DuplicateCommandHandlerResolver} defaults
-     * to {@link DuplicateCommandHandlerResolution#logAndOverride()}.
-     * The {@link TransactionManager}, {@link MessageMonitor} and {@link RollbackConfiguration} are <b>hard
-     * requirements</b>. Thus setting them to {@code null} will result in an {@link AxonConfigurationException}.
+     * {@link RollbackConfigurationType#UNCHECKED_EXCEPTIONS}, the {@link DuplicateCommandHandlerResolver} defaults
+     * to {@link DuplicateCommandHandlerResolution#logAndOverride()} and the {@link SpanFactory} defaults to a {@link
+     * NoOpSpanFactory}.
+     * The {@link TransactionManager}, {@link MessageMonitor}, {@link RollbackConfiguration} and {@link SpanFactory}
+     * are <b>hard requirements</b>. Thus setting them to {@code null} will result in an {@link AxonConfigurationException}.
      */
     public static class Builder {
 
@@ -255,6 +279,7 @@ public static class Builder {
         private DuplicateCommandHandlerResolver duplicateCommandHandlerResolver =
                 DuplicateCommandHandlerResolution.logAndOverride();
         private CommandCallback<Object, Object> defaultCommandCallback = LoggingCallback.INSTANCE;
+        private SpanFactory spanFactory = NoOpSpanFactory.INSTANCE;
 
         /**
          * Sets the {@link TransactionManager} used to manage transactions. Defaults to a {@link NoTransactionManager}.
@@ -324,6 +349,19 @@ public Builder defaultCommandCallback(CommandCallback<Object, Object> defaultCom
             return this;
         }
 
+        /**
+         * Sets the {@link SpanFactory} used to trace the dispatching and handling of commands, including the phases of
+         * the {@link UnitOfWork} in which commands are handled. Defaults to a {@link NoOpSpanFactory}.
+         *
+         * @param spanFactory the {@link SpanFactory} used to trace the dispatching and handling of commands
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder spanFactory(SpanFactory spanFactory) {
+            assertNonNull(spanFactory, "SpanFactory may not be null");
+            this.spanFactory = spanFactory;
+            return this;
+        }
+
         /**
          * Initializes a {@link SimpleCommandBus} as specified through this Builder.
          *
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.commandhandling.gateway;
+
+import org.axonframework.commandhandling.CommandBus;
+import org.axonframework.commandhandling.CommandCallback;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.Registration;
+import org.axonframework.messaging.ReactorMessageDispatchInterceptor;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.Arrays.asList;
+import static org.axonframework.commandhandling.GenericCommandMessage.asCommandMessage;
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+
+/**
+ * Implementation of the {@link ReactorCommandGateway}, dispatching commands on a {@link CommandBus} once the result of
+ * a {@link #send(Object)} invocation is subscribed to.
+ * <p>
+ * The result of a command is propagated through the {@link CommandCallback} mechanism of the {@code CommandBus}, so
+ * no thread is blocked while waiting for a command to be handled.
+ *
+ * @since 4.6.0
+ */
+public class DefaultReactorCommandGateway implements ReactorCommandGateway {
+
+    private final CommandBus commandBus;
+    private final RetryScheduler retryScheduler;
+    private final List<ReactorMessageDispatchInterceptor<CommandMessage<?>>> dispatchInterceptors;
+
+    /**
+     * Instantiate a {@link DefaultReactorCommandGateway} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the {@link CommandBus} is not {@code null} and throws an {@link AxonConfigurationException} if
+     * it is.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link DefaultReactorCommandGateway} instance
+     */
+    protected DefaultReactorCommandGateway(Builder builder) {
+        builder.validate();
+        this.commandBus = builder.commandBus;
+        this.retryScheduler = builder.retryScheduler;
+        this.dispatchInterceptors = builder.dispatchInterceptors;
+    }
+
+    /**
+     * Instantiate a Builder to be able to create a {@link DefaultReactorCommandGateway}.
+     * <p>
+     * The {@code dispatchInterceptors} are defaulted to an empty list and no {@link RetryScheduler} is configured by
+     * default. The {@link CommandBus} is a <b>hard requirement</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link DefaultReactorCommandGateway}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public <R> Mono<R> send(Object command) {
+        return Mono.<CommandMessage<?>>fromSupplier(() -> asCommandMessage(command))
+                   .transform(this::processInterceptors)
+                   .flatMap(this::dispatch);
+    }
+
+    private Mono<CommandMessage<?>> processInterceptors(Mono<CommandMessage<?>> commandMessage) {
+        Mono<CommandMessage<?>> message = commandMessage;
+        for (ReactorMessageDispatchInterceptor<CommandMessage<?>> interceptor : dispatchInterceptors) {
+            message = interceptor.intercept(message);
+        }
+        return message;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> Mono<R> dispatch(CommandMessage<?> commandMessage) {
+        return Mono.create(sink -> {
+            CommandCallback<Object, R> callback = (command, result) -> {
+                if (result.isExceptional()) {
+                    sink.error(result.exceptionResult());
+                } else {
+                    sink.success(result.getPayload());
+                }
+            };
+            CommandCallback<Object, R> commandCallback = retryScheduler == null
+                    ? callback
+                    : new RetryingCallback<>(callback, retryScheduler, commandBus);
+            commandBus.dispatch((CommandMessage<Object>) commandMessage, commandCallback);
+        });
+    }
+
+    @Override
+    public Registration registerDispatchInterceptor(
+            ReactorMessageDispatchInterceptor<CommandMessage<?>> interceptor) {
+        dispatchInterceptors.add(interceptor);
+        return () -> dispatchInterceptors.remove(interceptor);
+    }
+
+    /**
+     * Builder class to instantiate a {@link DefaultReactorCommandGateway}.
+     * <p>
+     * The {@code dispatchInterceptors} are defaulted to an empty list and no {@link RetryScheduler} is configured by
+     * default. The {@link CommandBus} is a <b>hard requirement</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private CommandBus commandBus;
+        private RetryScheduler retryScheduler;
+        private List<ReactorMessageDispatchInterceptor<CommandMessage<?>>> dispatchInterceptors =
+                new CopyOnWriteArrayList<>();
+
+        /**
+         * Sets the {@link CommandBus} used to dispatch commands.
+         *
+         * @param commandBus a {@link CommandBus} used to dispatch commands
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder commandBus(CommandBus commandBus) {
+            assertNonNull(commandBus, "CommandBus may not be null");
+            this.commandBus = commandBus;
+            return this;
+        }
+
+        /**
+         * Sets the {@link RetryScheduler} capable of performing retries of failed commands. May be {@code null} to
+         * prevent retries.
+         *
+         * @param retryScheduler a {@link RetryScheduler} capable of performing retries of failed commands
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder retryScheduler(RetryScheduler retryScheduler) {
+            this.retryScheduler = retryScheduler;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ReactorMessageDispatchInterceptor}s for {@link CommandMessage}s, invoked upon subscription to
+         * the result of sending a command.
+         *
+         * @param dispatchInterceptors which are invoked when a command is being dispatched
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder dispatchInterceptors(
+                ReactorMessageDispatchInterceptor<CommandMessage<?>>... dispatchInterceptors) {
+            return dispatchInterceptors(asList(dispatchInterceptors));
+        }
+
+        /**
+         * Sets the {@link List} of {@link ReactorMessageDispatchInterceptor}s for {@link CommandMessage}s, invoked
+         * upon subscription to the result of sending a command.
+         *
+         * @param dispatchInterceptors which are invoked when a command is being dispatched
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder dispatchInterceptors(
+                List<ReactorMessageDispatchInterceptor<CommandMessage<?>>> dispatchInterceptors) {
+            this.dispatchInterceptors = dispatchInterceptors != null && !dispatchInterceptors.isEmpty()
+                    ? new CopyOnWriteArrayList<>(dispatchInterceptors)
+                    : new CopyOnWriteArrayList<>();
+            return this;
+        }
+
+        /**
+         * Initializes a {@link DefaultReactorCommandGateway} as specified through this Builder.
+         *
+         * @return a {@link DefaultReactorCommandGateway} as specified through this Builder
+         */
+        public DefaultReactorCommandGateway build() {
+            return new DefaultReactorCommandGateway(this);
+        }
+
+        /**
+         * Validate whether the fields contained in this Builder as set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() {
+            assertNonNull(commandBus, "The CommandBus is a hard requirement and should be provided");
+        }
+    }
+}
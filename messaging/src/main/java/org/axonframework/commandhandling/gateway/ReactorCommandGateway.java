@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.commandhandling.gateway;
+
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.common.Registration;
+import org.axonframework.messaging.ReactorMessageDispatchInterceptor;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Variant of the {@link CommandGateway} using Project Reactor types to dispatch commands in a non-blocking fashion.
+ * <p>
+ * All operations are lazy: commands are neither intercepted nor dispatched until the returned {@link Mono} or {@link
+ * Flux} is subscribed to. Every subscription dispatches the command again.
+ *
+ * @since 4.6.0
+ */
+public interface ReactorCommandGateway {
+
+    /**
+     * Sends the given {@code command} once the returned {@link Mono} is subscribed to. The {@code Mono} completes with
+     * the result of the command handler, or completes empty if the handler returned {@code null}. If the command
+     * failed, the {@code Mono} completes with the exception that caused the failure.
+     * <p>
+     * The given {@code command} is wrapped as the payload of a {@link CommandMessage}, unless it already implements
+     * {@link org.axonframework.messaging.Message}.
+     *
+     * @param command the command to dispatch
+     * @param <R>     the type of result expected from the command handler
+     * @return a {@link Mono} dispatching the command when subscribed to, completing with the command's result
+     */
+    <R> Mono<R> send(Object command);
+
+    /**
+     * Sends all {@code commands} published by the given {@link Publisher}, one at a time. The results of the commands
+     * are emitted in the order in which the commands were published. The returned {@link Flux} terminates with an
+     * error on the first failing command, after which no further commands are sent.
+     *
+     * @param commands a {@link Publisher} of the commands to dispatch
+     * @return a {@link Flux} of the results of the commands, in the order of the given {@code commands}
+     */
+    default Flux<Object> sendAll(Publisher<?> commands) {
+        return sendAll(commands, 1);
+    }
+
+    /**
+     * Sends all {@code commands} published by the given {@link Publisher}, with at most {@code concurrency} commands
+     * being in flight at any given time. The results of the commands are emitted in the order in which the commands
+     * were published, regardless of the order in which they complete. The returned {@link Flux} terminates with an
+     * error on the first failing command, after which no further commands are sent.
+     * <p>
+     * As commands are only requested from the given {@code commands} when a command slot is available, a slow command
+     * bus applies back pressure to the publisher of the commands.
+     *
+     * @param commands    a {@link Publisher} of the commands to dispatch
+     * @param concurrency the maximum number of commands dispatched but not yet completed at any given time
+     * @return a {@link Flux} of the results of the commands, in the order of the given {@code commands}
+     */
+    default Flux<Object> sendAll(Publisher<?> commands, int concurrency) {
+        return Flux.from(commands).flatMapSequential(this::send, concurrency);
+    }
+
+    /**
+     * Registers the given {@link ReactorMessageDispatchInterceptor}, which is invoked for every command sent through
+     * this gateway upon subscription.
+     *
+     * @param interceptor the {@link ReactorMessageDispatchInterceptor} to register
+     * @return a {@link Registration} which can be used to cancel the registration of the given {@code interceptor}
+     */
+    Registration registerDispatchInterceptor(ReactorMessageDispatchInterceptor<CommandMessage<?>> interceptor);
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ScheduledExecutorService} which runs every task on a new thread, created by the given {@link ThreadFactory}.
+ * Threads are never reused, making this executor suitable for virtual threads, which should not be pooled.
+ * <p>
+ * Delayed and periodic tasks are timed by a single scheduler thread, which hands the task over to a new thread once it
+ * is due. Periodic tasks are rescheduled once their previous execution finished, so executions of the same task never
+ * overlap. Delayed and periodic tasks which are not yet due when the executor is shut down are cancelled.
+ *
+ * @since 4.6.0
+ */
+final class ThreadPerTaskScheduledExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final ThreadFactory threadFactory;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Set<Thread> runningThreads = ConcurrentHashMap.newKeySet();
+    private final Set<DelayedTask<?>> pendingTasks = ConcurrentHashMap.newKeySet();
+    private volatile boolean shutdown;
+
+    /**
+     * Construct an executor creating a new thread through the given {@code threadFactory} for every task, using a
+     * single thread of the given {@code schedulerThreadFactory} to time delayed and periodic tasks.
+     *
+     * @param threadFactory          the {@link ThreadFactory} creating the threads running the tasks
+     * @param schedulerThreadFactory the {@link ThreadFactory} creating the thread timing delayed and periodic tasks
+     */
+    ThreadPerTaskScheduledExecutor(ThreadFactory threadFactory, ThreadFactory schedulerThreadFactory) {
+        this.threadFactory = threadFactory;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, schedulerThreadFactory);
+        this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        Thread[] thread = new Thread[1];
+        thread[0] = threadFactory.newThread(() -> {
+            try {
+                command.run();
+            } finally {
+                runningThreads.remove(thread[0]);
+                synchronized (runningThreads) {
+                    runningThreads.notifyAll();
+                }
+            }
+        });
+        runningThreads.add(thread[0]);
+        thread[0].start();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return schedule(Executors.callable(command), delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        DelayedTask<V> task = new DelayedTask<>(callable);
+        task.scheduleIn(unit.toNanos(delay));
+        return task;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        Assert.isTrue(period > 0, () -> "The period should be strictly positive");
+        PeriodicTask task = new PeriodicTask(command, unit.toNanos(period), true);
+        task.scheduleIn(unit.toNanos(initialDelay));
+        return task;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        Assert.isTrue(delay > 0, () -> "The delay should be strictly positive");
+        PeriodicTask task = new PeriodicTask(command, unit.toNanos(delay), false);
+        task.scheduleIn(unit.toNanos(initialDelay));
+        return task;
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        scheduler.shutdown();
+        pendingTasks.forEach(task -> task.cancel(false));
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        List<Runnable> pendingTasks = scheduler.shutdownNow();
+        runningThreads.forEach(Thread::interrupt);
+        return pendingTasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && scheduler.isTerminated() && runningThreads.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (!scheduler.awaitTermination(timeout, unit)) {
+            return false;
+        }
+        synchronized (runningThreads) {
+            long remaining;
+            while (!runningThreads.isEmpty() && (remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(runningThreads, remaining);
+            }
+        }
+        return isTerminated();
+    }
+
+    private void dispatch(DelayedTask<?> task) {
+        pendingTasks.remove(task);
+        try {
+            execute(task);
+        } catch (RejectedExecutionException e) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * A task executed once, after a delay.
+     */
+    private class DelayedTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+        private volatile ScheduledFuture<?> scheduled;
+
+        private DelayedTask(Callable<V> callable) {
+            super(callable);
+        }
+
+        private DelayedTask(Runnable runnable, V result) {
+            super(runnable, result);
+        }
+
+        void scheduleIn(long delayNanos) {
+            pendingTasks.add(this);
+            scheduled = scheduler.schedule(() -> dispatch(this), delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return scheduled.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            pendingTasks.remove(this);
+            scheduled.cancel(false);
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    /**
+     * A task executed repeatedly, rescheduled once its previous execution finished.
+     */
+    private class PeriodicTask extends DelayedTask<Void> {
+
+        private final long periodNanos;
+        private final boolean fixedRate;
+        private long nextRunNanos;
+
+        private PeriodicTask(Runnable command, long periodNanos, boolean fixedRate) {
+            super(command, null);
+            this.periodNanos = periodNanos;
+            this.fixedRate = fixedRate;
+        }
+
+        @Override
+        void scheduleIn(long delayNanos) {
+            nextRunNanos = System.nanoTime() + delayNanos;
+            super.scheduleIn(delayNanos);
+        }
+
+        @Override
+        public void run() {
+            if (!runAndReset()) {
+                return;
+            }
+            long delay = fixedRate ? nextRunNanos + periodNanos - System.nanoTime() : periodNanos;
+            try {
+                scheduleIn(Math.max(delay, 0));
+            } catch (RejectedExecutionException e) {
+                cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Describes the kind of threads Axon uses for the thread pools it creates by default, like those of the event
+ * processors and the command and query processing of the Axon Server connector.
+ * <p>
+ * The {@link #PLATFORM} mode creates regular threads through an {@link AxonThreadFactory}. The {@link #VIRTUAL} mode
+ * creates virtual threads instead, allowing handlers that block on I/O (like JDBC calls) to do so without occupying a
+ * platform thread. As virtual threads are cheap to create and should not be pooled, executors in this mode start a new
+ * thread for every task, allowing processors to handle thousands of segments without exhausting the available
+ * threads. When the running JVM does not support virtual threads, the {@code VIRTUAL} mode falls back to platform
+ * threads, logging a warning.
+ *
+ * @since 4.6.0
+ */
+public enum ThreadingMode {
+
+    /**
+     * Creates platform threads through an {@link AxonThreadFactory}.
+     */
+    PLATFORM {
+        @Override
+        public ThreadFactory threadFactory(String name) {
+            return new AxonThreadFactory(name);
+        }
+
+        @Override
+        public ScheduledExecutorService scheduledExecutor(String name, int poolSize) {
+            return Executors.newScheduledThreadPool(poolSize, threadFactory(name));
+        }
+    },
+
+    /**
+     * Creates virtual threads, falling back to {@link #PLATFORM} threads if the running JVM does not support them.
+     */
+    VIRTUAL {
+        @Override
+        public ThreadFactory threadFactory(String name) {
+            return VirtualThreads.isSupported() ? VirtualThreads.factory(name) : PLATFORM.threadFactory(name);
+        }
+
+        @Override
+        public ScheduledExecutorService scheduledExecutor(String name, int poolSize) {
+            if (!VirtualThreads.isSupported()) {
+                return PLATFORM.scheduledExecutor(name, poolSize);
+            }
+            return new ThreadPerTaskScheduledExecutor(threadFactory(name), new AxonThreadFactory(name + "-scheduler"));
+        }
+
+        @Override
+        public ExecutorService executor(String name) {
+            if (!VirtualThreads.isSupported()) {
+                return PLATFORM.executor(name);
+            }
+            return new ThreadPerTaskScheduledExecutor(threadFactory(name), new AxonThreadFactory(name + "-scheduler"));
+        }
+    };
+
+    /**
+     * Returns a {@link ThreadFactory} creating threads of this mode, named after the given {@code name}.
+     *
+     * @param name the name used as a prefix for the threads created by the factory
+     * @return a {@link ThreadFactory} creating threads of this mode
+     */
+    public abstract ThreadFactory threadFactory(String name);
+
+    /**
+     * Creates a {@link ScheduledExecutorService} of the given {@code poolSize}, using threads of this mode named after
+     * the given {@code name}. In {@link #VIRTUAL} mode, virtual threads are not pooled. Instead, every task runs on a
+     * new virtual thread, regardless of the given {@code poolSize}, and delayed tasks are timed by a single platform
+     * thread.
+     *
+     * @param name     the name used as a prefix for the threads created by the executor
+     * @param poolSize the number of threads of the executor
+     * @return a {@link ScheduledExecutorService} using threads of this mode
+     */
+    public abstract ScheduledExecutorService scheduledExecutor(String name, int poolSize);
+
+    /**
+     * Creates an {@link ExecutorService} which creates new threads of this mode as needed. In {@link #PLATFORM} mode,
+     * previously created threads are reused when they are available. In {@link #VIRTUAL} mode, every task runs on a new
+     * virtual thread.
+     *
+     * @param name the name used as a prefix for the threads created by the executor
+     * @return an {@link ExecutorService} using threads of this mode
+     */
+    public ExecutorService executor(String name) {
+        return Executors.newCachedThreadPool(threadFactory(name));
+    }
+
+    /**
+     * Indicates whether the running JVM supports virtual threads. If not, the {@link #VIRTUAL} mode falls back to
+     * platform threads.
+     *
+     * @return {@code true} if virtual threads are supported by the running JVM, {@code false} otherwise
+     */
+    public static boolean virtualThreadsSupported() {
+        return VirtualThreads.isSupported();
+    }
+
+    /**
+     * Resolves virtual thread support reflectively, as the framework is compiled against a JDK which does not provide
+     * the API for it.
+     */
+    private static final class VirtualThreads {
+
+        private static final Logger logger = LoggerFactory.getLogger(ThreadingMode.class);
+
+        private static final Method OF_VIRTUAL;
+        private static final Method NAME;
+        private static final Method FACTORY;
+
+        static {
+            Method ofVirtual = null;
+            Method name = null;
+            Method factory = null;
+            try {
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                ofVirtual = Thread.class.getMethod("ofVirtual");
+                name = builderType.getMethod("name", String.class, long.class);
+                factory = builderType.getMethod("factory");
+                // creating a factory fails on JVMs where virtual threads are a disabled preview feature
+                factory.invoke(ofVirtual.invoke(null));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.warn("Virtual threads are not supported by the running JVM. "
+                                    + "Falling back to platform threads.");
+                logger.debug("Virtual thread support could not be resolved.", e);
+                ofVirtual = null;
+            }
+            OF_VIRTUAL = ofVirtual;
+            NAME = name;
+            FACTORY = factory;
+        }
+
+        private VirtualThreads() {
+            // utility class
+        }
+
+        private static boolean isSupported() {
+            return OF_VIRTUAL != null;
+        }
+
+        private static ThreadFactory factory(String name) {
+            try {
+                Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), name + "-", 0L);
+                return (ThreadFactory) FACTORY.invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to create a factory for virtual threads", e);
+            }
+        }
+    }
+}
@@ -16,27 +16,62 @@
 
 package org.axonframework.common.property;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 
 import static java.lang.String.format;
 
 /**
  * Property implementation that accesses public field to obtain a value of a property for a given instance.
+ * <p>
+ * The field is read through a {@link MethodHandle}, if the field is accessible to this class.
+ *
  * @param <T> The type of object defining this property
  */
 public class DirectlyAccessedProperty<T> implements Property<T> {
 
 	private final Field field;
 	private final String property;
+	private final MethodHandle getter;
 
 	public DirectlyAccessedProperty(Field field, String property){
 		this.field = field;
 		this.property = property;
+		this.getter = createGetter(field);
+	}
+
+	private static MethodHandle createGetter(Field field) {
+		try {
+			MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+			return Modifier.isStatic(field.getModifiers())
+					? MethodHandles.dropArguments(getter.asType(MethodType.methodType(Object.class)), 0, Object.class)
+					: getter.asType(MethodType.methodType(Object.class, Object.class));
+		} catch (IllegalAccessException e) {
+			return null;
+		}
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public <V> V getValue(T target) {
+		if (getter == null) {
+			return getReflectively(target);
+		}
+		try {
+			return (V) (Object) getter.invokeExact((Object) target);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new PropertyAccessException(format(
+					"Failed to get value of '%s' in '%s'.", property, target.getClass().getName()), e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <V> V getReflectively(T target) {
 		try {
 			return (V)field.get(target);
 		}
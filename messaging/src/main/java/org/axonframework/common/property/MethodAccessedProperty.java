@@ -16,14 +16,24 @@
 
 package org.axonframework.common.property;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
 
 import static java.lang.String.format;
 import static org.axonframework.common.ReflectionUtils.ensureAccessible;
 
 /**
  * Property implementation that invokes a method to obtain a value of a property for a given instance.
+ * <p>
+ * The method is invoked through a {@link Function} generated by the {@link LambdaMetafactory} if the method is publicly
+ * accessible and its declaring class is visible to this class' class loader, or through a {@link MethodHandle}
+ * otherwise.
  *
  * @param <T> The type of object defining this property
  * @author Maxim Fedorov
@@ -34,6 +44,8 @@
 
     private final Method method;
     private final String property;
+    private final Function<Object, Object> function;
+    private final MethodHandle methodHandle;
 
     /**
      * Initialize a reader that uses given {@code accessorMethod} to access a property with given
@@ -45,11 +57,96 @@
     public MethodAccessedProperty(Method accessorMethod, String propertyName) {
         property = propertyName;
         method = ensureAccessible(accessorMethod);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle handle = unreflect(lookup, method);
+        if (handle == null) {
+            function = null;
+            methodHandle = null;
+        } else if (Modifier.isStatic(method.getModifiers())) {
+            function = null;
+            methodHandle = MethodHandles.dropArguments(handle.asType(MethodType.methodType(Object.class)),
+                                                       0, Object.class);
+        } else {
+            function = createFunction(lookup, method, handle);
+            methodHandle = function != null
+                    ? null
+                    : handle.asType(MethodType.methodType(Object.class, Object.class));
+        }
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createFunction(MethodHandles.Lookup lookup,
+                                                           Method method,
+                                                           MethodHandle handle) {
+        if (!isPubliclyAccessible(method) || !isVisible(method.getDeclaringClass())) {
+            return null;
+        }
+        try {
+            return (Function<Object, Object>) LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(Object.class, method.getDeclaringClass())
+            ).getTarget().invokeExact();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static boolean isPubliclyAccessible(Method method) {
+        if (!Modifier.isPublic(method.getModifiers())) {
+            return false;
+        }
+        for (Class<?> type = method.getDeclaringClass(); type != null; type = type.getEnclosingClass()) {
+            if (!Modifier.isPublic(type.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, MethodAccessedProperty.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <V> V getValue(T target) {
+        if (function == null && methodHandle == null) {
+            return invokeReflectively(target);
+        }
+        try {
+            return function != null
+                    ? (V) function.apply(target)
+                    : (V) (Object) methodHandle.invokeExact((Object) target);
+        } catch (Throwable e) {
+            if (!method.getDeclaringClass().isInstance(target) && e instanceof RuntimeException) {
+                // the target itself is invalid, rather than the property method failing
+                throw (RuntimeException) e;
+            }
+            throw new PropertyAccessException(format(
+                    "Failed to get value of '%s' using method '%s()' of '%s'. "
+                            + "Property methods should not throw exceptions.",
+                    property, method.getName(), target.getClass().getName()), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V invokeReflectively(T target) {
         try {
             return (V) method.invoke(target);
         } catch (IllegalAccessException e) {
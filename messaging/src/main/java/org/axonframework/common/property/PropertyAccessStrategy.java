@@ -17,8 +17,11 @@
 package org.axonframework.common.property;
 
 import java.util.Iterator;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 
 
@@ -33,6 +36,9 @@
  * The factory implementations must be public, non-abstract, have a default public constructor and extend the
  * PropertyAccessStrategy class.
  * <p/>
+ * The {@link Property} resolved for a combination of class and property name is cached, until a strategy is registered
+ * or unregistered.
+ * <p/>
  * Note that this class is not considered public API and may undergo incompatible changes between versions.
  *
  * @author Maxim Fedorov
@@ -48,6 +54,9 @@ public abstract class PropertyAccessStrategy implements Comparable<PropertyAcces
 
     private static final SortedSet<PropertyAccessStrategy> STRATEGIES = new ConcurrentSkipListSet<>();
 
+    private static volatile ClassValue<ConcurrentMap<String, Optional<Property<?>>>> resolvedProperties =
+            newPropertyCache();
+
     static {
         for (PropertyAccessStrategy factory : LOADER) {
             STRATEGIES.add(factory);
@@ -62,6 +71,7 @@ public abstract class PropertyAccessStrategy implements Comparable<PropertyAcces
      */
     public static void register(PropertyAccessStrategy strategy) {
         STRATEGIES.add(strategy);
+        resolvedProperties = newPropertyCache();
     }
 
     /**
@@ -71,19 +81,41 @@ public static void register(PropertyAccessStrategy strategy) {
      */
     public static void unregister(PropertyAccessStrategy strategy) {
         STRATEGIES.remove(strategy);
+        resolvedProperties = newPropertyCache();
+    }
+
+    private static ClassValue<ConcurrentMap<String, Optional<Property<?>>>> newPropertyCache() {
+        return new ClassValue<ConcurrentMap<String, Optional<Property<?>>>>() {
+            @Override
+            protected ConcurrentMap<String, Optional<Property<?>>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
     }
 
     /**
      * Iterates over all known PropertyAccessStrategy implementations to create a {@link Property} instance for the
      * given parameters. Strategies are invoked in the order they are found on the classpath. The first to provide a
-     * suitable Property instance will be used.
+     * suitable Property instance will be used. The result is cached for subsequent invocations with the same
+     * parameters.
      *
      * @param targetClass  class that contains property
      * @param propertyName name of the property to create propertyReader for
      * @param <T>          Thy type defining the property
      * @return suitable {@link Property}, or {@code null} if none is found
      */
+    @SuppressWarnings("unchecked")
     public static <T> Property<T> getProperty(Class<? extends T> targetClass, String propertyName) {
+        ConcurrentMap<String, Optional<Property<?>>> classProperties = resolvedProperties.get(targetClass);
+        Optional<Property<?>> cached = classProperties.get(propertyName);
+        if (cached == null) {
+            cached = Optional.ofNullable(resolveProperty(targetClass, propertyName));
+            classProperties.putIfAbsent(propertyName, cached);
+        }
+        return (Property<T>) cached.orElse(null);
+    }
+
+    private static <T> Property<T> resolveProperty(Class<? extends T> targetClass, String propertyName) {
         Property<T> property = null;
         Iterator<PropertyAccessStrategy> strategies = STRATEGIES.iterator();
         while (property == null && strategies.hasNext()) {
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.common.stream;
+
+import org.axonframework.common.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A {@link BlockingStream} implementation which reads messages from a delegate stream ahead of their consumption. A
+ * dedicated reader thread, created through the given {@link ThreadFactory}, moves messages from the delegate into a
+ * bounded buffer. Reading the delegate, which typically involves I/O, thus overlaps with the handling of previously
+ * read messages by the consumer of this stream. The reader blocks as long as the buffer is full.
+ * <p>
+ * Messages are passed on as provided by the delegate. Any lazy deserialization of their payload and meta data remains
+ * lazy, only taking place if and when the consumer accesses them.
+ * <p>
+ * Failures of the delegate stream are rethrown to the consumer once all messages read before the failure have been
+ * consumed. This stream is meant to be consumed by a single thread.
+ * <p>
+ * The delegate is never accessed by more than one thread at a time. Requests to {@link
+ * #skipMessagesWithPayloadTypeOf(Object) skip messages} wait a bounded amount of time for the reader to release the
+ * delegate, and {@link #close()} waits a bounded amount of time for the reader to stop before closing the delegate.
+ *
+ * @param <M> the type of message contained in this stream
+ * @since 4.6.0
+ */
+public class PrefetchingBlockingStream<M> implements BlockingStream<M> {
+
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final int READ_TIMEOUT_MILLIS = 100;
+    private static final int READER_WAIT_TIMEOUT_MILLIS = 1000;
+
+    private final BlockingStream<M> delegate;
+    private final BlockingQueue<M> buffer;
+    private final Thread reader;
+    // fair, to have the consumer thread take over the delegate in between two reads of the reader thread
+    private final Lock delegateLock = new ReentrantLock(true);
+
+    private volatile boolean closed;
+    private volatile RuntimeException readFailure;
+    private M next;
+
+    /**
+     * Initializes a {@link PrefetchingBlockingStream} reading ahead of consumption from the given {@code delegate},
+     * buffering up to {@code bufferSize} messages. The reader thread is created through the given {@code
+     * threadFactory} and started immediately.
+     *
+     * @param delegate      the {@link BlockingStream} to read messages from
+     * @param bufferSize    the maximum number of messages read ahead of consumption
+     * @param threadFactory the {@link ThreadFactory} used to create the thread reading from the {@code delegate}
+     */
+    public PrefetchingBlockingStream(BlockingStream<M> delegate, int bufferSize, ThreadFactory threadFactory) {
+        Assert.isTrue(bufferSize > 0, () -> "The buffer size must be greater or equal to 1");
+        this.delegate = delegate;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.reader = threadFactory.newThread(this::read);
+        this.reader.start();
+    }
+
+    private void read() {
+        try {
+            while (!closed) {
+                M message = readFromDelegate();
+                if (message != null) {
+                    buffer.put(message);
+                }
+            }
+        } catch (InterruptedException e) {
+            if (!closed) {
+                readFailure = new IllegalStateException("Reading ahead of the message stream was interrupted", e);
+            }
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            readFailure = e;
+        }
+    }
+
+    private M readFromDelegate() throws InterruptedException {
+        delegateLock.lockInterruptibly();
+        try {
+            return delegate.hasNextAvailable(READ_TIMEOUT_MILLIS, MILLISECONDS) ? delegate.nextAvailable() : null;
+        } finally {
+            delegateLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<M> peek() {
+        if (next == null) {
+            next = buffer.poll();
+        }
+        if (next == null) {
+            rethrowReadFailure();
+        }
+        return Optional.ofNullable(next);
+    }
+
+    @Override
+    public boolean hasNextAvailable(int timeout, TimeUnit unit) throws InterruptedException {
+        if (next == null) {
+            next = buffer.poll();
+        }
+        if (next == null) {
+            rethrowReadFailure();
+            next = buffer.poll(timeout, unit);
+        }
+        return next != null;
+    }
+
+    @Override
+    public M nextAvailable() throws InterruptedException {
+        while (next == null) {
+            rethrowReadFailure();
+            next = buffer.poll(READ_TIMEOUT_MILLIS, MILLISECONDS);
+        }
+        M message = next;
+        next = null;
+        return message;
+    }
+
+    private void rethrowReadFailure() {
+        RuntimeException failure = readFailure;
+        if (failure != null && buffer.isEmpty()) {
+            throw failure;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Waits up to one second for the reader thread to release the delegate stream. As skipping messages is merely a
+     * hint to the delegate, the request is dropped if the delegate could not be obtained in time.
+     */
+    @Override
+    public void skipMessagesWithPayloadTypeOf(M ignoredMessage) {
+        try {
+            if (!delegateLock.tryLock(READER_WAIT_TIMEOUT_MILLIS, MILLISECONDS)) {
+                logger.debug("Dropping the request to skip messages like [{}], as the delegate stream is being read.",
+                             ignoredMessage);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            delegate.skipMessagesWithPayloadTypeOf(ignoredMessage);
+        } finally {
+            delegateLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Stops the reader thread and waits up to one second for it to finish, before closing the delegate stream.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        reader.interrupt();
+        try {
+            reader.join(READER_WAIT_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (reader.isAlive()) {
+            logger.warn("Reader thread [{}] did not stop within {}ms. Closing the delegate stream regardless.",
+                        reader.getName(), READER_WAIT_TIMEOUT_MILLIS);
+        }
+        delegate.close();
+    }
+}
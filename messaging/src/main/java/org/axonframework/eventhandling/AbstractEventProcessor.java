@@ -21,10 +21,14 @@
 import org.axonframework.messaging.DefaultInterceptorChain;
 import org.axonframework.messaging.MessageHandlerInterceptor;
 import org.axonframework.messaging.ResultMessage;
+import org.axonframework.messaging.unitofwork.AbstractUnitOfWork;
 import org.axonframework.messaging.unitofwork.RollbackConfiguration;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.monitoring.NoOpMessageMonitor;
+import org.axonframework.tracing.NoOpSpanFactory;
+import org.axonframework.tracing.Span;
+import org.axonframework.tracing.SpanFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +37,7 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
 import static org.axonframework.common.BuilderUtils.assertThat;
@@ -61,6 +66,9 @@ public abstract class AbstractEventProcessor implements EventProcessor {
     private final RollbackConfiguration rollbackConfiguration;
     private final ErrorHandler errorHandler;
     private final MessageMonitor<? super EventMessage<?>> messageMonitor;
+    private final SpanFactory spanFactory;
+    private final String processBatchSpanName;
+    private final String handleSpanName;
     private final List<MessageHandlerInterceptor<? super EventMessage<?>>> interceptors = new CopyOnWriteArrayList<>();
 
     /**
@@ -78,6 +86,9 @@ protected AbstractEventProcessor(Builder builder) {
         this.rollbackConfiguration = builder.rollbackConfiguration;
         this.errorHandler = builder.errorHandler;
         this.messageMonitor = builder.messageMonitor;
+        this.spanFactory = builder.spanFactory;
+        this.processBatchSpanName = "EventProcessor[" + name + "].processBatch";
+        this.handleSpanName = "EventProcessor[" + name + "].handle";
     }
 
     @Override
@@ -121,6 +132,27 @@ protected boolean canHandle(EventMessage<?> eventMessage, Segment segment) throw
         }
     }
 
+    /**
+     * Returns a {@link Predicate} indicating for which segments the processor can/should handle the given {@code
+     * eventMessage}, as {@link #canHandle(EventMessage, Segment)} does for a single segment.
+     * <p>
+     * This implementation will delegate the decision to the {@link EventHandlerInvoker}, allowing it to compute the
+     * parts of the decision that do not depend on the segment only once.
+     *
+     * @param eventMessage The message for which to identify in which segments the processor can handle it
+     * @return a {@link Predicate} returning {@code true} for the segments in which the event message should be handled
+     * @throws Exception if the {@code errorHandler} throws an Exception back on the
+     *                   {@link ErrorHandler#handleError(ErrorContext)} call
+     */
+    protected Predicate<Segment> segmentMatcher(EventMessage<?> eventMessage) throws Exception {
+        try {
+            return eventHandlerInvoker.segmentMatcher(eventMessage);
+        } catch (Exception e) {
+            errorHandler.handleError(new ErrorContext(getName(), e, Collections.singletonList(eventMessage)));
+            return segment -> false;
+        }
+    }
+
     protected boolean canHandleType(Class<?> payloadType)  {
         try {
             return eventHandlerInvoker.canHandleType(payloadType);
@@ -156,31 +188,48 @@ protected final void processInUnitOfWork(List<? extends EventMessage<?>> eventMe
     protected void processInUnitOfWork(List<? extends EventMessage<?>> eventMessages,
                                        UnitOfWork<? extends EventMessage<?>> unitOfWork,
                                        Collection<Segment> processingSegments) throws Exception {
-        ResultMessage<?> resultMessage = unitOfWork.executeWithResult(() -> {
-            MessageMonitor.MonitorCallback monitorCallback =
-                    messageMonitor.onMessageIngested(unitOfWork.getMessage());
-            return new DefaultInterceptorChain<>(unitOfWork, interceptors, m -> {
+        if (unitOfWork instanceof AbstractUnitOfWork) {
+            ((AbstractUnitOfWork<?>) unitOfWork).setSpanFactory(spanFactory);
+        }
+        Span batchSpan = spanFactory.createSpan(processBatchSpanName, null).start();
+        try {
+            ResultMessage<?> resultMessage = unitOfWork.executeWithResult(() -> {
+                MessageMonitor.MonitorCallback monitorCallback =
+                        messageMonitor.onMessageIngested(unitOfWork.getMessage());
+                Span span = spanFactory.createSpan(handleSpanName, unitOfWork.getMessage()).start();
                 try {
-                    for (Segment processingSegment : processingSegments) {
-                        eventHandlerInvoker.handle(m, processingSegment);
-                    }
-                    monitorCallback.reportSuccess();
-                    return null;
+                    return new DefaultInterceptorChain<>(unitOfWork, interceptors, m -> {
+                        try {
+                            for (Segment processingSegment : processingSegments) {
+                                eventHandlerInvoker.handle(m, processingSegment);
+                            }
+                            monitorCallback.reportSuccess();
+                            return null;
+                        } catch (Exception exception) {
+                            monitorCallback.reportFailure(exception);
+                            throw exception;
+                        }
+                    }).proceed();
                 } catch (Exception exception) {
-                    monitorCallback.reportFailure(exception);
+                    span.recordException(exception);
                     throw exception;
+                } finally {
+                    span.end();
                 }
-            }).proceed();
-        }, rollbackConfiguration);
+            }, rollbackConfiguration);
 
-        if (resultMessage.isExceptional()) {
-            Throwable e = resultMessage.exceptionResult();
-            if (unitOfWork.isRolledBack()) {
-                errorHandler.handleError(new ErrorContext(getName(), e, eventMessages));
-            } else {
-                logger.info("Exception occurred while processing a message, but unit of work was committed. {}",
-                            e.getClass().getName());
+            if (resultMessage.isExceptional()) {
+                Throwable e = resultMessage.exceptionResult();
+                batchSpan.recordException(e);
+                if (unitOfWork.isRolledBack()) {
+                    errorHandler.handleError(new ErrorContext(getName(), e, eventMessages));
+                } else {
+                    logger.info("Exception occurred while processing a message, but unit of work was committed. {}",
+                                e.getClass().getName());
+                }
             }
+        } finally {
+            batchSpan.end();
         }
     }
 
@@ -210,8 +259,8 @@ protected void reportIgnored(EventMessage<?> eventMessage) {
     /**
      * Abstract Builder class to instantiate a {@link AbstractEventProcessor}.
      * <p>
-     * The {@link ErrorHandler} is defaulted to a {@link PropagatingErrorHandler} and the {@link MessageMonitor}
-     * defaults to a {@link NoOpMessageMonitor}. The Event Processor {@code name}, {@link EventHandlerInvoker} and
+     * The {@link ErrorHandler} is defaulted to a {@link PropagatingErrorHandler}, the {@link MessageMonitor}
+     * defaults to a {@link NoOpMessageMonitor} and the {@link SpanFactory} defaults to a {@link NoOpSpanFactory}. The Event Processor {@code name}, {@link EventHandlerInvoker} and
      * {@link RollbackConfiguration} are <b>hard requirements</b> and as such should be provided.
      */
     public abstract static class Builder {
@@ -221,6 +270,7 @@ public abstract static class Builder {
         private RollbackConfiguration rollbackConfiguration;
         private ErrorHandler errorHandler = PropagatingErrorHandler.INSTANCE;
         private MessageMonitor<? super EventMessage<?>> messageMonitor = NoOpMessageMonitor.INSTANCE;
+        private SpanFactory spanFactory = NoOpSpanFactory.INSTANCE;
 
         /**
          * Sets the {@code name} of this {@link EventProcessor} implementation.
@@ -289,6 +339,20 @@ public Builder messageMonitor(MessageMonitor<? super EventMessage<?>> messageMon
             return this;
         }
 
+        /**
+         * Sets the {@link SpanFactory} used to trace the processing of batches of events, the handling of every
+         * individual event and the phases of the {@link UnitOfWork} processing a batch. Defaults to a {@link
+         * NoOpSpanFactory}.
+         *
+         * @param spanFactory the {@link SpanFactory} used to trace the processing of events
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder spanFactory(SpanFactory spanFactory) {
+            assertNonNull(spanFactory, "SpanFactory may not be null");
+            this.spanFactory = spanFactory;
+            return this;
+        }
+
         /**
          * Validates whether the fields contained in this Builder are set accordingly.
          *
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.eventhandling;
+
+import org.axonframework.common.Assert;
+
+/**
+ * Maintains the number of events a {@link StreamingEventProcessor} handles in a single batch for one segment, adapting
+ * it to the state of that segment. Handling a large batch of events in a single transaction is efficient while a
+ * segment is far behind, for example during a replay, whereas a small batch minimizes the latency of handling events
+ * once the segment has caught up.
+ * <p>
+ * The batch size starts at the minimum batch size and doubles after every full batch, as long as the segment is behind
+ * and the processing time per event is stable. Processing time per event is considered stable if it does not exceed
+ * the moving average of earlier batches by more than half. The batch size returns to the minimum as soon as the segment
+ * has caught up, and is halved whenever processing a batch fails. If the minimum and maximum batch size are equal,
+ * the batch size is fixed.
+ * <p>
+ * Instances are meant to be used by the thread processing the segment. The {@link #current() current batch size} may
+ * be read by any thread.
+ *
+ * @since 4.6.0
+ */
+public class AdaptiveBatchSize {
+
+    private static final double STABILITY_MARGIN = 1.5;
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private volatile int current;
+    private double averageNanosPerEvent = Double.NaN;
+
+    /**
+     * Initializes an {@link AdaptiveBatchSize} varying between the given {@code minBatchSize} and {@code
+     * maxBatchSize}, starting at the {@code minBatchSize}.
+     *
+     * @param minBatchSize the minimum number of events to handle in a single batch
+     * @param maxBatchSize the maximum number of events to handle in a single batch
+     */
+    public AdaptiveBatchSize(int minBatchSize, int maxBatchSize) {
+        Assert.isTrue(minBatchSize > 0, () -> "Batch size must be greater or equal to 1");
+        Assert.isTrue(maxBatchSize >= minBatchSize,
+                      () -> "Maximum batch size must be greater or equal to the minimum batch size");
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.current = minBatchSize;
+    }
+
+    /**
+     * Returns the number of events to handle in the next batch.
+     *
+     * @return the number of events to handle in the next batch
+     */
+    public int current() {
+        return current;
+    }
+
+    /**
+     * Returns the maximum number of events to handle in a single batch.
+     *
+     * @return the maximum number of events to handle in a single batch
+     */
+    public int maximum() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Adapts the batch size after a batch of {@code eventCount} events has been processed successfully in {@code
+     * processingNanos} nanoseconds. If the segment has {@code caughtUp} with the head of the stream, the batch size
+     * returns to the minimum. Otherwise, the batch size grows if the batch was full and its processing time per event is
+     * stable.
+     *
+     * @param eventCount      the number of events in the processed batch
+     * @param processingNanos the time it took to process the batch, in nanoseconds
+     * @param caughtUp        whether the segment has caught up with the head of the stream
+     */
+    public void batchProcessed(int eventCount, long processingNanos, boolean caughtUp) {
+        if (minBatchSize == maxBatchSize || eventCount <= 0) {
+            return;
+        }
+        double nanosPerEvent = (double) processingNanos / eventCount;
+        boolean stable = Double.isNaN(averageNanosPerEvent)
+                || nanosPerEvent <= averageNanosPerEvent * STABILITY_MARGIN;
+        averageNanosPerEvent = Double.isNaN(averageNanosPerEvent)
+                ? nanosPerEvent
+                : averageNanosPerEvent + SMOOTHING_FACTOR * (nanosPerEvent - averageNanosPerEvent);
+        if (caughtUp) {
+            current = minBatchSize;
+        } else if (stable && eventCount >= current) {
+            current = (int) Math.min(maxBatchSize, 2L * current);
+        }
+    }
+
+    /**
+     * Halves the batch size, with a lower bound of the minimum batch size, after processing a batch failed.
+     */
+    public void batchFailed() {
+        current = Math.max(minBatchSize, current / 2);
+    }
+}
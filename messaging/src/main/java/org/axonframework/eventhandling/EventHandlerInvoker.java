@@ -17,6 +17,7 @@
 package org.axonframework.eventhandling;
 
 import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * Interface for an event message handler that defers handling to one or more other handlers.
@@ -37,6 +38,20 @@ public interface EventHandlerInvoker {
      */
     boolean canHandle(EventMessage<?> eventMessage, Segment segment);
 
+    /**
+     * Returns a {@link Predicate} indicating for which {@link Segment segments} this invoker has handlers that can
+     * handle the given {@code eventMessage}, as {@link #canHandle(EventMessage, Segment)} does. Implementations are
+     * recommended to compute the parts of the decision that do not depend on the segment, like the sequence identifier
+     * of the message, only once, allowing callers to check the message against many segments cheaply.
+     *
+     * @param eventMessage The message to be processed
+     * @return a {@link Predicate} returning {@code true} for the segments in which the invoker has one or more
+     * handlers that can handle the given message
+     */
+    default Predicate<Segment> segmentMatcher(EventMessage<?> eventMessage) {
+        return segment -> canHandle(eventMessage, segment);
+    }
+
     /**
      * Check whether or not this invoker has handlers that can handle the given {@code payloadType}.
      *
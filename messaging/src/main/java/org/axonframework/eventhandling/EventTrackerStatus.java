@@ -118,6 +118,29 @@ public interface EventTrackerStatus {
      */
     OptionalLong getResetPosition();
 
+    /**
+     * Return the number of positions this Segment is behind the given {@code headToken}, calculated as the difference
+     * between the {@link TrackingToken#position()} of the {@code headToken} and that of this Segment's {@link
+     * #getTrackingToken() tracking token}. Contrary to wall-clock latency, this lag is also meaningful during replays
+     * or when processing events which are old by design. In case either token is {@code null} or does not provide a
+     * position, an {@code OptionalLong.empty()} will be returned.
+     *
+     * @param headToken the {@link TrackingToken} representing the head of the event stream
+     * @return the number of positions this Segment is behind the given {@code headToken}
+     */
+    default OptionalLong lagBehind(TrackingToken headToken) {
+        TrackingToken trackingToken = getTrackingToken();
+        if (headToken == null || trackingToken == null) {
+            return OptionalLong.empty();
+        }
+        OptionalLong headPosition = headToken.position();
+        OptionalLong currentPosition = trackingToken.position();
+        if (!headPosition.isPresent() || !currentPosition.isPresent()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(Math.max(0, headPosition.getAsLong() - currentPosition.getAsLong()));
+    }
+
     /**
      * Returns a {@code boolean} describing whether this {@link EventTrackerStatus} is starting it's progress for the
      * first time. Particularly useful if the {@link EventTrackerStatusChangeListener} should react to added status'.
@@ -20,6 +20,8 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link EventHandlerInvoker} with capabilities to invoke several different invokers.
@@ -77,6 +79,16 @@ private boolean canHandle(EventHandlerInvoker invoker, EventMessage<?> eventMess
                 && invoker.canHandle(eventMessage, segment);
     }
 
+    @Override
+    public Predicate<Segment> segmentMatcher(EventMessage<?> eventMessage) {
+        boolean replay = ReplayToken.isReplay(eventMessage);
+        List<Predicate<Segment>> matchers = delegates.stream()
+                                                     .filter(i -> i.supportsReset() || !replay)
+                                                     .map(i -> i.segmentMatcher(eventMessage))
+                                                     .collect(Collectors.toList());
+        return segment -> matchers.stream().anyMatch(matcher -> matcher.test(segment));
+    }
+
     @Override
     public boolean canHandleType(Class<?> payloadType) {
         return delegates.stream().anyMatch(i -> i.canHandleType(payloadType));
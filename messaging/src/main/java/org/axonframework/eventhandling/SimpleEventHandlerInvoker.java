@@ -27,6 +27,7 @@
 import java.util.EventListener;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
@@ -122,6 +123,15 @@ public boolean canHandle(EventMessage<?> eventMessage, Segment segment) {
         return hasHandler(eventMessage) && sequencingPolicyMatchesSegment(eventMessage, segment);
     }
 
+    @Override
+    public Predicate<Segment> segmentMatcher(EventMessage<?> eventMessage) {
+        if (!hasHandler(eventMessage)) {
+            return segment -> false;
+        }
+        int sequenceHash = sequenceHash(eventMessage);
+        return segment -> segment.matches(sequenceHash);
+    }
+
     @Override
     public boolean canHandleType(Class<?> payloadType) {
         return wrappedEventHandlers.stream().anyMatch(eh -> eh.canHandleType(payloadType));
@@ -147,10 +157,12 @@ public boolean supportsReset() {
     }
 
     private boolean sequencingPolicyMatchesSegment(EventMessage<?> message, Segment segment) {
-        return segment.matches(Objects.hashCode(getOrDefault(
-                sequencingPolicy.getSequenceIdentifierFor(message),
-                message::getIdentifier)
-        ));
+        return segment.matches(sequenceHash(message));
+    }
+
+    private int sequenceHash(EventMessage<?> message) {
+        return Objects.hashCode(getOrDefault(sequencingPolicy.getSequenceIdentifierFor(message),
+                                             message::getIdentifier));
     }
 
     @Override
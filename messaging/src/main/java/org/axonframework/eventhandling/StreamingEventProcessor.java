@@ -19,6 +19,7 @@
 import org.axonframework.eventhandling.tokenstore.TokenStore;
 import org.axonframework.messaging.StreamableMessageSource;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -37,6 +38,8 @@
  *     <li>{@link #mergeSegment(int)} - decrease the number of segments by merging two segments into one</li>
  *     <li>{@link #resetTokens()} - adjust the positions of all segments for this processor to the beginning of the event stream</li>
  *     <li>{@link #processingStatus()} - return the {@link EventTrackerStatus} of every segment processed by this instance</li>
+ *     <li>{@link #segmentLag()} - return the lag behind the head of the stream of every segment processed by this instance</li>
+ *     <li>{@link #segmentBatchSize()} - return the current batch size of every segment processed by this instance</li>
  * </ul>
  *
  * @author Allard Buijze
@@ -235,6 +238,35 @@ default void resetTokens(TrackingToken startPosition) {
      */
     Map<Integer, EventTrackerStatus> processingStatus();
 
+    /**
+     * Returns the lag for each of the segments processed by this processor, as the number of positions its token is
+     * behind the head of the event stream. The keys of the {@link Map} represent the segment ids processed by this
+     * instance. Segments for which no lag can be deduced, for example because their {@link TrackingToken} does not
+     * provide a {@link TrackingToken#position()}, are omitted.
+     * <p>
+     * As calculating the lag typically requires a round trip to the {@link StreamableMessageSource} to retrieve its
+     * head token, this method should be sampled periodically instead of being invoked for every event. An empty {@code
+     * Map} is returned if the head of the stream cannot be determined, which is the default.
+     *
+     * @return the lag for each of the segments processed by the current processor
+     * @see EventTrackerStatus#lagBehind(TrackingToken)
+     */
+    default Map<Integer, Long> segmentLag() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Returns the number of events each of the segments processed by this processor currently handles in a single
+     * batch. The keys of the {@link Map} represent the segment ids processed by this instance. For a processor with an
+     * {@link AdaptiveBatchSize}, the batch size varies with the state of each segment. Returns an empty {@code Map} by
+     * default.
+     *
+     * @return the current batch size for each of the segments processed by the current processor
+     */
+    default Map<Integer, Integer> segmentBatchSize() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Returns the overall replay status of <b>this</b> {@link StreamingEventProcessor}. Any other instances of this
      * streaming processor running on other applications are <b>not</b> not taken into account in this calculation.
@@ -30,6 +30,7 @@
 import org.axonframework.messaging.unitofwork.RollbackConfigurationType;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.monitoring.NoOpMessageMonitor;
+import org.axonframework.tracing.SpanFactory;
 
 import java.util.List;
 import java.util.function.Consumer;
@@ -99,8 +100,10 @@ public void start() {
             // This event processor has already been started
             return;
         }
+        // a single processor instance, allowing the processing strategy to recognize events for this processor
+        Consumer<List<? extends EventMessage<?>>> processor = this::process;
         eventBusRegistration =
-                messageSource.subscribe(eventMessages -> processingStrategy.handle(eventMessages, this::process));
+                messageSource.subscribe(eventMessages -> processingStrategy.handle(eventMessages, processor));
     }
 
     @Override
@@ -208,6 +211,12 @@ public Builder messageMonitor(MessageMonitor<? super EventMessage<?>> messageMon
             return this;
         }
 
+        @Override
+        public Builder spanFactory(SpanFactory spanFactory) {
+            super.spanFactory(spanFactory);
+            return this;
+        }
+
         /**
          * Sets the {@link SubscribableMessageSource} (e.g. the {@link EventBus}) to which this {@link EventProcessor}
          * implementation will subscribe itself to receive {@link EventMessage}s.
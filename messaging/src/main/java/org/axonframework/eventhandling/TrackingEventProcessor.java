@@ -21,6 +21,7 @@
 import org.axonframework.common.AxonNonTransientException;
 import org.axonframework.common.ExceptionUtils;
 import org.axonframework.common.stream.BlockingStream;
+import org.axonframework.common.stream.PrefetchingBlockingStream;
 import org.axonframework.common.transaction.NoTransactionManager;
 import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.eventhandling.tokenstore.TokenStore;
@@ -35,13 +36,16 @@
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.monitoring.NoOpMessageMonitor;
+import org.axonframework.tracing.SpanFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -59,6 +63,7 @@
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
@@ -97,12 +102,15 @@ public class TrackingEventProcessor extends AbstractEventProcessor implements St
     private final Function<StreamableMessageSource<TrackedEventMessage<?>>, TrackingToken> initialTrackingTokenBuilder;
     private final TransactionManager transactionManager;
     private final int batchSize;
+    private final int maxBatchSize;
     private final int segmentsSize;
 
     private final ThreadFactory threadFactory;
     private final AtomicReference<State> state = new AtomicReference<>(State.NOT_STARTED);
     private final AtomicBoolean workLauncherRunning = new AtomicBoolean(false);
     private final ConcurrentMap<Integer, TrackerStatus> activeSegments = new ConcurrentSkipListMap<>();
+    private final ThreadLocal<BatchingUnitOfWork<TrackedEventMessage<?>>> reusableUnitOfWork = new ThreadLocal<>();
+    private final ConcurrentMap<Integer, AdaptiveBatchSize> batchSizes = new ConcurrentHashMap<>();
     private final ConcurrentMap<Integer, Long> segmentReleaseDeadlines = new ConcurrentSkipListMap<>();
     private final String segmentIdResourceKey;
     private final String lastTokenResourceKey;
@@ -113,6 +121,7 @@ public class TrackingEventProcessor extends AbstractEventProcessor implements St
     private final ConcurrentMap<Integer, List<Instruction>> instructions = new ConcurrentHashMap<>();
     private final boolean storeTokenBeforeProcessing;
     private final int eventAvailabilityTimeout;
+    private final int prefetchBufferSize;
     private final EventTrackerStatusChangeListener trackerStatusChangeListener;
 
     /**
@@ -145,8 +154,10 @@ protected TrackingEventProcessor(Builder builder) {
         TrackingEventProcessorConfiguration config = builder.trackingEventProcessorConfiguration;
         this.tokenClaimInterval = config.getTokenClaimInterval();
         this.eventAvailabilityTimeout = config.getEventAvailabilityTimeout();
+        this.prefetchBufferSize = config.getPrefetchBufferSize();
         this.storeTokenBeforeProcessing = builder.storeTokenBeforeProcessing;
         this.batchSize = config.getBatchSize();
+        this.maxBatchSize = config.getMaxBatchSize();
 
         this.messageSource = builder.messageSource;
         this.tokenStore = builder.tokenStore;
@@ -345,6 +356,7 @@ private boolean processInstructions(int segmentId) {
 
     private void releaseToken(Segment segment) {
         try {
+            batchSizes.remove(segment.getSegmentId());
             transactionManager.executeInTransaction(() -> tokenStore.releaseClaim(getName(), segment.getSegmentId()));
             logger.info("Released claim");
         } catch (Exception e) {
@@ -381,6 +393,9 @@ protected Set<Segment> processingSegments(TrackingToken token, Segment segment)
 
     private void processBatch(Segment segment, BlockingStream<TrackedEventMessage<?>> eventStream) throws Exception {
         List<TrackedEventMessage<?>> batch = new ArrayList<>();
+        AdaptiveBatchSize adaptiveBatchSize =
+                batchSizes.computeIfAbsent(segment.getSegmentId(), id -> new AdaptiveBatchSize(batchSize, maxBatchSize));
+        int currentBatchSize = adaptiveBatchSize.current();
         try {
             TrackingToken lastToken;
             Collection<Segment> processingSegments;
@@ -396,7 +411,7 @@ private void processBatch(Segment segment, BlockingStream<TrackedEventMessage<?>
                 // besides checking batch sizes, we must also ensure that both the current message in the batch
                 // and the next (if present) allow for processing with a batch
                 for (int i = 0; isRegularProcessing(segment, processingSegments)
-                        && i < batchSize * 10 && batch.size() < batchSize
+                        && i < currentBatchSize * 10 && batch.size() < currentBatchSize
                         && eventStream.peek().map(m -> isRegularProcessing(segment, m)).orElse(false); i++) {
                     final TrackedEventMessage<?> trackedEventMessage = eventStream.nextAvailable();
                     lastToken = trackedEventMessage.trackingToken();
@@ -444,11 +459,20 @@ private void processBatch(Segment segment, BlockingStream<TrackedEventMessage<?>
                 }
             }
 
-            UnitOfWork<? extends EventMessage<?>> unitOfWork = new BatchingUnitOfWork<>(batch);
+            UnitOfWork<? extends EventMessage<?>> unitOfWork = unitOfWorkFor(batch);
             unitOfWork.attachTransaction(transactionManager);
             unitOfWork.resources().put(segmentIdResourceKey, segment.getSegmentId());
             unitOfWork.resources().put(lastTokenResourceKey, finalLastToken);
-            processInUnitOfWork(batch, unitOfWork, processingSegments);
+            long processingStart = System.nanoTime();
+            try {
+                processInUnitOfWork(batch, unitOfWork, processingSegments);
+            } catch (Exception e) {
+                adaptiveBatchSize.batchFailed();
+                throw e;
+            }
+            adaptiveBatchSize.batchProcessed(
+                    batch.size(), System.nanoTime() - processingStart, !eventStream.hasNextAvailable()
+            );
 
             TrackerStatus previousStatus = activeSegments.get(segment.getSegmentId());
             TrackerStatus updatedStatus =
@@ -466,6 +490,18 @@ private void processBatch(Segment segment, BlockingStream<TrackedEventMessage<?>
         }
     }
 
+    private UnitOfWork<? extends EventMessage<?>> unitOfWorkFor(List<TrackedEventMessage<?>> batch) {
+        // every worker thread reuses the Unit of Work of its previous batch, as long as that one has been closed
+        BatchingUnitOfWork<TrackedEventMessage<?>> unitOfWork = reusableUnitOfWork.get();
+        if (unitOfWork != null && unitOfWork.phase() == UnitOfWork.Phase.CLOSED) {
+            unitOfWork.reset(batch);
+        } else {
+            unitOfWork = new BatchingUnitOfWork<>(batch);
+            reusableUnitOfWork.set(unitOfWork);
+        }
+        return unitOfWork;
+    }
+
     private void ignoreEvent(BlockingStream<TrackedEventMessage<?>> eventStream,
                              TrackedEventMessage<?> trackedEventMessage) {
         if (!canHandleType(trackedEventMessage.getPayloadType())) {
@@ -539,10 +575,17 @@ private BlockingStream<TrackedEventMessage<?>> doOpenStream(TrackingToken tracki
         if (trackingToken instanceof WrappedToken) {
             return new WrappedMessageStream(
                     (WrappedToken) trackingToken,
-                    messageSource.openStream(WrappedToken.unwrapLowerBound(trackingToken))
+                    openSourceStream(WrappedToken.unwrapLowerBound(trackingToken))
             );
         }
-        return messageSource.openStream(WrappedToken.unwrapLowerBound(trackingToken));
+        return openSourceStream(WrappedToken.unwrapLowerBound(trackingToken));
+    }
+
+    private BlockingStream<TrackedEventMessage<?>> openSourceStream(TrackingToken trackingToken) {
+        BlockingStream<TrackedEventMessage<?>> sourceStream = messageSource.openStream(trackingToken);
+        return prefetchBufferSize > 0
+                ? new PrefetchingBlockingStream<>(sourceStream, prefetchBufferSize, threadFactory)
+                : sourceStream;
     }
 
     /**
@@ -708,6 +751,34 @@ public Map<Integer, EventTrackerStatus> processingStatus() {
         return Collections.unmodifiableMap(activeSegments);
     }
 
+    @Override
+    public Map<Integer, Integer> segmentBatchSize() {
+        Map<Integer, Integer> segmentBatchSize = new HashMap<>();
+        activeSegments.keySet().forEach(segmentId -> {
+            AdaptiveBatchSize adaptiveBatchSize = batchSizes.get(segmentId);
+            segmentBatchSize.put(segmentId, adaptiveBatchSize == null ? batchSize : adaptiveBatchSize.current());
+        });
+        return segmentBatchSize;
+    }
+
+    @Override
+    public Map<Integer, Long> segmentLag() {
+        if (activeSegments.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        TrackingToken headToken;
+        try {
+            headToken = messageSource.createHeadToken();
+        } catch (UnsupportedOperationException e) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, Long> segmentLag = new HashMap<>();
+        activeSegments.forEach(
+                (segmentId, status) -> status.lagBehind(headToken).ifPresent(lag -> segmentLag.put(segmentId, lag))
+        );
+        return segmentLag;
+    }
+
     /**
      * Get the state of the event processor. This will indicate whether or not the processor has started or is shutting
      * down.
@@ -850,6 +921,12 @@ public Builder messageMonitor(MessageMonitor<? super EventMessage<?>> messageMon
             return this;
         }
 
+        @Override
+        public Builder spanFactory(SpanFactory spanFactory) {
+            super.spanFactory(spanFactory);
+            return this;
+        }
+
         /**
          * Sets the {@link StreamableMessageSource} (e.g. the {@link EventBus}) which this {@link EventProcessor} will
          * track.
@@ -1076,64 +1153,64 @@ public void run() {
                 // Submit segmentation workers matching the size of our thread pool (-1 for the current dispatcher).
                 // Keep track of the last processed segments...
                 TrackingSegmentWorker workingInCurrentThread = null;
-                for (int i = 0; i < tokenStoreCurrentSegments.length && availableThreads.get() > 0; i++) {
-                    int segmentId = tokenStoreCurrentSegments[i];
-
-                    if (!activeSegments.containsKey(segmentId) && canClaimSegment(segmentId)) {
-                        try {
-                            transactionManager.executeInTransaction(() -> {
-                                TrackingToken token = tokenStore.fetchToken(processorName, segmentId);
-                                int[] segmentIds = tokenStore.fetchSegments(processorName);
+                Set<Integer> claimCandidates = Arrays.stream(tokenStoreCurrentSegments)
+                                                     .filter(segmentId -> !activeSegments.containsKey(segmentId))
+                                                     .filter(TrackingEventProcessor.this::canClaimSegment)
+                                                     .boxed()
+                                                     .collect(Collectors.toSet());
+                int maxSegmentsToClaim = availableThreads.get();
+                if (!claimCandidates.isEmpty() && maxSegmentsToClaim > 0) {
+                    List<Segment> claimedSegments = new ArrayList<>();
+                    try {
+                        transactionManager.executeInTransaction(() -> {
+                            Map<Integer, TrackingToken> claimedTokens = tokenStore.claimAvailableSegments(
+                                    processorName, maxSegmentsToClaim, claimCandidates::contains
+                            );
+                            int[] segmentIds = claimedTokens.isEmpty()
+                                    ? new int[0]
+                                    : tokenStore.fetchSegments(processorName);
+                            claimedTokens.forEach((segmentId, token) -> {
                                 Segment segment = Segment.computeSegment(segmentId, segmentIds);
                                 logger.info("Worker assigned to segment {} for processing", segment);
                                 TrackerStatus newStatus = new TrackerStatus(segment, token);
                                 TrackerStatus previousStatus = activeSegments.putIfAbsent(segmentId, newStatus);
 
                                 if (previousStatus == null) {
+                                    claimedSegments.add(segment);
                                     trackerStatusChangeListener.onEventTrackerStatusChange(
                                             singletonMap(segmentId, new AddedTrackerStatus(newStatus))
                                     );
                                 }
                             });
-                        } catch (UnableToClaimTokenException ucte) {
-                            // When not able to claim a token for a given segment, we skip the
-                            logger.debug("Unable to claim the token for segment: {}. It is owned by another process",
-                                         segmentId);
-
-                            TrackerStatus removedStatus = activeSegments.remove(segmentId);
+                        });
+                    } catch (Exception e) {
+                        claimedSegments.forEach(segment -> {
+                            TrackerStatus removedStatus = activeSegments.remove(segment.getSegmentId());
                             if (removedStatus != null) {
                                 trackerStatusChangeListener.onEventTrackerStatusChange(
-                                        singletonMap(segmentId, new RemovedTrackerStatus(removedStatus))
+                                        singletonMap(segment.getSegmentId(), new RemovedTrackerStatus(removedStatus))
                                 );
                             }
-
-                            continue;
-                        } catch (Exception e) {
-                            TrackerStatus removedStatus = activeSegments.remove(segmentId);
-                            if (removedStatus != null) {
-                                trackerStatusChangeListener.onEventTrackerStatusChange(
-                                        singletonMap(segmentId, new RemovedTrackerStatus(removedStatus))
-                                );
-                            }
-                            if (AxonNonTransientException.isCauseOf(e)) {
-                                logger.error(
-                                        "An unrecoverable error has occurred wile attempting to claim a token "
-                                                + "for segment: {}. Shutting down processor [{}].",
-                                        segmentId, getName(), e
-                                );
-                                state.set(State.PAUSED_ERROR);
-                                break;
-                            }
+                        });
+                        claimedSegments.clear();
+                        if (AxonNonTransientException.isCauseOf(e)) {
+                            logger.error(
+                                    "An unrecoverable error has occurred wile attempting to claim tokens "
+                                            + "for segments: {}. Shutting down processor [{}].",
+                                    claimCandidates, getName(), e
+                            );
+                            state.set(State.PAUSED_ERROR);
+                        } else {
                             logger.info(
-                                    "An error occurred while attempting to claim a token for segment: {}. "
+                                    "An error occurred while attempting to claim tokens for segments: {}. "
                                             + "Will retry later...",
-                                    segmentId, e
+                                    claimCandidates, e
                             );
-                            break;
                         }
+                    }
 
-                        TrackingSegmentWorker trackingSegmentWorker =
-                                new TrackingSegmentWorker(activeSegments.get(segmentId).getSegment());
+                    for (Segment segment : claimedSegments) {
+                        TrackingSegmentWorker trackingSegmentWorker = new TrackingSegmentWorker(segment);
                         if (availableThreads.decrementAndGet() > 0) {
                             logger.info("Dispatching new tracking segment worker: {}", trackingSegmentWorker);
                             threadFactory.newThread(trackingSegmentWorker).start();
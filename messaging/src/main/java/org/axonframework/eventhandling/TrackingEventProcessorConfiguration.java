@@ -45,11 +45,13 @@ public class TrackingEventProcessorConfiguration {
 
     private final int maxThreadCount;
     private int batchSize;
+    private int maxBatchSize;
     private int initialSegmentCount;
     private Function<StreamableMessageSource<TrackedEventMessage<?>>, TrackingToken> initialTrackingTokenBuilder = StreamableMessageSource::createTailToken;
     private Function<String, ThreadFactory> threadFactory;
     private long tokenClaimInterval;
     private int eventAvailabilityTimeout = 1000;
+    private int prefetchBufferSize;
     private EventTrackerStatusChangeListener eventTrackerStatusChangeListener = EventTrackerStatusChangeListener.noOp();
 
     /**
@@ -91,6 +93,27 @@ public TrackingEventProcessorConfiguration andBatchSize(int batchSize) {
         return this;
     }
 
+    /**
+     * Configures the processor to adapt the number of events it processes in a single batch to the state of each
+     * segment, varying between the given {@code minBatchSize} and {@code maxBatchSize}. While a segment is behind, the
+     * batch size grows towards the {@code maxBatchSize}, reducing the number of transactions and token updates. Once
+     * the segment has caught up, the batch size returns to the {@code minBatchSize} to minimize latency. See {@link
+     * AdaptiveBatchSize} for details.
+     * <p>
+     * By default, the batch size is fixed to the value provided through {@link #andBatchSize(int)}.
+     *
+     * @param minBatchSize the minimum number of events to process in a single batch
+     * @param maxBatchSize the maximum number of events to process in a single batch
+     * @return {@code this} for method chaining
+     */
+    public TrackingEventProcessorConfiguration andAdaptiveBatchSize(int minBatchSize, int maxBatchSize) {
+        Assert.isTrue(maxBatchSize >= minBatchSize,
+                      () -> "Maximum batch size must be greater or equal to the minimum batch size");
+        andBatchSize(minBatchSize);
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
     /**
      * @param segmentsSize The number of segments requested for handling asynchronous processing of events.
      * @return {@code this} for method chaining
@@ -141,6 +164,25 @@ public TrackingEventProcessorConfiguration andEventAvailabilityTimeout(long inte
         return this;
     }
 
+    /**
+     * Configures the processor to read events ahead of their handling. Every segment's event stream is read by a
+     * separate reader thread, created through the configured {@link ThreadFactory}, into a buffer holding up to the
+     * given {@code prefetchBufferSize} events. Reading the next events from the event source thus overlaps with
+     * handling the current batch, which improves throughput when reading events is expensive, for example during a
+     * replay. Events are deserialized lazily on the processing thread, as without prefetching.
+     * <p>
+     * Defaults to {@code 0}, meaning events are read by the thread handling them.
+     *
+     * @param prefetchBufferSize the maximum number of events read ahead of their handling per segment, or {@code 0}
+     *                           to disable reading ahead
+     * @return {@code this} for method chaining
+     */
+    public TrackingEventProcessorConfiguration andPrefetchBufferSize(int prefetchBufferSize) {
+        Assert.isTrue(prefetchBufferSize >= 0, () -> "Prefetch buffer size may not be negative");
+        this.prefetchBufferSize = prefetchBufferSize;
+        return this;
+    }
+
     /**
      * Sets the Builder to use to create the initial tracking token. This token is used by the processor as a starting
      * point.
@@ -188,6 +230,14 @@ public int getBatchSize() {
         return batchSize;
     }
 
+    /**
+     * @return the maximum number of events to process in a single batch when adapting the batch size. Equal to the
+     * {@link #getBatchSize() batch size} if the batch size is fixed.
+     */
+    public int getMaxBatchSize() {
+        return Math.max(batchSize, maxBatchSize);
+    }
+
     /**
      * @return the number of segments requested for handling asynchronous processing of events.
      */
@@ -217,6 +267,17 @@ public int getEventAvailabilityTimeout() {
         return eventAvailabilityTimeout;
     }
 
+    /**
+     * Returns the maximum number of events read ahead of their handling per segment. A value of {@code 0} indicates
+     * events are read by the thread handling them.
+     *
+     * @return the maximum number of events read ahead of their handling per segment
+     * @see #andPrefetchBufferSize(int)
+     */
+    public int getPrefetchBufferSize() {
+        return prefetchBufferSize;
+    }
+
     /**
      * Provides the ThreadFactory to use to construct Threads for the processor with given {@code processorName}
      *
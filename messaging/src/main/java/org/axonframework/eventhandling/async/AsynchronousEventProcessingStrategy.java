@@ -47,6 +47,7 @@ public class AsynchronousEventProcessingStrategy implements EventProcessingStrat
     private final Executor executor;
     private final SequencingPolicy<? super EventMessage<?>> sequencingPolicy;
     private final ConcurrentMap<Object, EventProcessorTask> currentTasks = new ConcurrentHashMap<>();
+    private final PartitionedSequenceExecutor sequenceExecutor;
 
     /**
      * Initializes a new {@link AsynchronousEventProcessingStrategy} that uses the given {@code executor} to execute
@@ -60,6 +61,33 @@ public AsynchronousEventProcessingStrategy(Executor executor,
                                                SequencingPolicy<? super EventMessage<?>> sequencingPolicy) {
         this.executor = requireNonNull(executor);
         this.sequencingPolicy = requireNonNull(sequencingPolicy);
+        this.sequenceExecutor = null;
+    }
+
+    /**
+     * Initializes a new {@link AsynchronousEventProcessingStrategy} that uses the given {@code sequenceExecutor} to
+     * process events in sequence and {@code executor} to process events for which the {@code sequencingPolicy} does
+     * not define a sequence.
+     * <p>
+     * Contrary to the {@link #AsynchronousEventProcessingStrategy(Executor, SequencingPolicy) default strategy}, no
+     * {@link EventProcessorTask} is created per sequence. Instead, sequences are divided over the partitions of the
+     * {@link PartitionedSequenceExecutor}, which avoids contention between threads publishing events for many
+     * different sequences.
+     * <p>
+     * Note that exceptions thrown while processing sequenced events are logged by the {@code
+     * PartitionedSequenceExecutor}, after which it continues with the next events. The default strategy propagates
+     * these exceptions to the thread of the {@code executor} instead.
+     *
+     * @param executor         the executor processing events that may be processed in parallel
+     * @param sequenceExecutor the executor processing events in sequence
+     * @param sequencingPolicy the policy that determines if an event may be processed in sequence or in parallel
+     */
+    public AsynchronousEventProcessingStrategy(Executor executor,
+                                               PartitionedSequenceExecutor sequenceExecutor,
+                                               SequencingPolicy<? super EventMessage<?>> sequencingPolicy) {
+        this.executor = requireNonNull(executor);
+        this.sequenceExecutor = requireNonNull(sequenceExecutor);
+        this.sequencingPolicy = requireNonNull(sequencingPolicy);
     }
 
     @Override
@@ -101,7 +129,11 @@ protected void schedule(List<? extends EventMessage<?>> events,
                     logger.debug("Scheduling task of type [{}] for sequential processing in group [{}]",
                                  events.getClass().getSimpleName(), sequenceIdentifier.toString());
                 }
-                assignEventsToScheduler(eventGroup, sequenceIdentifier, processor);
+                if (sequenceExecutor != null) {
+                    sequenceExecutor.schedule(sequenceIdentifier, eventGroup, processor);
+                } else {
+                    assignEventsToScheduler(eventGroup, sequenceIdentifier, processor);
+                }
             }
         });
     }
@@ -25,6 +25,8 @@
 import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 /**
@@ -43,7 +45,7 @@ public class EventProcessorTask implements Runnable {
     private boolean isScheduled = false;
     private volatile boolean cleanedUp;
 
-    private final Object runnerMonitor = new Object();
+    private final Lock runnerLock = new ReentrantLock();
 
     /**
      * Initialize a scheduler using the given {@code executor}. This scheduler uses an unbounded queue to schedule
@@ -87,7 +89,9 @@ public synchronized boolean scheduleEvents(List<? extends EventMessage<?>> event
 
     @Override
     public void run() {
-        synchronized (runnerMonitor) {
+        // a lock rather than a monitor, as blocking event handlers would otherwise pin virtual threads
+        runnerLock.lock();
+        try {
             boolean mayContinue = true;
             int itemsAtStart = taskQueue.size();
             int processedItems = 0;
@@ -97,6 +101,8 @@ public void run() {
                 // Continue processing if there is no rescheduling involved and there are events in the queue, or if yielding failed
                 mayContinue = (processedItems < itemsAtStart && !taskQueue.isEmpty()) || !yield();
             }
+        } finally {
+            runnerLock.unlock();
         }
     }
 
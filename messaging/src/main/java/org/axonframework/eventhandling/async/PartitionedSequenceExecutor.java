@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.eventhandling.async;
+
+import org.axonframework.common.Assert;
+import org.axonframework.eventhandling.EventMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executes event processing tasks in the order in which they were scheduled per sequence identifier, using a fixed
+ * number of partitions. Every sequence identifier is assigned to a partition based on its hash, and every partition
+ * holds a lock-free queue of tasks that is drained by at most one thread at a time. As a result, tasks for the same
+ * sequence are never processed concurrently, while tasks for sequences in different partitions are processed in
+ * parallel.
+ * <p>
+ * Contrary to the {@link EventProcessorTask}, no task or lock is created or acquired per sequence identifier. As a
+ * trade-off, sequences assigned to the same partition are processed one after the other, even though they would have
+ * been allowed to be processed in parallel.
+ * <p>
+ * Consecutive tasks in a partition that belong to the same sequence and processor are combined into a single batch of
+ * at most the configured batch size, reducing the number of invocations of the processor. Processors are compared
+ * using {@link Object#equals(Object)}, so callers need to schedule events with the same processor instance for their
+ * events to be combined.
+ * <p>
+ * An exception thrown by the processor is logged, after which the partition continues with the next task. This
+ * prevents a failing sequence from halting the other sequences in its partition. Note that this differs from the
+ * {@link EventProcessorTask}, which propagates the exception to the thread of the executor. An {@link Error} is
+ * propagated to the thread of the executor, leaving the remaining tasks of the partition to be processed once a task is
+ * scheduled on it again.
+ *
+ * @since 4.6.0
+ */
+public class PartitionedSequenceExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionedSequenceExecutor.class);
+
+    private final Executor executor;
+    private final Partition[] partitions;
+    private final int batchSize;
+
+    /**
+     * Initializes a {@link PartitionedSequenceExecutor} scheduling the processing of events on the given {@code
+     * executor}, in the given number of {@code partitions}. Consecutive events of the same sequence are combined in
+     * batches of at most {@code batchSize} events.
+     *
+     * @param executor   the executor processing the events
+     * @param partitions the number of partitions to divide the sequences over, which limits the number of threads
+     *                   processing sequenced events concurrently
+     * @param batchSize  the maximum number of events of a sequence to combine into a single batch
+     */
+    public PartitionedSequenceExecutor(Executor executor, int partitions, int batchSize) {
+        this.executor = requireNonNull(executor);
+        Assert.isTrue(partitions > 0, () -> "The number of partitions should be a positive number");
+        Assert.isTrue(batchSize > 0, () -> "The batch size should be a positive number");
+        this.partitions = new Partition[partitions];
+        for (int i = 0; i < partitions; i++) {
+            this.partitions[i] = new Partition();
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Schedules the given {@code events} for processing by the given {@code processor}, after any events previously
+     * scheduled for the same {@code sequenceIdentifier}.
+     * <p>
+     * If the executor rejects the task draining the partition of the sequence, the events remain scheduled and the
+     * {@link RejectedExecutionException} is rethrown. The events are processed once events are successfully scheduled
+     * on the same partition.
+     *
+     * @param sequenceIdentifier the identifier of the sequence the events belong to
+     * @param events             the events to process
+     * @param processor          the component processing the events
+     */
+    public void schedule(Object sequenceIdentifier,
+                         List<? extends EventMessage<?>> events,
+                         Consumer<List<? extends EventMessage<?>>> processor) {
+        partitionFor(sequenceIdentifier).schedule(new SequencedTask(sequenceIdentifier, events, processor));
+    }
+
+    /**
+     * Returns the number of partitions the sequences are divided over.
+     *
+     * @return the number of partitions the sequences are divided over
+     */
+    public int partitionCount() {
+        return partitions.length;
+    }
+
+    /**
+     * Returns the number of scheduled tasks that have not been processed yet, over all partitions.
+     *
+     * @return the number of scheduled tasks that have not been processed yet
+     */
+    public int queueDepth() {
+        int queueDepth = 0;
+        for (Partition partition : partitions) {
+            queueDepth += partition.depth.get();
+        }
+        return queueDepth;
+    }
+
+    /**
+     * Returns the number of scheduled tasks that have not been processed yet in the partition with given {@code
+     * partitionIndex}.
+     *
+     * @param partitionIndex the index of the partition, between {@code 0} and {@link #partitionCount()}
+     * @return the number of scheduled tasks that have not been processed yet in the given partition
+     */
+    public int queueDepth(int partitionIndex) {
+        return partitions[partitionIndex].depth.get();
+    }
+
+    private Partition partitionFor(Object sequenceIdentifier) {
+        int hash = sequenceIdentifier.hashCode();
+        return partitions[Math.floorMod(hash ^ (hash >>> 16), partitions.length)];
+    }
+
+    private final class Partition implements Runnable {
+
+        private final Queue<SequencedTask> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private void schedule(SequencedTask task) {
+            depth.incrementAndGet();
+            queue.add(task);
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            boolean mayContinue = true;
+            while (mayContinue) {
+                // process the tasks present at the start, leaving the thread to other partitions afterwards
+                int itemsAtStart = depth.get();
+                int processedItems = 0;
+                try {
+                    while (processedItems < itemsAtStart && !queue.isEmpty()) {
+                        processedItems += processNextBatch();
+                    }
+                } finally {
+                    // an Error leaves the loop as well, which must not prevent the partition from being scheduled again
+                    scheduled.set(false);
+                }
+                mayContinue = !queue.isEmpty() && scheduled.compareAndSet(false, true) && !yield();
+            }
+        }
+
+        private int processNextBatch() {
+            SequencedTask task = queue.poll();
+            if (task == null) {
+                return 0;
+            }
+            depth.decrementAndGet();
+            int taskCount = 1;
+            List<? extends EventMessage<?>> events = task.events;
+            SequencedTask next = queue.peek();
+            if (next != null && task.isFollowedBy(next) && events.size() + next.events.size() <= batchSize) {
+                List<EventMessage<?>> batch = new ArrayList<>(events);
+                while (next != null && task.isFollowedBy(next) && batch.size() + next.events.size() <= batchSize) {
+                    batch.addAll(queue.poll().events);
+                    depth.decrementAndGet();
+                    taskCount++;
+                    next = queue.peek();
+                }
+                events = batch;
+            }
+            try {
+                task.processor.accept(events);
+            } catch (RuntimeException e) {
+                logger.error("Processing of events in sequence [{}] failed. Continuing with the next task.",
+                             task.sequenceIdentifier, e);
+            }
+            return taskCount;
+        }
+
+        private boolean yield() {
+            try {
+                executor.execute(this);
+                return true;
+            } catch (RejectedExecutionException e) {
+                logger.info("Processing of sequenced events could not yield. Executor refused the task.");
+                return false;
+            }
+        }
+    }
+
+    private static final class SequencedTask {
+
+        private final Object sequenceIdentifier;
+        private final List<? extends EventMessage<?>> events;
+        private final Consumer<List<? extends EventMessage<?>>> processor;
+
+        private SequencedTask(Object sequenceIdentifier,
+                              List<? extends EventMessage<?>> events,
+                              Consumer<List<? extends EventMessage<?>>> processor) {
+            this.sequenceIdentifier = sequenceIdentifier;
+            this.events = events;
+            this.processor = processor;
+        }
+
+        private boolean isFollowedBy(SequencedTask next) {
+            return Objects.equals(sequenceIdentifier, next.sequenceIdentifier) && processor.equals(next.processor);
+        }
+    }
+}
@@ -26,7 +26,6 @@
 import org.axonframework.eventhandling.TrackingToken;
 import org.axonframework.eventhandling.WrappedToken;
 import org.axonframework.eventhandling.tokenstore.TokenStore;
-import org.axonframework.eventhandling.tokenstore.UnableToClaimTokenException;
 import org.axonframework.messaging.StreamableMessageSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,9 +35,11 @@
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -49,6 +50,7 @@
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
 import static org.axonframework.common.io.IOUtils.closeQuietly;
@@ -80,6 +82,7 @@ class Coordinator {
     private final ScheduledExecutorService executorService;
     private final BiFunction<Segment, TrackingToken, WorkPackage> workPackageFactory;
     private final EventFilter eventFilter;
+    private final SegmentMatcher segmentMatcher;
     private final Consumer<? super TrackedEventMessage<?>> ignoredMessageHandler;
     private final BiConsumer<Integer, UnaryOperator<TrackerStatus>> processingStatusUpdater;
     private final long tokenClaimInterval;
@@ -112,6 +115,7 @@ private Coordinator(Builder builder) {
         this.executorService = builder.executorService;
         this.workPackageFactory = builder.workPackageFactory;
         this.eventFilter = builder.eventFilter;
+        this.segmentMatcher = builder.segmentMatcher;
         this.ignoredMessageHandler = builder.ignoredMessageHandler;
         this.processingStatusUpdater = builder.processingStatusUpdater;
         this.tokenClaimInterval = builder.tokenClaimInterval;
@@ -330,6 +334,26 @@ interface EventFilter {
         boolean canHandleTypeOf(TrackedEventMessage<?> eventMessage);
     }
 
+    /**
+     * Functional interface defining for which {@link Segment}s a given {@link TrackedEventMessage} can be handled.
+     * Allows the {@link Coordinator} to compute the segment independent parts of this decision, like the sequence
+     * identifier of the event, once per event instead of once per {@link WorkPackage}.
+     */
+    @FunctionalInterface
+    interface SegmentMatcher {
+
+        /**
+         * Returns a {@link Predicate} indicating for which {@link Segment}s the given {@code eventMessage} can be
+         * handled.
+         *
+         * @param eventMessage the {@link TrackedEventMessage} to validate for which segments it can be handled
+         * @return a {@link Predicate} returning {@code true} for the segments in which the given {@code eventMessage}
+         * can be handled
+         * @throws Exception when validating of the given {@code eventMessage} fails
+         */
+        Predicate<Segment> matcherFor(TrackedEventMessage<?> eventMessage) throws Exception;
+    }
+
     /**
      * Package private builder class to construct a {@link Coordinator}. Not used for validation of the fields as is the
      * case with most builders, but purely to clarify the construction of a {@code WorkPackage}.
@@ -343,6 +367,7 @@ static class Builder {
         private ScheduledExecutorService executorService;
         private BiFunction<Segment, TrackingToken, WorkPackage> workPackageFactory;
         private EventFilter eventFilter;
+        private SegmentMatcher segmentMatcher;
         private Consumer<? super TrackedEventMessage<?>> ignoredMessageHandler = i -> {
         };
         private BiConsumer<Integer, UnaryOperator<TrackerStatus>> processingStatusUpdater;
@@ -433,6 +458,20 @@ Builder eventFilter(EventFilter eventFilter) {
             return this;
         }
 
+        /**
+         * A {@link SegmentMatcher} used to decide once per {@link TrackedEventMessage} for which {@link Segment}s it
+         * can be handled, after which every {@link WorkPackage} is told whether it can handle the event. If not set,
+         * every {@code WorkPackage} decides for itself whether it can handle an event.
+         *
+         * @param segmentMatcher a {@link SegmentMatcher} used to decide for which {@link Segment}s a {@link
+         *                       TrackedEventMessage} can be handled
+         * @return the current Builder instance, for fluent interfacing
+         */
+        Builder segmentMatcher(SegmentMatcher segmentMatcher) {
+            this.segmentMatcher = segmentMatcher;
+            return this;
+        }
+
 
         /**
          * A {@link Consumer} of {@link TrackedEventMessage} that is invoked when the event is ignored by all {@link
@@ -704,25 +743,32 @@ private Map<Segment, TrackingToken> claimNewSegments() {
 
             int maxSegmentsToClaim = maxClaimedSegments - workPackages.size();
 
+            Set<Integer> claimCandidates = new HashSet<>();
             for (int segmentId : unClaimedSegments) {
                 if (isSegmentBlockedFromClaim(segmentId)) {
                     logger.debug("Segment {} is still marked to not be claimed by Processor [{}].", segmentId, name);
                     processingStatusUpdater.accept(segmentId, u -> null);
-                    continue;
-                }
-                if (newClaims.size() < maxSegmentsToClaim) {
-                    try {
-                        TrackingToken token = transactionManager.fetchInTransaction(
-                                () -> tokenStore.fetchToken(name, segmentId)
-                        );
-                        newClaims.put(Segment.computeSegment(segmentId, segments), token);
-                    } catch (UnableToClaimTokenException e) {
-                        processingStatusUpdater.accept(segmentId, u -> null);
-                        logger.debug("Unable to claim the token for segment {}. It is owned by another process.",
-                                     segmentId);
-                    }
+                } else {
+                    claimCandidates.add(segmentId);
                 }
             }
+            if (claimCandidates.isEmpty() || maxSegmentsToClaim <= 0) {
+                return newClaims;
+            }
+
+            Map<Integer, TrackingToken> claimedTokens = transactionManager.fetchInTransaction(
+                    () -> tokenStore.claimAvailableSegments(name, maxSegmentsToClaim, claimCandidates::contains)
+            );
+            claimedTokens.forEach(
+                    (segmentId, token) -> newClaims.put(Segment.computeSegment(segmentId, segments), token)
+            );
+            claimCandidates.stream()
+                           .filter(segmentId -> !claimedTokens.containsKey(segmentId))
+                           .forEach(segmentId -> {
+                               processingStatusUpdater.accept(segmentId, u -> null);
+                               logger.debug("Did not claim the token for segment {}. It is owned by another "
+                                                    + "process or the maximum number of claims is reached.", segmentId);
+                           });
 
             return newClaims;
         }
@@ -765,6 +811,10 @@ private boolean isSpaceAvailable() {
          * the event through their response on {@link WorkPackage#scheduleEvent(TrackedEventMessage)}. If none of the
          * {@code WorkPackage}s can handle the event it will be ignored.
          * <p>
+         * If a {@link SegmentMatcher} is configured, the {@link Segment}s in which an event can be handled are decided
+         * once per event, after which every {@code WorkPackage} is told whether it can handle the event through {@link
+         * WorkPackage#scheduleEvent(TrackedEventMessage, boolean)}.
+         * <p>
          * Secondly, the {@code WorkPackage}s are checked if they are aborted. If any are aborted, this {@link
          * Coordinator} will abandon the {@code WorkPackage} and release the claim on the token.
          * <p>
@@ -780,9 +830,10 @@ private void coordinateWorkPackages() throws InterruptedException {
                  fetched++) {
                 TrackedEventMessage<?> event = eventStream.nextAvailable();
 
+                Predicate<Segment> matcher = matcherFor(event);
                 boolean anyScheduled = false;
                 for (WorkPackage workPackage : workPackages.values()) {
-                    boolean scheduled = workPackage.scheduleEvent(event);
+                    boolean scheduled = scheduleEvent(workPackage, event, matcher);
                     anyScheduled = anyScheduled || scheduled;
                 }
                 if (!anyScheduled) {
@@ -793,6 +844,8 @@ private void coordinateWorkPackages() throws InterruptedException {
                 }
                 lastScheduledToken = event.trackingToken();
             }
+            boolean caughtUp = !eventStream.hasNextAvailable();
+            workPackages.values().forEach(workPackage -> workPackage.streamCaughtUp(caughtUp));
 
             // If a work package has been aborted by something else than the Coordinator. We should abandon it.
             workPackages.values().stream()
@@ -804,6 +857,35 @@ private void coordinateWorkPackages() throws InterruptedException {
                         .forEach(WorkPackage::scheduleWorker);
         }
 
+        private Predicate<Segment> matcherFor(TrackedEventMessage<?> event) {
+            if (segmentMatcher == null) {
+                return null;
+            }
+            try {
+                return segmentMatcher.matcherFor(event);
+            } catch (Exception e) {
+                // Leave the decision to the work packages, which abort themselves if it fails again
+                logger.debug("Processor [{}] failed to match event [{}] to the segments of its work packages.",
+                             name, event.getIdentifier(), e);
+                return null;
+            }
+        }
+
+        private boolean scheduleEvent(WorkPackage workPackage,
+                                      TrackedEventMessage<?> event,
+                                      Predicate<Segment> matcher) {
+            if (matcher == null) {
+                return workPackage.scheduleEvent(event);
+            }
+            boolean canHandle;
+            try {
+                canHandle = matcher.test(workPackage.segment());
+            } catch (Exception e) {
+                return workPackage.scheduleEvent(event);
+            }
+            return workPackage.scheduleEvent(event, canHandle);
+        }
+
         private void scheduleImmediateCoordinationTask() {
             scheduleCoordinationTask(0);
         }
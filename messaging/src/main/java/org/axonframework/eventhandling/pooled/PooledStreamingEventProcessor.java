@@ -20,6 +20,7 @@
 import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.eventhandling.AbstractEventProcessor;
+import org.axonframework.eventhandling.AdaptiveBatchSize;
 import org.axonframework.eventhandling.ErrorHandler;
 import org.axonframework.eventhandling.EventHandlerInvoker;
 import org.axonframework.eventhandling.EventMessage;
@@ -33,25 +34,37 @@
 import org.axonframework.eventhandling.TrackedEventMessage;
 import org.axonframework.eventhandling.TrackerStatus;
 import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventhandling.async.SequencingPolicy;
+import org.axonframework.eventhandling.async.SequentialPerAggregatePolicy;
 import org.axonframework.eventhandling.tokenstore.TokenStore;
 import org.axonframework.lifecycle.Phase;
 import org.axonframework.lifecycle.ShutdownHandler;
 import org.axonframework.lifecycle.StartHandler;
 import org.axonframework.messaging.StreamableMessageSource;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
 import org.axonframework.messaging.unitofwork.RollbackConfiguration;
 import org.axonframework.messaging.unitofwork.RollbackConfigurationType;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.monitoring.NoOpMessageMonitor;
+import org.axonframework.tracing.SpanFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.invoke.MethodHandles;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -63,6 +76,7 @@
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
 import static org.axonframework.common.BuilderUtils.assertStrictPositive;
+import static org.axonframework.common.BuilderUtils.assertThat;
 
 /**
  * A {@link StreamingEventProcessor} implementation which pools it's resources to enhance processing speed. It utilizes
@@ -100,10 +114,14 @@ public class PooledStreamingEventProcessor extends AbstractEventProcessor implem
     private final int maxClaimedSegments;
     private final long claimExtensionThreshold;
     private final int batchSize;
+    private final int maxBatchSize;
+    private final Executor batchProcessingExecutor;
+    private final SequencingPolicy<? super EventMessage<?>> batchSequencingPolicy;
     private final Clock clock;
 
     private final AtomicReference<String> tokenStoreIdentifier = new AtomicReference<>();
     private final Map<Integer, TrackerStatus> processingStatus = new ConcurrentHashMap<>();
+    private final Map<Integer, AdaptiveBatchSize> batchSizes = new ConcurrentHashMap<>();
 
     /**
      * Instantiate a Builder to be able to create a {@link PooledStreamingEventProcessor}.
@@ -119,6 +137,8 @@ public class PooledStreamingEventProcessor extends AbstractEventProcessor implem
      *     <li>The {@code maxCapacity} (used by {@link #maxCapacity()}) defaults to {@link Short#MAX_VALUE}.</li>
      *     <li>The {@code claimExtensionThreshold} defaults to {@code 5000} milliseconds.</li>
      *     <li>The {@code batchSize} defaults to {@code 1}.</li>
+     *     <li>The {@code maxBatchSize} defaults to the {@code batchSize}, fixing the batch size.</li>
+     *     <li>The {@code batchSequencingPolicy} defaults to a {@link SequentialPerAggregatePolicy}.</li>
      *     <li>The {@link Clock} defaults to {@link GenericEventMessage#clock}.</li>
      * </ul>
      * The following fields of this builder are <b>hard requirements</b> and as such should be provided:
@@ -167,6 +187,9 @@ protected PooledStreamingEventProcessor(PooledStreamingEventProcessor.Builder bu
         this.maxClaimedSegments = builder.maxClaimedSegments;
         this.claimExtensionThreshold = builder.claimExtensionThreshold;
         this.batchSize = builder.batchSize;
+        this.maxBatchSize = Math.max(builder.batchSize, builder.maxBatchSize);
+        this.batchProcessingExecutor = builder.batchProcessingExecutor;
+        this.batchSequencingPolicy = builder.batchSequencingPolicy;
         this.clock = builder.clock;
 
         this.coordinator = Coordinator.builder()
@@ -177,6 +200,7 @@ protected PooledStreamingEventProcessor(PooledStreamingEventProcessor.Builder bu
                                       .executorService(builder.coordinatorExecutorBuilder.apply(name))
                                       .workPackageFactory(this::spawnWorker)
                                       .eventFilter(event -> canHandleType(event.getPayloadType()))
+                                      .segmentMatcher(this::segmentMatcher)
                                       .onMessageIgnored(this::reportIgnored)
                                       .processingStatusUpdater(this::statusUpdater)
                                       .tokenClaimInterval(tokenClaimInterval)
@@ -352,17 +376,101 @@ public Map<Integer, EventTrackerStatus> processingStatus() {
         return Collections.unmodifiableMap(processingStatus);
     }
 
+    @Override
+    public Map<Integer, Long> segmentLag() {
+        if (processingStatus.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        TrackingToken headToken;
+        try {
+            headToken = messageSource.createHeadToken();
+        } catch (UnsupportedOperationException e) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, Long> segmentLag = new HashMap<>();
+        processingStatus.forEach(
+                (segmentId, status) -> status.lagBehind(headToken).ifPresent(lag -> segmentLag.put(segmentId, lag))
+        );
+        return segmentLag;
+    }
+
+    @Override
+    public Map<Integer, Integer> segmentBatchSize() {
+        Map<Integer, Integer> segmentBatchSize = new HashMap<>();
+        processingStatus.keySet().forEach(segmentId -> {
+            AdaptiveBatchSize adaptiveBatchSize = batchSizes.get(segmentId);
+            segmentBatchSize.put(segmentId, adaptiveBatchSize == null ? batchSize : adaptiveBatchSize.current());
+        });
+        return segmentBatchSize;
+    }
+
+    private void processBatch(List<? extends EventMessage<?>> eventMessages,
+                              UnitOfWork<? extends EventMessage<?>> unitOfWork,
+                              Collection<Segment> processingSegments) throws Exception {
+        Collection<List<EventMessage<?>>> sequences =
+                batchProcessingExecutor == null ? Collections.emptyList() : splitIntoSequences(eventMessages);
+        if (sequences.size() <= 1) {
+            unitOfWork.attachTransaction(transactionManager);
+            processInUnitOfWork(eventMessages, unitOfWork, processingSegments);
+            return;
+        }
+
+        unitOfWork.start();
+        CompletableFuture<?>[] processedSequences =
+                sequences.stream()
+                         .map(sequence -> CompletableFuture.runAsync(
+                                 () -> processSequence(sequence, processingSegments), batchProcessingExecutor
+                         ))
+                         .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(processedSequences).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            unitOfWork.rollback(cause);
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+        // only start the transaction storing the token once the sequences have released theirs
+        unitOfWork.attachTransaction(transactionManager);
+        unitOfWork.commit();
+    }
+
+    private Collection<List<EventMessage<?>>> splitIntoSequences(List<? extends EventMessage<?>> eventMessages) {
+        Map<Object, List<EventMessage<?>>> sequences = new LinkedHashMap<>();
+        for (EventMessage<?> eventMessage : eventMessages) {
+            Object sequenceIdentifier = batchSequencingPolicy.getSequenceIdentifierFor(eventMessage);
+            // events without a sequence identifier may be handled in parallel with any other event
+            Object sequenceKey = sequenceIdentifier == null ? new Object() : sequenceIdentifier;
+            sequences.computeIfAbsent(sequenceKey, k -> new ArrayList<>()).add(eventMessage);
+        }
+        return sequences.values();
+    }
+
+    private void processSequence(List<EventMessage<?>> sequence, Collection<Segment> processingSegments) {
+        UnitOfWork<EventMessage<?>> unitOfWork = new BatchingUnitOfWork<>(sequence);
+        try {
+            unitOfWork.attachTransaction(transactionManager);
+            processInUnitOfWork(sequence, unitOfWork, processingSegments);
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
     private WorkPackage spawnWorker(Segment segment, TrackingToken initialToken) {
+        AdaptiveBatchSize adaptiveBatchSize = new AdaptiveBatchSize(batchSize, maxBatchSize);
+        batchSizes.put(segment.getSegmentId(), adaptiveBatchSize);
         return WorkPackage.builder()
                           .name(name)
                           .tokenStore(tokenStore)
                           .transactionManager(transactionManager)
                           .executorService(workerExecutor)
                           .eventFilter(this::canHandle)
-                          .batchProcessor(this::processInUnitOfWork)
+                          .batchProcessor(this::processBatch)
                           .segment(segment)
                           .initialToken(initialToken)
-                          .batchSize(batchSize)
+                          .adaptiveBatchSize(adaptiveBatchSize)
                           .claimExtensionThreshold(claimExtensionThreshold)
                           .segmentStatusUpdater(singleStatusUpdater(
                                   segment.getSegmentId(), new TrackerStatus(segment, initialToken)
@@ -413,6 +521,8 @@ private void statusUpdater(int segmentId, UnaryOperator<TrackerStatus> segmentUp
      *     <li>The {@code maxClaimedSegments} (used by {@link #maxCapacity()}) defaults to {@value Short#MAX_VALUE}.</li>
      *     <li>The {@code claimExtensionThreshold} defaults to {@code 5000} milliseconds.</li>
      *     <li>The {@code batchSize} defaults to {@code 1}.</li>
+     *     <li>The {@code maxBatchSize} defaults to the {@code batchSize}, fixing the batch size.</li>
+     *     <li>The {@code batchSequencingPolicy} defaults to a {@link SequentialPerAggregatePolicy}.</li>
      *     <li>The {@link Clock} defaults to {@link GenericEventMessage#clock}.</li>
      * </ul>
      * The following fields of this builder are <b>hard requirements</b> and as such should be provided:
@@ -439,6 +549,10 @@ public static class Builder extends AbstractEventProcessor.Builder {
         private int maxClaimedSegments = Short.MAX_VALUE;
         private long claimExtensionThreshold = 5000;
         private int batchSize = 1;
+        private int maxBatchSize = 1;
+        private Executor batchProcessingExecutor;
+        private SequencingPolicy<? super EventMessage<?>> batchSequencingPolicy =
+                SequentialPerAggregatePolicy.instance();
         private Clock clock = GenericEventMessage.clock;
 
         protected Builder() {
@@ -475,6 +589,12 @@ public Builder messageMonitor(MessageMonitor<? super EventMessage<?>> messageMon
             return this;
         }
 
+        @Override
+        public Builder spanFactory(SpanFactory spanFactory) {
+            super.spanFactory(spanFactory);
+            return this;
+        }
+
         /**
          * Sets the {@link StreamableMessageSource} (e.g. the {@code EventStore}) which this {@link EventProcessor} will
          * track.
@@ -679,6 +799,80 @@ public Builder batchSize(int batchSize) {
             return this;
         }
 
+        /**
+         * Configures the processor to adapt the number of events processed inside a single transaction to the state of
+         * each segment, varying between the given {@code minBatchSize} and {@code maxBatchSize}. While a segment is
+         * behind, the batch size grows towards the {@code maxBatchSize}, reducing the number of transactions and token
+         * updates. Once the segment has caught up, the batch size returns to the {@code minBatchSize} to minimize
+         * latency. See {@link AdaptiveBatchSize} for details.
+         * <p>
+         * A segment is considered behind as long as the event stream has more events available than the coordinator
+         * has read, or events have been read for the segment that it has not processed yet. To allow batches to reach
+         * the {@code maxBatchSize}, each segment buffers up to {@code maxBatchSize} read events, with a minimum of
+         * {@code 1024}.
+         * <p>
+         * By default, the batch size is fixed to the value provided through {@link #batchSize(int)}.
+         *
+         * @param minBatchSize the minimum number of events to be processed inside a single transaction
+         * @param maxBatchSize the maximum number of events to be processed inside a single transaction
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder adaptiveBatchSize(int minBatchSize, int maxBatchSize) {
+            batchSize(minBatchSize);
+            assertThat(maxBatchSize,
+                       max -> max >= minBatchSize,
+                       "The maximum batch size should be greater than or equal to the minimum batch size");
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Specifies the {@link Executor} used to handle the events of a single batch in parallel. The events of a batch
+         * are split into sequences through the {@link #batchSequencingPolicy(SequencingPolicy)}. Every sequence is
+         * handled on the given {@code batchProcessingExecutor} in its own {@link UnitOfWork} and transaction,
+         * maintaining the order of the events within the sequence. The token of the segment is only updated once all
+         * sequences of the batch have been handled successfully. This allows a single segment to make use of multiple
+         * threads for CPU intensive event handlers.
+         * <p>
+         * Note that this gives up exactly-once handling of a batch. Every sequence commits its own transaction as soon
+         * as it has been handled, before the token of the batch is stored in a separate transaction. When one of the
+         * sequences fails, or the token cannot be stored, the entire batch is handled again, including the sequences
+         * that were already committed. Event handlers used with a {@code batchProcessingExecutor} should thus be
+         * idempotent. The transaction storing the token is only started once all sequences of the batch have been
+         * handled, so a segment uses at most one transaction per sequence at any time.
+         * <p>
+         * The worker thread processing the segment blocks until all sequences of the batch have been handled, without
+         * a timeout. The given {@code batchProcessingExecutor} should therefore never be (or share threads with) the
+         * {@link #workerExecutor(ScheduledExecutorService)}, as the worker could then wait on sequences which can only
+         * run on the thread it occupies, causing a deadlock. By default, no {@code batchProcessingExecutor} is used and
+         * the events of a batch are handled sequentially by the thread processing the segment.
+         *
+         * @param batchProcessingExecutor the {@link Executor} used to handle the events of a single batch in parallel
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder batchProcessingExecutor(Executor batchProcessingExecutor) {
+            assertNonNull(batchProcessingExecutor, "The batch processing Executor may not be null");
+            this.batchProcessingExecutor = batchProcessingExecutor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link SequencingPolicy} splitting the events of a batch into sequences which can be handled in
+         * parallel, if a {@link #batchProcessingExecutor(Executor)} has been configured. Events without a sequence
+         * identifier may be handled in parallel with any other event. This policy should be equal to, or stricter
+         * than, the policy used to divide events over the segments of this processor. Defaults to a {@link
+         * SequentialPerAggregatePolicy}.
+         *
+         * @param batchSequencingPolicy the {@link SequencingPolicy} splitting the events of a batch into sequences
+         *                              which can be handled in parallel
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder batchSequencingPolicy(SequencingPolicy<? super EventMessage<?>> batchSequencingPolicy) {
+            assertNonNull(batchSequencingPolicy, "The batch SequencingPolicy may not be null");
+            this.batchSequencingPolicy = batchSequencingPolicy;
+            return this;
+        }
+
         /**
          * Defines the {@link Clock} used for time dependent operation by this {@link EventProcessor}. Used by the
          * {@link Coordinator} and {@link WorkPackage} threads to decide when to perform certain tasks, like updating
@@ -17,6 +17,7 @@
 package org.axonframework.eventhandling.pooled;
 
 import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.eventhandling.AdaptiveBatchSize;
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.eventhandling.GenericEventMessage;
 import org.axonframework.eventhandling.Segment;
@@ -78,7 +79,8 @@ class WorkPackage {
     private final EventFilter eventFilter;
     private final BatchProcessor batchProcessor;
     private final Segment segment;
-    private final int batchSize;
+    private final AdaptiveBatchSize batchSize;
+    private final int bufferSize;
     private final long claimExtensionThreshold;
     private final Consumer<UnaryOperator<TrackerStatus>> segmentStatusUpdater;
     private final Clock clock;
@@ -87,6 +89,8 @@ class WorkPackage {
     private TrackingToken lastConsumedToken;
     private TrackingToken lastStoredToken;
     private long lastClaimExtension;
+    private BatchingUnitOfWork<TrackedEventMessage<?>> unitOfWork;
+    private volatile boolean streamCaughtUp;
 
     private final Queue<ProcessingEntry> processingQueue = new ConcurrentLinkedQueue<>();
     private final AtomicBoolean scheduled = new AtomicBoolean();
@@ -112,7 +116,10 @@ private WorkPackage(Builder builder) {
         this.batchProcessor = builder.batchProcessor;
         this.segment = builder.segment;
         this.lastDeliveredToken = builder.initialToken;
-        this.batchSize = builder.batchSize;
+        this.batchSize = builder.adaptiveBatchSize != null
+                ? builder.adaptiveBatchSize
+                : new AdaptiveBatchSize(builder.batchSize, builder.batchSize);
+        this.bufferSize = Math.max(BUFFER_SIZE, batchSize.maximum());
         this.claimExtensionThreshold = builder.claimExtensionThreshold;
         this.segmentStatusUpdater = builder.segmentStatusUpdater;
         this.clock = builder.clock;
@@ -135,10 +142,34 @@ public boolean scheduleEvent(TrackedEventMessage<?> event) {
         if (lastDeliveredToken != null && lastDeliveredToken.covers(event.trackingToken())) {
             return false;
         }
+        return schedule(event, canHandle(event));
+    }
+
+    /**
+     * Schedule a {@link TrackedEventMessage} for processing by this work package, for which the {@link Coordinator}
+     * already decided whether it can be handled in this package's {@link Segment}. Will immediately disregard the
+     * given {@code event} if its {@link TrackingToken} is covered by the previously scheduled event.
+     * <p>
+     * An event which cannot be handled is still scheduled, as the token of this work package should move past it.
+     * <p>
+     * <b>Threading note:</b> This method is and should only to be called by the {@link Coordinator} thread of a {@link
+     * PooledStreamingEventProcessor}
+     *
+     * @param event     the event to schedule for work in this work package
+     * @param canHandle whether the given {@code event} can be handled in the {@code segment} of this work package
+     * @return {@code true} if this {@link WorkPackage} scheduled the event for execution, otherwise {@code false}
+     */
+    public boolean scheduleEvent(TrackedEventMessage<?> event, boolean canHandle) {
+        if (lastDeliveredToken != null && lastDeliveredToken.covers(event.trackingToken())) {
+            return false;
+        }
+        return schedule(event, canHandle);
+    }
+
+    private boolean schedule(TrackedEventMessage<?> event, boolean canHandle) {
         logger.debug("Assigned event [{}] with position [{}] to work package [{}].",
                      event.getIdentifier(), event.trackingToken().position().orElse(-1), segment.getSegmentId());
 
-        boolean canHandle = canHandle(event);
         processingQueue.add(new ProcessingEntry(event, canHandle));
         lastDeliveredToken = event.trackingToken();
         // the worker must always be scheduled to ensure claims are extended
@@ -199,7 +230,8 @@ public void scheduleWorker() {
 
     private void processEvents() throws Exception {
         List<TrackedEventMessage<?>> eventBatch = new ArrayList<>();
-        while (!isAbortTriggered() && eventBatch.size() < batchSize && !processingQueue.isEmpty()) {
+        int currentBatchSize = batchSize.current();
+        while (!isAbortTriggered() && eventBatch.size() < currentBatchSize && !processingQueue.isEmpty()) {
             ProcessingEntry entry = processingQueue.poll();
             lastConsumedToken = WrappedToken.advance(lastConsumedToken, entry.eventMessage().trackingToken());
             if (entry.canHandle()) {
@@ -210,13 +242,21 @@ private void processEvents() throws Exception {
         if (!eventBatch.isEmpty()) {
             logger.debug("Work Package [{}]-[{}] is processing a batch of {} events.",
                          segment.getSegmentId(), name, eventBatch.size());
-            UnitOfWork<TrackedEventMessage<?>> unitOfWork = new BatchingUnitOfWork<>(eventBatch);
-            unitOfWork.attachTransaction(transactionManager);
+            UnitOfWork<TrackedEventMessage<?>> unitOfWork = unitOfWorkFor(eventBatch);
             unitOfWork.onPrepareCommit(u -> storeToken(lastConsumedToken));
             unitOfWork.afterCommit(
                     u -> segmentStatusUpdater.accept(status -> status.advancedTo(lastConsumedToken))
             );
-            batchProcessor.processBatch(eventBatch, unitOfWork, Collections.singleton(segment));
+            long processingStart = System.nanoTime();
+            try {
+                batchProcessor.processBatch(eventBatch, unitOfWork, Collections.singleton(segment));
+            } catch (Exception e) {
+                batchSize.batchFailed();
+                throw e;
+            }
+            batchSize.batchProcessed(eventBatch.size(),
+                                     System.nanoTime() - processingStart,
+                                     streamCaughtUp && processingQueue.isEmpty());
         } else {
             segmentStatusUpdater.accept(status -> status.advancedTo(lastConsumedToken));
             if (lastStoredToken != lastConsumedToken) {
@@ -227,6 +267,15 @@ private void processEvents() throws Exception {
         }
     }
 
+    private UnitOfWork<TrackedEventMessage<?>> unitOfWorkFor(List<TrackedEventMessage<?>> eventBatch) {
+        if (unitOfWork != null && unitOfWork.phase() == UnitOfWork.Phase.CLOSED) {
+            unitOfWork.reset(eventBatch);
+        } else {
+            unitOfWork = new BatchingUnitOfWork<>(eventBatch);
+        }
+        return unitOfWork;
+    }
+
     private void extendClaim() {
         logger.debug("Work Package [{}]-[{}] will extend its token claim.", name, segment.getSegmentId());
         tokenStore.extendClaim(name, segment.getSegmentId());
@@ -248,7 +297,22 @@ private void storeToken(TrackingToken token) {
      * been reached
      */
     public boolean hasRemainingCapacity() {
-        return this.processingQueue.size() < BUFFER_SIZE;
+        return this.processingQueue.size() < bufferSize;
+    }
+
+    /**
+     * Notifies this {@link WorkPackage} whether the event stream it receives events from has caught up, meaning no more
+     * events were available after the last events were scheduled. Together with the number of scheduled events that
+     * have not been processed yet, this decides whether the segment of this work package is behind, which allows the
+     * size of its batches to grow.
+     * <p>
+     * <b>Threading note:</b> This method is and should only to be called by the {@link Coordinator} thread of a {@link
+     * PooledStreamingEventProcessor}
+     *
+     * @param caughtUp {@code true} if the event stream had no more events available, {@code false} otherwise
+     */
+    public void streamCaughtUp(boolean caughtUp) {
+        this.streamCaughtUp = caughtUp;
     }
 
     /**
@@ -360,6 +424,10 @@ interface BatchProcessor {
          * Processes a given batch of {@code eventMessages}. These {@code eventMessages} will be processed within the
          * given {@code unitOfWork}. The collection of {@link Segment} instances defines the segments for which the
          * {@code eventMessages} should be processed.
+         * <p>
+         * No transaction is attached to the given {@code unitOfWork} yet. The processor is expected to attach one
+         * before committing it, as the token of the batch is stored when the {@code unitOfWork} commits. This allows
+         * the processor to decide when the transaction is started.
          *
          * @param eventMessages      the batch of {@link EventMessage}s that is to be processed
          * @param unitOfWork         the {@link UnitOfWork} that has been prepared to process the {@code eventMessages}
@@ -387,6 +455,7 @@ static class Builder {
         private Segment segment;
         private TrackingToken initialToken;
         private int batchSize = 1;
+        private AdaptiveBatchSize adaptiveBatchSize;
         private long claimExtensionThreshold = 5000;
         private Consumer<UnaryOperator<TrackerStatus>> segmentStatusUpdater;
         private Clock clock = GenericEventMessage.clock;
@@ -493,6 +562,19 @@ Builder batchSize(int batchSize) {
             return this;
         }
 
+        /**
+         * The {@link AdaptiveBatchSize} deciding the amount of events to be processed in a single batch. Takes
+         * precedence over the {@link #batchSize(int)} if provided.
+         *
+         * @param adaptiveBatchSize the {@link AdaptiveBatchSize} deciding the amount of events to be processed in a
+         *                          single batch
+         * @return the current Builder instance, for fluent interfacing
+         */
+        Builder adaptiveBatchSize(AdaptiveBatchSize adaptiveBatchSize) {
+            this.adaptiveBatchSize = adaptiveBatchSize;
+            return this;
+        }
+
         /**
          * The time in milliseconds after which the claim of the {@link TrackingToken} will be extended. Will only be
          * used in absence of regular token updates through event processing. Defaults to {@code 5000};
@@ -19,7 +19,11 @@
 import org.axonframework.eventhandling.EventProcessor;
 import org.axonframework.eventhandling.TrackingToken;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.IntPredicate;
 
 /**
  * Describes a component capable of storing and retrieving event tracking tokens. An {@link EventProcessor} that is
@@ -207,6 +211,38 @@ default boolean requiresExplicitSegmentInitialization() {
      */
     int[] fetchSegments(String processorName);
 
+    /**
+     * Attempts to claim up to {@code maxSegments} segments for the given {@code processorName} which match the given
+     * {@code segmentFilter}, returning the {@link TrackingToken} of every segment that was claimed. Segments that are
+     * claimed by another process, and of which the claim has not expired, are skipped.
+     * <p>
+     * Segments are considered in ascending order of their identifier. The returned map is ordered accordingly and may
+     * contain {@code null} tokens, for segments that have been initialized without a token.
+     *
+     * @param processorName The process name for which to claim segments
+     * @param maxSegments   The maximum number of segments to claim
+     * @param segmentFilter The filter a segment identifier should match to be claimed
+     * @return a map of the claimed segment identifiers and their {@link TrackingToken}
+     * @implSpec By default, this method invokes {@link #fetchSegments(String)}, followed by {@link #fetchToken(String,
+     * int)} for every matching segment until {@code maxSegments} have been claimed. TokenStore implementations may
+     * choose to implement this method if they can claim several segments in fewer round trips to the underlying
+     * storage.
+     */
+    default Map<Integer, TrackingToken> claimAvailableSegments(String processorName,
+                                                               int maxSegments,
+                                                               IntPredicate segmentFilter) {
+        Map<Integer, TrackingToken> claimed = new LinkedHashMap<>();
+        int[] candidates = Arrays.stream(fetchSegments(processorName)).filter(segmentFilter).sorted().toArray();
+        for (int i = 0; i < candidates.length && claimed.size() < maxSegments; i++) {
+            try {
+                claimed.put(candidates[i], fetchToken(processorName, candidates[i]));
+            } catch (UnableToClaimTokenException e) {
+                // the segment is claimed by another process
+            }
+        }
+        return claimed;
+    }
+
     /**
      * Returns a unique identifier that uniquely identifies the storage location of the tokens in this store. Two token
      * store implementations that share state, must return the same identifier. Two token store implementations that
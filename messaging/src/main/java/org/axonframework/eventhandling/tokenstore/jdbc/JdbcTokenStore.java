@@ -38,13 +38,19 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Duration;
 import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
@@ -313,6 +319,150 @@ public int[] fetchSegments(String processorName) {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Selects the claimable segments of the given {@code processorName} without locking them, after which only the
+     * first {@code maxSegments} segments matching the given {@code segmentFilter} are selected for update and claimed in
+     * a single batch update.
+     */
+    @Override
+    public Map<Integer, TrackingToken> claimAvailableSegments(String processorName,
+                                                              int maxSegments,
+                                                              IntPredicate segmentFilter) {
+        Connection connection = getConnection();
+        try {
+            List<Integer> claimableSegments = executeQuery(
+                    connection,
+                    c -> selectClaimableSegments(c, processorName),
+                    listResults(rs -> rs.getInt(schema.segmentColumn())),
+                    e -> new JdbcException(
+                            format("Could not load claimable segments for processor [%s]", processorName), e
+                    ),
+                    false);
+            List<Integer> segmentsToClaim = claimableSegments.stream()
+                                                             .filter(segmentFilter::test)
+                                                             .limit(maxSegments)
+                                                             .collect(Collectors.toList());
+            if (segmentsToClaim.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            return executeQuery(connection,
+                                c -> selectClaimableForUpdate(c, processorName, segmentsToClaim),
+                                resultSet -> claimTokens(connection, resultSet, maxSegments, segmentFilter),
+                                e -> new JdbcException(
+                                        format("Could not claim segments for processor [%s]", processorName), e
+                                ));
+        } finally {
+            closeQuietly(connection);
+        }
+    }
+
+    /**
+     * Returns a {@link PreparedStatement} to select the segments of all token entries of the given {@code
+     * processorName} which may be claimed by this node, ordered by segment, without locking them. These are the entries
+     * which are not claimed, claimed by this node or of which the claim has expired.
+     *
+     * @param connection    the connection to the underlying database
+     * @param processorName the name of the processor to fetch the claimable segments for
+     * @return a {@link PreparedStatement} that will fetch the claimable segments when executed
+     * @throws SQLException when an exception occurs while creating the prepared statement
+     */
+    protected PreparedStatement selectClaimableSegments(Connection connection,
+                                                        String processorName) throws SQLException {
+        final String sql = "SELECT " + schema.segmentColumn() + " FROM " + schema.tokenTable() + " WHERE " +
+                schema.processorNameColumn() + " = ? AND (" + schema.ownerColum() + " IS NULL OR " +
+                schema.ownerColum() + " = ? OR " + schema.timestampColumn() + " < ?) ORDER BY " +
+                schema.segmentColumn() + " ASC";
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        preparedStatement.setString(1, processorName);
+        preparedStatement.setString(2, nodeId);
+        preparedStatement.setString(3, formatInstant(AbstractTokenEntry.clock.instant().minus(claimTimeout)));
+        return preparedStatement;
+    }
+
+    /**
+     * Returns a {@link PreparedStatement} to select the token entries of the given {@code processorName} and {@code
+     * segments} for update, ordered by segment. Only entries which are still claimable by this node are selected, being
+     * the entries which are not claimed, claimed by this node or of which the claim has expired.
+     *
+     * @param connection    the connection to the underlying database
+     * @param processorName the name of the processor to fetch the claimable entries for
+     * @param segments      the segments to fetch the claimable entries for
+     * @return a {@link PreparedStatement} that will fetch the claimable token entries for update when executed
+     * @throws SQLException when an exception occurs while creating the prepared statement
+     */
+    protected PreparedStatement selectClaimableForUpdate(Connection connection,
+                                                         String processorName,
+                                                         List<Integer> segments) throws SQLException {
+        final String sql = "SELECT " +
+                String.join(", ", schema.processorNameColumn(), schema.segmentColumn(), schema.tokenColumn(),
+                            schema.tokenTypeColumn(), schema.timestampColumn(), schema.ownerColum()) + " FROM " +
+                schema.tokenTable() + " WHERE " + schema.processorNameColumn() + " = ? AND " +
+                schema.segmentColumn() + " IN (" + String.join(",", Collections.nCopies(segments.size(), "?")) +
+                ") AND (" + schema.ownerColum() + " IS NULL OR " + schema.ownerColum() + " = ? OR " +
+                schema.timestampColumn() + " < ?) ORDER BY " + schema.segmentColumn() + " ASC FOR UPDATE";
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        int index = 1;
+        preparedStatement.setString(index++, processorName);
+        for (Integer segment : segments) {
+            preparedStatement.setInt(index++, segment);
+        }
+        preparedStatement.setString(index++, nodeId);
+        preparedStatement.setString(index, formatInstant(AbstractTokenEntry.clock.instant().minus(claimTimeout)));
+        return preparedStatement;
+    }
+
+    /**
+     * Claims up to {@code maxSegments} of the token entries in the given {@code resultSet} which match the given {@code
+     * segmentFilter}, updating the owner and timestamp of all claimed entries in a single batch update.
+     *
+     * @param connection    the connection to the underlying database
+     * @param resultSet     the result set of a prior select for update query of claimable entries
+     * @param maxSegments   the maximum number of segments to claim
+     * @param segmentFilter the filter a segment identifier should match to be claimed
+     * @return a map of the claimed segment identifiers and their {@link TrackingToken}
+     * @throws SQLException when an exception occurs while claiming the token entries
+     */
+    protected Map<Integer, TrackingToken> claimTokens(Connection connection,
+                                                      ResultSet resultSet,
+                                                      int maxSegments,
+                                                      IntPredicate segmentFilter) throws SQLException {
+        List<AbstractTokenEntry<?>> entries = new ArrayList<>();
+        while (entries.size() < maxSegments && resultSet.next()) {
+            AbstractTokenEntry<?> entry = readTokenEntry(resultSet);
+            if (segmentFilter.test(entry.getSegment()) && entry.claim(nodeId, claimTimeout)) {
+                entries.add(entry);
+            }
+        }
+        Map<Integer, TrackingToken> claimed = new LinkedHashMap<>();
+        if (entries.isEmpty()) {
+            return claimed;
+        }
+
+        final String sql = "UPDATE " + schema.tokenTable() + " SET " + schema.ownerColum() + " = ?, " +
+                schema.timestampColumn() + " = ? WHERE " + schema.processorNameColumn() + " = ? AND " +
+                schema.segmentColumn() + " = ?";
+        int[] updateCounts;
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (AbstractTokenEntry<?> entry : entries) {
+                preparedStatement.setString(1, entry.getOwner());
+                preparedStatement.setString(2, entry.timestampAsString());
+                preparedStatement.setString(3, entry.getProcessorName());
+                preparedStatement.setInt(4, entry.getSegment());
+                preparedStatement.addBatch();
+            }
+            updateCounts = preparedStatement.executeBatch();
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            // a driver may report an unknown update count for batched statements
+            if (updateCounts[i] > 0 || updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                claimed.put(entries.get(i).getSegment(), entries.get(i).getToken(serializer));
+            }
+        }
+        return claimed;
+    }
+
     /**
      * Returns a {@link PreparedStatement} to select all segments ids for a given processorName from the underlying
      * storage.
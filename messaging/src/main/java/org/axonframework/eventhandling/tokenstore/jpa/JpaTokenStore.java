@@ -36,10 +36,13 @@
 import java.time.Duration;
 import java.time.temporal.TemporalAmount;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.IntPredicate;
 
 import static java.lang.String.format;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
@@ -230,6 +233,44 @@ public int[] fetchSegments(String processorName) {
         return resultList.stream().mapToInt(i -> i).toArray();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Selects the claimable segments of the given {@code processorName} without locking them, after which only the
+     * first {@code maxSegments} segments matching the given {@code segmentFilter} are loaded with the configured loading
+     * lock mode and claimed. The claims are written when the {@link EntityManager} is flushed.
+     */
+    @Override
+    public Map<Integer, TrackingToken> claimAvailableSegments(String processorName,
+                                                              int maxSegments,
+                                                              IntPredicate segmentFilter) {
+        EntityManager entityManager = entityManagerProvider.getEntityManager();
+        List<Integer> claimableSegments = entityManager.createQuery(
+                "SELECT te.segment FROM TokenEntry te WHERE te.processorName = :processorName "
+                        + "AND (te.owner IS NULL OR te.owner = :owner OR te.timestamp < :timestamp) "
+                        + "ORDER BY te.segment ASC",
+                Integer.class
+        ).setParameter("processorName", processorName)
+         .setParameter("owner", nodeId)
+         .setParameter("timestamp", formatInstant(TokenEntry.clock.instant().minus(claimTimeout)))
+         .getResultList();
+
+        Map<Integer, TrackingToken> claimed = new LinkedHashMap<>();
+        claimableSegments.stream()
+                         .filter(segmentFilter::test)
+                         .limit(maxSegments)
+                         .forEach(segment -> {
+                             TokenEntry token = entityManager.find(
+                                     TokenEntry.class, new TokenEntry.PK(processorName, segment), loadingLockMode
+                             );
+                             // the entry may have been claimed by another node since it was selected
+                             if (token != null && token.claim(nodeId, claimTimeout)) {
+                                 claimed.put(segment, token.getToken(serializer));
+                             }
+                         });
+        return claimed;
+    }
+
     /**
      * Loads an existing {@link TokenEntry} or creates a new one using the given {@code entityManager} for given {@code
      * processorName} and {@code segment}.
@@ -0,0 +1,500 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.messaging;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable {@link Map} implementation backing the {@link MetaData}, structured as a hash array mapped trie. Adding or
+ * removing an entry creates a new map that shares all nodes of the trie with the original map, except for the nodes
+ * on the path to the modified entry. As such, deriving a map with one additional entry copies at most a handful of
+ * small arrays, rather than the entire map.
+ * <p>
+ * Every node holds up to 32 entries or sub nodes, selected by five bits of the hash of the key. A map with a few
+ * entries typically consists of a single node, making lookups a matter of a bit count and a single comparison. Keys of
+ * which the entire hash collides are kept in a collision node, which is searched linearly.
+ * <p>
+ * This map allows {@code null} keys and values. Any mutating method of the {@link Map} interface throws an {@link
+ * UnsupportedOperationException}.
+ *
+ * @since 4.6.0
+ */
+final class HashTrieMap extends AbstractMap<String, Object> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int HASH_BITS = 32;
+    private static final Object NOT_FOUND = new Object();
+    private static final Object[] NO_ENTRIES = new Object[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final HashTrieMap EMPTY = new HashTrieMap(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private HashTrieMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @return the empty map
+     */
+    static HashTrieMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a map containing the entries of the given {@code map}.
+     *
+     * @param map the entries to populate the new map with
+     * @return a map containing the entries of the given {@code map}
+     */
+    static HashTrieMap from(Map<String, ?> map) {
+        if (map instanceof HashTrieMap) {
+            return (HashTrieMap) map;
+        }
+        return EMPTY.withAll(map);
+    }
+
+    /**
+     * Returns a map containing the entries of this map and the given {@code key} and {@code value}, replacing any
+     * value previously assigned to the {@code key}. Returns this instance if the given {@code value} is already
+     * assigned to the {@code key}.
+     *
+     * @param key   the key of the entry
+     * @param value the value of the entry
+     * @return a map containing the entries of this map and the given entry
+     */
+    HashTrieMap with(String key, Object value) {
+        SizeChange change = new SizeChange();
+        Node updated = root.updated(key, value, hash(key), 0, change);
+        return updated == root ? this : new HashTrieMap(updated, size + change.delta);
+    }
+
+    /**
+     * Returns a map containing the entries of this map and the given {@code entries}, where the given {@code entries}
+     * take precedence over the entries of this map.
+     *
+     * @param entries the entries to add to this map
+     * @return a map containing the entries of this map and the given {@code entries}
+     */
+    HashTrieMap withAll(Map<String, ?> entries) {
+        Node updated = root;
+        SizeChange change = new SizeChange();
+        for (Entry<String, ?> entry : entries.entrySet()) {
+            updated = updated.updated(entry.getKey(), entry.getValue(), hash(entry.getKey()), 0, change);
+        }
+        return updated == root ? this : new HashTrieMap(updated, size + change.delta);
+    }
+
+    /**
+     * Returns a map containing the entries of this map, except for the entry with given {@code key}. Returns this
+     * instance if there is no entry for the {@code key}.
+     *
+     * @param key the key of the entry to remove
+     * @return a map containing the entries of this map, except for the entry with given {@code key}
+     */
+    HashTrieMap without(Object key) {
+        SizeChange change = new SizeChange();
+        Node updated = root.removed(key, hash(key), 0, change);
+        return updated == root ? this : new HashTrieMap(updated, size + change.delta);
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = root.find(key, hash(key), 0);
+        return value == NOT_FOUND ? null : value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return root.find(key, hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        root.forEach(action);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(super.keySet());
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return Collections.unmodifiableCollection(super.values());
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return Collections.unmodifiableSet(new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        });
+    }
+
+    private static int hash(Object key) {
+        int hash = key == null ? 0 : key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & 0x1f);
+    }
+
+    private static int index(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    private static Node merge(Object key1, Object value1, int hash1,
+                              Object key2, Object value2, int hash2,
+                              int shift) {
+        if (shift >= HASH_BITS) {
+            return new CollisionNode(new Object[]{key1, value1, key2, value2});
+        }
+        int bit1 = bit(hash1, shift);
+        int bit2 = bit(hash2, shift);
+        if (bit1 == bit2) {
+            Node child = merge(key1, value1, hash1, key2, value2, hash2, shift + BITS_PER_LEVEL);
+            return new BitmapNode(0, bit1, NO_ENTRIES, new Node[]{child});
+        }
+        Object[] entries = Integer.compareUnsigned(bit1, bit2) < 0
+                ? new Object[]{key1, value1, key2, value2}
+                : new Object[]{key2, value2, key1, value1};
+        return new BitmapNode(bit1 | bit2, 0, entries, NO_CHILDREN);
+    }
+
+    private static Object[] insertPair(Object[] entries, int index, Object key, Object value) {
+        Object[] result = new Object[entries.length + 2];
+        System.arraycopy(entries, 0, result, 0, 2 * index);
+        result[2 * index] = key;
+        result[2 * index + 1] = value;
+        System.arraycopy(entries, 2 * index, result, 2 * index + 2, entries.length - 2 * index);
+        return result;
+    }
+
+    private static Object[] removePair(Object[] entries, int index) {
+        Object[] result = new Object[entries.length - 2];
+        System.arraycopy(entries, 0, result, 0, 2 * index);
+        System.arraycopy(entries, 2 * index + 2, result, 2 * index, entries.length - 2 * index - 2);
+        return result;
+    }
+
+    /**
+     * Records the change in the number of entries caused by updating the trie.
+     */
+    private static final class SizeChange {
+
+        private int delta;
+    }
+
+    /**
+     * A node in the trie, holding entries as alternating keys and values.
+     */
+    private abstract static class Node {
+
+        abstract Object find(Object key, int hash, int shift);
+
+        abstract Node updated(String key, Object value, int hash, int shift, SizeChange change);
+
+        abstract Node removed(Object key, int hash, int shift, SizeChange change);
+
+        abstract Object[] entries();
+
+        abstract Node[] children();
+
+        boolean hasSingleEntry() {
+            return entries().length == 2 && children().length == 0;
+        }
+
+        void forEach(BiConsumer<? super String, ? super Object> action) {
+            Object[] entries = entries();
+            for (int i = 0; i < entries.length; i += 2) {
+                action.accept((String) entries[i], entries[i + 1]);
+            }
+            for (Node child : children()) {
+                child.forEach(action);
+            }
+        }
+    }
+
+    /**
+     * Node selecting entries and sub nodes by five bits of the hash of the key, at the level of this node. The {@code
+     * entryMap} and {@code nodeMap} mark which of these bits select an entry or a sub node, respectively.
+     */
+    private static final class BitmapNode extends Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, 0, NO_ENTRIES, NO_CHILDREN);
+
+        private final int entryMap;
+        private final int nodeMap;
+        private final Object[] entries;
+        private final Node[] children;
+
+        private BitmapNode(int entryMap, int nodeMap, Object[] entries, Node[] children) {
+            this.entryMap = entryMap;
+            this.nodeMap = nodeMap;
+            this.entries = entries;
+            this.children = children;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((entryMap & bit) != 0) {
+                int index = index(entryMap, bit);
+                return Objects.equals(entries[2 * index], key) ? entries[2 * index + 1] : NOT_FOUND;
+            }
+            if ((nodeMap & bit) != 0) {
+                return children[index(nodeMap, bit)].find(key, hash, shift + BITS_PER_LEVEL);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node updated(String key, Object value, int hash, int shift, SizeChange change) {
+            int bit = bit(hash, shift);
+            if ((entryMap & bit) != 0) {
+                int index = index(entryMap, bit);
+                Object currentKey = entries[2 * index];
+                Object currentValue = entries[2 * index + 1];
+                if (Objects.equals(currentKey, key)) {
+                    if (currentValue == value) {
+                        return this;
+                    }
+                    Object[] updatedEntries = entries.clone();
+                    updatedEntries[2 * index + 1] = value;
+                    return new BitmapNode(entryMap, nodeMap, updatedEntries, children);
+                }
+                change.delta++;
+                Node child = merge(currentKey, currentValue, hash(currentKey),
+                                   key, value, hash,
+                                   shift + BITS_PER_LEVEL);
+                return new BitmapNode(entryMap ^ bit, nodeMap | bit,
+                                      removePair(entries, index),
+                                      insertChild(index(nodeMap, bit), child));
+            }
+            if ((nodeMap & bit) != 0) {
+                int index = index(nodeMap, bit);
+                Node child = children[index];
+                Node updatedChild = child.updated(key, value, hash, shift + BITS_PER_LEVEL, change);
+                if (updatedChild == child) {
+                    return this;
+                }
+                Node[] updatedChildren = children.clone();
+                updatedChildren[index] = updatedChild;
+                return new BitmapNode(entryMap, nodeMap, entries, updatedChildren);
+            }
+            change.delta++;
+            return new BitmapNode(entryMap | bit, nodeMap,
+                                  insertPair(entries, index(entryMap, bit), key, value),
+                                  children);
+        }
+
+        @Override
+        Node removed(Object key, int hash, int shift, SizeChange change) {
+            int bit = bit(hash, shift);
+            if ((entryMap & bit) != 0) {
+                int index = index(entryMap, bit);
+                if (!Objects.equals(entries[2 * index], key)) {
+                    return this;
+                }
+                change.delta--;
+                return new BitmapNode(entryMap ^ bit, nodeMap, removePair(entries, index), children);
+            }
+            if ((nodeMap & bit) != 0) {
+                int index = index(nodeMap, bit);
+                Node child = children[index];
+                Node updatedChild = child.removed(key, hash, shift + BITS_PER_LEVEL, change);
+                if (updatedChild == child) {
+                    return this;
+                }
+                if (updatedChild.hasSingleEntry()) {
+                    // inline the remaining entry, keeping sub nodes reserved for two or more entries
+                    Object[] remaining = updatedChild.entries();
+                    return new BitmapNode(entryMap | bit, nodeMap ^ bit,
+                                          insertPair(entries, index(entryMap, bit), remaining[0], remaining[1]),
+                                          removeChild(index));
+                }
+                Node[] updatedChildren = children.clone();
+                updatedChildren[index] = updatedChild;
+                return new BitmapNode(entryMap, nodeMap, entries, updatedChildren);
+            }
+            return this;
+        }
+
+        @Override
+        Object[] entries() {
+            return entries;
+        }
+
+        @Override
+        Node[] children() {
+            return children;
+        }
+
+        private Node[] insertChild(int index, Node child) {
+            Node[] result = new Node[children.length + 1];
+            System.arraycopy(children, 0, result, 0, index);
+            result[index] = child;
+            System.arraycopy(children, index, result, index + 1, children.length - index);
+            return result;
+        }
+
+        private Node[] removeChild(int index) {
+            Node[] result = new Node[children.length - 1];
+            System.arraycopy(children, 0, result, 0, index);
+            System.arraycopy(children, index + 1, result, index, children.length - index - 1);
+            return result;
+        }
+    }
+
+    /**
+     * Node holding entries of which the keys have identical hashes.
+     */
+    private static final class CollisionNode extends Node {
+
+        private final Object[] entries;
+
+        private CollisionNode(Object[] entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            int index = indexOf(key);
+            return index < 0 ? NOT_FOUND : entries[2 * index + 1];
+        }
+
+        @Override
+        Node updated(String key, Object value, int hash, int shift, SizeChange change) {
+            int index = indexOf(key);
+            if (index < 0) {
+                change.delta++;
+                return new CollisionNode(insertPair(entries, entries.length / 2, key, value));
+            }
+            if (entries[2 * index + 1] == value) {
+                return this;
+            }
+            Object[] updatedEntries = entries.clone();
+            updatedEntries[2 * index + 1] = value;
+            return new CollisionNode(updatedEntries);
+        }
+
+        @Override
+        Node removed(Object key, int hash, int shift, SizeChange change) {
+            int index = indexOf(key);
+            if (index < 0) {
+                return this;
+            }
+            change.delta--;
+            return new CollisionNode(removePair(entries, index));
+        }
+
+        @Override
+        Object[] entries() {
+            return entries;
+        }
+
+        @Override
+        Node[] children() {
+            return NO_CHILDREN;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < entries.length; i += 2) {
+                if (Objects.equals(entries[i], key)) {
+                    return i / 2;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Iterator over the entries of the trie, visiting the entries of a node before those of its sub nodes.
+     */
+    private static final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private final Deque<Node> pending = new ArrayDeque<>();
+        private Object[] current = NO_ENTRIES;
+        private int position;
+
+        private EntryIterator(Node root) {
+            pending.push(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (position >= current.length) {
+                if (pending.isEmpty()) {
+                    return false;
+                }
+                Node node = pending.pop();
+                for (Node child : node.children()) {
+                    pending.push(child);
+                }
+                current = node.entries();
+                position = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<String, Object> entry = new SimpleImmutableEntry<>((String) current[position],
+                                                                     current[position + 1]);
+            position += 2;
+            return entry;
+        }
+    }
+}
@@ -16,6 +16,10 @@
 
 package org.axonframework.messaging;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.util.*;
 import java.util.function.BiConsumer;
@@ -28,6 +32,10 @@
 /**
  * Represents MetaData that is passed along with a payload in a Message. Typically, the MetaData contains information
  * about the message payload that isn't "domain-specific". Examples are originating IP-address or executing User ID.
+ * <p>
+ * The entries are kept in a persistent hash trie. Deriving a new MetaData instance through {@link #and(String,
+ * Object)}, {@link #mergedWith(Map)} or {@link #withoutKeys(Set)} shares the structure of the original instance,
+ * rather than copying all of its entries.
  *
  * @author Allard Buijze
  * @since 2.0
@@ -35,13 +43,20 @@
 public class MetaData implements Map<String, Object>, Serializable {
 
     private static final long serialVersionUID = -7892913866303912970L;
-    private static final MetaData EMPTY_META_DATA = new MetaData();
+    /**
+     * The serialized form of MetaData consists of an unmodifiable copy of its entries, keeping it compatible with
+     * versions that stored the entries in a {@link HashMap}.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("values", Map.class)
+    };
+    private static final MetaData EMPTY_META_DATA = new MetaData(HashTrieMap.empty());
     private static final String UNSUPPORTED_MUTATION_MSG = "Metadata is immutable.";
 
-    private final Map<String, Object> values;
+    private transient HashTrieMap values;
 
-    private MetaData() {
-        values = Collections.emptyMap();
+    private MetaData(HashTrieMap values) {
+        this.values = values;
     }
 
     /**
@@ -52,7 +67,7 @@ private MetaData() {
      * @param items the items to populate the MetaData with
      */
     public MetaData(Map<String, ?> items) {
-        values = Collections.unmodifiableMap(new HashMap<>(items));
+        values = items instanceof MetaData ? ((MetaData) items).values : HashTrieMap.from(items);
     }
 
     /**
@@ -104,9 +119,7 @@ public static MetaData with(String key, Object value) {
      * @return a MetaData instance with an additional entry
      */
     public MetaData and(String key, Object value) {
-        HashMap<String, Object> newValues = new HashMap<>(values);
-        newValues.put(key, value);
-        return new MetaData(newValues);
+        return derive(values.with(key, value));
     }
 
     /**
@@ -238,9 +251,7 @@ public MetaData mergedWith(Map<String, ?> additionalEntries) {
         if (isEmpty()) {
             return MetaData.from(additionalEntries);
         }
-        Map<String, Object> merged = new HashMap<>(values);
-        merged.putAll(additionalEntries);
-        return new MetaData(merged);
+        return derive(values.withAll(additionalEntries));
     }
 
     /**
@@ -255,9 +266,11 @@ public MetaData withoutKeys(Set<String> keys) {
         if (keys.isEmpty()) {
             return this;
         }
-        Map<String, ?> modified = new HashMap<>(values);
-        keys.forEach(modified::remove);
-        return new MetaData(modified);
+        HashTrieMap modified = values;
+        for (String key : keys) {
+            modified = modified.without(key);
+        }
+        return derive(modified);
     }
 
     /**
@@ -271,6 +284,26 @@ public MetaData subset(String... keys) {
         return MetaData.from(Stream.of(keys).filter(this::containsKey).collect(new MetaDataCollector(this::get)));
     }
 
+    private MetaData derive(HashTrieMap derivedValues) {
+        if (derivedValues == values) {
+            return this;
+        }
+        return derivedValues.isEmpty() ? MetaData.emptyInstance() : new MetaData(derivedValues);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("values", Collections.unmodifiableMap(new HashMap<>(values)));
+        out.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        Map<String, Object> serializedValues = (Map<String, Object>) fields.get("values", null);
+        values = serializedValues == null ? HashTrieMap.empty() : HashTrieMap.from(serializedValues);
+    }
+
     /**
      * Java Serialization specification method that will ensure that deserialization will maintain a single instance of
      * empty MetaData.
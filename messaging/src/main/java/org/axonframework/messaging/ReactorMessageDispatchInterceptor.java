@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Interceptor that allows messages to be intercepted and modified before they are dispatched by a reactive gateway.
+ * Contrary to the {@link MessageDispatchInterceptor}, the interception is described as a transformation of a {@link
+ * Mono}, allowing interceptors to perform non-blocking operations (e.g. retrieving security or tracing context from the
+ * subscriber context) before the message is dispatched.
+ * <p>
+ * Interceptors are invoked upon subscription of the result of a reactive gateway only, and not when the gateway
+ * method is invoked.
+ *
+ * @param <M> the message type this interceptor can process
+ * @since 4.6.0
+ */
+@FunctionalInterface
+public interface ReactorMessageDispatchInterceptor<M extends Message<?>> {
+
+    /**
+     * Intercepts the given {@code message}, returning the {@link Mono} of the message to dispatch. An interceptor may
+     * return an error {@code Mono} to block dispatching of the message, or an empty {@code Mono} to silently skip it.
+     *
+     * @param message a {@link Mono} of the message to intercept
+     * @return a {@link Mono} of the message to dispatch
+     */
+    Mono<M> intercept(Mono<M> message);
+}
@@ -18,9 +18,9 @@
 
 import org.axonframework.messaging.Message;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
+import java.lang.reflect.Executable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -28,6 +28,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -41,6 +42,11 @@
 /**
  * Inspector for a message handling target of type {@code T} that uses annotations on the target to inspect the
  * capabilities of the target.
+ * <p>
+ * When a {@link GeneratedHandlerMetaModel} was generated for an inspected type, and handlers are only created by the
+ * {@link AnnotatedMessageHandlingMemberDefinition}, only the members listed in that meta model are considered, without
+ * scanning the declared methods and constructors of the type. With any other {@link HandlerDefinition}, all methods and
+ * constructors declared by the type are considered.
  *
  * @param <T> the target type
  */
@@ -199,12 +205,8 @@ private static <T> AnnotatedHandlerInspector<T> initialize(Class<T> inspectedTyp
     private void initializeMessageHandlers(ParameterResolverFactory parameterResolverFactory,
                                            HandlerDefinition handlerDefinition) {
         handlers.put(inspectedType, new TreeSet<>(HandlerComparator.instance()));
-        for (Method method : inspectedType.getDeclaredMethods()) {
-            handlerDefinition.createHandler(inspectedType, method, parameterResolverFactory)
-                             .ifPresent(h -> registerHandler(inspectedType, h));
-        }
-        for (Constructor<?> constructor : inspectedType.getDeclaredConstructors()) {
-            handlerDefinition.createHandler(inspectedType, constructor, parameterResolverFactory)
+        for (Executable member : handlerCandidates(inspectedType, handlerDefinition)) {
+            handlerDefinition.createHandler(inspectedType, member, parameterResolverFactory)
                              .ifPresent(h -> registerHandler(inspectedType, h));
         }
 
@@ -227,6 +229,36 @@ private void initializeMessageHandlers(ParameterResolverFactory parameterResolve
                                                })));
     }
 
+    /**
+     * Returns the members of the given {@code type} which may be message handlers. If a {@link
+     * GeneratedHandlerMetaModel} was generated for the {@code type} and the given {@code handlerDefinition} only
+     * creates handlers for annotated members, the members listed in the meta model are returned. Otherwise all
+     * declared methods and constructors are returned.
+     */
+    private static List<Executable> handlerCandidates(Class<?> type, HandlerDefinition handlerDefinition) {
+        if (onlyCreatesAnnotatedHandlers(handlerDefinition)) {
+            Optional<GeneratedHandlerMetaModels> metaModel = GeneratedHandlerMetaModels.forType(type);
+            if (metaModel.isPresent()) {
+                return metaModel.get().handlerMembers();
+            }
+        }
+        List<Executable> candidates = new ArrayList<>(Arrays.asList(type.getDeclaredMethods()));
+        candidates.addAll(Arrays.asList(type.getDeclaredConstructors()));
+        return candidates;
+    }
+
+    private static boolean onlyCreatesAnnotatedHandlers(HandlerDefinition handlerDefinition) {
+        if (handlerDefinition instanceof MultiHandlerDefinition) {
+            for (HandlerDefinition delegate : ((MultiHandlerDefinition) handlerDefinition).getDelegates()) {
+                if (!onlyCreatesAnnotatedHandlers(delegate)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return handlerDefinition.getClass().equals(AnnotatedMessageHandlingMemberDefinition.class);
+    }
+
     private void registerHandler(Class<?> type, MessageHandlingMember<? super T> handler) {
         if (handler.unwrap(MessageInterceptingMember.class).isPresent()) {
             interceptors.computeIfAbsent(type, t -> new TreeSet<>(HandlerComparator.instance()))
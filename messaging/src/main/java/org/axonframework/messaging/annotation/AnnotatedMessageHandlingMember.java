@@ -162,7 +162,14 @@ private void checkAndRethrowForExceptionOrError(ReflectiveOperationException e)
         }
     }
 
-    private Object[] resolveParameterValues(Message<?> message) {
+    /**
+     * Resolves the values to invoke the method or constructor of this member with, using the {@link
+     * ParameterResolver}s of this member.
+     *
+     * @param message the message to resolve the parameter values for
+     * @return the values to invoke the method or constructor of this member with
+     */
+    protected Object[] resolveParameterValues(Message<?> message) {
         Object[] params = new Object[parameterCount];
         for (int i = 0; i < parameterCount; i++) {
             params[i] = parameterResolvers[i].resolveParameterValue(message);
@@ -32,6 +32,9 @@
  * handler should define {@code @MessageHandler(messageType = EventMessage.class)}, indicating that this handler should
  * only be invoked for {@link org.axonframework.eventhandling.EventMessage}s.
  * <p>
+ * When a {@link GeneratedHandlerMetaModel} was generated for the declaring class of a handler, the handler is invoked
+ * through the generated meta model instead of through reflection.
+ * <p>
  * Use {@link HandlerEnhancerDefinition} to add extra behavior or information on top of handlers created by this
  * definition.
  *
@@ -45,10 +48,24 @@ public class AnnotatedMessageHandlingMemberDefinition implements HandlerDefiniti
     public <T> Optional<MessageHandlingMember<T>> createHandler(Class<T> declaringType, Executable executable,
                                                                 ParameterResolverFactory parameterResolverFactory) {
         return findAnnotationAttributes(executable, MessageHandler.class)
-                .map(attr -> new AnnotatedMessageHandlingMember<>(
-                        executable,
-                        (Class<? extends Message<?>>) attr.getOrDefault("messageType", Message.class),
-                        (Class<? extends Message<?>>) attr.getOrDefault("payloadType", Object.class),
-                        parameterResolverFactory));
+                .map(attr -> createMember(executable,
+                                          (Class<? extends Message<?>>) attr.getOrDefault("messageType", Message.class),
+                                          (Class<?>) attr.getOrDefault("payloadType", Object.class),
+                                          parameterResolverFactory));
+    }
+
+    private <T> MessageHandlingMember<T> createMember(Executable executable,
+                                                      Class<? extends Message<?>> messageType,
+                                                      Class<?> payloadType,
+                                                      ParameterResolverFactory parameterResolverFactory) {
+        Optional<GeneratedHandlerMetaModels> metaModel =
+                GeneratedHandlerMetaModels.forType(executable.getDeclaringClass());
+        Integer memberIndex = metaModel.map(m -> m.invocableIndex(executable)).orElse(null);
+        if (memberIndex == null) {
+            return new AnnotatedMessageHandlingMember<>(executable, messageType, payloadType, parameterResolverFactory);
+        }
+        return new GeneratedMessageHandlingMember<>(
+                executable, messageType, payloadType, parameterResolverFactory, metaModel.get(), memberIndex
+        );
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging.annotation;
+
+import java.lang.reflect.Executable;
+
+/**
+ * Describes the message handling members declared by a single handler type, as generated at compile time by the
+ * annotation processor in the {@code axon-annotation-processor} module.
+ * <p>
+ * For a handler type with binary name {@code com.example.MyHandler}, the generated implementation is named {@code
+ * com.example.MyHandler_AxonHandlerMetaModel} (see {@link #CLASS_NAME_SUFFIX}). The meta model is only looked up for
+ * handler types listed in an {@link #INDEX_RESOURCE} resource, which the annotation processor writes next to the
+ * generated classes. When such an implementation is present, the {@link AnnotatedHandlerInspector} only inspects the
+ * {@link #handlerMembers() listed members} instead of every declared method and constructor of the type, as long as
+ * handlers are only created by the {@link AnnotatedMessageHandlingMemberDefinition}. The {@link
+ * AnnotatedMessageHandlingMemberDefinition} invokes those members through {@link #invoke(int, Object, Object[])}
+ * instead of through reflection.
+ * <p>
+ * As the meta model is regenerated whenever the handler type is compiled, its listed members are trusted to be
+ * complete. Implementations are not meant to be written by hand. They should have a public no-arg constructor.
+ *
+ * @since 4.6.0
+ */
+public interface GeneratedHandlerMetaModel {
+
+    /**
+     * The suffix appended to the binary name of a handler type to find its generated meta model.
+     */
+    String CLASS_NAME_SUFFIX = "_AxonHandlerMetaModel";
+
+    /**
+     * The name of the resources listing the binary names of the handler types for which a meta model was generated, one
+     * per line.
+     */
+    String INDEX_RESOURCE = "META-INF/axon/handler-meta-models";
+
+    /**
+     * Returns the handler type described by this meta model.
+     *
+     * @return the handler type described by this meta model
+     */
+    Class<?> handlerType();
+
+    /**
+     * Returns the methods and constructors declared by the {@link #handlerType()} which are annotated as message
+     * handlers. The index of a member in the returned array is the index used to {@link #invoke(int, Object,
+     * Object[]) invoke} it.
+     *
+     * @return the message handling members declared by the {@link #handlerType()}
+     * @throws NoSuchMethodException when a member no longer exists, which indicates a stale meta model
+     */
+    Executable[] handlerMembers() throws NoSuchMethodException;
+
+    /**
+     * Indicates whether the member with given {@code memberIndex} can be invoked through {@link #invoke(int, Object,
+     * Object[])}. Private members, for example, can not be invoked by generated code and require reflection instead.
+     *
+     * @param memberIndex the index of the member in the {@link #handlerMembers()}
+     * @return {@code true} if the member can be invoked through this meta model, {@code false} otherwise
+     */
+    boolean canInvoke(int memberIndex);
+
+    /**
+     * Invokes the member with given {@code memberIndex} on the given {@code target} with given {@code arguments}.
+     * Constructors are invoked without a target and return the created instance. Exceptions thrown by the member are
+     * thrown as is.
+     *
+     * @param memberIndex the index of the member in the {@link #handlerMembers()}
+     * @param target      the instance to invoke the member on, or {@code null} for constructors and static methods
+     * @param arguments   the arguments to invoke the member with
+     * @return the result of the invocation, or {@code null} for {@code void} methods
+     * @throws Exception when the invoked member throws an exception
+     */
+    Object invoke(int memberIndex, Object target, Object[] arguments) throws Exception;
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging.annotation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import static org.axonframework.common.ReflectionUtils.ensureAccessible;
+
+/**
+ * Locates and caches the {@link GeneratedHandlerMetaModel} of handler types. Types for which no meta model was
+ * generated, or for which the generated meta model is stale, resolve to an empty {@link Optional}. The meta model of a
+ * type is only loaded if the type is listed in one of the {@link GeneratedHandlerMetaModel#INDEX_RESOURCE index
+ * resources} visible to its class loader. These are read once per class loader.
+ *
+ * @since 4.6.0
+ */
+final class GeneratedHandlerMetaModels {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneratedHandlerMetaModels.class);
+
+    private static final ClassValue<Optional<GeneratedHandlerMetaModels>> META_MODELS =
+            new ClassValue<Optional<GeneratedHandlerMetaModels>>() {
+                @Override
+                protected Optional<GeneratedHandlerMetaModels> computeValue(Class<?> type) {
+                    return load(type);
+                }
+            };
+    private static final Map<ClassLoader, Set<String>> INDEXED_TYPES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final GeneratedHandlerMetaModel metaModel;
+    private final List<Executable> handlerMembers;
+    private final Map<Executable, Integer> invocableMembers;
+
+    private GeneratedHandlerMetaModels(GeneratedHandlerMetaModel metaModel, Executable[] handlerMembers) {
+        this.metaModel = metaModel;
+        this.handlerMembers = Collections.unmodifiableList(Arrays.asList(handlerMembers));
+        this.invocableMembers = new HashMap<>();
+        for (int i = 0; i < handlerMembers.length; i++) {
+            if (metaModel.canInvoke(i)) {
+                invocableMembers.put(handlerMembers[i], i);
+            }
+        }
+    }
+
+    /**
+     * Returns the generated meta model of the given {@code type}, if any.
+     *
+     * @param type the handler type to find the generated meta model for
+     * @return the generated meta model of the given {@code type}, or an empty {@link Optional} if there is none
+     */
+    static Optional<GeneratedHandlerMetaModels> forType(Class<?> type) {
+        return META_MODELS.get(type);
+    }
+
+    private static Optional<GeneratedHandlerMetaModels> load(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (type.isArray() || type.isPrimitive() || classLoader == null
+                || !INDEXED_TYPES.computeIfAbsent(classLoader, GeneratedHandlerMetaModels::readIndex)
+                                 .contains(type.getName())) {
+            return Optional.empty();
+        }
+        try {
+            Class<?> metaModelType =
+                    Class.forName(type.getName() + GeneratedHandlerMetaModel.CLASS_NAME_SUFFIX, true, classLoader);
+            if (!GeneratedHandlerMetaModel.class.isAssignableFrom(metaModelType)) {
+                logger.warn("Ignoring [{}] as it does not implement GeneratedHandlerMetaModel.", metaModelType);
+                return Optional.empty();
+            }
+            Constructor<?> constructor = ensureAccessible(metaModelType.getDeclaredConstructor());
+            GeneratedHandlerMetaModel metaModel = (GeneratedHandlerMetaModel) constructor.newInstance();
+            if (!type.equals(metaModel.handlerType())) {
+                logger.warn("Ignoring [{}] as it describes [{}] instead of [{}].",
+                            metaModelType, metaModel.handlerType(), type);
+                return Optional.empty();
+            }
+            return Optional.of(new GeneratedHandlerMetaModels(metaModel, metaModel.handlerMembers()));
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            logger.warn("Ignoring the generated handler meta model of [{}], as it could not be loaded. "
+                                + "It may be stale and require recompilation of the handler.", type, e);
+            return Optional.empty();
+        }
+    }
+
+    private static Set<String> readIndex(ClassLoader classLoader) {
+        Set<String> indexedTypes = new HashSet<>();
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(GeneratedHandlerMetaModel.INDEX_RESOURCE);
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(index.openStream(), StandardCharsets.UTF_8)
+                )) {
+                    reader.lines()
+                          .map(String::trim)
+                          .filter(line -> !line.isEmpty())
+                          .forEach(indexedTypes::add);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to read the index of generated handler meta models. "
+                                + "Handler types missing from the index are inspected reflectively.", e);
+        }
+        return indexedTypes;
+    }
+
+    /**
+     * Returns the message handling members declared by the handler type.
+     *
+     * @return the message handling members declared by the handler type
+     */
+    List<Executable> handlerMembers() {
+        return handlerMembers;
+    }
+
+    /**
+     * Returns the index of the given {@code executable} if it can be invoked through the generated meta model.
+     *
+     * @param executable the method or constructor to find the index for
+     * @return the index of the given {@code executable}, or {@code null} if it can not be invoked through the
+     * generated meta model
+     */
+    Integer invocableIndex(Executable executable) {
+        return invocableMembers.get(executable);
+    }
+
+    /**
+     * Invokes the member with given {@code memberIndex} through the generated meta model.
+     *
+     * @param memberIndex the index of the member to invoke
+     * @param target      the instance to invoke the member on
+     * @param arguments   the arguments to invoke the member with
+     * @return the result of the invocation
+     * @throws Exception when the invoked member throws an exception
+     */
+    Object invoke(int memberIndex, Object target, Object[] arguments) throws Exception {
+        return metaModel.invoke(memberIndex, target, arguments);
+    }
+}
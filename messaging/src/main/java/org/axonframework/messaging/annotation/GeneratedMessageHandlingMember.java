@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging.annotation;
+
+import org.axonframework.messaging.Message;
+
+import java.lang.reflect.Executable;
+
+/**
+ * An {@link AnnotatedMessageHandlingMember} which invokes its method or constructor through a {@link
+ * GeneratedHandlerMetaModel} instead of through reflection.
+ *
+ * @param <T> the target type
+ * @since 4.6.0
+ */
+class GeneratedMessageHandlingMember<T> extends AnnotatedMessageHandlingMember<T> {
+
+    private final GeneratedHandlerMetaModels metaModel;
+    private final int memberIndex;
+
+    /**
+     * Initializes a new instance that will invoke the given {@code executable} through the given {@code metaModel}.
+     *
+     * @param executable               the method or constructor to invoke on a target
+     * @param messageType              the type of message that is expected by the target method
+     * @param explicitPayloadType      the expected message payload type
+     * @param parameterResolverFactory factory used to resolve method parameters
+     * @param metaModel                the generated meta model to invoke the {@code executable} through
+     * @param memberIndex              the index of the {@code executable} in the generated meta model
+     */
+    GeneratedMessageHandlingMember(Executable executable,
+                                   @SuppressWarnings("rawtypes") Class<? extends Message> messageType,
+                                   Class<?> explicitPayloadType,
+                                   ParameterResolverFactory parameterResolverFactory,
+                                   GeneratedHandlerMetaModels metaModel,
+                                   int memberIndex) {
+        super(executable, messageType, explicitPayloadType, parameterResolverFactory);
+        this.metaModel = metaModel;
+        this.memberIndex = memberIndex;
+    }
+
+    @Override
+    public Object handle(Message<?> message, T target) throws Exception {
+        return metaModel.invoke(memberIndex, target, resolveParameterValues(message));
+    }
+}
@@ -20,6 +20,9 @@
 import org.axonframework.messaging.Message;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.messaging.correlation.CorrelationDataProvider;
+import org.axonframework.tracing.NoOpSpanFactory;
+import org.axonframework.tracing.Span;
+import org.axonframework.tracing.SpanFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,11 +39,24 @@
 public abstract class AbstractUnitOfWork<T extends Message<?>> implements UnitOfWork<T> {
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractUnitOfWork.class);
-    private final Map<String, Object> resources = new HashMap<>();
-    private final Collection<CorrelationDataProvider> correlationDataProviders = new LinkedHashSet<>();
+    private static final Map<Phase, String> PHASE_SPAN_NAMES = phaseSpanNames();
+    private final Consumer<UnitOfWork<T>> markRolledBack = u -> rolledBack = true;
+    private Map<String, Object> resources;
+    private Collection<CorrelationDataProvider> correlationDataProviders;
     private UnitOfWork<?> parentUnitOfWork;
     private Phase phase = Phase.NOT_STARTED;
     private boolean rolledBack;
+    private SpanFactory spanFactory = NoOpSpanFactory.INSTANCE;
+
+    private static Map<Phase, String> phaseSpanNames() {
+        Map<Phase, String> spanNames = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            if (phase != Phase.NOT_STARTED && phase != Phase.STARTED && phase != Phase.CLOSED) {
+                spanNames.put(phase, "UnitOfWork." + phase.name());
+            }
+        }
+        return spanNames;
+    }
 
     @Override
     public void start() {
@@ -49,10 +65,13 @@ public void start() {
         }
         Assert.state(Phase.NOT_STARTED.equals(phase()), () -> "UnitOfWork is already started");
         rolledBack = false;
-        onRollback(u -> rolledBack = true);
+        onRollback(markRolledBack);
         CurrentUnitOfWork.ifStarted(parent -> {
             // we're nesting.
             this.parentUnitOfWork = parent;
+            if (spanFactory == NoOpSpanFactory.INSTANCE && parent instanceof AbstractUnitOfWork) {
+                this.spanFactory = ((AbstractUnitOfWork<?>) parent).spanFactory;
+            }
             root().onCleanup(r -> changePhase(Phase.CLEANUP, Phase.CLOSED));
         });
         changePhase(Phase.STARTED);
@@ -141,6 +160,9 @@ public Optional<UnitOfWork<?>> parent() {
 
     @Override
     public Map<String, Object> resources() {
+        if (resources == null) {
+            resources = new HashMap<>();
+        }
         return resources;
     }
 
@@ -151,12 +173,12 @@ public boolean isRolledBack() {
 
     @Override
     public void registerCorrelationDataProvider(CorrelationDataProvider correlationDataProvider) {
-        correlationDataProviders.add(correlationDataProvider);
+        correlationDataProviders().add(correlationDataProvider);
     }
 
     @Override
     public MetaData getCorrelationData() {
-        if (correlationDataProviders.isEmpty()) {
+        if (correlationDataProviders == null || correlationDataProviders.isEmpty()) {
             return MetaData.emptyInstance();
         }
         Map<String, Object> result = new HashMap<>();
@@ -212,17 +234,42 @@ protected void setPhase(Phase phase) {
      * Ask the unit of work to transition to the given {@code phases} sequentially. In each of the phases the
      * unit of work is responsible for invoking the handlers attached to each phase.
      * <p/>
-     * By default this sets the Phase and invokes the handlers attached to the phase.
+     * By default this sets the Phase and invokes the handlers attached to the phase. The invocation of the handlers is
+     * traced through the {@link SpanFactory} of this unit of work, if any.
      *
      * @param phases The phases to transition to in sequential order
      */
     protected void changePhase(Phase... phases) {
         for (Phase phase : phases) {
             setPhase(phase);
-            notifyHandlers(phase);
+            String spanName = PHASE_SPAN_NAMES.get(phase);
+            if (spanName == null) {
+                notifyHandlers(phase);
+                continue;
+            }
+            Span span = spanFactory.createSpan(spanName, getMessage()).start();
+            try {
+                notifyHandlers(phase);
+            } catch (RuntimeException | Error e) {
+                span.recordException(e);
+                throw e;
+            } finally {
+                span.end();
+            }
         }
     }
 
+    /**
+     * Sets the {@link SpanFactory} used to trace the handlers invoked in each phase of this unit of work. Defaults to
+     * the {@link NoOpSpanFactory}. A nested unit of work for which no {@code SpanFactory} has been set uses the one of
+     * its parent.
+     *
+     * @param spanFactory the {@link SpanFactory} used to trace the phases of this unit of work
+     */
+    public void setSpanFactory(SpanFactory spanFactory) {
+        this.spanFactory = spanFactory;
+    }
+
     /**
      * Provides the collection of registered Correlation Data Providers of this Unit of Work. The returned collection is a live view of the providers
      * registered. Any changes in the registration are reflected in the returned collection.
@@ -230,9 +277,34 @@ protected void changePhase(Phase... phases) {
      * @return The Correlation Data Providers registered with this Unit of Work.
      */
     protected Collection<CorrelationDataProvider> correlationDataProviders() {
+        if (correlationDataProviders == null) {
+            correlationDataProviders = new LinkedHashSet<>();
+        }
         return correlationDataProviders;
     }
 
+    /**
+     * Resets this Unit of Work to the {@link Phase#NOT_STARTED} phase, allowing it to be reused for processing another
+     * Message. Clears the resources, correlation data providers, parent and {@link SpanFactory} of this Unit of Work,
+     * retaining the structures holding them to avoid reallocating these.
+     * <p/>
+     * A Unit of Work may only be reset if it has not been started yet, or if it has been closed.
+     */
+    protected void reset() {
+        Assert.state(phase == Phase.NOT_STARTED || phase == Phase.CLOSED,
+                     () -> String.format("Cannot reset a UnitOfWork in phase %s", phase));
+        if (resources != null) {
+            resources.clear();
+        }
+        if (correlationDataProviders != null) {
+            correlationDataProviders.clear();
+        }
+        parentUnitOfWork = null;
+        phase = Phase.NOT_STARTED;
+        rolledBack = false;
+        spanFactory = NoOpSpanFactory.INSTANCE;
+    }
+
     /**
      * Notify the handlers attached to the given {@code phase}.
      *
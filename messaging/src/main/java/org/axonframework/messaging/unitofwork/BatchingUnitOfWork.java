@@ -59,7 +59,33 @@ public BatchingUnitOfWork(T... messages) {
      */
     public BatchingUnitOfWork(List<T> messages) {
         Assert.isFalse(messages.isEmpty(), () -> "The list of Messages to process is empty");
-        processingContexts = messages.stream().map(MessageProcessingContext::new).collect(Collectors.toList());
+        processingContexts = new ArrayList<>(messages.size());
+        for (T message : messages) {
+            processingContexts.add(new MessageProcessingContext<>(message));
+        }
+        processingContext = processingContexts.get(0);
+    }
+
+    /**
+     * Resets this BatchingUnitOfWork for processing the given list of {@code messages}. The processing contexts of the
+     * previous batch are reused for the new batch, allowing a thread processing batch after batch to reuse a single
+     * Unit of Work without allocating new structures per message.
+     * <p/>
+     * This Unit of Work may only be reset if it has not been started yet, or if it has been closed.
+     *
+     * @param messages batch of messages to process
+     */
+    public void reset(List<T> messages) {
+        Assert.isFalse(messages.isEmpty(), () -> "The list of Messages to process is empty");
+        reset();
+        int reused = Math.min(messages.size(), processingContexts.size());
+        for (int i = 0; i < reused; i++) {
+            processingContexts.get(i).reset(messages.get(i));
+        }
+        for (int i = reused; i < messages.size(); i++) {
+            processingContexts.add(new MessageProcessingContext<>(messages.get(i)));
+        }
+        processingContexts.subList(messages.size(), processingContexts.size()).clear();
         processingContext = processingContexts.get(0);
     }
 
@@ -149,10 +175,15 @@ protected void setExecutionResult(ExecutionResult executionResult) {
 
     @Override
     protected void notifyHandlers(Phase phase) {
-        Iterator<MessageProcessingContext<T>> iterator =
-                phase.isReverseCallbackOrder() ? new LinkedList<>(processingContexts).descendingIterator() :
-                        processingContexts.iterator();
-        iterator.forEachRemaining(context -> (processingContext = context).notifyHandlers(this, phase));
+        if (phase.isReverseCallbackOrder()) {
+            for (int i = processingContexts.size() - 1; i >= 0; i--) {
+                (processingContext = processingContexts.get(i)).notifyHandlers(this, phase);
+            }
+        } else {
+            for (MessageProcessingContext<T> context : processingContexts) {
+                (processingContext = context).notifyHandlers(this, phase);
+            }
+        }
     }
 
     @Override
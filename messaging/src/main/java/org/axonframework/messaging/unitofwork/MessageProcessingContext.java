@@ -42,7 +42,7 @@
     @SuppressWarnings("MismatchedQueryAndUpdateOfCollection")
     private static final Deque EMPTY = new LinkedList<>();
 
-    private final EnumMap<Phase, Deque<Consumer<UnitOfWork<T>>>> handlers = new EnumMap<>(Phase.class);
+    private EnumMap<Phase, Deque<Consumer<UnitOfWork<T>>>> handlers;
     private T message;
     private ExecutionResult executionResult;
 
@@ -66,6 +66,9 @@ public void notifyHandlers(UnitOfWork<T> unitOfWork, Phase phase) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Notifying handlers for phase {}", phase.toString());
         }
+        if (handlers == null) {
+            return;
+        }
         Deque<Consumer<UnitOfWork<T>>> l = handlers.getOrDefault(phase, EMPTY);
         while (!l.isEmpty()) {
             try {
@@ -91,6 +94,9 @@ public void addHandler(Phase phase, Consumer<UnitOfWork<T>> handler) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Adding handler {} for phase {}", handler.getClass().getName(), phase.toString());
         }
+        if (handlers == null) {
+            handlers = new EnumMap<>(Phase.class);
+        }
         final Deque<Consumer<UnitOfWork<T>>> consumers = handlers.computeIfAbsent(phase, p -> new ArrayDeque<>());
         if (phase.isReverseCallbackOrder()) {
             consumers.addFirst(handler);
@@ -149,14 +155,17 @@ public void transformMessage(Function<T, ? extends Message<?>> transformOperator
     }
 
     /**
-     * Reset the processing context. This clears the execution result and map with registered handlers, and replaces
-     * the current Message with the given {@code message}.
+     * Reset the processing context. This clears the execution result and the registered handlers, and replaces the
+     * current Message with the given {@code message}. The structures holding the handlers are retained, so reusing a
+     * context for another Message does not reallocate these.
      *
      * @param message The new message that is being processed
      */
     public void reset(T message) {
         this.message = message;
-        handlers.clear();
+        if (handlers != null) {
+            handlers.values().forEach(Deque::clear);
+        }
         executionResult = null;
     }
 }
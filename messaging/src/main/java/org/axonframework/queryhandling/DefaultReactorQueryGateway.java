@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.Registration;
+import org.axonframework.messaging.IllegalPayloadAccessException;
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.ReactorMessageDispatchInterceptor;
+import org.axonframework.messaging.responsetypes.ResponseType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.messaging.GenericMessage.asMessage;
+
+/**
+ * Implementation of the {@link ReactorQueryGateway}, dispatching queries on a {@link QueryBus} once the result of one
+ * of its operations is subscribed to.
+ * <p>
+ * Point-to-point queries are answered through the {@link java.util.concurrent.CompletableFuture} returned by the
+ * {@code QueryBus}, so no thread is blocked while waiting for the response. As the {@code QueryBus} waits for the
+ * responses of a scatter-gather query while they are consumed, these responses are gathered on the {@link
+ * Schedulers#boundedElastic() bounded elastic} scheduler instead of on the subscribing thread.
+ *
+ * @since 4.6.0
+ */
+public class DefaultReactorQueryGateway implements ReactorQueryGateway {
+
+    private final QueryBus queryBus;
+    private final List<ReactorMessageDispatchInterceptor<QueryMessage<?, ?>>> dispatchInterceptors;
+
+    /**
+     * Instantiate a {@link DefaultReactorQueryGateway} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the {@link QueryBus} is not {@code null}, and will throw an {@link AxonConfigurationException}
+     * if it is {@code null}.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link DefaultReactorQueryGateway} instance
+     */
+    protected DefaultReactorQueryGateway(Builder builder) {
+        builder.validate();
+        this.queryBus = builder.queryBus;
+        this.dispatchInterceptors = builder.dispatchInterceptors;
+    }
+
+    /**
+     * Instantiate a Builder to be able to create a {@link DefaultReactorQueryGateway}.
+     * <p>
+     * The {@code dispatchInterceptors} is defaulted to an empty list. The {@link QueryBus} is a <b>hard
+     * requirement</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link DefaultReactorQueryGateway}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public <R, Q> Mono<R> query(String queryName, Q query, ResponseType<R> responseType) {
+        Mono<QueryMessage<?, R>> queryMessage =
+                Mono.fromSupplier(() -> new GenericQueryMessage<>(asMessage(query), queryName, responseType));
+        return processInterceptors(queryMessage)
+                .flatMap(interceptedQuery -> Mono.fromFuture(queryBus.query(interceptedQuery)))
+                .flatMap(response -> response.isExceptional()
+                        ? Mono.error(response.exceptionResult())
+                        : Mono.justOrEmpty(response.getPayload()));
+    }
+
+    @Override
+    public <R, Q> Flux<R> scatterGather(String queryName, Q query, ResponseType<R> responseType, Duration timeout) {
+        Mono<QueryMessage<?, R>> queryMessage =
+                Mono.fromSupplier(() -> new GenericQueryMessage<>(asMessage(query), queryName, responseType));
+        return processInterceptors(queryMessage)
+                .flatMapMany(interceptedQuery -> Flux.defer(() -> Flux.fromStream(
+                        queryBus.scatterGather(interceptedQuery, timeout.toMillis(), TimeUnit.MILLISECONDS)
+                )).subscribeOn(Schedulers.boundedElastic()))
+                .map(QueryResponseMessage::getPayload);
+    }
+
+    @Override
+    public <Q, I, U> Mono<SubscriptionQueryResult<I, U>> subscriptionQuery(String queryName,
+                                                                          Q query,
+                                                                          ResponseType<I> initialResponseType,
+                                                                          ResponseType<U> updateResponseType,
+                                                                          int updateBufferSize) {
+        Mono<SubscriptionQueryMessage<?, I, U>> queryMessage = Mono.fromSupplier(
+                () -> new GenericSubscriptionQueryMessage<>(
+                        asMessage(query), queryName, initialResponseType, updateResponseType
+                )
+        );
+        return processInterceptors(queryMessage)
+                .map(interceptedQuery -> subscriptionQueryResult(
+                        queryBus.subscriptionQuery(interceptedQuery, updateBufferSize)
+                ));
+    }
+
+    private <I, U> SubscriptionQueryResult<I, U> subscriptionQueryResult(
+            SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> result) {
+        return new DefaultSubscriptionQueryResult<>(
+                result.initialResult()
+                      .filter(initialResult -> Objects.nonNull(initialResult.getPayload()))
+                      .map(Message::getPayload)
+                      .onErrorMap(e -> e instanceof IllegalPayloadAccessException ? e.getCause() : e),
+                result.updates()
+                      .filter(update -> Objects.nonNull(update.getPayload()))
+                      .map(SubscriptionQueryUpdateMessage::getPayload),
+                result
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends QueryMessage<?, ?>> Mono<T> processInterceptors(Mono<T> queryMessage) {
+        Mono<QueryMessage<?, ?>> message = queryMessage.map(m -> m);
+        for (ReactorMessageDispatchInterceptor<QueryMessage<?, ?>> interceptor : dispatchInterceptors) {
+            message = interceptor.intercept(message);
+        }
+        return message.map(m -> (T) m);
+    }
+
+    @Override
+    public Registration registerDispatchInterceptor(
+            ReactorMessageDispatchInterceptor<QueryMessage<?, ?>> interceptor) {
+        dispatchInterceptors.add(interceptor);
+        return () -> dispatchInterceptors.remove(interceptor);
+    }
+
+    /**
+     * Builder class to instantiate a {@link DefaultReactorQueryGateway}.
+     * <p>
+     * The {@code dispatchInterceptors} is defaulted to an empty list. The {@link QueryBus} is a <b>hard
+     * requirement</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private QueryBus queryBus;
+        private List<ReactorMessageDispatchInterceptor<QueryMessage<?, ?>>> dispatchInterceptors =
+                new CopyOnWriteArrayList<>();
+
+        /**
+         * Sets the {@link QueryBus} used to dispatch queries.
+         *
+         * @param queryBus a {@link QueryBus} used to dispatch queries
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder queryBus(QueryBus queryBus) {
+            assertNonNull(queryBus, "QueryBus may not be null");
+            this.queryBus = queryBus;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ReactorMessageDispatchInterceptor}s for {@link QueryMessage}s, invoked upon subscription to
+         * the result of sending a query.
+         *
+         * @param dispatchInterceptors which are invoked when a query is being dispatched
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder dispatchInterceptors(
+                ReactorMessageDispatchInterceptor<QueryMessage<?, ?>>... dispatchInterceptors) {
+            return dispatchInterceptors(asList(dispatchInterceptors));
+        }
+
+        /**
+         * Sets the {@link List} of {@link ReactorMessageDispatchInterceptor}s for {@link QueryMessage}s, invoked upon
+         * subscription to the result of sending a query.
+         *
+         * @param dispatchInterceptors which are invoked when a query is being dispatched
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder dispatchInterceptors(
+                List<ReactorMessageDispatchInterceptor<QueryMessage<?, ?>>> dispatchInterceptors) {
+            this.dispatchInterceptors = dispatchInterceptors != null && !dispatchInterceptors.isEmpty()
+                    ? new CopyOnWriteArrayList<>(dispatchInterceptors)
+                    : new CopyOnWriteArrayList<>();
+            return this;
+        }
+
+        /**
+         * Initializes a {@link DefaultReactorQueryGateway} as specified through this Builder.
+         *
+         * @return a {@link DefaultReactorQueryGateway} as specified through this Builder
+         */
+        public DefaultReactorQueryGateway build() {
+            return new DefaultReactorQueryGateway(this);
+        }
+
+        /**
+         * Validates whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(queryBus, "The QueryBus is a hard requirement and should be provided");
+        }
+    }
+}
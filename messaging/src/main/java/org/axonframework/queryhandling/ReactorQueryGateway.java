@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.common.Registration;
+import org.axonframework.messaging.ReactorMessageDispatchInterceptor;
+import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+
+import static org.axonframework.queryhandling.QueryMessage.queryName;
+
+/**
+ * Variant of the {@link QueryGateway} using Project Reactor types to dispatch queries in a non-blocking fashion.
+ * <p>
+ * All operations are lazy: queries are neither intercepted nor dispatched until the returned {@link Mono} or {@link
+ * Flux} is subscribed to. Every subscription dispatches the query again.
+ *
+ * @since 4.6.0
+ */
+public interface ReactorQueryGateway {
+
+    /**
+     * Sends the given {@code query} once the returned {@link Mono} is subscribed to, expecting a response of the given
+     * {@code responseType} from a single source. The query name is derived from the given {@code query}.
+     *
+     * @param query        the query to be sent
+     * @param responseType the {@link Class} describing the desired response type
+     * @param <R>          the response class contained in the given {@code responseType}
+     * @param <Q>          the query class
+     * @return a {@link Mono} sending the query when subscribed to, completing with the query result
+     */
+    default <R, Q> Mono<R> query(Q query, Class<R> responseType) {
+        return query(queryName(query), query, ResponseTypes.instanceOf(responseType));
+    }
+
+    /**
+     * Sends the given {@code query} once the returned {@link Mono} is subscribed to, expecting a response of the given
+     * {@code responseType} from a single source.
+     *
+     * @param queryName    the name of the query to be sent
+     * @param query        the query to be sent
+     * @param responseType the {@link Class} describing the desired response type
+     * @param <R>          the response class contained in the given {@code responseType}
+     * @param <Q>          the query class
+     * @return a {@link Mono} sending the query when subscribed to, completing with the query result
+     */
+    default <R, Q> Mono<R> query(String queryName, Q query, Class<R> responseType) {
+        return query(queryName, query, ResponseTypes.instanceOf(responseType));
+    }
+
+    /**
+     * Sends the given {@code query} once the returned {@link Mono} is subscribed to, expecting a response of the given
+     * {@code responseType} from a single source. The query name is derived from the given {@code query}.
+     *
+     * @param query        the query to be sent
+     * @param responseType the {@link ResponseType} used for this query
+     * @param <R>          the response class contained in the given {@code responseType}
+     * @param <Q>          the query class
+     * @return a {@link Mono} sending the query when subscribed to, completing with the query result
+     */
+    default <R, Q> Mono<R> query(Q query, ResponseType<R> responseType) {
+        return query(queryName(query), query, responseType);
+    }
+
+    /**
+     * Sends the given {@code query} once the returned {@link Mono} is subscribed to, expecting a response of the given
+     * {@code responseType} from a single source. The {@code Mono} completes empty if the query handler returned {@code
+     * null}, and completes with an error if no handler was found or if the handler failed.
+     *
+     * @param queryName    the name of the query to be sent
+     * @param query        the query to be sent
+     * @param responseType the {@link ResponseType} used for this query
+     * @param <R>          the response class contained in the given {@code responseType}
+     * @param <Q>          the query class
+     * @return a {@link Mono} sending the query when subscribed to, completing with the query result
+     */
+    <R, Q> Mono<R> query(String queryName, Q query, ResponseType<R> responseType);
+
+    /**
+     * Sends all {@code queries} published by the given {@link Publisher}, with at most {@code concurrency} queries
+     * being in flight at any given time, expecting a response of the given {@code responseType} for every query. The
+     * query names are derived from the queries. The results are emitted in the order in which the queries were
+     * published.
+     *
+     * @param queries      a {@link Publisher} of the queries to send
+     * @param responseType the {@link ResponseType} used for the queries
+     * @param concurrency  the maximum number of queries sent but not yet answered at any given time
+     * @param <R>          the response class contained in the given {@code responseType}
+     * @return a {@link Flux} of the query results, in the order of the given {@code queries}
+     */
+    default <R> Flux<R> queryAll(Publisher<?> queries, ResponseType<R> responseType, int concurrency) {
+        return Flux.from(queries).flatMapSequential(query -> query(query, responseType), concurrency);
+    }
+
+    /**
+     * Sends the given {@code query} to all handlers of the query once the returned {@link Flux} is subscribed to,
+     * expecting responses of the given {@code responseType}. The query name is derived from the given {@code query}.
+     *
+     * @param query        the query to be sent
+     * @param responseType the {@link ResponseType} used for this query
+     * @param timeout      the maximum amount of time to wait for the responses
+     * @param <R>          the response class contained in the given {@code responseType}
+     * @param <Q>          the query class
+     * @return a {@link Flux} sending the query when subscribed to, emitting the responses of all handlers
+     */
+    default <R, Q> Flux<R> scatterGather(Q query, ResponseType<R> responseType, Duration timeout) {
+        return scatterGather(queryName(query), query, responseType, timeout);
+    }
+
+    /**
+     * Sends the given {@code query} to all handlers of the query once the returned {@link Flux} is subscribed to,
+     * expecting responses of the given {@code responseType}. Responses of handlers which failed or did not answer
+     * within the given {@code timeout} are omitted. Implementations should not block the subscribing thread while
+     * waiting for the responses.
+     *
+     * @param queryName    the name of the query to be sent
+     * @param query        the query to be sent
+     * @param responseType the {@link ResponseType} used for this query
+     * @param timeout      the maximum amount of time to wait for the responses
+     * @param <R>          the response class contained in the given {@code responseType}
+     * @param <Q>          the query class
+     * @return a {@link Flux} sending the query when subscribed to, emitting the responses of all handlers
+     */
+    <R, Q> Flux<R> scatterGather(String queryName, Q query, ResponseType<R> responseType, Duration timeout);
+
+    /**
+     * Sends the given {@code query} as a subscription query once the returned {@link Mono} is subscribed to. The
+     * query name is derived from the given {@code query}. Updates are buffered in a buffer of {@link
+     * Queues#SMALL_BUFFER_SIZE}.
+     *
+     * @param query               the query to be sent
+     * @param initialResponseType the {@link Class} describing the type of the initial result
+     * @param updateResponseType  the {@link Class} describing the type of the incremental updates
+     * @param <Q>                 the query class
+     * @param <I>                 the initial response class
+     * @param <U>                 the incremental update class
+     * @return a {@link Mono} sending the subscription query when subscribed to, completing with the {@link
+     * SubscriptionQueryResult} of the query
+     */
+    default <Q, I, U> Mono<SubscriptionQueryResult<I, U>> subscriptionQuery(Q query,
+                                                                           Class<I> initialResponseType,
+                                                                           Class<U> updateResponseType) {
+        return subscriptionQuery(queryName(query),
+                                 query,
+                                 ResponseTypes.instanceOf(initialResponseType),
+                                 ResponseTypes.instanceOf(updateResponseType),
+                                 Queues.SMALL_BUFFER_SIZE);
+    }
+
+    /**
+     * Sends the given {@code query} as a subscription query once the returned {@link Mono} is subscribed to. Callers
+     * are responsible for {@link SubscriptionQueryResult#cancel() cancelling} the resulting subscription query result
+     * once they are no longer interested in updates.
+     *
+     * @param queryName           the name of the query to be sent
+     * @param query               the query to be sent
+     * @param initialResponseType the {@link ResponseType} used for the initial result
+     * @param updateResponseType  the {@link ResponseType} used for the incremental updates
+     * @param updateBufferSize    the size of the buffer which accumulates updates before a subscription to the updates
+     *                            is made
+     * @param <Q>                 the query class
+     * @param <I>                 the initial response class
+     * @param <U>                 the incremental update class
+     * @return a {@link Mono} sending the subscription query when subscribed to, completing with the {@link
+     * SubscriptionQueryResult} of the query
+     */
+    <Q, I, U> Mono<SubscriptionQueryResult<I, U>> subscriptionQuery(String queryName,
+                                                                   Q query,
+                                                                   ResponseType<I> initialResponseType,
+                                                                   ResponseType<U> updateResponseType,
+                                                                   int updateBufferSize);
+
+    /**
+     * Registers the given {@link ReactorMessageDispatchInterceptor}, which is invoked for every query sent through
+     * this gateway upon subscription.
+     *
+     * @param interceptor the {@link ReactorMessageDispatchInterceptor} to register
+     * @return a {@link Registration} which can be used to cancel the registration of the given {@code interceptor}
+     */
+    Registration registerDispatchInterceptor(ReactorMessageDispatchInterceptor<QueryMessage<?, ?>> interceptor);
+}
@@ -30,6 +30,9 @@
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.monitoring.NoOpMessageMonitor;
+import org.axonframework.tracing.NoOpSpanFactory;
+import org.axonframework.tracing.Span;
+import org.axonframework.tracing.SpanFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,6 +73,9 @@
 public class SimpleQueryBus implements QueryBus {
 
     private static final Logger logger = LoggerFactory.getLogger(SimpleQueryBus.class);
+    private static final String QUERY_SPAN_NAME = "SimpleQueryBus.query";
+    private static final String SCATTER_GATHER_SPAN_NAME = "SimpleQueryBus.scatterGather";
+    private static final String HANDLE_SPAN_NAME = "SimpleQueryBus.handle";
 
     @SuppressWarnings("rawtypes")
     private final ConcurrentMap<String, CopyOnWriteArrayList<QuerySubscription>> subscriptions = new ConcurrentHashMap<>();
@@ -79,6 +85,7 @@ public class SimpleQueryBus implements QueryBus {
     private final List<MessageDispatchInterceptor<? super QueryMessage<?, ?>>> dispatchInterceptors = new CopyOnWriteArrayList<>();
 
     private final QueryUpdateEmitter queryUpdateEmitter;
+    private final SpanFactory spanFactory;
 
     /**
      * Instantiate a {@link SimpleQueryBus} based on the fields contained in the {@link Builder}.
@@ -93,14 +100,15 @@ protected SimpleQueryBus(Builder builder) {
             registerHandlerInterceptor(new TransactionManagingInterceptor<>(builder.transactionManager));
         }
         this.queryUpdateEmitter = builder.queryUpdateEmitter;
+        this.spanFactory = builder.spanFactory;
     }
 
     /**
      * Instantiate a Builder to be able to create a {@link SimpleQueryBus}.
      * <p>
      * The {@link MessageMonitor} is defaulted to {@link NoOpMessageMonitor}, {@link TransactionManager} to {@link
-     * NoTransactionManager}, {@link QueryInvocationErrorHandler} to {@link LoggingQueryInvocationErrorHandler}, and
-     * {@link QueryUpdateEmitter} to {@link SimpleQueryUpdateEmitter}.
+     * NoTransactionManager}, {@link QueryInvocationErrorHandler} to {@link LoggingQueryInvocationErrorHandler}, {@link
+     * QueryUpdateEmitter} to {@link SimpleQueryUpdateEmitter} and {@link SpanFactory} to {@link NoOpSpanFactory}.
      *
      * @return a Builder to be able to create a {@link SimpleQueryBus}
      */
@@ -138,6 +146,7 @@ public <Q, R> CompletableFuture<QueryResponseMessage<R>> query(QueryMessage<Q, R
         QueryMessage<Q, R> interceptedQuery = intercept(query);
         List<MessageHandler<? super QueryMessage<?, ?>>> handlers = getHandlersForMessage(interceptedQuery);
         CompletableFuture<QueryResponseMessage<R>> result = new CompletableFuture<>();
+        Span span = spanFactory.createSpan(QUERY_SPAN_NAME, interceptedQuery).start();
         try {
             if (handlers.isEmpty()) {
                 throw new NoHandlerForQueryException(
@@ -149,14 +158,14 @@ public <Q, R> CompletableFuture<QueryResponseMessage<R>> query(QueryMessage<Q, R
             Iterator<MessageHandler<? super QueryMessage<?, ?>>> handlerIterator = handlers.iterator();
             boolean invocationSuccess = false;
             while (!invocationSuccess && handlerIterator.hasNext()) {
-                DefaultUnitOfWork<QueryMessage<Q, R>> uow = DefaultUnitOfWork.startAndGet(interceptedQuery);
                 ResultMessage<CompletableFuture<QueryResponseMessage<R>>> resultMessage =
-                        interceptAndInvoke(uow, handlerIterator.next());
+                        interceptAndInvoke(interceptedQuery, handlerIterator.next());
                 if (resultMessage.isExceptional()) {
                     if (!(resultMessage.exceptionResult() instanceof NoHandlerForQueryException)) {
                         result.complete(new GenericQueryResponseMessage<>(
                                 interceptedQuery.getResponseType().responseMessagePayloadType(),
                                 resultMessage.exceptionResult()));
+                        span.recordException(resultMessage.exceptionResult());
                         monitorCallback.reportFailure(resultMessage.exceptionResult());
                         return result;
                     }
@@ -174,8 +183,11 @@ public <Q, R> CompletableFuture<QueryResponseMessage<R>> query(QueryMessage<Q, R
             }
             monitorCallback.reportSuccess();
         } catch (Exception e) {
+            span.recordException(e);
             result.completeExceptionally(e);
             monitorCallback.reportFailure(e);
+        } finally {
+            span.end();
         }
         return result;
     }
@@ -194,23 +206,29 @@ public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(QueryMessage<Q, R> q
         return handlers.stream()
                        .map(handler -> {
                            long leftTimeout = getRemainingOfDeadline(deadline);
-                           ResultMessage<CompletableFuture<QueryResponseMessage<R>>> resultMessage =
-                                   interceptAndInvoke(DefaultUnitOfWork.startAndGet(interceptedQuery),
-                                                      handler);
-                           QueryResponseMessage<R> response = null;
-                           if (resultMessage.isExceptional()) {
-                               monitorCallback.reportFailure(resultMessage.exceptionResult());
-                               errorHandler.onError(resultMessage.exceptionResult(), interceptedQuery, handler);
-                           } else {
-                               try {
-                                   response = resultMessage.getPayload().get(leftTimeout, TimeUnit.MILLISECONDS);
-                                   monitorCallback.reportSuccess();
-                               } catch (Exception e) {
-                                   monitorCallback.reportFailure(e);
-                                   errorHandler.onError(e, interceptedQuery, handler);
+                           Span span = spanFactory.createSpan(SCATTER_GATHER_SPAN_NAME, interceptedQuery).start();
+                           try {
+                               ResultMessage<CompletableFuture<QueryResponseMessage<R>>> resultMessage =
+                                       interceptAndInvoke(interceptedQuery, handler);
+                               QueryResponseMessage<R> response = null;
+                               if (resultMessage.isExceptional()) {
+                                   span.recordException(resultMessage.exceptionResult());
+                                   monitorCallback.reportFailure(resultMessage.exceptionResult());
+                                   errorHandler.onError(resultMessage.exceptionResult(), interceptedQuery, handler);
+                               } else {
+                                   try {
+                                       response = resultMessage.getPayload().get(leftTimeout, TimeUnit.MILLISECONDS);
+                                       monitorCallback.reportSuccess();
+                                   } catch (Exception e) {
+                                       span.recordException(e);
+                                       monitorCallback.reportFailure(e);
+                                       errorHandler.onError(e, interceptedQuery, handler);
+                                   }
                                }
+                               return response;
+                           } finally {
+                               span.end();
                            }
-                           return response;
                        }).filter(Objects::nonNull);
     }
 
@@ -287,6 +305,25 @@ public QueryUpdateEmitter queryUpdateEmitter() {
     }
 
     private <Q, R> ResultMessage<CompletableFuture<QueryResponseMessage<R>>> interceptAndInvoke(
+            QueryMessage<Q, R> query,
+            MessageHandler<? super QueryMessage<?, R>> handler
+    ) {
+        Span span = spanFactory.createSpan(HANDLE_SPAN_NAME, query).start();
+        try {
+            DefaultUnitOfWork<QueryMessage<Q, R>> uow = new DefaultUnitOfWork<>(query);
+            uow.setSpanFactory(spanFactory);
+            uow.start();
+            ResultMessage<CompletableFuture<QueryResponseMessage<R>>> resultMessage = invoke(uow, handler);
+            if (resultMessage.isExceptional()) {
+                span.recordException(resultMessage.exceptionResult());
+            }
+            return resultMessage;
+        } finally {
+            span.end();
+        }
+    }
+
+    private <Q, R> ResultMessage<CompletableFuture<QueryResponseMessage<R>>> invoke(
             UnitOfWork<QueryMessage<Q, R>> uow,
             MessageHandler<? super QueryMessage<?, R>> handler
     ) {
@@ -380,8 +417,8 @@ public Registration registerDispatchInterceptor(
      * Builder class to instantiate a {@link SimpleQueryBus}.
      * <p>
      * The {@link MessageMonitor} is defaulted to {@link NoOpMessageMonitor}, {@link TransactionManager} to {@link
-     * NoTransactionManager}, {@link QueryInvocationErrorHandler} to {@link LoggingQueryInvocationErrorHandler}, and
-     * {@link QueryUpdateEmitter} to {@link SimpleQueryUpdateEmitter}.
+     * NoTransactionManager}, {@link QueryInvocationErrorHandler} to {@link LoggingQueryInvocationErrorHandler}, {@link
+     * QueryUpdateEmitter} to {@link SimpleQueryUpdateEmitter} and {@link SpanFactory} to {@link NoOpSpanFactory}.
      */
     public static class Builder {
 
@@ -391,6 +428,7 @@ public static class Builder {
                                                                                              .logger(logger)
                                                                                              .build();
         private QueryUpdateEmitter queryUpdateEmitter = SimpleQueryUpdateEmitter.builder().build();
+        private SpanFactory spanFactory = NoOpSpanFactory.INSTANCE;
 
         /**
          * Sets the {@link MessageMonitor} used to monitor query messages. Defaults to a {@link NoOpMessageMonitor}.
@@ -445,6 +483,19 @@ public Builder queryUpdateEmitter(QueryUpdateEmitter queryUpdateEmitter) {
             return this;
         }
 
+        /**
+         * Sets the {@link SpanFactory} used to trace the dispatching and handling of queries, including the phases of
+         * the {@link UnitOfWork} in which queries are handled. Defaults to a {@link NoOpSpanFactory}.
+         *
+         * @param spanFactory the {@link SpanFactory} used to trace the dispatching and handling of queries
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder spanFactory(SpanFactory spanFactory) {
+            assertNonNull(spanFactory, "SpanFactory may not be null");
+            this.spanFactory = spanFactory;
+            return this;
+        }
+
         /**
          * Initializes a {@link SimpleQueryBus} as specified through this Builder.
          *
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.tracing;
+
+import org.axonframework.messaging.Message;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link SpanFactory} keeping all finished spans in memory, allowing them to be inspected afterwards. Parent-child
+ * relations between spans are tracked per thread.
+ * <p>
+ * As finished spans are retained until {@link #reset()} is invoked, this implementation is intended for testing and
+ * debugging purposes only.
+ *
+ * @since 4.6.0
+ */
+public class InMemorySpanFactory implements SpanFactory {
+
+    private final AtomicLong idGenerator = new AtomicLong();
+    private final ThreadLocal<Deque<InMemorySpan>> activeSpans = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Queue<InMemorySpan> finishedSpans = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public Span createSpan(String operationName, Message<?> message) {
+        return new InMemorySpan(operationName, message);
+    }
+
+    /**
+     * Returns the spans that have been ended, in the order in which they ended.
+     *
+     * @return the spans that have been ended, in the order in which they ended
+     */
+    public List<InMemorySpan> finishedSpans() {
+        return new ArrayList<>(finishedSpans);
+    }
+
+    /**
+     * Returns the spans that have been ended with the given {@code operationName}, in the order in which they ended.
+     *
+     * @param operationName the name of the operation to return the finished spans for
+     * @return the spans that have been ended with the given {@code operationName}
+     */
+    public List<InMemorySpan> finishedSpans(String operationName) {
+        return finishedSpans.stream()
+                            .filter(span -> span.getOperationName().equals(operationName))
+                            .collect(Collectors.toList());
+    }
+
+    /**
+     * Removes all finished spans from this factory.
+     */
+    public void reset() {
+        finishedSpans.clear();
+    }
+
+    /**
+     * A {@link Span} recorded by the {@link InMemorySpanFactory}.
+     */
+    public class InMemorySpan implements Span {
+
+        private final String operationName;
+        private final String messageIdentifier;
+        private final String payloadType;
+        private long traceId;
+        private long spanId;
+        private long parentSpanId;
+        private long startNanos;
+        private long endNanos;
+        private Throwable exception;
+
+        private InMemorySpan(String operationName, Message<?> message) {
+            this.operationName = operationName;
+            this.messageIdentifier = message == null ? null : message.getIdentifier();
+            this.payloadType = message == null || message.getPayloadType() == null
+                    ? null : message.getPayloadType().getName();
+        }
+
+        @Override
+        public Span start() {
+            Deque<InMemorySpan> stack = activeSpans.get();
+            InMemorySpan parent = stack.peek();
+            spanId = idGenerator.incrementAndGet();
+            traceId = parent == null ? spanId : parent.traceId;
+            parentSpanId = parent == null ? 0 : parent.spanId;
+            startNanos = System.nanoTime();
+            stack.push(this);
+            return this;
+        }
+
+        @Override
+        public void end() {
+            endNanos = System.nanoTime();
+            activeSpans.get().remove(this);
+            finishedSpans.add(this);
+        }
+
+        @Override
+        public Span recordException(Throwable exception) {
+            this.exception = exception;
+            return this;
+        }
+
+        /**
+         * Returns the name of the operation represented by this span.
+         *
+         * @return the name of the operation represented by this span
+         */
+        public String getOperationName() {
+            return operationName;
+        }
+
+        /**
+         * Returns the identifier of the message processed in this span, or {@code null} if no message was provided.
+         *
+         * @return the identifier of the message processed in this span
+         */
+        public String getMessageIdentifier() {
+            return messageIdentifier;
+        }
+
+        /**
+         * Returns the name of the payload type of the message processed in this span, or {@code null} if no message
+         * was provided.
+         *
+         * @return the name of the payload type of the message processed in this span
+         */
+        public String getPayloadType() {
+            return payloadType;
+        }
+
+        /**
+         * Returns the identifier of the trace this span is part of, being the {@link #getSpanId() span identifier} of
+         * the trace's root span.
+         *
+         * @return the identifier of the trace this span is part of
+         */
+        public long getTraceId() {
+            return traceId;
+        }
+
+        /**
+         * Returns the identifier of this span.
+         *
+         * @return the identifier of this span
+         */
+        public long getSpanId() {
+            return spanId;
+        }
+
+        /**
+         * Returns the identifier of the parent of this span, or {@code 0} if this span is the root of its trace.
+         *
+         * @return the identifier of the parent of this span
+         */
+        public long getParentSpanId() {
+            return parentSpanId;
+        }
+
+        /**
+         * Returns the duration of this span in nanoseconds.
+         *
+         * @return the duration of this span in nanoseconds
+         */
+        public long getDurationNanos() {
+            return endNanos - startNanos;
+        }
+
+        /**
+         * Returns the exception recorded on this span, or {@code null} if none was recorded.
+         *
+         * @return the exception recorded on this span
+         */
+        public Throwable getException() {
+            return exception;
+        }
+
+        @Override
+        public String toString() {
+            return "InMemorySpan{operationName='" + operationName + "', traceId=" + traceId
+                    + ", spanId=" + spanId + ", parentSpanId=" + parentSpanId + '}';
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.tracing;
+
+/**
+ * A {@link Span} which does nothing at all.
+ *
+ * @since 4.6.0
+ */
+public enum NoOpSpan implements Span {
+
+    /**
+     * Singleton instance of a {@link NoOpSpan}.
+     */
+    INSTANCE;
+
+    @Override
+    public Span start() {
+        return this;
+    }
+
+    @Override
+    public void end() {
+        // Nothing to do
+    }
+
+    @Override
+    public Span recordException(Throwable exception) {
+        return this;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.tracing;
+
+import org.axonframework.messaging.Message;
+
+/**
+ * A {@link SpanFactory} returning a {@link NoOpSpan} for every operation, thus not allocating or tracing anything. This
+ * is the default {@code SpanFactory} of all components supporting tracing.
+ *
+ * @since 4.6.0
+ */
+public enum NoOpSpanFactory implements SpanFactory {
+
+    /**
+     * Singleton instance of a {@link NoOpSpanFactory}.
+     */
+    INSTANCE;
+
+    @Override
+    public Span createSpan(String operationName, Message<?> message) {
+        return NoOpSpan.INSTANCE;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.tracing;
+
+import org.axonframework.messaging.Message;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * A {@link SpanFactory} implementation applying head-based sampling to the spans created by a delegate {@code
+ * SpanFactory}. Whether a trace is sampled is decided once, when its root span is created, after which all spans
+ * created within that trace on the same thread follow the same decision. This guarantees traces are either recorded
+ * completely or not at all.
+ * <p>
+ * Spans of traces that are not sampled are not created through the delegate, and do not cause any allocation.
+ *
+ * @since 4.6.0
+ */
+public class SamplingSpanFactory implements SpanFactory {
+
+    private final SpanFactory delegate;
+    private final double sampleRatio;
+    private final ThreadLocal<TraceState> traceState = ThreadLocal.withInitial(TraceState::new);
+
+    /**
+     * Construct a {@link SamplingSpanFactory} creating spans through the given {@code delegate} for the given {@code
+     * sampleRatio} of all traces.
+     *
+     * @param delegate    the {@link SpanFactory} creating the spans of sampled traces
+     * @param sampleRatio the ratio of traces to sample, between {@code 0} (none) and {@code 1} (all) inclusive
+     */
+    public SamplingSpanFactory(SpanFactory delegate, double sampleRatio) {
+        assertNonNull(delegate, "The delegate SpanFactory may not be null");
+        assertThat(sampleRatio, ratio -> ratio >= 0 && ratio <= 1, "The sample ratio should be between 0 and 1");
+        this.delegate = delegate;
+        this.sampleRatio = sampleRatio;
+    }
+
+    @Override
+    public Span createSpan(String operationName, Message<?> message) {
+        TraceState state = traceState.get();
+        if (state.depth == 0) {
+            state.sampled = sampleRatio >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRatio;
+        }
+        if (!state.sampled) {
+            return state;
+        }
+        return new SampledSpan(state, delegate.createSpan(operationName, message));
+    }
+
+    /**
+     * The sampling decision of the trace active on a thread, together with the number of its spans currently started
+     * on that thread. Doubles as the {@link Span} returned for all operations of a trace that is not sampled.
+     */
+    private static class TraceState implements Span {
+
+        private boolean sampled;
+        private int depth;
+
+        @Override
+        public Span start() {
+            depth++;
+            return this;
+        }
+
+        @Override
+        public void end() {
+            depth--;
+        }
+
+        @Override
+        public Span recordException(Throwable exception) {
+            return this;
+        }
+    }
+
+    private static class SampledSpan implements Span {
+
+        private final TraceState state;
+        private final Span delegate;
+
+        private SampledSpan(TraceState state, Span delegate) {
+            this.state = state;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Span start() {
+            state.start();
+            delegate.start();
+            return this;
+        }
+
+        @Override
+        public void end() {
+            try {
+                delegate.end();
+            } finally {
+                state.end();
+            }
+        }
+
+        @Override
+        public Span recordException(Throwable exception) {
+            delegate.recordException(exception);
+            return this;
+        }
+    }
+}
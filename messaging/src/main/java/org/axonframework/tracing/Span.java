@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.tracing;
+
+/**
+ * Represents a single unit of work within a trace, such as the dispatching of a command or the invocation of an event
+ * handler. A span is created through a {@link SpanFactory}, after which it should be {@link #start() started} and
+ * eventually {@link #end() ended} on the same thread.
+ * <p>
+ * While started, a span is considered the active span of the current thread. Spans created on that thread while it is
+ * active become its children.
+ *
+ * @since 4.6.0
+ */
+public interface Span {
+
+    /**
+     * Starts this span, making it the active span of the current thread.
+     *
+     * @return this span, for fluent interfacing
+     */
+    Span start();
+
+    /**
+     * Ends this span, restoring the span that was active before this span was started as the active span of the
+     * current thread.
+     */
+    void end();
+
+    /**
+     * Records the given {@code exception} as the cause of this span's failure. Does not end the span.
+     *
+     * @param exception the {@link Throwable} causing the failure of the operation represented by this span
+     * @return this span, for fluent interfacing
+     */
+    Span recordException(Throwable exception);
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.tracing;
+
+import org.axonframework.messaging.Message;
+
+/**
+ * Service Provider Interface for the creation of {@link Span} instances by the components of the framework, such as
+ * the command bus, query bus, event processors, unit of work and event storage engine. Implementations bridge these
+ * spans to the tracing solution of choice.
+ * <p>
+ * As spans are created for every message handled, implementations should take care to introduce as little overhead as
+ * possible. The {@link NoOpSpanFactory} is used by default and does not allocate at all. The {@link
+ * SamplingSpanFactory} may be used to only trace a portion of all operations.
+ *
+ * @since 4.6.0
+ */
+public interface SpanFactory {
+
+    /**
+     * Creates a {@link Span} for the operation with given {@code operationName}. When started, the span becomes a child
+     * of the span active on the current thread, or the root of a new trace if no span is active.
+     * <p>
+     * Callers are expected to provide a constant {@code operationName}, preventing an allocation per created span.
+     *
+     * @param operationName the name of the operation represented by the span
+     * @param message       the {@link Message} being processed in the operation, may be {@code null}
+     * @return a {@link Span} representing the given operation, to be started by the caller
+     */
+    Span createSpan(String operationName, Message<?> message);
+}
@@ -27,12 +27,15 @@
 import org.axonframework.messaging.unitofwork.RollbackConfigurationType;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.monitoring.MessageMonitor;
+import org.axonframework.tracing.InMemorySpanFactory;
+import org.axonframework.utils.MockException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -97,6 +100,45 @@ void testDispatchCommandImplicitUnitOfWorkIsCommittedOnReturnValue() {
         assertFalse(unitOfWork.get().isActive());
     }
 
+    @Test
+    void testDispatchAndHandlingAreTracedThroughSpanFactory() {
+        InMemorySpanFactory spanFactory = new InMemorySpanFactory();
+        testSubject = SimpleCommandBus.builder().spanFactory(spanFactory).build();
+        testSubject.subscribe(String.class.getName(), command -> command.getPayload());
+
+        CommandMessage<Object> command = asCommandMessage("Say hi!");
+        testSubject.dispatch(command, NoOpCallback.INSTANCE);
+
+        List<InMemorySpanFactory.InMemorySpan> dispatchSpans = spanFactory.finishedSpans("SimpleCommandBus.dispatch");
+        List<InMemorySpanFactory.InMemorySpan> handleSpans = spanFactory.finishedSpans("SimpleCommandBus.handle");
+        List<InMemorySpanFactory.InMemorySpan> commitSpans = spanFactory.finishedSpans("UnitOfWork.COMMIT");
+        assertEquals(1, dispatchSpans.size());
+        assertEquals(1, handleSpans.size());
+        assertEquals(1, commitSpans.size());
+        InMemorySpanFactory.InMemorySpan dispatchSpan = dispatchSpans.get(0);
+        assertEquals(0, dispatchSpan.getParentSpanId());
+        assertEquals(command.getIdentifier(), dispatchSpan.getMessageIdentifier());
+        assertEquals(dispatchSpan.getSpanId(), handleSpans.get(0).getParentSpanId());
+        assertEquals(handleSpans.get(0).getSpanId(), commitSpans.get(0).getParentSpanId());
+        assertEquals(dispatchSpan.getTraceId(), commitSpans.get(0).getTraceId());
+    }
+
+    @Test
+    void testHandlerExceptionIsRecordedOnHandleSpan() {
+        InMemorySpanFactory spanFactory = new InMemorySpanFactory();
+        testSubject = SimpleCommandBus.builder().spanFactory(spanFactory).build();
+        testSubject.subscribe(String.class.getName(), command -> {
+            throw new MockException();
+        });
+
+        testSubject.dispatch(asCommandMessage("Say hi!"), NoOpCallback.INSTANCE);
+
+        List<InMemorySpanFactory.InMemorySpan> handleSpans = spanFactory.finishedSpans("SimpleCommandBus.handle");
+        assertEquals(1, handleSpans.size());
+        assertTrue(handleSpans.get(0).getException() instanceof MockException);
+        assertEquals(1, spanFactory.finishedSpans("UnitOfWork.ROLLBACK").size());
+    }
+
     @Test
     void testFireAndForgetUsesDefaultCallback() {
         CommandCallback<Object, Object> mockCallback = mock(CommandCallback.class);
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.commandhandling.gateway;
+
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.SimpleCommandBus;
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.utils.MockException;
+import org.junit.jupiter.api.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link DefaultReactorCommandGateway}.
+ */
+class DefaultReactorCommandGatewayTest {
+
+    private SimpleCommandBus commandBus;
+    private AtomicInteger handleCount;
+    private List<CommandMessage<?>> handledCommands;
+
+    private DefaultReactorCommandGateway testSubject;
+
+    @BeforeEach
+    void setUp() {
+        commandBus = SimpleCommandBus.builder().build();
+        handleCount = new AtomicInteger();
+        handledCommands = new CopyOnWriteArrayList<>();
+        commandBus.subscribe(String.class.getName(), command -> {
+            handleCount.incrementAndGet();
+            handledCommands.add(command);
+            return command.getPayload() + "-handled";
+        });
+        commandBus.subscribe(Integer.class.getName(), command -> {
+            throw new MockException();
+        });
+        testSubject = DefaultReactorCommandGateway.builder().commandBus(commandBus).build();
+    }
+
+    @Test
+    void testSendIsLazy() {
+        Mono<String> result = testSubject.send("command");
+
+        assertEquals(0, handleCount.get());
+        StepVerifier.create(result).expectNext("command-handled").verifyComplete();
+        StepVerifier.create(result).expectNext("command-handled").verifyComplete();
+        assertEquals(2, handleCount.get());
+    }
+
+    @Test
+    void testSendPropagatesCommandHandlerException() {
+        StepVerifier.create(testSubject.send(1)).verifyError(MockException.class);
+    }
+
+    @Test
+    void testDispatchInterceptorsAreInvokedUponSubscription() {
+        AtomicInteger interceptCount = new AtomicInteger();
+        testSubject.registerDispatchInterceptor(message -> message.map(
+                command -> {
+                    interceptCount.incrementAndGet();
+                    return command.andMetaData(MetaData.with("key", "value"));
+                }
+        ));
+
+        Mono<String> result = testSubject.send("command");
+        assertEquals(0, interceptCount.get());
+
+        StepVerifier.create(result).expectNext("command-handled").verifyComplete();
+        assertEquals(1, interceptCount.get());
+        assertEquals("value", handledCommands.get(0).getMetaData().get("key"));
+    }
+
+    @Test
+    void testDispatchInterceptorCanBlockDispatching() {
+        testSubject.registerDispatchInterceptor(message -> message.flatMap(m -> Mono.error(new MockException())));
+
+        StepVerifier.create(testSubject.send("command")).verifyError(MockException.class);
+        assertEquals(0, handleCount.get());
+    }
+
+    @Test
+    void testSendAllEmitsResultsInOrderOfCommands() {
+        Flux<Object> result = testSubject.sendAll(Flux.just("one", "two", "three"), 2);
+
+        assertEquals(0, handleCount.get());
+        StepVerifier.create(result)
+                    .expectNext("one-handled", "two-handled", "three-handled")
+                    .verifyComplete();
+    }
+
+    @Test
+    void testSendAllStopsOnFirstFailingCommand() {
+        StepVerifier.create(testSubject.sendAll(Flux.just("one", 2, "three")))
+                    .expectNext("one-handled")
+                    .verifyError(MockException.class);
+        assertEquals(1, handleCount.get());
+    }
+
+    @Test
+    void testBuildWithoutCommandBusThrowsAxonConfigurationException() {
+        DefaultReactorCommandGateway.Builder builder = DefaultReactorCommandGateway.builder();
+
+        assertThrows(AxonConfigurationException.class, builder::build);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common;
+
+import org.junit.jupiter.api.*;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link ThreadPerTaskScheduledExecutor}.
+ */
+class ThreadPerTaskScheduledExecutorTest {
+
+    private ThreadPerTaskScheduledExecutor testSubject;
+
+    @BeforeEach
+    void setUp() {
+        testSubject = new ThreadPerTaskScheduledExecutor(new AxonThreadFactory("task"),
+                                                         new AxonThreadFactory("scheduler"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        testSubject.shutdownNow();
+    }
+
+    @Test
+    void testEveryTaskRunsOnNewThread() throws Exception {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            testSubject.execute(() -> {
+                threads.add(Thread.currentThread());
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(3, threads.size());
+        threads.forEach(thread -> assertTrue(thread.getName().startsWith("task-")));
+    }
+
+    @Test
+    void testDelayedTaskRunsOnTaskThreadAfterDelay() throws Exception {
+        long start = System.nanoTime();
+        ScheduledFuture<String> result =
+                testSubject.schedule(() -> Thread.currentThread().getName(), 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(result.get(1, TimeUnit.SECONDS).startsWith("task-"));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void testPeriodicTaskRunsUntilCancelled() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(3);
+        ScheduledFuture<?> result = testSubject.scheduleWithFixedDelay(() -> {
+            runs.incrementAndGet();
+            latch.countDown();
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        result.cancel(false);
+        Thread.sleep(50);
+        int runsAfterCancel = runs.get();
+        Thread.sleep(50);
+
+        assertTrue(result.isCancelled());
+        assertEquals(runsAfterCancel, runs.get());
+    }
+
+    @Test
+    void testShutdownRejectsNewTasksAndAwaitsRunningTasks() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        testSubject.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ScheduledFuture<?> delayed = testSubject.schedule(() -> fail("Should not run"), 1, TimeUnit.HOURS);
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        testSubject.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> testSubject.execute(() -> {
+        }));
+        assertFalse(testSubject.awaitTermination(50, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertTrue(testSubject.awaitTermination(1, TimeUnit.SECONDS));
+        assertTrue(testSubject.isTerminated());
+        assertTrue(delayed.isCancelled());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common;
+
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link ThreadingMode}.
+ */
+class ThreadingModeTest {
+
+    @Test
+    void testPlatformThreadFactoryCreatesNamedThreadsInGroup() {
+        ThreadFactory testSubject = ThreadingMode.PLATFORM.threadFactory("test");
+
+        Thread t1 = testSubject.newThread(() -> {
+        });
+        Thread t2 = testSubject.newThread(() -> {
+        });
+
+        assertEquals("test", t1.getThreadGroup().getName());
+        assertEquals("test-0", t1.getName());
+        assertEquals("test-1", t2.getName());
+    }
+
+    @Test
+    void testVirtualThreadFactoryCreatesNamedThreads() {
+        ThreadFactory testSubject = ThreadingMode.VIRTUAL.threadFactory("test");
+
+        Thread t1 = testSubject.newThread(() -> {
+        });
+        Thread t2 = testSubject.newThread(() -> {
+        });
+
+        assertEquals("test-0", t1.getName());
+        assertEquals("test-1", t2.getName());
+    }
+
+    @Test
+    void testVirtualThreadsOnlySupportedFromJava21() {
+        boolean java21OrLater = !System.getProperty("java.specification.version").startsWith("1.")
+                && Integer.parseInt(System.getProperty("java.specification.version")) >= 21;
+
+        assertEquals(java21OrLater, ThreadingMode.virtualThreadsSupported());
+    }
+
+    @Test
+    void testScheduledExecutorRunsTasksOnThreadsOfMode() throws Exception {
+        for (ThreadingMode mode : ThreadingMode.values()) {
+            ScheduledExecutorService testSubject = mode.scheduledExecutor("scheduled", 1);
+            try {
+                String threadName = testSubject.schedule(() -> Thread.currentThread().getName(), 10, TimeUnit.MILLISECONDS)
+                                               .get(1, TimeUnit.SECONDS);
+                assertTrue(threadName.startsWith("scheduled-"), "Unexpected thread name " + threadName);
+            } finally {
+                testSubject.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void testExecutorRunsTasksOnThreadsOfMode() throws Exception {
+        for (ThreadingMode mode : ThreadingMode.values()) {
+            ExecutorService testSubject = mode.executor("executor");
+            try {
+                CompletableFuture<String> threadName = new CompletableFuture<>();
+                testSubject.execute(() -> threadName.complete(Thread.currentThread().getName()));
+                assertTrue(threadName.get(1, TimeUnit.SECONDS).startsWith("executor-"));
+            } finally {
+                testSubject.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common.property;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link MethodAccessedProperty}.
+ */
+public class MethodAccessedPropertyTest {
+
+    @Test
+    void testGetValueOfPublicMethod() throws Exception {
+        Property<PublicBean> testSubject =
+                new MethodAccessedProperty<>(PublicBean.class.getMethod("getValue"), "value");
+
+        assertEquals("public", testSubject.getValue(new PublicBean()));
+    }
+
+    @Test
+    void testGetValueOfPrimitiveReturnType() throws Exception {
+        Property<PublicBean> testSubject =
+                new MethodAccessedProperty<>(PublicBean.class.getMethod("getNumber"), "number");
+
+        assertEquals(42, (int) testSubject.getValue(new PublicBean()));
+    }
+
+    @Test
+    void testGetValueOfMethodInNonPublicClass() throws Exception {
+        Property<PrivateBean> testSubject =
+                new MethodAccessedProperty<>(PrivateBean.class.getDeclaredMethod("getValue"), "value");
+
+        assertEquals("private", testSubject.getValue(new PrivateBean()));
+    }
+
+    @Test
+    void testGetValueOfStaticMethod() throws Exception {
+        Property<PublicBean> testSubject =
+                new MethodAccessedProperty<>(PublicBean.class.getMethod("getConstant"), "constant");
+
+        assertEquals("constant", testSubject.getValue(new PublicBean()));
+    }
+
+    @Test
+    void testExceptionThrownByMethodIsWrapped() throws Exception {
+        Property<PublicBean> publicTestSubject =
+                new MethodAccessedProperty<>(PublicBean.class.getMethod("getFailure"), "failure");
+        Property<PrivateBean> privateTestSubject =
+                new MethodAccessedProperty<>(PrivateBean.class.getDeclaredMethod("getFailure"), "failure");
+
+        assertThrows(PropertyAccessException.class, () -> publicTestSubject.getValue(new PublicBean()));
+        assertThrows(PropertyAccessException.class, () -> privateTestSubject.getValue(new PrivateBean()));
+    }
+
+    @Test
+    void testNullTargetIsRejected() throws Exception {
+        Property<PublicBean> testSubject =
+                new MethodAccessedProperty<>(PublicBean.class.getMethod("getValue"), "value");
+
+        assertThrows(NullPointerException.class, () -> testSubject.getValue(null));
+    }
+
+    @SuppressWarnings("unused")
+    public static class PublicBean {
+
+        public static String getConstant() {
+            return "constant";
+        }
+
+        public String getValue() {
+            return "public";
+        }
+
+        public int getNumber() {
+            return 42;
+        }
+
+        public String getFailure() {
+            throw new IllegalStateException("failure");
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class PrivateBean {
+
+        private String getValue() {
+            return "private";
+        }
+
+        private String getFailure() {
+            throw new IllegalStateException("failure");
+        }
+    }
+}
@@ -20,6 +20,8 @@
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 
 class PropertyAccessStrategyTest {
@@ -58,6 +60,18 @@ void test_Register() {
                      PropertyAccessStrategy.getProperty(Bean.class, "testProperty").getValue(new Bean()));
     }
 
+    @Test
+    void testResolvedPropertyIsCachedUntilStrategiesChange() {
+        Property<Bean> property = PropertyAccessStrategy.getProperty(Bean.class, "beanProperty");
+
+        assertSame(property, PropertyAccessStrategy.getProperty(Bean.class, "beanProperty"));
+
+        PropertyAccessStrategy.register(testPropertyAccessStrategy);
+        assertNotSame(property, PropertyAccessStrategy.getProperty(Bean.class, "beanProperty"));
+        assertEquals("testGetterInvoked",
+                     PropertyAccessStrategy.getProperty(Bean.class, "testProperty").getValue(new Bean()));
+    }
+
     @Test
     void testInvocationOrdering() {
         PropertyAccessStrategy.register(mock1);
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.common.stream;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.axonframework.utils.AssertUtils.assertWithin;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link PrefetchingBlockingStream}.
+ */
+class PrefetchingBlockingStreamTest {
+
+    private StubStream delegate;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new StubStream();
+    }
+
+    @Test
+    void testMessagesArePassedOnInOrder() throws InterruptedException {
+        PrefetchingBlockingStream<Integer> testSubject = new PrefetchingBlockingStream<>(delegate, 2, Thread::new);
+        for (int i = 0; i < 10; i++) {
+            delegate.messages.add(i);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(testSubject.hasNextAvailable(1, TimeUnit.SECONDS));
+            assertEquals(Optional.of(i), testSubject.peek());
+            assertEquals(i, testSubject.nextAvailable());
+        }
+        assertFalse(testSubject.hasNextAvailable());
+        testSubject.close();
+    }
+
+    @Test
+    void testReadingAheadIsBoundedByBufferSize() {
+        PrefetchingBlockingStream<Integer> testSubject = new PrefetchingBlockingStream<>(delegate, 3, Thread::new);
+        for (int i = 0; i < 10; i++) {
+            delegate.messages.add(i);
+        }
+
+        // the reader holds one message it is unable to buffer
+        assertWithin(1, TimeUnit.SECONDS, () -> assertEquals(4, delegate.readCount.get()));
+        assertEquals(6, delegate.messages.size());
+        testSubject.close();
+    }
+
+    @Test
+    void testReadFailureIsRethrownOnceBufferedMessagesAreConsumed() throws InterruptedException {
+        delegate.messages.add(1);
+        delegate.failure = new IllegalStateException("Simulated read failure");
+        PrefetchingBlockingStream<Integer> testSubject = new PrefetchingBlockingStream<>(delegate, 2, Thread::new);
+
+        assertTrue(testSubject.hasNextAvailable(1, TimeUnit.SECONDS));
+        assertEquals(1, testSubject.nextAvailable());
+        assertWithin(1, TimeUnit.SECONDS,
+                     () -> assertThrows(IllegalStateException.class, () -> testSubject.hasNextAvailable()));
+        assertThrows(IllegalStateException.class, testSubject::nextAvailable);
+        testSubject.close();
+    }
+
+    @Test
+    void testCloseStopsReaderAndClosesDelegate() {
+        AtomicInteger startedThreads = new AtomicInteger();
+        Thread[] reader = new Thread[1];
+        PrefetchingBlockingStream<Integer> testSubject = new PrefetchingBlockingStream<>(delegate, 2, runnable -> {
+            startedThreads.incrementAndGet();
+            return reader[0] = new Thread(runnable);
+        });
+
+        testSubject.close();
+
+        assertEquals(1, startedThreads.get());
+        assertTrue(delegate.closed);
+        assertWithin(1, TimeUnit.SECONDS, () -> assertFalse(reader[0].isAlive()));
+    }
+
+    @Test
+    void testCloseWaitsForReaderBeforeClosingDelegate() {
+        Thread[] reader = new Thread[1];
+        PrefetchingBlockingStream<Integer> testSubject = new PrefetchingBlockingStream<>(delegate, 2, runnable -> {
+            reader[0] = new Thread(runnable);
+            return reader[0];
+        });
+        assertWithin(1, TimeUnit.SECONDS, () -> assertTrue(delegate.accessCount.get() > 0));
+
+        testSubject.close();
+
+        assertFalse(reader[0].isAlive());
+        assertTrue(delegate.closed);
+        assertFalse(delegate.concurrentlyAccessed);
+    }
+
+    @Test
+    void testSkipMessagesIsNotPassedToDelegateWhileReaderAccessesIt() {
+        PrefetchingBlockingStream<Integer> testSubject = new PrefetchingBlockingStream<>(delegate, 2, Thread::new);
+        assertWithin(1, TimeUnit.SECONDS, () -> assertTrue(delegate.accessCount.get() > 0));
+
+        for (int i = 0; i < 5; i++) {
+            testSubject.skipMessagesWithPayloadTypeOf(i);
+        }
+
+        assertEquals(5, delegate.skipped.size());
+        assertFalse(delegate.concurrentlyAccessed);
+        testSubject.close();
+    }
+
+    private static class StubStream implements BlockingStream<Integer> {
+
+        private final BlockingQueue<Integer> messages = new LinkedBlockingQueue<>();
+        private final AtomicInteger readCount = new AtomicInteger();
+        private final AtomicInteger accessCount = new AtomicInteger();
+        private final AtomicInteger activeAccessors = new AtomicInteger();
+        private final List<Integer> skipped = new CopyOnWriteArrayList<>();
+        private volatile RuntimeException failure;
+        private volatile boolean closed;
+        private volatile boolean concurrentlyAccessed;
+
+        private void enter() {
+            accessCount.incrementAndGet();
+            if (activeAccessors.incrementAndGet() > 1) {
+                concurrentlyAccessed = true;
+            }
+        }
+
+        private void exit() {
+            activeAccessors.decrementAndGet();
+        }
+
+        @Override
+        public Optional<Integer> peek() {
+            return Optional.ofNullable(messages.peek());
+        }
+
+        @Override
+        public boolean hasNextAvailable(int timeout, TimeUnit unit) throws InterruptedException {
+            enter();
+            try {
+                if (messages.isEmpty() && failure != null) {
+                    throw failure;
+                }
+                long deadline = System.nanoTime() + unit.toNanos(timeout);
+                while (messages.isEmpty() && System.nanoTime() < deadline) {
+                    Thread.sleep(1);
+                }
+                return !messages.isEmpty();
+            } finally {
+                exit();
+            }
+        }
+
+        @Override
+        public Integer nextAvailable() throws InterruptedException {
+            enter();
+            try {
+                Integer message = messages.take();
+                readCount.incrementAndGet();
+                return message;
+            } finally {
+                exit();
+            }
+        }
+
+        @Override
+        public void skipMessagesWithPayloadTypeOf(Integer ignoredMessage) {
+            enter();
+            try {
+                skipped.add(ignoredMessage);
+            } finally {
+                exit();
+            }
+        }
+
+        @Override
+        public void close() {
+            enter();
+            try {
+                closed = true;
+            } finally {
+                exit();
+            }
+        }
+    }
+}
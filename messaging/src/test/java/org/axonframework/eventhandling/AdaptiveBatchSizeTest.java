@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.eventhandling;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link AdaptiveBatchSize}.
+ */
+class AdaptiveBatchSizeTest {
+
+    @Test
+    void testBatchSizeStartsAtMinimum() {
+        assertEquals(2, new AdaptiveBatchSize(2, 16).current());
+    }
+
+    @Test
+    void testBatchSizeGrowsUpToMaximumWhileBehind() {
+        AdaptiveBatchSize testSubject = new AdaptiveBatchSize(2, 10);
+
+        testSubject.batchProcessed(2, 200, false);
+        assertEquals(4, testSubject.current());
+        testSubject.batchProcessed(4, 400, false);
+        assertEquals(8, testSubject.current());
+        testSubject.batchProcessed(8, 800, false);
+        assertEquals(10, testSubject.current());
+        testSubject.batchProcessed(10, 1000, false);
+        assertEquals(10, testSubject.current());
+    }
+
+    @Test
+    void testBatchSizeDoesNotGrowForPartialBatches() {
+        AdaptiveBatchSize testSubject = new AdaptiveBatchSize(2, 10);
+
+        testSubject.batchProcessed(2, 200, false);
+        testSubject.batchProcessed(3, 300, false);
+
+        assertEquals(4, testSubject.current());
+    }
+
+    @Test
+    void testBatchSizeDoesNotGrowWhenProcessingTimeDegrades() {
+        AdaptiveBatchSize testSubject = new AdaptiveBatchSize(2, 10);
+
+        testSubject.batchProcessed(2, 200, false);
+        testSubject.batchProcessed(4, 4000, false);
+
+        assertEquals(4, testSubject.current());
+    }
+
+    @Test
+    void testBatchSizeReturnsToMinimumOnceCaughtUp() {
+        AdaptiveBatchSize testSubject = new AdaptiveBatchSize(2, 10);
+        testSubject.batchProcessed(2, 200, false);
+        testSubject.batchProcessed(4, 400, false);
+
+        testSubject.batchProcessed(8, 800, true);
+
+        assertEquals(2, testSubject.current());
+    }
+
+    @Test
+    void testBatchSizeIsHalvedOnFailure() {
+        AdaptiveBatchSize testSubject = new AdaptiveBatchSize(2, 10);
+        testSubject.batchProcessed(2, 200, false);
+        testSubject.batchProcessed(4, 400, false);
+
+        testSubject.batchFailed();
+        assertEquals(4, testSubject.current());
+        testSubject.batchFailed();
+        assertEquals(2, testSubject.current());
+        testSubject.batchFailed();
+        assertEquals(2, testSubject.current());
+    }
+
+    @Test
+    void testBatchSizeIsFixedWhenMinimumEqualsMaximum() {
+        AdaptiveBatchSize testSubject = new AdaptiveBatchSize(5, 5);
+
+        testSubject.batchProcessed(5, 500, false);
+        testSubject.batchFailed();
+
+        assertEquals(5, testSubject.current());
+    }
+
+    @Test
+    void testConstructionWithInvalidBoundsIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchSize(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchSize(5, 4));
+    }
+}
@@ -122,4 +122,18 @@ void testTrackerAdded() {
     void testTrackerRemoved() {
         assertFalse(thisStatus.trackerRemoved());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testLagBehind() {
+        GlobalSequenceTrackingToken headToken = new GlobalSequenceTrackingToken(100L);
+
+        assertFalse(thisStatus.lagBehind(headToken).isPresent());
+
+        thisStatus.setTrackingToken(new GlobalSequenceTrackingToken(42L));
+        assertEquals(58L, thisStatus.lagBehind(headToken).getAsLong());
+        assertFalse(thisStatus.lagBehind(null).isPresent());
+
+        thisStatus.setTrackingToken(new GlobalSequenceTrackingToken(101L));
+        assertEquals(0L, thisStatus.lagBehind(headToken).getAsLong());
+    }
+}
@@ -20,6 +20,7 @@
 import org.mockito.*;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -154,6 +155,24 @@ void testInvokersNotSupportingResetDoNotReceiveRedeliveries() throws Exception {
         verify(mockedEventHandlerInvokerTwo, never()).handle(eq(replayMessage), any());
     }
 
+    @Test
+    void testSegmentMatcherCombinesMatchersOfDelegates() {
+        Segment otherSegment = new Segment(0, 1);
+        when(mockedEventHandlerInvokerOne.segmentMatcher(any())).thenReturn(testSegment::equals);
+        when(mockedEventHandlerInvokerTwo.segmentMatcher(any())).thenReturn(otherSegment::equals);
+        when(mockedEventHandlerInvokerOne.supportsReset()).thenReturn(true);
+        when(mockedEventHandlerInvokerTwo.supportsReset()).thenReturn(false);
+
+        Predicate<Segment> matcher = testSubject.segmentMatcher(testEventMessage);
+        assertTrue(matcher.test(testSegment));
+        assertTrue(matcher.test(otherSegment));
+
+        Predicate<Segment> replayMatcher = testSubject.segmentMatcher(replayMessage);
+        assertTrue(replayMatcher.test(testSegment));
+        assertFalse(replayMatcher.test(otherSegment));
+        verify(mockedEventHandlerInvokerTwo, never()).segmentMatcher(replayMessage);
+    }
+
     @Test
     void testPerformResetThrowsException() {
         when(mockedEventHandlerInvokerOne.supportsReset()).thenReturn(true);
@@ -16,13 +16,16 @@
 
 package org.axonframework.eventhandling;
 
+import org.axonframework.eventhandling.async.SequencingPolicy;
 import org.junit.jupiter.api.*;
 import org.mockito.*;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 import static org.axonframework.utils.EventTestUtils.createEvent;
 import static org.axonframework.utils.EventTestUtils.createEvents;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -76,6 +79,37 @@ void testRepeatedEventPublication() throws Exception {
         inOrder.verifyNoMoreInteractions();
     }
 
+    @Test
+    void testSegmentMatcherComputesSequenceIdentifierOncePerEvent() {
+        //noinspection unchecked
+        SequencingPolicy<EventMessage<?>> sequencingPolicy = mock(SequencingPolicy.class);
+        when(sequencingPolicy.getSequenceIdentifierFor(any())).thenReturn("sequence");
+        when(mockHandler1.canHandle(any())).thenReturn(true);
+        testSubject = SimpleEventHandlerInvoker.builder()
+                                               .eventHandlers(mockHandler1)
+                                               .sequencingPolicy(sequencingPolicy)
+                                               .build();
+        EventMessage<?> event = createEvent();
+
+        Predicate<Segment> matcher = testSubject.segmentMatcher(event);
+        List<Segment> segments = Segment.splitBalanced(Segment.ROOT_SEGMENT, 7);
+
+        assertEquals(1, segments.stream().filter(matcher).count());
+        verify(sequencingPolicy).getSequenceIdentifierFor(event);
+        for (Segment segment : segments) {
+            assertEquals(testSubject.canHandle(event, segment), matcher.test(segment));
+        }
+    }
+
+    @Test
+    void testSegmentMatcherMatchesNoSegmentWithoutHandler() {
+        EventMessage<?> event = createEvent();
+
+        Predicate<Segment> matcher = testSubject.segmentMatcher(event);
+
+        assertFalse(matcher.test(Segment.ROOT_SEGMENT));
+    }
+
     @Test
     void testPerformReset() {
         testSubject.performReset();
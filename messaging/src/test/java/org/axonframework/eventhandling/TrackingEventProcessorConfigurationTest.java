@@ -44,4 +44,29 @@ void testConfiguredEventTrackerStatusChangeListener() {
         assertEquals(expectedChangeListener, resultChangeListener);
         resultChangeListener.onEventTrackerStatusChange(expectedTrackerStatus);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAdaptiveBatchSizeConfiguresMinimumAndMaximumBatchSize() {
+        TrackingEventProcessorConfiguration testSubject =
+                TrackingEventProcessorConfiguration.forSingleThreadedProcessing().andAdaptiveBatchSize(2, 64);
+
+        assertEquals(2, testSubject.getBatchSize());
+        assertEquals(64, testSubject.getMaxBatchSize());
+    }
+
+    @Test
+    void testMaxBatchSizeDefaultsToBatchSize() {
+        TrackingEventProcessorConfiguration testSubject =
+                TrackingEventProcessorConfiguration.forSingleThreadedProcessing().andBatchSize(8);
+
+        assertEquals(8, testSubject.getMaxBatchSize());
+    }
+
+    @Test
+    void testAdaptiveBatchSizeRejectsMaximumBelowMinimum() {
+        TrackingEventProcessorConfiguration testSubject =
+                TrackingEventProcessorConfiguration.forSingleThreadedProcessing();
+
+        assertThrows(IllegalArgumentException.class, () -> testSubject.andAdaptiveBatchSize(8, 4));
+    }
+}
@@ -129,4 +129,19 @@ void testEventsScheduledForHandlingWhenSurroundingUnitOfWorkCommits() {
 
         verify(executor, times(2)).execute(isA(Runnable.class));
     }
+
+    @Test
+    void testSequencedEventsScheduledOnPartitionedSequenceExecutor() {
+        Executor sequenceExecutor = mock(Executor.class);
+        testSubject = new AsynchronousEventProcessingStrategy(
+                executor, new PartitionedSequenceExecutor(sequenceExecutor, 1, 10), new SequentialPerAggregatePolicy()
+        );
+        EventMessage<?> message1 = createEvent("aggregate1", 1);
+        EventMessage<?> message2 = createEvent("aggregate2", 1);
+
+        testSubject.handle(Arrays.asList(message1, message2), mock(Consumer.class));
+
+        verify(sequenceExecutor).execute(isA(Runnable.class));
+        verify(executor, never()).execute(isA(Runnable.class));
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.eventhandling.async;
+
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.axonframework.utils.EventTestUtils.createEvent;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link PartitionedSequenceExecutor}.
+ */
+class PartitionedSequenceExecutorTest {
+
+    private List<Runnable> pendingTasks;
+    private PartitionedSequenceExecutor testSubject;
+
+    @BeforeEach
+    void setUp() {
+        pendingTasks = new ArrayList<>();
+        testSubject = new PartitionedSequenceExecutor(pendingTasks::add, 4, 3);
+    }
+
+    @Test
+    void testConsecutiveEventsOfTheSameSequenceAreProcessedInBatches() {
+        List<List<? extends EventMessage<?>>> batches = new ArrayList<>();
+        Consumer<List<? extends EventMessage<?>>> processor = batches::add;
+        EventMessage<?> event1 = createEvent(1);
+        EventMessage<?> event2 = createEvent(2);
+        EventMessage<?> event3 = createEvent(3);
+        EventMessage<?> event4 = createEvent(4);
+
+        testSubject.schedule("sequence", Collections.singletonList(event1), processor);
+        testSubject.schedule("sequence", Arrays.asList(event2, event3), processor);
+        testSubject.schedule("sequence", Collections.singletonList(event4), processor);
+
+        assertEquals(1, pendingTasks.size());
+        assertEquals(3, testSubject.queueDepth());
+        pendingTasks.remove(0).run();
+
+        assertEquals(Arrays.asList(Arrays.asList(event1, event2, event3), Collections.singletonList(event4)),
+                     batches);
+        assertEquals(0, testSubject.queueDepth());
+        assertTrue(pendingTasks.isEmpty());
+    }
+
+    @Test
+    void testEventsOfDifferentProcessorsAreNotCombined() {
+        List<List<? extends EventMessage<?>>> firstBatches = new ArrayList<>();
+        List<List<? extends EventMessage<?>>> secondBatches = new ArrayList<>();
+        EventMessage<?> event1 = createEvent(1);
+        EventMessage<?> event2 = createEvent(2);
+
+        testSubject.schedule("sequence", Collections.singletonList(event1), firstBatches::add);
+        testSubject.schedule("sequence", Collections.singletonList(event2), secondBatches::add);
+        pendingTasks.remove(0).run();
+
+        assertEquals(Collections.singletonList(Collections.singletonList(event1)), firstBatches);
+        assertEquals(Collections.singletonList(Collections.singletonList(event2)), secondBatches);
+    }
+
+    @Test
+    void testQueueDepthIsReportedPerPartition() {
+        Consumer<List<? extends EventMessage<?>>> processor = events -> {
+        };
+        for (int i = 0; i < 10; i++) {
+            testSubject.schedule("sequence" + i, Collections.singletonList(createEvent(i)), processor);
+        }
+
+        int queueDepth = 0;
+        for (int i = 0; i < testSubject.partitionCount(); i++) {
+            queueDepth += testSubject.queueDepth(i);
+        }
+        assertEquals(10, queueDepth);
+        assertEquals(10, testSubject.queueDepth());
+
+        while (!pendingTasks.isEmpty()) {
+            pendingTasks.remove(0).run();
+        }
+        assertEquals(0, testSubject.queueDepth());
+    }
+
+    @Test
+    void testFailingProcessorDoesNotHaltThePartition() {
+        List<EventMessage<?>> processed = new ArrayList<>();
+        EventMessage<?> event = createEvent(1);
+        testSubject.schedule("sequence", Collections.singletonList(createEvent(0)), events -> {
+            throw new IllegalStateException("Faking a failure");
+        });
+        testSubject.schedule("sequence", Collections.singletonList(event), processed::addAll);
+
+        pendingTasks.remove(0).run();
+
+        assertEquals(Collections.singletonList(event), processed);
+    }
+
+    @Test
+    void testPartitionIsScheduledAgainAfterProcessorThrowsError() {
+        List<EventMessage<?>> processed = new ArrayList<>();
+        EventMessage<?> event = createEvent(1);
+        testSubject.schedule("sequence", Collections.singletonList(createEvent(0)), events -> {
+            throw new Error("Faking a failure");
+        });
+
+        assertThrows(Error.class, () -> pendingTasks.remove(0).run());
+
+        testSubject.schedule("sequence", Collections.singletonList(event), processed::addAll);
+        assertEquals(1, pendingTasks.size());
+        pendingTasks.remove(0).run();
+
+        assertEquals(Collections.singletonList(event), processed);
+        assertEquals(0, testSubject.queueDepth());
+    }
+
+    @Test
+    void testEventsAreProcessedInOrderPerSequence() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            PartitionedSequenceExecutor concurrentSubject = new PartitionedSequenceExecutor(executor, 4, 10);
+            int sequenceCount = 20;
+            int eventsPerSequence = 500;
+            Map<String, List<Long>> processedSequenceNumbers = new ConcurrentHashMap<>();
+            CountDownLatch latch = new CountDownLatch(sequenceCount * eventsPerSequence);
+            Consumer<List<? extends EventMessage<?>>> processor = events -> events.forEach(event -> {
+                DomainEventMessage<?> domainEvent = (DomainEventMessage<?>) event;
+                processedSequenceNumbers.computeIfAbsent(domainEvent.getAggregateIdentifier(), k -> new ArrayList<>())
+                                        .add(domainEvent.getSequenceNumber());
+                latch.countDown();
+            });
+
+            for (int i = 0; i < eventsPerSequence; i++) {
+                for (int sequence = 0; sequence < sequenceCount; sequence++) {
+                    String aggregateIdentifier = "aggregate" + sequence;
+                    concurrentSubject.schedule(aggregateIdentifier,
+                                               Collections.singletonList(createEvent(aggregateIdentifier, i)),
+                                               processor);
+                }
+            }
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals(sequenceCount, processedSequenceNumbers.size());
+            for (List<Long> sequenceNumbers : processedSequenceNumbers.values()) {
+                for (int i = 0; i < eventsPerSequence; i++) {
+                    assertEquals(i, (long) sequenceNumbers.get(i));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
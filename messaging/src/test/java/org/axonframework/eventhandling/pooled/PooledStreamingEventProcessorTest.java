@@ -19,6 +19,8 @@
 import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.stream.BlockingStream;
 import org.axonframework.common.transaction.NoTransactionManager;
+import org.axonframework.common.transaction.Transaction;
+import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.eventhandling.EventHandlerInvoker;
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.eventhandling.GenericEventMessage;
@@ -32,6 +34,8 @@
 import org.axonframework.eventhandling.tokenstore.TokenStore;
 import org.axonframework.eventhandling.tokenstore.inmemory.InMemoryTokenStore;
 import org.axonframework.messaging.StreamableMessageSource;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.messaging.unitofwork.RollbackConfigurationType;
 import org.axonframework.utils.MockException;
 import org.junit.jupiter.api.*;
@@ -41,16 +45,21 @@
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -235,6 +244,179 @@ void testAllTokensUpdatedToLatestValue() {
         });
     }
 
+    @Test
+    void testSegmentLagIsZeroOnceAllEventsAreProcessed() {
+        List<EventMessage<Integer>> events = IntStream.range(0, 100)
+                                                      .mapToObj(GenericEventMessage::new)
+                                                      .collect(Collectors.toList());
+        events.forEach(stubMessageSource::publishMessage);
+        mockEventHandlerInvoker();
+
+        assertTrue(testSubject.segmentLag().isEmpty());
+
+        testSubject.start();
+
+        assertWithin(6, TimeUnit.SECONDS, () -> {
+            Map<Integer, Long> segmentLag = testSubject.segmentLag();
+            assertEquals(8, segmentLag.size());
+            segmentLag.values().forEach(lag -> assertEquals(0L, lag));
+        });
+    }
+
+    @Test
+    void testAdaptiveBatchSizeGrowsWhileBehindAndShrinksOnceCaughtUp() throws Exception {
+        setTestSubject(createTestSubject(builder -> builder.initialSegmentCount(1).adaptiveBatchSize(1, 64)));
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        doAnswer(answer -> {
+            batchSizes.add(((BatchingUnitOfWork<?>) CurrentUnitOfWork.get()).getMessages().size());
+            return null;
+        }).when(stubEventHandler).handle(any(), any());
+        IntStream.range(0, 1000)
+                 .mapToObj(GenericEventMessage::new)
+                 .forEach(stubMessageSource::publishMessage);
+
+        testSubject.start();
+
+        assertWithin(6, TimeUnit.SECONDS, () -> assertEquals(1000, batchSizes.size()));
+        assertTrue(batchSizes.stream().anyMatch(batchSize -> batchSize > 1));
+
+        stubMessageSource.publishMessage(GenericEventMessage.asEventMessage(1000));
+
+        assertWithin(1, TimeUnit.SECONDS, () -> assertEquals(1001, batchSizes.size()));
+        assertEquals(1, batchSizes.get(1000));
+        assertWithin(1, TimeUnit.SECONDS, () -> assertEquals(1, testSubject.segmentBatchSize().get(0)));
+    }
+
+    @Test
+    void testBatchProcessingExecutorHandlesSequencesOfBatchInParallelAndInOrder() throws Exception {
+        ExecutorService batchProcessingExecutor = Executors.newFixedThreadPool(4);
+        setTestSubject(createTestSubject(
+                builder -> builder.initialSegmentCount(1)
+                                  .batchSize(10)
+                                  .batchProcessingExecutor(batchProcessingExecutor)
+                                  .batchSequencingPolicy(event -> ((Integer) event.getPayload()) % 4)
+        ));
+        List<Integer> handledPayloads = new CopyOnWriteArrayList<>();
+        Set<Thread> handlingThreads = ConcurrentHashMap.newKeySet();
+        doAnswer(answer -> {
+            handledPayloads.add((Integer) answer.getArgument(0, EventMessage.class).getPayload());
+            handlingThreads.add(Thread.currentThread());
+            return null;
+        }).when(stubEventHandler).handle(any(), any());
+        IntStream.range(0, 100)
+                 .mapToObj(GenericEventMessage::new)
+                 .forEach(stubMessageSource::publishMessage);
+
+        try {
+            testSubject.start();
+
+            assertWithin(6, TimeUnit.SECONDS, () -> {
+                assertEquals(100, handledPayloads.size());
+                assertEquals(100, tokenPosition(tokenStore.fetchToken(PROCESSOR_NAME, 0)));
+            });
+            for (int sequence = 0; sequence < 4; sequence++) {
+                int sequenceId = sequence;
+                List<Integer> handledSequence = handledPayloads.stream()
+                                                               .filter(payload -> payload % 4 == sequenceId)
+                                                               .collect(Collectors.toList());
+                assertEquals(handledSequence.stream().sorted().collect(Collectors.toList()), handledSequence);
+            }
+            assertTrue(handlingThreads.size() > 1);
+        } finally {
+            batchProcessingExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void testTokenTransactionIsOnlyStartedOnceSequencesOfParallelBatchAreHandled() throws Exception {
+        ExecutorService batchProcessingExecutor = Executors.newFixedThreadPool(4);
+        Set<Thread> workerThreads = ConcurrentHashMap.newKeySet();
+        ScheduledExecutorService trackedWorkerExecutor = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable);
+            workerThreads.add(thread);
+            return thread;
+        });
+        AtomicInteger openWorkerTransactions = new AtomicInteger();
+        TransactionManager transactionManager = () -> {
+            if (!workerThreads.contains(Thread.currentThread())) {
+                return NoTransactionManager.INSTANCE.startTransaction();
+            }
+            openWorkerTransactions.incrementAndGet();
+            return new Transaction() {
+                @Override
+                public void commit() {
+                    openWorkerTransactions.decrementAndGet();
+                }
+
+                @Override
+                public void rollback() {
+                    openWorkerTransactions.decrementAndGet();
+                }
+            };
+        };
+        setTestSubject(createTestSubject(
+                builder -> builder.initialSegmentCount(1)
+                                  .batchSize(10)
+                                  .transactionManager(transactionManager)
+                                  .workerExecutor(trackedWorkerExecutor)
+                                  .batchProcessingExecutor(batchProcessingExecutor)
+                                  .batchSequencingPolicy(event -> ((Integer) event.getPayload()) % 4)
+        ));
+        List<Integer> handledPayloads = new CopyOnWriteArrayList<>();
+        List<Integer> openTransactionsWhileHandlingInParallel = new CopyOnWriteArrayList<>();
+        doAnswer(answer -> {
+            handledPayloads.add((Integer) answer.getArgument(0, EventMessage.class).getPayload());
+            if (!workerThreads.contains(Thread.currentThread())) {
+                openTransactionsWhileHandlingInParallel.add(openWorkerTransactions.get());
+            }
+            return null;
+        }).when(stubEventHandler).handle(any(), any());
+        IntStream.range(0, 100)
+                 .mapToObj(GenericEventMessage::new)
+                 .forEach(stubMessageSource::publishMessage);
+
+        try {
+            testSubject.start();
+
+            assertWithin(6, TimeUnit.SECONDS, () -> {
+                assertEquals(100, handledPayloads.size());
+                assertEquals(100, tokenPosition(tokenStore.fetchToken(PROCESSOR_NAME, 0)));
+            });
+            assertFalse(openTransactionsWhileHandlingInParallel.isEmpty());
+            assertTrue(openTransactionsWhileHandlingInParallel.stream().allMatch(open -> open == 0));
+        } finally {
+            testSubject.shutDown();
+            trackedWorkerExecutor.shutdown();
+            batchProcessingExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void testFailingSequenceOfParallelBatchPreventsTokenUpdate() throws Exception {
+        ExecutorService batchProcessingExecutor = Executors.newFixedThreadPool(4);
+        setTestSubject(createTestSubject(
+                builder -> builder.initialSegmentCount(1)
+                                  .batchSize(10)
+                                  .batchProcessingExecutor(batchProcessingExecutor)
+                                  .batchSequencingPolicy(event -> ((Integer) event.getPayload()) % 2)
+        ));
+        doThrow(new RuntimeException("Simulating handler failure"))
+                .when(stubEventHandler)
+                .handle(argThat(em -> em.getPayload().equals(3)), any());
+        IntStream.range(0, 10)
+                 .mapToObj(GenericEventMessage::new)
+                 .forEach(stubMessageSource::publishMessage);
+
+        try {
+            testSubject.start();
+
+            assertWithin(1, TimeUnit.SECONDS, () -> assertFalse(testSubject.processingStatus().containsKey(0)));
+            assertNull(tokenStore.fetchToken(PROCESSOR_NAME, 0));
+        } finally {
+            batchProcessingExecutor.shutdown();
+        }
+    }
+
     private long tokenPosition(TrackingToken token) {
         return token == null ? 0 : token.position().orElseThrow(IllegalArgumentException::new);
     }
@@ -314,6 +496,33 @@ void testHandlingUnknownMessageTypeWillAdvanceToken() {
         assertEquals(1, stubMessageSource.getIgnoredEvents().size());
     }
 
+    @Test
+    void testEventsAreMatchedToSegmentsOncePerEvent() throws Exception {
+        setTestSubject(createTestSubject(builder -> builder.initialSegmentCount(2)));
+        when(stubEventHandler.segmentMatcher(any())).thenReturn(segment -> segment.getSegmentId() == 0);
+
+        List<EventMessage<Integer>> events = IntStream.range(0, 4)
+                                                      .mapToObj(GenericEventMessage::new)
+                                                      .collect(Collectors.toList());
+        events.forEach(stubMessageSource::publishMessage);
+
+        testSubject.start();
+
+        assertWithin(1, TimeUnit.SECONDS, () -> assertEquals(2, testSubject.processingStatus().size()));
+        verify(stubEventHandler, timeout(500).times(4)).handle(any(), argThat(segmentWithId(0)));
+        verify(stubEventHandler, timeout(500).times(4)).segmentMatcher(any());
+        verify(stubEventHandler, never()).handle(any(), argThat(segmentWithId(1)));
+        verify(stubEventHandler, never()).canHandle(any(), any());
+        assertWithin(1, TimeUnit.SECONDS, () -> {
+            assertEquals(4, testSubject.processingStatus().get(0).getCurrentPosition().orElse(0));
+            assertEquals(4, testSubject.processingStatus().get(1).getCurrentPosition().orElse(0));
+        });
+    }
+
+    private static ArgumentMatcher<Segment> segmentWithId(int segmentId) {
+        return segment -> segment != null && segment.getSegmentId() == segmentId;
+    }
+
     @Test
     void testEventsWhichMustBeIgnoredAreNotHandledOnlyValidated() throws Exception {
         setTestSubject(createTestSubject(builder -> builder.initialSegmentCount(1)));
@@ -996,6 +1205,14 @@ void testBuildWithZeroOrNegativeBatchSizeThrowsAxonConfigurationException() {
         assertThrows(AxonConfigurationException.class, () -> builderTestSubject.batchSize(-1));
     }
 
+    @Test
+    void testBuildWithMaximumBatchSizeBelowMinimumThrowsAxonConfigurationException() {
+        PooledStreamingEventProcessor.Builder builderTestSubject = PooledStreamingEventProcessor.builder();
+
+        assertThrows(AxonConfigurationException.class, () -> builderTestSubject.adaptiveBatchSize(0, 5));
+        assertThrows(AxonConfigurationException.class, () -> builderTestSubject.adaptiveBatchSize(5, 4));
+    }
+
     @Test
     void testIsReplaying() {
         mockEventHandlerInvoker();
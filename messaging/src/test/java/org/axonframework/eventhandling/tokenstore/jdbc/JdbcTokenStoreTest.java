@@ -45,12 +45,17 @@
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.sql.DataSource;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -61,6 +66,14 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ContextConfiguration
 @ExtendWith(SpringExtension.class)
@@ -231,6 +244,72 @@ void testClaimTokenConcurrentlyAfterTimeLimit() {
         transactionManager.executeInTransaction(() -> assertNull(concurrentTokenStore.fetchToken("concurrent", 0)));
     }
 
+    @Test
+    void testClaimAvailableSegments() {
+        transactionManager.executeInTransaction(() -> tokenStore.initializeTokenSegments("test", 4));
+        transactionManager.executeInTransaction(() -> concurrentTokenStore.fetchToken("test", 1));
+
+        Map<Integer, TrackingToken> claimed = transactionManager.fetchInTransaction(
+                () -> tokenStore.claimAvailableSegments("test", 2, segment -> segment != 0)
+        );
+
+        assertEquals(Arrays.asList(2, 3), new ArrayList<>(claimed.keySet()));
+        assertThrows(UnableToClaimTokenException.class, () -> transactionManager.executeInTransaction(
+                () -> concurrentTokenStore.fetchToken("test", 2)
+        ));
+        transactionManager.executeInTransaction(() -> assertNull(tokenStore.fetchToken("test", 0)));
+    }
+
+    @Test
+    void testClaimAvailableSegmentsOnlySelectsMaxSegmentsForUpdate() throws SQLException {
+        transactionManager.executeInTransaction(() -> tokenStore.initializeTokenSegments("test", 4));
+        JdbcTokenStore spiedTokenStore = spy(tokenStore);
+
+        Map<Integer, TrackingToken> claimed = transactionManager.fetchInTransaction(
+                () -> spiedTokenStore.claimAvailableSegments("test", 1, segment -> segment != 0)
+        );
+
+        assertEquals(Collections.singletonList(1), new ArrayList<>(claimed.keySet()));
+        verify(spiedTokenStore).selectClaimableForUpdate(any(), eq("test"), eq(Collections.singletonList(1)));
+        transactionManager.executeInTransaction(() -> assertNull(concurrentTokenStore.fetchToken("test", 2)));
+    }
+
+    @Test
+    void testClaimTokensIgnoresFailedUpdates() throws SQLException {
+        transactionManager.executeInTransaction(() -> tokenStore.initializeTokenSegments("test", 3));
+        try (Connection connection = dataSource.getConnection()) {
+            PreparedStatement select = tokenStore.selectClaimableForUpdate(connection, "test", Arrays.asList(0, 1, 2));
+            ResultSet resultSet = select.executeQuery();
+            PreparedStatement update = mock(PreparedStatement.class);
+            when(update.executeBatch())
+                    .thenReturn(new int[]{1, Statement.EXECUTE_FAILED, Statement.SUCCESS_NO_INFO});
+            Connection spiedConnection = spy(connection);
+            doReturn(update).when(spiedConnection).prepareStatement(startsWith("UPDATE"));
+
+            Map<Integer, TrackingToken> claimed =
+                    tokenStore.claimTokens(spiedConnection, resultSet, 3, segment -> true);
+
+            assertEquals(Arrays.asList(0, 2), new ArrayList<>(claimed.keySet()));
+        }
+    }
+
+    @Test
+    void testClaimAvailableSegmentsAfterTimeLimit() {
+        transactionManager.executeInTransaction(() -> tokenStore.initializeTokenSegments("test", 2));
+        transactionManager.executeInTransaction(() -> concurrentTokenStore.fetchToken("test", 0));
+        transactionManager.executeInTransaction(() -> concurrentTokenStore.fetchToken("test", 1));
+
+        assertTrue(transactionManager.fetchInTransaction(
+                () -> tokenStore.claimAvailableSegments("test", 2, segment -> true)
+        ).isEmpty());
+
+        AbstractTokenEntry.clock = Clock.offset(Clock.systemUTC(), Duration.ofHours(1));
+        Map<Integer, TrackingToken> claimed = transactionManager.fetchInTransaction(
+                () -> tokenStore.claimAvailableSegments("test", 2, segment -> true)
+        );
+        assertEquals(Arrays.asList(0, 1), new ArrayList<>(claimed.keySet()));
+    }
+
     @Test
     void testStealToken() {
         transactionManager.executeInTransaction(() -> tokenStore.initializeTokenSegments("stealing", 1));
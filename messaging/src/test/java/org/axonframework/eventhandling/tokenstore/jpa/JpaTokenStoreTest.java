@@ -54,9 +54,11 @@
 import javax.persistence.PersistenceContext;
 import javax.sql.DataSource;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -75,9 +77,11 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ContextConfiguration
@@ -316,6 +320,41 @@ public void testClaimTokenConcurrently() {
         }
     }
 
+    @Transactional
+    @Test
+    public void testClaimAvailableSegments() {
+        jpaTokenStore.initializeTokenSegments("test", 4);
+        concurrentJpaTokenStore.fetchToken("test", 1);
+
+        Map<Integer, TrackingToken> claimed = jpaTokenStore.claimAvailableSegments("test", 2, segment -> segment != 0);
+
+        assertEquals(Arrays.asList(2, 3), new ArrayList<>(claimed.keySet()));
+        assertThrows(UnableToClaimTokenException.class, () -> concurrentJpaTokenStore.fetchToken("test", 2));
+        assertThrows(UnableToClaimTokenException.class, () -> jpaTokenStore.fetchToken("test", 1));
+    }
+
+    @Transactional
+    @Test
+    public void testClaimAvailableSegmentsOnlyLocksTheSegmentsToClaim() {
+        EntityManager delegatingEntityManager = mock(EntityManager.class, delegatesTo(entityManager));
+        JpaTokenStore testSubject = JpaTokenStore.builder()
+                                                 .serializer(XStreamSerializer.builder().build())
+                                                 .entityManagerProvider(
+                                                         new SimpleEntityManagerProvider(delegatingEntityManager)
+                                                 )
+                                                 .nodeId("test")
+                                                 .build();
+        testSubject.initializeTokenSegments("test", 4);
+
+        Map<Integer, TrackingToken> claimed = testSubject.claimAvailableSegments("test", 1, segment -> segment != 0);
+
+        assertEquals(Collections.singleton(1), claimed.keySet());
+        verify(delegatingEntityManager, times(1))
+                .find(eq(TokenEntry.class), any(), eq(LockModeType.PESSIMISTIC_WRITE));
+        verify(delegatingEntityManager)
+                .find(TokenEntry.class, new TokenEntry.PK("test", 1), LockModeType.PESSIMISTIC_WRITE);
+    }
+
     @Transactional
     @Test
     public void testStealToken() {
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.messaging;
+
+import org.junit.jupiter.api.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link HashTrieMap}.
+ */
+class HashTrieMapTest {
+
+    @Test
+    void testRandomUpdatesMatchHashMap() {
+        Random random = new Random(42);
+        Map<String, Object> expected = new HashMap<>();
+        HashTrieMap actual = HashTrieMap.empty();
+        for (int i = 0; i < 10_000; i++) {
+            String key = "key" + random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                actual = actual.without(key);
+            } else {
+                expected.put(key, i);
+                actual = actual.with(key, i);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        for (Map.Entry<String, Object> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), actual.get(entry.getKey()));
+        }
+        assertEquals(expected, new HashMap<>(actual));
+    }
+
+    @Test
+    void testKeysWithCollidingHashesAreRetained() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        HashTrieMap testSubject = HashTrieMap.empty().with("Aa", 1).with("BB", 2).with("AaAa", 3).with("BBBB", 4);
+
+        assertEquals(4, testSubject.size());
+        assertEquals(1, testSubject.get("Aa"));
+        assertEquals(2, testSubject.get("BB"));
+        assertEquals(3, testSubject.get("AaAa"));
+        assertEquals(4, testSubject.get("BBBB"));
+
+        HashTrieMap removed = testSubject.without("Aa").without("BBBB");
+        assertEquals(2, removed.size());
+        assertFalse(removed.containsKey("Aa"));
+        assertEquals(2, removed.get("BB"));
+        assertEquals(3, removed.get("AaAa"));
+    }
+
+    @Test
+    void testDerivedMapsLeaveOriginalUntouched() {
+        HashTrieMap original = HashTrieMap.empty().with("first", 1).with("second", 2);
+
+        HashTrieMap derived = original.with("third", 3).without("first");
+
+        assertEquals(2, original.size());
+        assertEquals(1, original.get("first"));
+        assertFalse(original.containsKey("third"));
+        assertEquals(2, derived.size());
+        assertFalse(derived.containsKey("first"));
+        assertEquals(3, derived.get("third"));
+    }
+
+    @Test
+    void testNullKeysAndValuesAreSupported() {
+        HashTrieMap testSubject = HashTrieMap.empty().with(null, "nullKey").with("nullValue", null);
+
+        assertEquals("nullKey", testSubject.get(null));
+        assertTrue(testSubject.containsKey("nullValue"));
+        assertNull(testSubject.get("nullValue"));
+        assertFalse(testSubject.containsKey("unknown"));
+    }
+
+    @Test
+    void testMutationsAreNotSupported() {
+        HashTrieMap testSubject = HashTrieMap.empty().with("key", "value");
+
+        assertThrows(UnsupportedOperationException.class, () -> testSubject.put("other", "value"));
+        assertThrows(UnsupportedOperationException.class, () -> testSubject.entrySet().iterator().remove());
+        assertThrows(UnsupportedOperationException.class, testSubject::clear);
+    }
+}
@@ -18,8 +18,18 @@
 
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class MetaDataTest {
 
@@ -32,4 +42,55 @@ void testAddNullValueToMetaData() {
         assertNull(metaData.get("nullkey"));
         assertEquals("value", metaData.get("otherkey"));
     }
+
+    @Test
+    void testDerivedMetaDataEqualsMetaDataCreatedFromMap() {
+        Map<String, Object> expected = new HashMap<>();
+        MetaData metaData = MetaData.emptyInstance();
+        for (int i = 0; i < 20; i++) {
+            expected.put("key" + i, i);
+            metaData = metaData.and("key" + i, i);
+        }
+        expected.remove("key3");
+        expected.put("key4", "four");
+
+        MetaData actual = metaData.withoutKeys(Collections.singleton("key3"))
+                                  .mergedWith(Collections.singletonMap("key4", "four"));
+
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(new MetaData(expected), actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(20, metaData.size());
+        assertEquals(3, metaData.get("key3"));
+    }
+
+    @Test
+    void testDeriveReturnsSameInstanceWhenNothingChanges() {
+        MetaData metaData = MetaData.with("key", "value");
+
+        assertSame(metaData, metaData.and("key", "value"));
+        assertSame(metaData, metaData.withoutKeys(Collections.singleton("unknown")));
+        assertSame(MetaData.emptyInstance(), metaData.withoutKeys(Collections.singleton("key")));
+    }
+
+    @Test
+    void testJavaSerializationRetainsEntriesAndSerializedForm() throws IOException, ClassNotFoundException {
+        MetaData metaData = MetaData.with("key", "value").and("nullValue", null);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(metaData);
+            out.writeObject(MetaData.emptyInstance());
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(metaData, in.readObject());
+            assertSame(MetaData.emptyInstance(), in.readObject());
+        }
+
+        ObjectStreamField[] serializedFields = ObjectStreamClass.lookup(MetaData.class).getFields();
+        assertEquals(1, serializedFields.length);
+        assertEquals("values", serializedFields[0].getName());
+        assertEquals(Map.class, serializedFields[0].getType());
+    }
 }
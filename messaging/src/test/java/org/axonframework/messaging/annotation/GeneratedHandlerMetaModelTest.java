@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging.annotation;
+
+import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.eventhandling.EventMessage;
+import org.junit.jupiter.api.*;
+
+import java.lang.reflect.Executable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.axonframework.eventhandling.GenericEventMessage.asEventMessage;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the use of a {@link GeneratedHandlerMetaModel} by the {@link AnnotatedHandlerInspector} and
+ * the {@link AnnotatedMessageHandlingMemberDefinition}.
+ */
+class GeneratedHandlerMetaModelTest {
+
+    private static final List<Object[]> metaModelInvocations = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        metaModelInvocations.clear();
+    }
+
+    @Test
+    void testInspectorOnlyConsidersListedMembers() {
+        AnnotatedHandlerInspector<StubHandler> inspector = AnnotatedHandlerInspector.inspectType(StubHandler.class);
+
+        List<MessageHandlingMember<? super StubHandler>> handlers =
+                inspector.getHandlers(StubHandler.class).collect(Collectors.toList());
+
+        assertEquals(1, handlers.size());
+        assertTrue(handlers.get(0).canHandleType(String.class));
+    }
+
+    @Test
+    void testMetaModelOfTypeMissingFromIndexIsNotUsed() {
+        AnnotatedHandlerInspector<UnindexedHandler> inspector =
+                AnnotatedHandlerInspector.inspectType(UnindexedHandler.class);
+
+        List<MessageHandlingMember<? super UnindexedHandler>> handlers =
+                inspector.getHandlers(UnindexedHandler.class).collect(Collectors.toList());
+
+        assertEquals(2, handlers.size());
+        assertFalse(GeneratedHandlerMetaModels.forType(UnindexedHandler.class).isPresent());
+    }
+
+    @Test
+    void testInspectorConsidersAllMembersWithCustomHandlerDefinition() {
+        HandlerDefinition handlerDefinition = MultiHandlerDefinition.ordered(
+                new UnannotatedHandlerDefinition(), new AnnotatedMessageHandlingMemberDefinition()
+        );
+        AnnotatedHandlerInspector<StubHandler> inspector = AnnotatedHandlerInspector.inspectType(
+                StubHandler.class, ClasspathParameterResolverFactory.forClass(StubHandler.class), handlerDefinition
+        );
+
+        List<MessageHandlingMember<? super StubHandler>> handlers =
+                inspector.getHandlers(StubHandler.class).collect(Collectors.toList());
+
+        assertEquals(3, handlers.size());
+        assertTrue(handlers.stream().anyMatch(h -> h.canHandleType(Long.class)));
+    }
+
+    @Test
+    void testHandlersAreInvokedThroughMetaModel() throws Exception {
+        StubHandler target = new StubHandler();
+        MessageHandlingMember<? super StubHandler> handler =
+                AnnotatedHandlerInspector.inspectType(StubHandler.class)
+                                         .getHandlers(StubHandler.class)
+                                         .filter(h -> h.canHandleType(String.class))
+                                         .findFirst()
+                                         .orElseThrow(AssertionError::new);
+
+        Object result = handler.handle(asEventMessage("event"), target);
+
+        assertEquals("handled event", result);
+        assertEquals(1, metaModelInvocations.size());
+        assertSame(target, metaModelInvocations.get(0)[0]);
+        assertEquals("event", metaModelInvocations.get(0)[1]);
+    }
+
+    @Test
+    void testStaleMetaModelIsIgnored() {
+        AnnotatedHandlerInspector<StaleHandler> inspector = AnnotatedHandlerInspector.inspectType(StaleHandler.class);
+
+        List<MessageHandlingMember<? super StaleHandler>> handlers =
+                inspector.getHandlers(StaleHandler.class).collect(Collectors.toList());
+
+        assertEquals(2, handlers.size());
+    }
+
+    @SuppressWarnings("unused")
+    static class StubHandler {
+
+        @EventHandler
+        public String on(String event) {
+            return "handled " + event;
+        }
+
+        @EventHandler
+        public void on(Integer event) {
+            // not listed in the meta model, hence ignored
+        }
+
+        public void handle(Long event) {
+            // only a handler for the UnannotatedHandlerDefinition
+        }
+    }
+
+    private static class UnannotatedHandlerDefinition implements HandlerDefinition {
+
+        @Override
+        public <T> Optional<MessageHandlingMember<T>> createHandler(Class<T> declaringType,
+                                                                    Executable executable,
+                                                                    ParameterResolverFactory parameterResolverFactory) {
+            if (!"handle".equals(executable.getName())) {
+                return Optional.empty();
+            }
+            return Optional.of(new AnnotatedMessageHandlingMember<>(
+                    executable, EventMessage.class, executable.getParameterTypes()[0], parameterResolverFactory
+            ));
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class StubHandler_AxonHandlerMetaModel implements GeneratedHandlerMetaModel {
+
+        @Override
+        public Class<?> handlerType() {
+            return StubHandler.class;
+        }
+
+        @Override
+        public Executable[] handlerMembers() throws NoSuchMethodException {
+            return new Executable[]{StubHandler.class.getDeclaredMethod("on", String.class)};
+        }
+
+        @Override
+        public boolean canInvoke(int memberIndex) {
+            return memberIndex == 0;
+        }
+
+        @Override
+        public Object invoke(int memberIndex, Object target, Object[] arguments) {
+            metaModelInvocations.add(new Object[]{target, arguments[0]});
+            return ((StubHandler) target).on((String) arguments[0]);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class UnindexedHandler {
+
+        @EventHandler
+        public void on(String event) {
+        }
+
+        @EventHandler
+        public void on(Integer event) {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class UnindexedHandler_AxonHandlerMetaModel implements GeneratedHandlerMetaModel {
+
+        @Override
+        public Class<?> handlerType() {
+            return UnindexedHandler.class;
+        }
+
+        @Override
+        public Executable[] handlerMembers() throws NoSuchMethodException {
+            return new Executable[]{UnindexedHandler.class.getDeclaredMethod("on", String.class)};
+        }
+
+        @Override
+        public boolean canInvoke(int memberIndex) {
+            return false;
+        }
+
+        @Override
+        public Object invoke(int memberIndex, Object target, Object[] arguments) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class StaleHandler {
+
+        @EventHandler
+        public void on(String event) {
+        }
+
+        @EventHandler
+        public void on(Integer event) {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class StaleHandler_AxonHandlerMetaModel implements GeneratedHandlerMetaModel {
+
+        @Override
+        public Class<?> handlerType() {
+            return StaleHandler.class;
+        }
+
+        @Override
+        public Executable[] handlerMembers() throws NoSuchMethodException {
+            return new Executable[]{StaleHandler.class.getDeclaredMethod("removed", String.class)};
+        }
+
+        @Override
+        public boolean canInvoke(int memberIndex) {
+            return false;
+        }
+
+        @Override
+        public Object invoke(int memberIndex, Object target, Object[] arguments) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
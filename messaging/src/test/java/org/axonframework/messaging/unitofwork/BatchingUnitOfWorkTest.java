@@ -26,6 +26,7 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -43,6 +44,7 @@
 import static org.axonframework.messaging.unitofwork.UnitOfWork.Phase.ROLLBACK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -130,6 +132,50 @@ void testSuppressedExceptionOnRollback() {
         assertEquals(2, cleanupCounter.get());
     }
 
+    @Test
+    void testResetUnitOfWorkProcessesNewBatch() throws Exception {
+        List<Message<?>> firstBatch = Arrays.asList(toMessage(0), toMessage(1));
+        BatchingUnitOfWork<Message<?>> testSubject = new BatchingUnitOfWork<>(firstBatch);
+        testSubject.resources().put("resource", "value");
+        testSubject.executeWithResult(() -> {
+            registerListeners(testSubject);
+            return resultFor(testSubject.getMessage());
+        });
+
+        List<Message<?>> secondBatch = Arrays.asList(toMessage(2), toMessage(3), toMessage(4));
+        testSubject.reset(secondBatch);
+        transitions.clear();
+
+        assertEquals(UnitOfWork.Phase.NOT_STARTED, testSubject.phase());
+        assertTrue(testSubject.resources().isEmpty());
+        assertEquals(secondBatch, testSubject.getMessages());
+        testSubject.executeWithResult(() -> {
+            registerListeners(testSubject);
+            return resultFor(testSubject.getMessage());
+        });
+        validatePhaseTransitions(Arrays.asList(PREPARE_COMMIT, COMMIT, AFTER_COMMIT, CLEANUP), secondBatch);
+        assertEquals(12, transitions.size());
+        Map<Message<?>, ExecutionResult> expectedResults = new HashMap<>();
+        secondBatch.forEach(m -> expectedResults.put(m, new ExecutionResult(asResultMessage(resultFor(m)))));
+        assertExecutionResults(expectedResults, testSubject.getExecutionResults());
+
+        List<Message<?>> thirdBatch = Collections.singletonList(toMessage(5));
+        testSubject.reset(thirdBatch);
+        assertEquals(thirdBatch, testSubject.getMessages());
+    }
+
+    @Test
+    void testResetIsRejectedForActiveUnitOfWork() {
+        BatchingUnitOfWork<Message<?>> testSubject = new BatchingUnitOfWork<>(toMessage(0));
+        testSubject.start();
+        try {
+            assertThrows(IllegalStateException.class,
+                         () -> testSubject.reset(Collections.singletonList(toMessage(1))));
+        } finally {
+            testSubject.rollback();
+        }
+    }
+
     private void registerListeners(UnitOfWork<?> unitOfWork) {
         unitOfWork.onPrepareCommit(u -> transitions.add(new PhaseTransition(u.getMessage(), PREPARE_COMMIT)));
         unitOfWork.onCommit(u -> transitions.add(new PhaseTransition(u.getMessage(), COMMIT)));
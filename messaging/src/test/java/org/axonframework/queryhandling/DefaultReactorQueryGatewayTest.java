@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.utils.MockException;
+import org.junit.jupiter.api.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link DefaultReactorQueryGateway}.
+ */
+class DefaultReactorQueryGatewayTest {
+
+    private SimpleQueryBus queryBus;
+    private AtomicInteger handleCount;
+    private AtomicReference<QueryMessage<?, ?>> lastQuery;
+
+    private DefaultReactorQueryGateway testSubject;
+
+    @BeforeEach
+    void setUp() {
+        queryBus = SimpleQueryBus.builder().build();
+        handleCount = new AtomicInteger();
+        lastQuery = new AtomicReference<>();
+        queryBus.subscribe(String.class.getName(), String.class, query -> {
+            handleCount.incrementAndGet();
+            lastQuery.set(query);
+            return query.getPayload() + "-answer";
+        });
+        queryBus.subscribe(String.class.getName(), String.class, query -> query.getPayload() + "-other");
+        queryBus.subscribe(Integer.class.getName(), String.class, query -> {
+            throw new MockException();
+        });
+        queryBus.subscribe(Long.class.getName(), String.class, query -> null);
+        testSubject = DefaultReactorQueryGateway.builder().queryBus(queryBus).build();
+    }
+
+    @Test
+    void testQueryIsLazy() {
+        Mono<String> result = testSubject.query("query", String.class);
+
+        assertEquals(0, handleCount.get());
+        StepVerifier.create(result).expectNextMatches(answer -> answer.startsWith("query-")).verifyComplete();
+        assertEquals(1, handleCount.get());
+    }
+
+    @Test
+    void testQueryPropagatesQueryHandlerException() {
+        StepVerifier.create(testSubject.query(1, String.class)).verifyError(MockException.class);
+    }
+
+    @Test
+    void testQueryCompletesEmptyForNullResponse() {
+        StepVerifier.create(testSubject.query(1L, String.class)).verifyComplete();
+    }
+
+    @Test
+    void testDispatchInterceptorsAreInvokedUponSubscription() {
+        testSubject.registerDispatchInterceptor(
+                message -> message.map(query -> query.andMetaData(MetaData.with("key", "value")))
+        );
+
+        StepVerifier.create(testSubject.query("query", String.class))
+                    .expectNextCount(1)
+                    .verifyComplete();
+        assertEquals("value", lastQuery.get().getMetaData().get("key"));
+    }
+
+    @Test
+    void testScatterGatherEmitsAllResponses() {
+        Flux<String> result =
+                testSubject.scatterGather("query", ResponseTypes.instanceOf(String.class), Duration.ofSeconds(1));
+
+        assertEquals(0, handleCount.get());
+        StepVerifier.create(result.sort())
+                    .expectNext("query-answer", "query-other")
+                    .verifyComplete();
+    }
+
+    @Test
+    void testScatterGatherDoesNotBlockSubscribingThread() {
+        AtomicReference<Thread> handlingThread = new AtomicReference<>();
+        queryBus.subscribe(Double.class.getName(), String.class, query -> {
+            handlingThread.set(Thread.currentThread());
+            return "answer";
+        });
+
+        StepVerifier.create(testSubject.scatterGather(1.0D, ResponseTypes.instanceOf(String.class),
+                                                      Duration.ofSeconds(1)))
+                    .expectNext("answer")
+                    .verifyComplete();
+        assertNotNull(handlingThread.get());
+        assertNotEquals(Thread.currentThread(), handlingThread.get());
+    }
+
+    @Test
+    void testQueryAllEmitsResultsInOrderOfQueries() {
+        StepVerifier.create(testSubject.queryAll(Flux.just("one", "two"), ResponseTypes.instanceOf(String.class), 2))
+                    .expectNextMatches(answer -> answer.startsWith("one-"))
+                    .expectNextMatches(answer -> answer.startsWith("two-"))
+                    .verifyComplete();
+    }
+
+    @Test
+    void testSubscriptionQueryReturnsInitialResult() {
+        Mono<SubscriptionQueryResult<String, String>> result =
+                testSubject.subscriptionQuery("query", String.class, String.class);
+
+        assertEquals(0, handleCount.get());
+        StepVerifier.create(result.flatMap(SubscriptionQueryResult::initialResult))
+                    .expectNextMatches(answer -> answer.startsWith("query-"))
+                    .verifyComplete();
+    }
+
+    @Test
+    void testBuildWithoutQueryBusThrowsAxonConfigurationException() {
+        DefaultReactorQueryGateway.Builder builder = DefaultReactorQueryGateway.builder();
+
+        assertThrows(AxonConfigurationException.class, builder::build);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.tracing;
+
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.utils.MockException;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.axonframework.eventhandling.GenericEventMessage.asEventMessage;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link InMemorySpanFactory}.
+ */
+class InMemorySpanFactoryTest {
+
+    private InMemorySpanFactory testSubject;
+
+    @BeforeEach
+    void setUp() {
+        testSubject = new InMemorySpanFactory();
+    }
+
+    @Test
+    void testNestedSpansArePartOfTheSameTrace() {
+        EventMessage<String> message = asEventMessage("payload");
+
+        Span root = testSubject.createSpan("root", message).start();
+        Span child = testSubject.createSpan("child", null).start();
+        child.recordException(new MockException());
+        child.end();
+        root.end();
+        testSubject.createSpan("other", null).start().end();
+
+        List<InMemorySpanFactory.InMemorySpan> result = testSubject.finishedSpans();
+        assertEquals(3, result.size());
+        InMemorySpanFactory.InMemorySpan childSpan = result.get(0);
+        InMemorySpanFactory.InMemorySpan rootSpan = result.get(1);
+        InMemorySpanFactory.InMemorySpan otherSpan = result.get(2);
+        assertEquals("child", childSpan.getOperationName());
+        assertEquals(rootSpan.getSpanId(), childSpan.getParentSpanId());
+        assertEquals(rootSpan.getTraceId(), childSpan.getTraceId());
+        assertTrue(childSpan.getException() instanceof MockException);
+        assertEquals(0, rootSpan.getParentSpanId());
+        assertEquals(message.getIdentifier(), rootSpan.getMessageIdentifier());
+        assertEquals(String.class.getName(), rootSpan.getPayloadType());
+        assertNotEquals(rootSpan.getTraceId(), otherSpan.getTraceId());
+        assertEquals(0, otherSpan.getParentSpanId());
+    }
+
+    @Test
+    void testResetRemovesFinishedSpans() {
+        testSubject.createSpan("span", null).start().end();
+
+        testSubject.reset();
+
+        assertTrue(testSubject.finishedSpans().isEmpty());
+    }
+}
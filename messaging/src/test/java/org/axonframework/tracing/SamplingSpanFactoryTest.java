@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.tracing;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.junit.jupiter.api.*;
+
+import static org.axonframework.eventhandling.GenericEventMessage.asEventMessage;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link SamplingSpanFactory}.
+ */
+class SamplingSpanFactoryTest {
+
+    private InMemorySpanFactory delegate;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new InMemorySpanFactory();
+    }
+
+    @Test
+    void testAllSpansAreRecordedWhenSamplingEverything() {
+        SamplingSpanFactory testSubject = new SamplingSpanFactory(delegate, 1);
+
+        Span root = testSubject.createSpan("root", asEventMessage("payload")).start();
+        testSubject.createSpan("child", null).start().end();
+        root.end();
+
+        assertEquals(1, delegate.finishedSpans("root").size());
+        assertEquals(1, delegate.finishedSpans("child").size());
+        assertEquals(delegate.finishedSpans("root").get(0).getSpanId(),
+                     delegate.finishedSpans("child").get(0).getParentSpanId());
+    }
+
+    @Test
+    void testNoSpansAreRecordedWhenSamplingNothing() {
+        SamplingSpanFactory testSubject = new SamplingSpanFactory(delegate, 0);
+
+        Span root = testSubject.createSpan("root", null).start();
+        Span child = testSubject.createSpan("child", null).start();
+        child.end();
+        root.end();
+
+        assertSame(root, child);
+        assertTrue(delegate.finishedSpans().isEmpty());
+    }
+
+    @Test
+    void testSamplingDecisionIsTakenForEntireTrace() {
+        SamplingSpanFactory testSubject = new SamplingSpanFactory(delegate, 0.5);
+
+        for (int i = 0; i < 1000; i++) {
+            Span root = testSubject.createSpan("root", null).start();
+            testSubject.createSpan("child", null).start().end();
+            testSubject.createSpan("child", null).start().end();
+            root.end();
+        }
+
+        int sampledTraces = delegate.finishedSpans("root").size();
+        assertTrue(sampledTraces > 0 && sampledTraces < 1000, "Expected a portion of the traces to be sampled");
+        assertEquals(2 * sampledTraces, delegate.finishedSpans("child").size());
+    }
+
+    @Test
+    void testInvalidSampleRatioIsRejected() {
+        assertThrows(AxonConfigurationException.class, () -> new SamplingSpanFactory(delegate, 1.5));
+        assertThrows(AxonConfigurationException.class, () -> new SamplingSpanFactory(delegate, -0.1));
+        assertThrows(AxonConfigurationException.class, () -> new SamplingSpanFactory(null, 1));
+    }
+}
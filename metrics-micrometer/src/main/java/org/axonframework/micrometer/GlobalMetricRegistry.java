@@ -22,10 +22,14 @@
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.axonframework.commandhandling.CommandBus;
 import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.config.Configuration;
 import org.axonframework.config.Configurer;
+import org.axonframework.config.EventProcessingConfiguration;
 import org.axonframework.eventhandling.EventBus;
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.eventhandling.EventProcessor;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.lifecycle.Phase;
 import org.axonframework.messaging.Message;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.monitoring.MultiMessageMonitor;
@@ -39,6 +43,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import static org.axonframework.micrometer.TagsUtil.*;
@@ -77,13 +82,19 @@ public GlobalMetricRegistry(MeterRegistry meterRegistry) {
     /**
      * Registers the {@link MeterRegistry} with the given {@code configurer} via {@link
      * Configurer#configureMessageMonitor(Function)}. Components registered by the {@link Configurer} will be added by
-     * invocation of {@link #registerComponent(Class, String)}.
+     * invocation of {@link #registerComponent(Class, String)}. Additionally, the segment lag of every {@link
+     * StreamingEventProcessor} is registered through {@link #registerSegmentLag(String, StreamingEventProcessor)} once
+     * the configuration starts.
      *
      * @param configurer the application's {@link Configurer}
      * @return the {@link Configurer}, with the new registration applied, for chaining
      */
     @SuppressWarnings("unchecked")
     public Configurer registerWithConfigurer(Configurer configurer) {
+        configurer.onInitialize(configuration -> configuration.onStart(
+                Phase.INBOUND_EVENT_CONNECTORS,
+                () -> registerStreamingEventProcessors(configuration, this::registerSegmentLag)
+        ));
         return configurer.configureMessageMonitor(
                 configuration
                         -> (componentType, componentName)
@@ -94,13 +105,24 @@ public Configurer registerWithConfigurer(Configurer configurer) {
     /**
      * Registers the {@link MeterRegistry} with the given {@code configurer} via {@link
      * Configurer#configureMessageMonitor(Function)}. Components registered by the {@link Configurer} will be added by
-     * invocation of {@link #registerComponentWithDefaultTags(Class, String)}.
+     * invocation of {@link #registerComponentWithDefaultTags(Class, String)}. Additionally, the segment lag of every
+     * {@link StreamingEventProcessor} is registered through {@link #registerSegmentLag(String, StreamingEventProcessor,
+     * Iterable)} with the 'processor name' {@link Tag} once the configuration starts.
      *
      * @param configurer the application's {@link Configurer}
      * @return the {@link Configurer}, with the new registration applied using {@link Tag}s, for chaining
      */
     @SuppressWarnings("unchecked")
     public Configurer registerWithConfigurerWithDefaultTags(Configurer configurer) {
+        configurer.onInitialize(configuration -> configuration.onStart(
+                Phase.INBOUND_EVENT_CONNECTORS,
+                () -> registerStreamingEventProcessors(
+                        configuration,
+                        (name, eventProcessor) -> registerSegmentLag(
+                                EVENT_PROCESSOR_METRICS_NAME, eventProcessor, Tags.of(PROCESSOR_NAME_TAG, name)
+                        )
+                )
+        ));
         return configurer.configureMessageMonitor(
                 configuration
                         -> (componentType, componentName)
@@ -158,6 +180,55 @@ public MessageMonitor<? super EventMessage<?>> registerEventProcessor(String eve
         return new MultiMessageMonitor<>(monitors);
     }
 
+    /**
+     * Registers new metrics to the registry to monitor the lag of every segment of the given {@link
+     * StreamingEventProcessor}. The metrics will be registered with the registry under the given {@code
+     * eventProcessorName}.
+     *
+     * @param eventProcessorName the name under which the {@link StreamingEventProcessor} is registered to the registry
+     * @param eventProcessor     the {@link StreamingEventProcessor} to monitor the segment lag for
+     * @return the {@link SegmentLagMonitor} registered to the registry
+     */
+    public SegmentLagMonitor registerSegmentLag(String eventProcessorName, StreamingEventProcessor eventProcessor) {
+        return registerSegmentLag(eventProcessorName, eventProcessor, Tags.empty());
+    }
+
+    /**
+     * Registers new metrics to the registry to monitor the lag of every segment of the given {@link
+     * StreamingEventProcessor}, using the given {@link Tag}s. The metrics will be registered with the registry under the
+     * given {@code eventProcessorName}.
+     *
+     * @param eventProcessorName the name under which the {@link StreamingEventProcessor} is registered to the registry
+     * @param eventProcessor     the {@link StreamingEventProcessor} to monitor the segment lag for
+     * @param tags               the {@link Tag}s added to the segment lag metrics
+     * @return the {@link SegmentLagMonitor} registered to the registry
+     */
+    public SegmentLagMonitor registerSegmentLag(String eventProcessorName,
+                                                StreamingEventProcessor eventProcessor,
+                                                Iterable<Tag> tags) {
+        return SegmentLagMonitor.builder()
+                                .meterNamePrefix(eventProcessorName)
+                                .meterRegistry(registry)
+                                .eventProcessor(eventProcessor)
+                                .tags(tags)
+                                .build();
+    }
+
+    private static void registerStreamingEventProcessors(
+            Configuration configuration,
+            BiConsumer<String, StreamingEventProcessor> registration
+    ) {
+        EventProcessingConfiguration eventProcessingConfig = configuration.eventProcessingConfiguration();
+        if (eventProcessingConfig == null) {
+            return;
+        }
+        eventProcessingConfig.eventProcessors().forEach((name, eventProcessor) -> {
+            if (eventProcessor instanceof StreamingEventProcessor) {
+                registration.accept(name, (StreamingEventProcessor) eventProcessor);
+            }
+        });
+    }
+
     /**
      * Registers new metrics to the registry to monitor a {@link CommandBus}. The monitor will be registered with the
      * registry under the given {@code commandBusName}. The returned {@link MessageMonitor} can be installed on the
@@ -43,6 +43,7 @@ public class MessageCountingMonitor implements MessageMonitor<Message<?>> {
     private final String meterNamePrefix;
     private final MeterRegistry meterRegistry;
     private final Function<Message<?>, Iterable<Tag>> tagsBuilder;
+    private final MeterCache<Counters> counters;
 
     private MessageCountingMonitor(String meterNamePrefix, MeterRegistry meterRegistry) {
 
@@ -57,6 +58,7 @@ private MessageCountingMonitor(String meterNamePrefix, MeterRegistry meterRegist
         this.meterNamePrefix = meterNamePrefix;
         this.meterRegistry = meterRegistry;
         this.tagsBuilder = tagsBuilder;
+        this.counters = new MeterCache<>(this::buildCounters, MeterCache.DEFAULT_MAX_SIZE);
     }
 
     /**
@@ -88,33 +90,58 @@ public static MessageCountingMonitor buildMonitor(String meterNamePrefix, MeterR
 
     @Override
     public MonitorCallback onMessageIngested(Message<?> message) {
-
-        Iterable<Tag> tags = tagsBuilder.apply(message);
-        Counter ingestedCounter = meterRegistry.counter(meterNamePrefix + INGESTED_COUNTER, tags);
-        Counter successCounter = meterRegistry.counter(meterNamePrefix + SUCCESS_COUNTER, tags);
-        Counter failureCounter = meterRegistry.counter(meterNamePrefix + FAILURE_COUNTER, tags);
-        Counter processedCounter = meterRegistry.counter(meterNamePrefix + PROCESSED_COUNTER, tags);
-        Counter ignoredCounter = meterRegistry.counter(meterNamePrefix + IGNORED_COUNTER, tags);
-
-        ingestedCounter.increment();
+        Counters messageCounters = counters.get(tagsBuilder.apply(message));
+        messageCounters.ingestedCounter.increment();
 
         return new MonitorCallback() {
             @Override
             public void reportSuccess() {
-                processedCounter.increment();
-                successCounter.increment();
+                messageCounters.processedCounter.increment();
+                messageCounters.successCounter.increment();
             }
 
             @Override
             public void reportFailure(Throwable cause) {
-                processedCounter.increment();
-                failureCounter.increment();
+                messageCounters.processedCounter.increment();
+                messageCounters.failureCounter.increment();
             }
 
             @Override
             public void reportIgnored() {
-                ignoredCounter.increment();
+                messageCounters.ignoredCounter.increment();
             }
         };
     }
+
+    private Counters buildCounters(Tags tags) {
+        return new Counters(meterRegistry.counter(meterNamePrefix + INGESTED_COUNTER, tags),
+                            meterRegistry.counter(meterNamePrefix + SUCCESS_COUNTER, tags),
+                            meterRegistry.counter(meterNamePrefix + FAILURE_COUNTER, tags),
+                            meterRegistry.counter(meterNamePrefix + PROCESSED_COUNTER, tags),
+                            meterRegistry.counter(meterNamePrefix + IGNORED_COUNTER, tags));
+    }
+
+    /**
+     * The group of {@link Counter}s registered for a single combination of {@link Tag}s.
+     */
+    private static class Counters {
+
+        private final Counter ingestedCounter;
+        private final Counter successCounter;
+        private final Counter failureCounter;
+        private final Counter processedCounter;
+        private final Counter ignoredCounter;
+
+        private Counters(Counter ingestedCounter,
+                         Counter successCounter,
+                         Counter failureCounter,
+                         Counter processedCounter,
+                         Counter ignoredCounter) {
+            this.ingestedCounter = ingestedCounter;
+            this.successCounter = successCounter;
+            this.failureCounter = failureCounter;
+            this.processedCounter = processedCounter;
+            this.ignoredCounter = ignoredCounter;
+        }
+    }
 }
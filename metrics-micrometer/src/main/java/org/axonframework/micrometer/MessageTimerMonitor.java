@@ -33,6 +33,7 @@
 
 import static org.axonframework.common.BuilderUtils.assertNonEmpty;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertPositive;
 
 /**
  * A {@link MessageMonitor} which introduces a {@link Timer} for the overall timer of all {@link Message}s being
@@ -49,13 +50,15 @@ public class MessageTimerMonitor implements MessageMonitor<Message<?>> {
     private final Clock clock;
     private final Function<Message<?>, Iterable<Tag>> tagsBuilder;
     private final UnaryOperator<Timer.Builder> timerCustomization;
+    private final MeterCache<Timers> timers;
 
     /**
      * Instantiate a Builder to be able to create a {@link MessageTimerMonitor}.
      * <p>
      * The {@link Clock} is defaulted to a {@link Clock#SYSTEM}, the {@code tagsBuilder} to a {@link Function} returning
-     * {@link Tags#empty()} and the {@code timerCustomization} to a no-op. The {@code meterNamePrefix} and {@link
-     * MeterRegistry} are <b>hard requirements</b> and as such should be provided.
+     * {@link Tags#empty()}, the {@code timerCustomization} to a no-op and the {@code meterCacheSize} to {@code 1024}.
+     * The {@code meterNamePrefix} and {@link MeterRegistry} are <b>hard requirements</b> and as such should be
+     * provided.
      *
      * @return a Builder to be able to create a {@link MessageTimerMonitor}
      */
@@ -78,6 +81,7 @@ protected MessageTimerMonitor(Builder builder) {
         this.clock = builder.clock;
         this.tagsBuilder = builder.tagsBuilder;
         this.timerCustomization = builder.timerCustomization;
+        this.timers = new MeterCache<>(this::buildTimers, builder.meterCacheSize);
     }
 
     /**
@@ -149,38 +153,40 @@ public static MessageTimerMonitor buildMonitor(String meterNamePrefix,
 
     @Override
     public MonitorCallback onMessageIngested(Message<?> message) {
-        Iterable<Tag> tags = tagsBuilder.apply(message);
-        Timer allTimer = buildTimer(meterNamePrefix, "allTimer", meterRegistry, tags, timerCustomization);
-        Timer successTimer = buildTimer(meterNamePrefix, "successTimer", meterRegistry, tags, timerCustomization);
-        Timer failureTimer = buildTimer(meterNamePrefix, "failureTimer", meterRegistry, tags, timerCustomization);
-        Timer ignoredTimer = buildTimer(meterNamePrefix, "ignoredTimer", meterRegistry, tags, timerCustomization);
-
+        Timers messageTimers = timers.get(tagsBuilder.apply(message));
         long startTime = clock.monotonicTime();
 
         return new MonitorCallback() {
             @Override
             public void reportSuccess() {
                 long duration = clock.monotonicTime() - startTime;
-                allTimer.record(duration, TimeUnit.NANOSECONDS);
-                successTimer.record(duration, TimeUnit.NANOSECONDS);
+                messageTimers.allTimer.record(duration, TimeUnit.NANOSECONDS);
+                messageTimers.successTimer.record(duration, TimeUnit.NANOSECONDS);
             }
 
             @Override
             public void reportFailure(Throwable cause) {
                 long duration = clock.monotonicTime() - startTime;
-                allTimer.record(duration, TimeUnit.NANOSECONDS);
-                failureTimer.record(duration, TimeUnit.NANOSECONDS);
+                messageTimers.allTimer.record(duration, TimeUnit.NANOSECONDS);
+                messageTimers.failureTimer.record(duration, TimeUnit.NANOSECONDS);
             }
 
             @Override
             public void reportIgnored() {
                 long duration = clock.monotonicTime() - startTime;
-                allTimer.record(duration, TimeUnit.NANOSECONDS);
-                ignoredTimer.record(duration, TimeUnit.NANOSECONDS);
+                messageTimers.allTimer.record(duration, TimeUnit.NANOSECONDS);
+                messageTimers.ignoredTimer.record(duration, TimeUnit.NANOSECONDS);
             }
         };
     }
 
+    private Timers buildTimers(Tags tags) {
+        return new Timers(buildTimer(meterNamePrefix, "allTimer", meterRegistry, tags, timerCustomization),
+                          buildTimer(meterNamePrefix, "successTimer", meterRegistry, tags, timerCustomization),
+                          buildTimer(meterNamePrefix, "failureTimer", meterRegistry, tags, timerCustomization),
+                          buildTimer(meterNamePrefix, "ignoredTimer", meterRegistry, tags, timerCustomization));
+    }
+
     private static Timer buildTimer(String meterNamePrefix,
                                     String timerName,
                                     MeterRegistry meterRegistry,
@@ -193,12 +199,31 @@ private static Timer buildTimer(String meterNamePrefix,
         return timerCustomization.apply(timerBuilder).register(meterRegistry);
     }
 
+    /**
+     * The group of {@link Timer}s registered for a single combination of {@link Tag}s.
+     */
+    private static class Timers {
+
+        private final Timer allTimer;
+        private final Timer successTimer;
+        private final Timer failureTimer;
+        private final Timer ignoredTimer;
+
+        private Timers(Timer allTimer, Timer successTimer, Timer failureTimer, Timer ignoredTimer) {
+            this.allTimer = allTimer;
+            this.successTimer = successTimer;
+            this.failureTimer = failureTimer;
+            this.ignoredTimer = ignoredTimer;
+        }
+    }
+
     /**
      * Builder class to instantiate a {@link MessageTimerMonitor}.
      * <p>
      * The {@link Clock} is defaulted to a {@link Clock#SYSTEM}, the {@code tagsBuilder} to a {@link Function} returning
-     * {@link Tags#empty()} and the {@code timerCustomization} to a no-op. The {@code meterNamePrefix} and {@link
-     * MeterRegistry} are <b>hard requirements</b> and as such should be provided.
+     * {@link Tags#empty()}, the {@code timerCustomization} to a no-op and the {@code meterCacheSize} to {@code 1024}.
+     * The {@code meterNamePrefix} and {@link MeterRegistry} are <b>hard requirements</b> and as such should be
+     * provided.
      */
     public static class Builder {
 
@@ -207,6 +232,7 @@ public static class Builder {
         private Clock clock = Clock.SYSTEM;
         private Function<Message<?>, Iterable<Tag>> tagsBuilder = message -> Tags.empty();
         private UnaryOperator<Timer.Builder> timerCustomization = timerBuilder -> timerBuilder;
+        private int meterCacheSize = MeterCache.DEFAULT_MAX_SIZE;
 
         /**
          * Sets the name used to prefix the names of the {@link Timer} instances created by this {@link
@@ -280,6 +306,22 @@ public Builder timerCustomization(UnaryOperator<Timer.Builder> timerCustomizatio
             return this;
         }
 
+        /**
+         * Sets the maximum number of {@link Tag} combinations for which the resolved {@link Timer} instances are
+         * cached. Messages resulting in a combination of tags which is already cached skip the {@link MeterRegistry}
+         * lookup entirely. Once the maximum is reached, the {@code Timer}s for new combinations are resolved through
+         * the {@code MeterRegistry} for every message. A size of {@code 0} disables caching. Defaults to {@code 1024}.
+         *
+         * @param meterCacheSize the maximum number of {@link Tag} combinations for which {@link Timer} instances are
+         *                       cached
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder meterCacheSize(int meterCacheSize) {
+            assertPositive(meterCacheSize, "The meter cache size should be a positive number");
+            this.meterCacheSize = meterCacheSize;
+            return this;
+        }
+
         /**
          * Initializes a {@link MessageTimerMonitor} as specified through this Builder.
          *
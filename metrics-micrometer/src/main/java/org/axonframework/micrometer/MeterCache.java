@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.micrometer;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of resolved {@link Meter} instances, keyed by the {@link Tags} they have been registered with. Used
+ * by the {@link org.axonframework.monitoring.MessageMonitor} implementations in this package to prevent a {@link
+ * MeterRegistry} lookup for every single message that is ingested.
+ * <p>
+ * Once the cache reached its maximum size, meters for new tag combinations are no longer cached but resolved through
+ * the given {@code meterFactory} on every invocation. This protects against unbounded memory usage when a tags
+ * builder produces high cardinality tags, at the cost of falling back to the uncached behavior for those tags.
+ *
+ * @param <M> the type of (group of) meters cached by this instance
+ * @since 4.6.0
+ */
+class MeterCache<M> {
+
+    /**
+     * The default maximum number of tag combinations for which meters are cached.
+     */
+    static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final ConcurrentMap<Tags, M> meters = new ConcurrentHashMap<>();
+    private final Function<Tags, M> meterFactory;
+    private final int maxSize;
+
+    /**
+     * Construct a {@link MeterCache} using the given {@code meterFactory} to resolve meters for tag combinations not
+     * present in the cache yet, caching at most {@code maxSize} combinations.
+     *
+     * @param meterFactory the {@link Function} resolving the meters for a given set of {@link Tags}
+     * @param maxSize      the maximum number of tag combinations to cache meters for
+     */
+    MeterCache(Function<Tags, M> meterFactory, int maxSize) {
+        this.meterFactory = meterFactory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the meters for the given {@code tags}, resolving and caching them if this is the first time the given
+     * combination of tags is requested.
+     *
+     * @param tags the {@link Tag}s to return the meters for
+     * @return the meters for the given {@code tags}
+     */
+    M get(Iterable<Tag> tags) {
+        Tags key = Tags.of(tags);
+        M cached = meters.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (meters.size() >= maxSize) {
+            return meterFactory.apply(key);
+        }
+        return meters.computeIfAbsent(key, meterFactory);
+    }
+
+    /**
+     * Returns the number of tag combinations currently cached.
+     *
+     * @return the number of tag combinations currently cached
+     */
+    int size() {
+        return meters.size();
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.micrometer;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.axonframework.common.BuilderUtils.assertNonEmpty;
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * Measures the lag of every segment of a {@link StreamingEventProcessor}, being the number of positions the segment's
+ * token is behind the head of the event stream, as provided by {@link StreamingEventProcessor#segmentLag()}.
+ * <p>
+ * Registers a {@link Gauge} named {@code [meterNamePrefix].lag} reflecting the highest lag of all segments, and a
+ * {@code Gauge} named {@code [meterNamePrefix].segmentLag} per segment, tagged with the segment identifier. Contrary
+ * to the {@link EventProcessorLatencyMonitor}, this lag reflects the actual backlog of the processor, also during
+ * replays. As retrieving the head of the event stream typically requires a round trip to the event store, the lag is
+ * sampled at most once per configured sample interval, regardless of the number of times the gauges are read.
+ * <p>
+ * Additionally registers a {@code Gauge} named {@code [meterNamePrefix].batchSize} per segment, tagged with the
+ * segment identifier, reflecting the current batch size of the segment as provided by {@link
+ * StreamingEventProcessor#segmentBatchSize()}. This allows verifying how an adaptive batch size reacts to the lag.
+ *
+ * @since 4.6.0
+ */
+public class SegmentLagMonitor {
+
+    /**
+     * The micrometer {@link Tag} key that represents the segment identifier.
+     */
+    public static final String SEGMENT_TAG = "segment";
+
+    private static final long NEVER_SAMPLED = Long.MIN_VALUE;
+
+    private final String meterNamePrefix;
+    private final MeterRegistry meterRegistry;
+    private final StreamingEventProcessor eventProcessor;
+    private final Iterable<Tag> tags;
+    private final Clock clock;
+    private final long sampleIntervalNanos;
+
+    private final AtomicLong lastSampleTime = new AtomicLong(NEVER_SAMPLED);
+    private final Set<Integer> registeredSegments = ConcurrentHashMap.newKeySet();
+    private volatile Map<Integer, Long> lastSample = Collections.emptyMap();
+
+    /**
+     * Instantiate a Builder to be able to create a {@link SegmentLagMonitor}.
+     * <p>
+     * The {@code tags} are defaulted to {@link Tags#empty()}, the {@link Clock} to a {@link Clock#SYSTEM} and the
+     * {@code sampleInterval} to one second. The {@code meterNamePrefix}, {@link MeterRegistry} and {@link
+     * StreamingEventProcessor} are <b>hard requirements</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link SegmentLagMonitor}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a {@link SegmentLagMonitor} based on the fields contained in the {@link Builder}, registering the
+     * {@link Gauge} reflecting the highest lag of all segments with the {@link MeterRegistry}.
+     * <p>
+     * Will assert that the {@code meterNamePrefix}, {@link MeterRegistry} and {@link StreamingEventProcessor} are not
+     * {@code null} and will throw an {@link AxonConfigurationException} if this is the case.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link SegmentLagMonitor} instance
+     */
+    protected SegmentLagMonitor(Builder builder) {
+        builder.validate();
+        this.meterNamePrefix = builder.meterNamePrefix;
+        this.meterRegistry = builder.meterRegistry;
+        this.eventProcessor = builder.eventProcessor;
+        this.tags = builder.tags;
+        this.clock = builder.clock;
+        this.sampleIntervalNanos = builder.sampleInterval.toNanos();
+
+        Gauge.builder(meterNamePrefix + ".lag", this::maxLag)
+             .tags(tags)
+             .register(meterRegistry);
+    }
+
+    private Number maxLag() {
+        return sample().values().stream().max(Long::compare).orElse(0L);
+    }
+
+    private Number segmentLag(int segmentId) {
+        Long lag = sample().get(segmentId);
+        return lag == null ? Double.NaN : lag;
+    }
+
+    private Map<Integer, Long> sample() {
+        long now = clock.monotonicTime();
+        long previousSampleTime = lastSampleTime.get();
+        boolean sampleDue = previousSampleTime == NEVER_SAMPLED || now - previousSampleTime >= sampleIntervalNanos;
+        if (sampleDue && lastSampleTime.compareAndSet(previousSampleTime, now)) {
+            Map<Integer, Long> sample = Collections.unmodifiableMap(eventProcessor.segmentLag());
+            lastSample = sample;
+            Set<Integer> segments = new HashSet<>(sample.keySet());
+            segments.addAll(eventProcessor.segmentBatchSize().keySet());
+            segments.stream()
+                    .filter(registeredSegments::add)
+                    .forEach(this::registerSegmentGauges);
+        }
+        return lastSample;
+    }
+
+    private Number segmentBatchSize(int segmentId) {
+        Integer batchSize = eventProcessor.segmentBatchSize().get(segmentId);
+        return batchSize == null ? Double.NaN : batchSize;
+    }
+
+    private void registerSegmentGauges(int segmentId) {
+        Gauge.builder(meterNamePrefix + ".segmentLag", () -> segmentLag(segmentId))
+             .tags(tags)
+             .tag(SEGMENT_TAG, Integer.toString(segmentId))
+             .register(meterRegistry);
+        Gauge.builder(meterNamePrefix + ".batchSize", () -> segmentBatchSize(segmentId))
+             .tags(tags)
+             .tag(SEGMENT_TAG, Integer.toString(segmentId))
+             .register(meterRegistry);
+    }
+
+    /**
+     * Builder class to instantiate a {@link SegmentLagMonitor}.
+     * <p>
+     * The {@code tags} are defaulted to {@link Tags#empty()}, the {@link Clock} to a {@link Clock#SYSTEM} and the
+     * {@code sampleInterval} to one second. The {@code meterNamePrefix}, {@link MeterRegistry} and {@link
+     * StreamingEventProcessor} are <b>hard requirements</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private String meterNamePrefix;
+        private MeterRegistry meterRegistry;
+        private StreamingEventProcessor eventProcessor;
+        private Iterable<Tag> tags = Tags.empty();
+        private Clock clock = Clock.SYSTEM;
+        private Duration sampleInterval = Duration.ofSeconds(1);
+
+        /**
+         * Sets the name used to prefix the names of the {@link Gauge} instances created by this monitor.
+         *
+         * @param meterNamePrefix a {@link String} used to prefix the names of the {@link Gauge} instances created by
+         *                        this monitor
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder meterNamePrefix(String meterNamePrefix) {
+            assertNonEmpty(meterNamePrefix, "The meter name prefix may not be null or empty");
+            this.meterNamePrefix = meterNamePrefix;
+            return this;
+        }
+
+        /**
+         * Specifies the {@link MeterRegistry} used to registered the {@link Gauge} instances to.
+         *
+         * @param meterRegistry the {@link MeterRegistry} used to registered the {@link Gauge} instances to
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            assertNonNull(meterRegistry, "MeterRegistry may not be null");
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        /**
+         * Sets the {@link StreamingEventProcessor} for which the segment lag is measured.
+         *
+         * @param eventProcessor the {@link StreamingEventProcessor} for which the segment lag is measured
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder eventProcessor(StreamingEventProcessor eventProcessor) {
+            assertNonNull(eventProcessor, "StreamingEventProcessor may not be null");
+            this.eventProcessor = eventProcessor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Tag}s added to every {@link Gauge} created by this monitor. Defaults to {@link
+         * Tags#empty()}.
+         *
+         * @param tags the {@link Tag}s added to every {@link Gauge} created by this monitor
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder tags(Iterable<Tag> tags) {
+            assertNonNull(tags, "Tags may not be null");
+            this.tags = tags;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Clock} used to decide whether a new sample of the segment lag should be taken. Defaults to
+         * the {@link Clock#SYSTEM}.
+         *
+         * @param clock the {@link Clock} used to decide whether a new sample of the segment lag should be taken
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder clock(Clock clock) {
+            assertNonNull(clock, "Clock may not be null");
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Sets the minimal interval between two samples of the segment lag. Reading the gauges more often than this
+         * interval returns the last sampled values. Defaults to one second.
+         *
+         * @param sampleInterval the minimal interval between two samples of the segment lag
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder sampleInterval(Duration sampleInterval) {
+            assertThat(sampleInterval,
+                       interval -> interval != null && !interval.isNegative(),
+                       "The sample interval may not be null or negative");
+            this.sampleInterval = sampleInterval;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link SegmentLagMonitor} as specified through this Builder.
+         *
+         * @return a {@link SegmentLagMonitor} as specified through this Builder
+         */
+        public SegmentLagMonitor build() {
+            return new SegmentLagMonitor(this);
+        }
+
+        /**
+         * Validate whether the fields contained in this Builder as set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() {
+            assertNonEmpty(meterNamePrefix, "The meter name prefix is a hard requirement and should be provided");
+            assertNonNull(meterRegistry, "The MeterRegistry is a hard requirement and should be provided");
+            assertNonNull(eventProcessor, "The StreamingEventProcessor is a hard requirement and should be provided");
+        }
+    }
+}
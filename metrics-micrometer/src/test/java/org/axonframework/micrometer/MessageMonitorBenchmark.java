@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.messaging.Message;
+import org.axonframework.monitoring.MessageMonitor;
+
+import static org.axonframework.eventhandling.GenericEventMessage.asEventMessage;
+
+/**
+ * Benchmark test comparing the per message overhead of the {@link MessageTimerMonitor} with and without caching of
+ * the resolved {@link io.micrometer.core.instrument.Timer} instances.
+ */
+public class MessageMonitorBenchmark {
+
+    private static final int WARM_UP_COUNT = 1000 * 1000;
+    private static final int MESSAGE_COUNT = 5 * 1000 * 1000;
+
+    public static void main(String[] args) {
+        EventMessage<?>[] messages = new EventMessage[]{asEventMessage("string"), asEventMessage(1), asEventMessage(1L)};
+
+        MessageMonitor<Message<?>> uncached = timerMonitor(0);
+        MessageMonitor<Message<?>> cached = timerMonitor(MeterCache.DEFAULT_MAX_SIZE);
+
+        run(uncached, messages, WARM_UP_COUNT);
+        run(cached, messages, WARM_UP_COUNT);
+
+        System.out.printf("Uncached: %d messages per second%n", run(uncached, messages, MESSAGE_COUNT));
+        System.out.printf("Cached: %d messages per second%n", run(cached, messages, MESSAGE_COUNT));
+    }
+
+    private static MessageMonitor<Message<?>> timerMonitor(int meterCacheSize) {
+        return MessageTimerMonitor.builder()
+                                  .meterNamePrefix("benchmark")
+                                  .meterRegistry(new SimpleMeterRegistry())
+                                  .tagsBuilder(TagsUtil.PAYLOAD_TYPE_TAGGER_FUNCTION)
+                                  .meterCacheSize(meterCacheSize)
+                                  .build();
+    }
+
+    private static long run(MessageMonitor<Message<?>> monitor, EventMessage<?>[] messages, int count) {
+        long t1 = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            monitor.onMessageIngested(messages[i % messages.length]).reportSuccess();
+        }
+        long t2 = System.nanoTime();
+        return (count * 1_000_000_000L) / (t2 - t1);
+    }
+}
@@ -281,4 +281,32 @@ void testBuildWithNullTimerCustomizationThrowsAxonConfigurationException() {
         MessageTimerMonitor.Builder testSubject = MessageTimerMonitor.builder();
         assertThrows(AxonConfigurationException.class, () -> testSubject.timerCustomization(null));
     }
+
+    @Test
+    void testBuildWithNegativeMeterCacheSizeThrowsAxonConfigurationException() {
+        MessageTimerMonitor.Builder testSubject = MessageTimerMonitor.builder();
+        assertThrows(AxonConfigurationException.class, () -> testSubject.meterCacheSize(-1));
+    }
+
+    @Test
+    void testTimersAreRecordedConsistentlyWhenCachingIsDisabled() {
+        MessageTimerMonitor testSubject = testSubjectBuilder.meterCacheSize(0).build();
+
+        EventMessage<Object> foo = asEventMessage(1);
+        EventMessage<Object> bar = asEventMessage("bar");
+
+        Map<? super Message<?>, MessageMonitor.MonitorCallback> callbacks =
+                testSubject.onMessagesIngested(Arrays.asList(foo, bar));
+
+        mockedClock.addSeconds(1);
+        callbacks.get(foo).reportSuccess();
+        callbacks.get(bar).reportSuccess();
+
+        Timer all = requireNonNull(meterRegistry.find(METER_NAME_PREFIX + ".allTimer").timer());
+        Timer success = requireNonNull(meterRegistry.find(METER_NAME_PREFIX + ".successTimer").timer());
+
+        assertEquals(2, all.count());
+        assertEquals(2, success.count());
+        assertEquals(2, all.totalTime(TimeUnit.SECONDS), 0);
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link MeterCache}.
+ */
+class MeterCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger resolveCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        resolveCount = new AtomicInteger();
+    }
+
+    private Counter resolve(Tags tags) {
+        resolveCount.incrementAndGet();
+        return meterRegistry.counter("counter", tags);
+    }
+
+    @Test
+    void testMetersAreResolvedOncePerTagCombination() {
+        MeterCache<Counter> testSubject = new MeterCache<>(this::resolve, MeterCache.DEFAULT_MAX_SIZE);
+
+        Counter first = testSubject.get(Tags.of("payloadType", "String"));
+        Counter second = testSubject.get(Arrays.asList(Tag.of("payloadType", "String")));
+        Counter other = testSubject.get(Tags.of("payloadType", "Integer"));
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(2, resolveCount.get());
+        assertEquals(2, testSubject.size());
+    }
+
+    @Test
+    void testMetersAreResolvedThroughFactoryOnceMaximumSizeIsReached() {
+        MeterCache<Counter> testSubject = new MeterCache<>(this::resolve, 1);
+
+        Counter cached = testSubject.get(Tags.of("payloadType", "String"));
+        Counter uncached = testSubject.get(Tags.of("payloadType", "Integer"));
+        Counter uncachedAgain = testSubject.get(Tags.of("payloadType", "Integer"));
+
+        assertSame(cached, testSubject.get(Tags.of("payloadType", "String")));
+        assertSame(uncached, uncachedAgain);
+        assertEquals(3, resolveCount.get());
+        assertEquals(1, testSubject.size());
+    }
+
+    @Test
+    void testZeroMaximumSizeDisablesCaching() {
+        MeterCache<Counter> testSubject = new MeterCache<>(this::resolve, 0);
+
+        testSubject.get(Tags.empty());
+        testSubject.get(Tags.empty());
+
+        assertEquals(2, resolveCount.get());
+        assertEquals(0, testSubject.size());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.micrometer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link SegmentLagMonitor}.
+ */
+class SegmentLagMonitorTest {
+
+    private static final String METER_NAME_PREFIX = "processor";
+
+    private MockClock mockedClock;
+    private SimpleMeterRegistry meterRegistry;
+    private StreamingEventProcessor eventProcessor;
+
+    @BeforeEach
+    void setUp() {
+        mockedClock = new MockClock();
+        meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, mockedClock);
+        eventProcessor = mock(StreamingEventProcessor.class);
+
+        SegmentLagMonitor.builder()
+                         .meterNamePrefix(METER_NAME_PREFIX)
+                         .meterRegistry(meterRegistry)
+                         .eventProcessor(eventProcessor)
+                         .clock(mockedClock)
+                         .sampleInterval(Duration.ofSeconds(5))
+                         .build();
+    }
+
+    private Gauge segmentGauge(int segmentId) {
+        return meterRegistry.find(METER_NAME_PREFIX + ".segmentLag")
+                            .tag(SegmentLagMonitor.SEGMENT_TAG, Integer.toString(segmentId))
+                            .gauge();
+    }
+
+    @Test
+    void testGaugesReflectSegmentLag() {
+        Map<Integer, Long> segmentLag = new HashMap<>();
+        segmentLag.put(0, 5L);
+        segmentLag.put(1, 10L);
+        when(eventProcessor.segmentLag()).thenReturn(segmentLag);
+
+        Gauge lagGauge = requireNonNull(meterRegistry.find(METER_NAME_PREFIX + ".lag").gauge());
+        assertEquals(10, lagGauge.value(), 0);
+
+        assertEquals(5, requireNonNull(segmentGauge(0)).value(), 0);
+        assertEquals(10, requireNonNull(segmentGauge(1)).value(), 0);
+    }
+
+    @Test
+    void testSegmentLagIsSampledOncePerSampleInterval() {
+        when(eventProcessor.segmentLag()).thenReturn(Collections.singletonMap(0, 5L))
+                                         .thenReturn(Collections.singletonMap(1, 2L));
+        Gauge lagGauge = requireNonNull(meterRegistry.find(METER_NAME_PREFIX + ".lag").gauge());
+
+        assertEquals(5, lagGauge.value(), 0);
+        assertEquals(5, requireNonNull(segmentGauge(0)).value(), 0);
+        verify(eventProcessor, times(1)).segmentLag();
+
+        mockedClock.add(5, TimeUnit.SECONDS);
+
+        assertEquals(2, lagGauge.value(), 0);
+        assertTrue(Double.isNaN(requireNonNull(segmentGauge(0)).value()));
+        assertEquals(2, requireNonNull(segmentGauge(1)).value(), 0);
+        verify(eventProcessor, times(2)).segmentLag();
+    }
+
+    @Test
+    void testGaugesReflectSegmentBatchSize() {
+        when(eventProcessor.segmentLag()).thenReturn(Collections.singletonMap(0, 5L));
+        when(eventProcessor.segmentBatchSize()).thenReturn(Collections.singletonMap(0, 10))
+                                               .thenReturn(Collections.singletonMap(0, 20));
+        requireNonNull(meterRegistry.find(METER_NAME_PREFIX + ".lag").gauge()).value();
+
+        Gauge batchSizeGauge = meterRegistry.find(METER_NAME_PREFIX + ".batchSize")
+                                            .tag(SegmentLagMonitor.SEGMENT_TAG, "0")
+                                            .gauge();
+        assertEquals(20, requireNonNull(batchSizeGauge).value(), 0);
+    }
+
+    @Test
+    void testBuildWithoutEventProcessorThrowsAxonConfigurationException() {
+        SegmentLagMonitor.Builder testSubject = SegmentLagMonitor.builder()
+                                                                 .meterNamePrefix(METER_NAME_PREFIX)
+                                                                 .meterRegistry(meterRegistry);
+        assertThrows(AxonConfigurationException.class, testSubject::build);
+    }
+
+    @Test
+    void testBuildWithNegativeSampleIntervalThrowsAxonConfigurationException() {
+        SegmentLagMonitor.Builder testSubject = SegmentLagMonitor.builder();
+        assertThrows(AxonConfigurationException.class, () -> testSubject.sampleInterval(Duration.ofSeconds(-1)));
+    }
+}
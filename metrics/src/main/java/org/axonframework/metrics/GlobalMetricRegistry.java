@@ -19,10 +19,14 @@
 import com.codahale.metrics.MetricRegistry;
 import org.axonframework.commandhandling.CommandBus;
 import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.config.Configuration;
 import org.axonframework.config.Configurer;
+import org.axonframework.config.EventProcessingConfiguration;
 import org.axonframework.eventhandling.EventBus;
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.eventhandling.EventProcessor;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.lifecycle.Phase;
 import org.axonframework.messaging.Message;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.monitoring.MultiMessageMonitor;
@@ -70,13 +74,18 @@ public GlobalMetricRegistry(MetricRegistry metricRegistry) {
     /**
      * Registers the configured {@link MetricRegistry} with the given {@code configurer} via {@link
      * Configurer#configureMessageMonitor(Function)}. Components registered by the {@link Configurer} will be added by
-     * invocation of {@link #registerComponent(Class, String)}.
+     * invocation of {@link #registerComponent(Class, String)}. Additionally, the segment lag of every {@link
+     * StreamingEventProcessor} is registered through {@link #registerSegmentLag(String, StreamingEventProcessor)} once
+     * the configuration starts.
      *
      * @param configurer the application's {@link Configurer}
      * @return the {@link Configurer}, with the new registration applied, for chaining
      */
     @SuppressWarnings("unchecked")
     public Configurer registerWithConfigurer(Configurer configurer) {
+        configurer.onInitialize(configuration -> configuration.onStart(
+                Phase.INBOUND_EVENT_CONNECTORS, () -> registerStreamingEventProcessors(configuration)
+        ));
         return configurer.configureMessageMonitor(
                 configuration
                         -> (componentType, componentName)
@@ -143,6 +152,37 @@ public MessageMonitor<? super EventMessage<?>> registerEventProcessor(String eve
         return new MultiMessageMonitor<>(monitors);
     }
 
+    /**
+     * Registers new metrics to the registry to monitor the lag of every segment of the given {@link
+     * StreamingEventProcessor}. The metrics will be registered with the registry under the given {@code
+     * eventProcessorName}, next to the metrics registered through {@link #registerEventProcessor(String)}. Segment
+     * lag metrics previously registered under the same name are replaced.
+     *
+     * @param eventProcessorName the name under which the {@link StreamingEventProcessor} is registered to the registry
+     * @param eventProcessor     the {@link StreamingEventProcessor} to monitor the segment lag for
+     * @return the {@link SegmentLagMonitor} registered to the registry
+     */
+    public SegmentLagMonitor registerSegmentLag(String eventProcessorName, StreamingEventProcessor eventProcessor) {
+        SegmentLagMonitor segmentLagMonitor = new SegmentLagMonitor(eventProcessor);
+        segmentLagMonitor.getMetrics().keySet().forEach(
+                metricName -> registry.remove(MetricRegistry.name(eventProcessorName, metricName))
+        );
+        registry.register(eventProcessorName, segmentLagMonitor);
+        return segmentLagMonitor;
+    }
+
+    private void registerStreamingEventProcessors(Configuration configuration) {
+        EventProcessingConfiguration eventProcessingConfig = configuration.eventProcessingConfiguration();
+        if (eventProcessingConfig == null) {
+            return;
+        }
+        eventProcessingConfig.eventProcessors().forEach((name, eventProcessor) -> {
+            if (eventProcessor instanceof StreamingEventProcessor) {
+                registerSegmentLag(name, (StreamingEventProcessor) eventProcessor);
+            }
+        });
+    }
+
     /**
      * Registers new metrics to the registry to monitor a {@link CommandBus}. The monitor will be registered with the
      * registry under the given {@code commandBusName}. The returned {@link MessageMonitor} can be installed on the
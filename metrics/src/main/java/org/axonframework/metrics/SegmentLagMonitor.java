@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the lag of every segment of a {@link StreamingEventProcessor}, being the number of positions the segment's
+ * token is behind the head of the event stream, as provided by {@link StreamingEventProcessor#segmentLag()}.
+ * <p>
+ * Contrary to the {@link EventProcessorLatencyMonitor}, this lag reflects the actual backlog of the processor, also
+ * during replays. As retrieving the head of the event stream typically requires a round trip to the event store, the
+ * lag is sampled at most once per configured sample interval, regardless of the number of times the metrics are read.
+ * <p>
+ * Additionally reports the current batch size of every segment, as provided by {@link
+ * StreamingEventProcessor#segmentBatchSize()}, allowing to verify how an adaptive batch size reacts to the lag.
+ *
+ * @since 4.6.0
+ */
+public class SegmentLagMonitor implements MetricSet {
+
+    private static final long NEVER_SAMPLED = Long.MIN_VALUE;
+
+    private final StreamingEventProcessor eventProcessor;
+    private final long sampleIntervalMillis;
+    private final Clock clock;
+
+    private final AtomicLong lastSampleTime = new AtomicLong(NEVER_SAMPLED);
+    private volatile Map<Integer, Long> lastSample = Collections.emptyMap();
+
+    /**
+     * Creates a segment lag monitor for the given {@code eventProcessor}, sampling its lag at most once per second.
+     *
+     * @param eventProcessor the {@link StreamingEventProcessor} to measure the segment lag for
+     */
+    public SegmentLagMonitor(StreamingEventProcessor eventProcessor) {
+        this(eventProcessor, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Creates a segment lag monitor for the given {@code eventProcessor}, sampling its lag at most once per given
+     * interval.
+     *
+     * @param eventProcessor the {@link StreamingEventProcessor} to measure the segment lag for
+     * @param sampleInterval the minimal interval between two samples of the segment lag
+     * @param timeUnit       the time unit of the sample interval
+     */
+    public SegmentLagMonitor(StreamingEventProcessor eventProcessor, long sampleInterval, TimeUnit timeUnit) {
+        this(eventProcessor, sampleInterval, timeUnit, Clock.defaultClock());
+    }
+
+    /**
+     * Creates a segment lag monitor for the given {@code eventProcessor}, sampling its lag at most once per given
+     * interval. Uses the provided clock to decide whether a new sample should be taken.
+     *
+     * @param eventProcessor the {@link StreamingEventProcessor} to measure the segment lag for
+     * @param sampleInterval the minimal interval between two samples of the segment lag
+     * @param timeUnit       the time unit of the sample interval
+     * @param clock          the clock used to decide whether a new sample should be taken
+     */
+    public SegmentLagMonitor(StreamingEventProcessor eventProcessor,
+                             long sampleInterval,
+                             TimeUnit timeUnit,
+                             Clock clock) {
+        this.eventProcessor = eventProcessor;
+        this.sampleIntervalMillis = timeUnit.toMillis(sampleInterval);
+        this.clock = clock;
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        Map<String, Metric> metrics = new HashMap<>();
+        metrics.put("maxLag", (Gauge<Long>) () -> sample().values().stream().max(Long::compare).orElse(0L));
+        metrics.put("segmentLag", (Gauge<Map<Integer, Long>>) this::sample);
+        metrics.put("segmentBatchSize", (Gauge<Map<Integer, Integer>>) eventProcessor::segmentBatchSize);
+        return metrics;
+    }
+
+    private Map<Integer, Long> sample() {
+        long now = clock.getTime();
+        long previousSampleTime = lastSampleTime.get();
+        boolean sampleDue = previousSampleTime == NEVER_SAMPLED || now - previousSampleTime >= sampleIntervalMillis;
+        if (sampleDue && lastSampleTime.compareAndSet(previousSampleTime, now)) {
+            lastSample = Collections.unmodifiableMap(eventProcessor.segmentLag());
+        }
+        return lastSample;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.metrics;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.junit.jupiter.api.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link SegmentLagMonitor}.
+ */
+class SegmentLagMonitorTest {
+
+    private TestClock testClock;
+    private StreamingEventProcessor eventProcessor;
+    private Map<String, Metric> metrics;
+
+    @BeforeEach
+    void setUp() {
+        testClock = new TestClock();
+        eventProcessor = mock(StreamingEventProcessor.class);
+        metrics = new SegmentLagMonitor(eventProcessor, 5, TimeUnit.SECONDS, testClock).getMetrics();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testGaugesReflectSegmentLag() {
+        Map<Integer, Long> segmentLag = new HashMap<>();
+        segmentLag.put(0, 5L);
+        segmentLag.put(1, 10L);
+        when(eventProcessor.segmentLag()).thenReturn(segmentLag);
+
+        assertEquals(10L, ((Gauge<Long>) metrics.get("maxLag")).getValue());
+        assertEquals(segmentLag, ((Gauge<Map<Integer, Long>>) metrics.get("segmentLag")).getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testGaugeReflectsSegmentBatchSize() {
+        Map<Integer, Integer> segmentBatchSize = Collections.singletonMap(0, 10);
+        when(eventProcessor.segmentBatchSize()).thenReturn(segmentBatchSize);
+
+        assertEquals(segmentBatchSize, ((Gauge<Map<Integer, Integer>>) metrics.get("segmentBatchSize")).getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testSegmentLagIsSampledOncePerSampleInterval() {
+        when(eventProcessor.segmentLag()).thenReturn(Collections.singletonMap(0, 5L))
+                                         .thenReturn(Collections.singletonMap(0, 2L));
+        Gauge<Long> maxLag = (Gauge<Long>) metrics.get("maxLag");
+
+        assertEquals(5L, maxLag.getValue());
+        assertEquals(5L, maxLag.getValue());
+        verify(eventProcessor, times(1)).segmentLag();
+
+        testClock.increase(5000);
+
+        assertEquals(2L, maxLag.getValue());
+        verify(eventProcessor, times(2)).segmentLag();
+    }
+}
@@ -64,6 +64,27 @@ public <E> Stream<E> filterCandidates(T message, Stream<E> candidates) {
         return candidates.filter(candidate -> matchesInstance(candidate, routingValue));
     }
 
+    /**
+     * Filter the candidates contained in the given {@link IndexedEntityList} which are to handle the supplied {@code
+     * message}. Contrary to {@link #filterCandidates(Message, Stream)}, the matching candidates are looked up in the
+     * index of the list, instead of by matching every candidate.
+     *
+     * @param message    the message of type {@code T} to be forwarded
+     * @param candidates the {@link IndexedEntityList} of candidates to filter
+     * @param <E>        the type of the {@code candidates}
+     * @return a filtered {@link Stream} of {@code candidates} which will handle the {@code message}
+     */
+    @SuppressWarnings("unchecked")
+    public <E> Stream<E> filterCandidates(T message, IndexedEntityList<E> candidates) {
+        Property routingProperty = getProperty(message.getPayloadType(), routingKey);
+        if (routingProperty == null) {
+            return Stream.empty();
+        }
+
+        Object routingValue = routingProperty.getValue(message.getPayload());
+        return candidates.findByIdentifier(routingValue, childEntity::getIdentifier).stream();
+    }
+
     @SuppressWarnings("unchecked")
     private <E> boolean matchesInstance(E candidate, Object routingValue) {
         Object identifier = childEntity.getIdentifier(candidate);
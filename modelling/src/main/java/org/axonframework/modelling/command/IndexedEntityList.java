@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.modelling.command;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * A {@link List} of entities which maintains an index of its entities by their identifier. When used as the value of a
+ * collection annotated with {@link AggregateMember}, commands and events are routed to the entity with the matching
+ * {@link EntityId} through the index, instead of by scanning the entire collection. Collections of any other type are
+ * scanned.
+ * <p>
+ * The index is built on the first lookup, using the identifier resolver provided by the aggregate model, and kept in
+ * sync on every change made to the list afterwards. Entities are expected to have their identifier assigned before they
+ * are added to the list, and to keep it while they are part of the list. Entities without an identifier are retained
+ * separately and resolved by scanning them on every lookup. When the identifier of an entity changes regardless, the
+ * index is rebuilt as soon as this is detected, which is when the entity is looked up or removed by its previous
+ * identifier. Until then, the entity is not found by its new identifier. A lookup of an identifier which is not in the
+ * index does not scan the entities.
+ * <p>
+ * Only the entities are serialized. The index is rebuilt on the first lookup after deserialization. Like an {@link
+ * ArrayList}, this implementation is not thread-safe.
+ *
+ * @param <E> the type of entity contained in this list
+ * @since 4.6.0
+ */
+public class IndexedEntityList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 5273474362640574158L;
+
+    private final List<E> entities;
+
+    private transient Function<? super E, ?> identifierResolver;
+    private transient Map<Object, List<E>> index;
+    private transient List<E> unidentified;
+
+    /**
+     * Constructs an empty {@link IndexedEntityList}.
+     */
+    public IndexedEntityList() {
+        this.entities = new ArrayList<>();
+    }
+
+    /**
+     * Constructs an {@link IndexedEntityList} containing the given {@code entities}, in the order they are returned by
+     * the collection's iterator.
+     *
+     * @param entities the entities to place in this list
+     */
+    public IndexedEntityList(Collection<? extends E> entities) {
+        this.entities = new ArrayList<>(entities);
+    }
+
+    /**
+     * Returns the entities in this list of which the identifier matches the given {@code identifier}, in the order
+     * they were indexed. The given {@code identifierResolver} is used to build the index on the first invocation and to
+     * maintain it afterwards. As such, it should resolve the same identifier for the same entity on every invocation.
+     *
+     * @param identifier         the identifier of the entities to return
+     * @param identifierResolver the function resolving the identifier of an entity in this list
+     * @return the entities with the given {@code identifier}, or an empty list if there are none
+     */
+    public List<E> findByIdentifier(Object identifier, Function<? super E, ?> identifierResolver) {
+        if (index == null) {
+            buildIndex(identifierResolver);
+        }
+        List<E> matches = index.getOrDefault(identifier, Collections.emptyList());
+        if (!matches.stream().allMatch(entity -> Objects.equals(identifier, identifierResolver.apply(entity)))) {
+            // the identifier of an entity has changed since it was indexed
+            buildIndex(identifierResolver);
+            matches = index.getOrDefault(identifier, Collections.emptyList());
+        }
+        if (!unidentified.isEmpty()) {
+            matches = new ArrayList<>(matches);
+            for (E entity : unidentified) {
+                if (Objects.equals(identifier, identifierResolver.apply(entity))) {
+                    matches.add(entity);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private void buildIndex(Function<? super E, ?> identifierResolver) {
+        this.identifierResolver = identifierResolver;
+        this.index = new HashMap<>();
+        this.unidentified = new ArrayList<>();
+        entities.forEach(this::addToIndex);
+    }
+
+    private void addToIndex(E entity) {
+        Object identifier = identifierResolver.apply(entity);
+        if (identifier == null) {
+            unidentified.add(entity);
+        } else {
+            index.compute(identifier, (id, current) -> {
+                if (current == null) {
+                    return Collections.singletonList(entity);
+                }
+                List<E> updated = new ArrayList<>(current);
+                updated.add(entity);
+                return updated;
+            });
+        }
+    }
+
+    private void removeFromIndex(E entity) {
+        if (removeByIdentity(unidentified, entity)) {
+            return;
+        }
+        Object identifier = identifierResolver.apply(entity);
+        List<E> current = identifier == null ? null : index.get(identifier);
+        List<E> updated = current == null ? null : new ArrayList<>(current);
+        if (updated == null || !removeByIdentity(updated, entity)) {
+            // the identifier of the entity has changed since it was added
+            invalidateIndex();
+        } else if (updated.isEmpty()) {
+            index.remove(identifier);
+        } else {
+            index.put(identifier, updated);
+        }
+    }
+
+    private static <E> boolean removeByIdentity(List<E> entities, E entity) {
+        for (int i = 0; i < entities.size(); i++) {
+            if (entities.get(i) == entity) {
+                entities.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void invalidateIndex() {
+        this.index = null;
+        this.unidentified = null;
+    }
+
+    @Override
+    public E get(int index) {
+        return entities.get(index);
+    }
+
+    @Override
+    public int size() {
+        return entities.size();
+    }
+
+    @Override
+    public E set(int index, E entity) {
+        E previous = entities.set(index, entity);
+        if (this.index != null) {
+            removeFromIndex(previous);
+        }
+        if (this.index != null) {
+            addToIndex(entity);
+        }
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E entity) {
+        entities.add(index, entity);
+        modCount++;
+        if (this.index != null) {
+            addToIndex(entity);
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = entities.remove(index);
+        modCount++;
+        if (this.index != null) {
+            removeFromIndex(removed);
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        entities.clear();
+        modCount++;
+        if (index != null) {
+            index.clear();
+            unidentified.clear();
+        }
+    }
+}
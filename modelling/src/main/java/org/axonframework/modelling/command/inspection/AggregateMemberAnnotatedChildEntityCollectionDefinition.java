@@ -22,7 +22,9 @@
 import org.axonframework.common.property.Property;
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.modelling.command.AggregateMember;
+import org.axonframework.modelling.command.ForwardMatchingInstances;
 import org.axonframework.modelling.command.ForwardingMode;
+import org.axonframework.modelling.command.IndexedEntityList;
 
 import java.lang.reflect.Member;
 import java.util.Map;
@@ -37,6 +39,9 @@
  * Implementation of a {@link AbstractChildEntityDefinition} that is used to detect Collections of entities (member type
  * assignable to {@link Iterable}) annotated with {@link AggregateMember}. If such a field or method is found a {@link
  * ChildEntity} is created that delegates to the entities in the annotated collection.
+ * <p>
+ * Messages are routed to the matching entity by scanning the collection, unless the collection is an {@link
+ * IndexedEntityList}, in which case the entity is looked up in the index of the list.
  *
  * @author Allard Buijze
  * @since 3.0
@@ -73,6 +78,7 @@ protected <T> EntityModel<Object> extractChildEntityModel(EntityModel<T> declari
         return declaringEntity.modelOf(entityType);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     protected <T> Object resolveCommandTarget(CommandMessage<?> msg,
                                               T parent,
@@ -83,7 +89,14 @@ protected <T> Object resolveCommandTarget(CommandMessage<?> msg,
 
         Object routingValue = commandHandlerRoutingKeys.get(msg.getCommandName())
                                                        .getValue(msg.getPayload());
-        Iterable<?> memberValue = ReflectionUtils.getMemberValue(member, parent);
+        Iterable<Object> memberValue = ReflectionUtils.getMemberValue(member, parent);
+        if (memberValue instanceof IndexedEntityList) {
+            return ((IndexedEntityList<Object>) memberValue).findByIdentifier(routingValue,
+                                                                              childEntityModel::getIdentifier)
+                                                            .stream()
+                                                            .findFirst()
+                                                            .orElse(null);
+        }
 
         return StreamSupport.stream(memberValue.spliterator(), false)
                             .filter(i -> Objects.equals(routingValue, childEntityModel.getIdentifier(i)))
@@ -98,6 +111,11 @@ protected <T> Stream<Object> resolveEventTargets(EventMessage message,
                                                      Member member,
                                                      ForwardingMode eventForwardingMode) {
         Iterable<Object> memberValue = ReflectionUtils.getMemberValue(member, parentEntity);
+        if (memberValue instanceof IndexedEntityList && eventForwardingMode instanceof ForwardMatchingInstances) {
+            return ((ForwardMatchingInstances) eventForwardingMode).filterCandidates(
+                    message, (IndexedEntityList<Object>) memberValue
+            );
+        }
         return memberValue == null
                 ? Stream.empty()
                 : eventForwardingMode.filterCandidates(message, StreamSupport.stream(memberValue.spliterator(), false));
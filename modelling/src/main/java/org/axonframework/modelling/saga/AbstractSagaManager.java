@@ -27,6 +27,9 @@
 import org.axonframework.messaging.Message;
 import org.axonframework.messaging.ScopeAware;
 import org.axonframework.messaging.ScopeDescriptor;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +56,7 @@
     private final SagaRepository<T> sagaRepository;
     private final Class<T> sagaType;
     private final Supplier<T> sagaFactory;
+    private final String prefetchedBatchResourceKey;
     private volatile ListenerInvocationErrorHandler listenerInvocationErrorHandler;
 
     /**
@@ -70,10 +74,12 @@ protected AbstractSagaManager(Builder<T> builder) {
         this.sagaType = builder.sagaType;
         this.sagaFactory = builder.sagaFactory;
         this.listenerInvocationErrorHandler = builder.listenerInvocationErrorHandler;
+        this.prefetchedBatchResourceKey = "SagaManager[" + sagaType.getSimpleName() + "]/PrefetchedBatch";
     }
 
     @Override
     public void handle(EventMessage<?> event, Segment segment) throws Exception {
+        prefetchSagasOfBatch(segment);
         Set<AssociationValue> associationValues = extractAssociationValues(event);
         List<String> sagaIds =
                 associationValues.stream()
@@ -99,6 +105,33 @@ public void handle(EventMessage<?> event, Segment segment) throws Exception {
         }
     }
 
+    /**
+     * Allows the {@link SagaRepository} to prefetch the Sagas of all events in the current batch, when handling the
+     * first event of a {@link BatchingUnitOfWork} containing several events for the given {@code segment}.
+     */
+    private void prefetchSagasOfBatch(Segment segment) {
+        if (!sagaRepository.supportsPrefetch() || !CurrentUnitOfWork.isStarted()) {
+            return;
+        }
+        UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get();
+        if (!(unitOfWork instanceof BatchingUnitOfWork)
+                || ((BatchingUnitOfWork<?>) unitOfWork).getMessages().size() < 2) {
+            return;
+        }
+        String resourceKey = prefetchedBatchResourceKey + "[" + segment.getSegmentId() + "/" + segment.getMask() + "]";
+        if (unitOfWork.resources().putIfAbsent(resourceKey, Boolean.TRUE) != null) {
+            return;
+        }
+        Set<AssociationValue> associationValues =
+                ((BatchingUnitOfWork<?>) unitOfWork).getMessages().stream()
+                                                    .filter(EventMessage.class::isInstance)
+                                                    .flatMap(m -> extractAssociationValues((EventMessage<?>) m).stream())
+                                                    .collect(Collectors.toSet());
+        if (!associationValues.isEmpty()) {
+            sagaRepository.prefetch(associationValues, sagaId -> matchesSegment(segment, sagaId));
+        }
+    }
+
     private boolean shouldCreateSaga(Segment segment, boolean sagaInvoked,
                                      SagaInitializationPolicy initializationPolicy) {
         return ((initializationPolicy.getCreationPolicy() == SagaCreationPolicy.ALWAYS
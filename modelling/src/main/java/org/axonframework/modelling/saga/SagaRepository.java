@@ -17,6 +17,7 @@
 package org.axonframework.modelling.saga;
 
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -61,4 +62,30 @@
      */
     Saga<T> createInstance(String sagaIdentifier, Supplier<T> factoryMethod);
 
+    /**
+     * Indicates whether this repository benefits from {@link #prefetch(Set, Predicate) prefetching} the Sagas of
+     * several events at once. Callers should not collect association values to prefetch if this returns {@code false}.
+     * <p>
+     * Defaults to {@code false}.
+     *
+     * @return {@code true} if this repository prefetches Sagas, {@code false} otherwise
+     */
+    default boolean supportsPrefetch() {
+        return false;
+    }
+
+    /**
+     * Indicates the Sagas associated with any of the given {@code associationValues} are about to be requested within
+     * the current Unit of Work, allowing the repository to resolve the associations and load the Sagas of which the
+     * identifier matches the given {@code sagaIdentifierFilter} in as few round trips to the underlying storage as
+     * possible. Subsequent invocations of {@link #find(AssociationValue)} and {@link #load(String)} within the same
+     * Unit of Work may then use the prefetched results.
+     * <p>
+     * Defaults to doing nothing, in which case Sagas are resolved and loaded upon request.
+     *
+     * @param associationValues    the values the Sagas about to be requested are associated with
+     * @param sagaIdentifierFilter the filter the identifiers of the Sagas to load must match with
+     */
+    default void prefetch(Set<AssociationValue> associationValues, Predicate<String> sagaIdentifierFilter) {
+    }
 }
@@ -21,6 +21,7 @@
 import org.axonframework.common.lock.LockFactory;
 import org.axonframework.modelling.saga.AnnotatedSaga;
 import org.axonframework.modelling.saga.AssociationValue;
+import org.axonframework.modelling.saga.AssociationValues;
 import org.axonframework.modelling.saga.ResourceInjector;
 import org.axonframework.modelling.saga.Saga;
 import org.axonframework.modelling.saga.SagaRepository;
@@ -31,12 +32,16 @@
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -60,8 +65,13 @@
     private final SagaModel<T> sagaModel;
     private final ResourceInjector resourceInjector;
 
+    private final boolean batchOperations;
+
     private final Map<String, AnnotatedSaga<T>> managedSagas;
     private final String unsavedSagasResourceKey;
+    private final String prefetchedAssociationsResourceKey;
+    private final String prefetchedSagasResourceKey;
+    private final String pendingUpdatesResourceKey;
 
     /**
      * Instantiate a {@link AnnotatedSagaRepository} based on the fields contained in the {@link Builder}.
@@ -80,8 +90,13 @@ protected AnnotatedSagaRepository(Builder<T> builder) {
         this.sagaModel = builder.buildSagaModel();
         this.sagaStore = builder.sagaStore;
         this.resourceInjector = builder.resourceInjector;
+        this.batchOperations = builder.batchOperations;
         this.managedSagas = new ConcurrentHashMap<>();
         this.unsavedSagasResourceKey = "Repository[" + sagaType.getSimpleName() + "]/UnsavedSagas";
+        this.prefetchedAssociationsResourceKey =
+                "Repository[" + sagaType.getSimpleName() + "]/PrefetchedAssociations";
+        this.prefetchedSagasResourceKey = "Repository[" + sagaType.getSimpleName() + "]/PrefetchedSagas";
+        this.pendingUpdatesResourceKey = "Repository[" + sagaType.getSimpleName() + "]/PendingUpdates";
     }
 
     /**
@@ -116,14 +131,68 @@ public AnnotatedSaga<T> doLoad(String sagaIdentifier) {
         });
 
         if (loadedSaga != null && unsavedSagaResource(processRoot).add(sagaIdentifier)) {
-            unitOfWork.onPrepareCommit(u -> {
-                unsavedSagaResource(processRoot).remove(sagaIdentifier);
-                commit(loadedSaga);
-            });
+            if (batchOperations && unitOfWork == processRoot) {
+                pendingUpdatesResource(processRoot).add(loadedSaga);
+            } else {
+                unitOfWork.onPrepareCommit(u -> {
+                    unsavedSagaResource(processRoot).remove(sagaIdentifier);
+                    commit(loadedSaga);
+                });
+            }
         }
         return loadedSaga;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns {@code true} if batch operations are enabled for this repository.
+     */
+    @Override
+    public boolean supportsPrefetch() {
+        return batchOperations;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only prefetches Sagas if batch operations are enabled for this repository. Resolves the associations of all
+     * given {@code associationValues} with a single call to the {@link SagaStore}, after which the matching Sagas which
+     * are not yet managed by this repository are locked and loaded with a single call as well. The prefetched results
+     * are kept in the root of the current {@link UnitOfWork}.
+     */
+    @Override
+    public void prefetch(Set<AssociationValue> associationValues, Predicate<String> sagaIdentifierFilter) {
+        if (!batchOperations || !CurrentUnitOfWork.isStarted()) {
+            return;
+        }
+        UnitOfWork<?> processRoot = CurrentUnitOfWork.get().root();
+        Map<AssociationValue, Set<String>> prefetchedAssociations = prefetchedAssociationsResource(processRoot);
+        Set<AssociationValue> unresolved = associationValues.stream()
+                                                            .filter(v -> !prefetchedAssociations.containsKey(v))
+                                                            .collect(Collectors.toSet());
+        if (!unresolved.isEmpty()) {
+            Map<AssociationValue, Set<String>> found =
+                    sagaStore.findSagasByAssociationValues(sagaType, unresolved);
+            unresolved.forEach(v -> prefetchedAssociations.put(v, found.getOrDefault(v, Collections.emptySet())));
+        }
+
+        Map<String, SagaStore.Entry<T>> prefetchedSagas = prefetchedSagasResource(processRoot);
+        // sorted, to lock the sagas in a consistent order
+        Set<String> sagasToLoad = associationValues.stream()
+                                                   .flatMap(v -> prefetchedAssociations.get(v).stream())
+                                                   .filter(sagaIdentifierFilter)
+                                                   .filter(id -> !managedSagas.containsKey(id))
+                                                   .filter(id -> !prefetchedSagas.containsKey(id))
+                                                   .collect(Collectors.toCollection(TreeSet::new));
+        if (!sagasToLoad.isEmpty()) {
+            sagasToLoad.forEach(this::lockSagaAccess);
+            Map<String, SagaStore.Entry<T>> loaded = sagaStore.loadSagas(sagaType, sagasToLoad);
+            // sagas which could not be loaded are registered as well, to prevent loading them again
+            sagasToLoad.forEach(id -> prefetchedSagas.put(id, loaded.get(id)));
+        }
+    }
+
     @Override
     public AnnotatedSaga<T> doCreateInstance(String sagaIdentifier, Supplier<T> sagaFactory) {
         try {
@@ -161,6 +230,45 @@ protected Set<String> unsavedSagaResource(UnitOfWork<?> unitOfWork) {
         return unitOfWork.getOrComputeResource(unsavedSagasResourceKey, i -> new HashSet<>());
     }
 
+    private Map<AssociationValue, Set<String>> prefetchedAssociationsResource(UnitOfWork<?> unitOfWork) {
+        return unitOfWork.getOrComputeResource(prefetchedAssociationsResourceKey, i -> new HashMap<>());
+    }
+
+    private Map<String, SagaStore.Entry<T>> prefetchedSagasResource(UnitOfWork<?> unitOfWork) {
+        return unitOfWork.getOrComputeResource(prefetchedSagasResourceKey, i -> new HashMap<>());
+    }
+
+    private List<AnnotatedSaga<T>> pendingUpdatesResource(UnitOfWork<?> processRoot) {
+        return processRoot.getOrComputeResource(pendingUpdatesResourceKey, i -> {
+            List<AnnotatedSaga<T>> pendingUpdates = new ArrayList<>();
+            processRoot.onPrepareCommit(u -> commitAll(pendingUpdates, processRoot));
+            return pendingUpdates;
+        });
+    }
+
+    /**
+     * Commits all given modified {@code sagas} to the underlying saga store. Sagas which are not active anymore are
+     * deleted, while all other sagas and their associations are updated with a single call to the saga store.
+     *
+     * @param sagas       the sagas to commit to the store
+     * @param processRoot the root unit of work in which the sagas have been modified
+     */
+    private void commitAll(List<AnnotatedSaga<T>> sagas, UnitOfWork<?> processRoot) {
+        List<SagaUpdate<T>> updates = new ArrayList<>();
+        for (AnnotatedSaga<T> saga : sagas) {
+            unsavedSagaResource(processRoot).remove(saga.getSagaIdentifier());
+            if (!saga.isActive()) {
+                deleteSaga(saga);
+            } else {
+                updates.add(new SagaUpdate<>(saga));
+            }
+        }
+        if (!updates.isEmpty()) {
+            sagaStore.updateSagas(sagaType, updates);
+            updates.forEach(update -> update.associationValues().commit());
+        }
+    }
+
     /**
      * Commits the given modified {@code saga} to the underlying saga store. If the saga is not active anymore it will
      * be deleted. Otherwise the stored saga and its associations will be updated.
@@ -182,7 +290,10 @@ public Set<String> find(AssociationValue associationValue) {
         sagasFound.addAll(managedSagas.values().stream()
                                       .filter(saga -> saga.getAssociationValues().contains(associationValue))
                                       .map(Saga::getSagaIdentifier).collect(Collectors.toList()));
-        sagasFound.addAll(sagaStore.findSagas(sagaType, associationValue));
+        Set<String> prefetched = batchOperations && CurrentUnitOfWork.isStarted()
+                ? prefetchedAssociationsResource(CurrentUnitOfWork.get().root()).get(associationValue)
+                : null;
+        sagasFound.addAll(prefetched != null ? prefetched : sagaStore.findSagas(sagaType, associationValue));
         return sagasFound;
     }
 
@@ -226,7 +337,12 @@ protected void storeSaga(AnnotatedSaga<T> saga) {
      * @return AnnotatedSaga instance with the loaded saga
      */
     protected AnnotatedSaga<T> doLoadSaga(String sagaIdentifier) {
-        SagaStore.Entry<T> entry = sagaStore.loadSaga(sagaType, sagaIdentifier);
+        Map<String, SagaStore.Entry<T>> prefetchedSagas = batchOperations && CurrentUnitOfWork.isStarted()
+                ? prefetchedSagasResource(CurrentUnitOfWork.get().root())
+                : Collections.emptyMap();
+        SagaStore.Entry<T> entry = prefetchedSagas.containsKey(sagaIdentifier)
+                ? prefetchedSagas.remove(sagaIdentifier)
+                : sagaStore.loadSaga(sagaType, sagaIdentifier);
         if (entry != null) {
             T saga = entry.saga();
             resourceInjector.injectResources(saga);
@@ -235,6 +351,30 @@ protected AnnotatedSaga<T> doLoadSaga(String sagaIdentifier) {
         return null;
     }
 
+    private static class SagaUpdate<T> implements SagaStore.Update<T> {
+
+        private final AnnotatedSaga<T> saga;
+
+        private SagaUpdate(AnnotatedSaga<T> saga) {
+            this.saga = saga;
+        }
+
+        @Override
+        public String sagaIdentifier() {
+            return saga.getSagaIdentifier();
+        }
+
+        @Override
+        public T saga() {
+            return saga.root();
+        }
+
+        @Override
+        public AssociationValues associationValues() {
+            return saga.getAssociationValues();
+        }
+    }
+
     /**
      * Builder class to instantiate a {@link AnnotatedSagaRepository}.
      * <p>
@@ -256,6 +396,7 @@ protected AnnotatedSaga<T> doLoadSaga(String sagaIdentifier) {
         private SagaModel<T> sagaModel;
         private SagaStore<? super T> sagaStore;
         private ResourceInjector resourceInjector = NoResourceInjector.INSTANCE;
+        private boolean batchOperations = false;
 
         @Override
         public Builder<T> lockFactory(LockFactory lockFactory) {
@@ -347,6 +488,22 @@ public Builder<T> resourceInjector(ResourceInjector resourceInjector) {
             return this;
         }
 
+        /**
+         * Sets whether this repository uses batch operations against the {@link SagaStore}. When enabled, the
+         * repository resolves the associations and loads the Sagas requested through {@link
+         * SagaRepository#prefetch(Set, Predicate)} with a single call to the store, and writes all Sagas modified in a
+         * (batching) {@link UnitOfWork} with a single call to {@link SagaStore#updateSagas(Class, java.util.Collection)}
+         * when it commits. Note that the {@link #commit(AnnotatedSaga)} and {@link #updateSaga(AnnotatedSaga)} methods
+         * are bypassed for these Sagas. Defaults to {@code false}.
+         *
+         * @param batchOperations whether this repository uses batch operations against the {@link SagaStore}
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder<T> batchOperations(boolean batchOperations) {
+            this.batchOperations = batchOperations;
+            return this;
+        }
+
         /**
          * Initializes a {@link AnnotatedSagaRepository} as specified through this Builder.
          *
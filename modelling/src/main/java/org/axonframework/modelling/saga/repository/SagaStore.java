@@ -19,6 +19,9 @@
 import org.axonframework.modelling.saga.AssociationValue;
 import org.axonframework.modelling.saga.AssociationValues;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -87,6 +90,67 @@
      */
     void updateSaga(Class<? extends T> sagaType, String sagaIdentifier, T saga, AssociationValues associationValues);
 
+    /**
+     * Returns the identifiers of saga instances of the given {@code sagaType} per given association value, for all of
+     * the given {@code associationValues}. Association values no saga is associated with may be absent in the returned
+     * map.
+     * <p>
+     * Implementations are encouraged to resolve all association values in as few round trips to the underlying storage
+     * as possible. The default implementation invokes {@link #findSagas(Class, AssociationValue)} for each of the given
+     * association values.
+     *
+     * @param sagaType          The type of the returned sagas
+     * @param associationValues The values that the returned sagas must be associated with
+     * @return A map containing the identifiers of the sagas having the correct type per association value
+     */
+    default Map<AssociationValue, Set<String>> findSagasByAssociationValues(Class<? extends T> sagaType,
+                                                                            Set<AssociationValue> associationValues) {
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        for (AssociationValue associationValue : associationValues) {
+            result.put(associationValue, findSagas(sagaType, associationValue));
+        }
+        return result;
+    }
+
+    /**
+     * Loads the saga {@link Entry entries} of the given {@code sagaType} with any of the given {@code
+     * sagaIdentifiers}. Sagas which do not exist (anymore) are absent in the returned map.
+     * <p>
+     * Implementations are encouraged to load all sagas in as few round trips to the underlying storage as possible. The
+     * default implementation invokes {@link #loadSaga(Class, String)} for each of the given identifiers.
+     *
+     * @param sagaType        The type of the returned saga entries
+     * @param sagaIdentifiers The unique identifiers of the returned saga entries
+     * @param <S>             The type of the returned saga entries
+     * @return A map containing the saga entries per saga identifier
+     */
+    default <S extends T> Map<String, Entry<S>> loadSagas(Class<S> sagaType, Set<String> sagaIdentifiers) {
+        Map<String, Entry<S>> result = new HashMap<>();
+        for (String sagaIdentifier : sagaIdentifiers) {
+            Entry<S> entry = loadSaga(sagaType, sagaIdentifier);
+            if (entry != null) {
+                result.put(sagaIdentifier, entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Updates all given Sagas after their state was modified, including the changes in their association values.
+     * <p>
+     * Implementations are encouraged to write all updates in as few round trips to the underlying storage as possible.
+     * The default implementation invokes {@link #updateSaga(Class, String, Object, AssociationValues)} for each of the
+     * given updates.
+     *
+     * @param sagaType The type of the Sagas
+     * @param updates  The {@link Update updates} describing the modified Sagas
+     */
+    default void updateSagas(Class<? extends T> sagaType, Collection<? extends Update<? extends T>> updates) {
+        for (Update<? extends T> update : updates) {
+            updateSaga(sagaType, update.sagaIdentifier(), update.saga(), update.associationValues());
+        }
+    }
+
     /**
      * Interface describing a Saga entry fetched from a SagaStore.
      *
@@ -108,4 +172,34 @@
          */
         T saga();
     }
+
+    /**
+     * Interface describing a modified Saga which is to be updated in a SagaStore.
+     *
+     * @param <T> The type of the Saga
+     */
+    interface Update<T> {
+
+        /**
+         * Returns the identifier of the modified Saga.
+         *
+         * @return the identifier of the Saga
+         */
+        String sagaIdentifier();
+
+        /**
+         * Returns the modified Saga instance.
+         *
+         * @return the saga instance
+         */
+        T saga();
+
+        /**
+         * Returns the association values of the modified Saga, including the associations added and removed since the
+         * Saga was last stored.
+         *
+         * @return association values of the Saga
+         */
+        AssociationValues associationValues();
+    }
 }
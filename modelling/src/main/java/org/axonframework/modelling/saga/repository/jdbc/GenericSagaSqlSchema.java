@@ -16,6 +16,8 @@
 package org.axonframework.modelling.saga.repository.jdbc;
 
 import org.axonframework.modelling.saga.AssociationValue;
+import org.axonframework.modelling.saga.repository.jpa.AssociationValueEntry;
+import org.axonframework.modelling.saga.repository.jpa.SagaEntry;
 import org.axonframework.serialization.SerializedObject;
 import org.axonframework.serialization.SimpleSerializedObject;
 
@@ -23,7 +25,9 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -117,6 +121,107 @@ public PreparedStatement sql_findAssociations(Connection connection, String saga
         return preparedStatement;
     }
 
+    @Override
+    public boolean supportsBatchOperations() {
+        return true;
+    }
+
+    @Override
+    public PreparedStatement sql_loadSagas(Connection connection, Set<String> sagaIds) throws SQLException {
+        final String sql = "SELECT serializedSaga, sagaType, revision, sagaId FROM " + sagaSchema.sagaEntryTable()
+                + " WHERE sagaId IN (" + parameters(sagaIds.size()) + ")";
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        int index = 1;
+        for (String sagaId : sagaIds) {
+            preparedStatement.setString(index++, sagaId);
+        }
+        return preparedStatement;
+    }
+
+    @Override
+    public PreparedStatement sql_findAssocSagaIdentifiers(Connection connection,
+                                                          Set<AssociationValue> associationValues,
+                                                          String sagaType) throws SQLException {
+        final String sql = "SELECT associationKey, associationValue, sagaId FROM "
+                + sagaSchema.associationValueEntryTable()
+                + " WHERE sagaType = ? AND ("
+                + String.join(" OR ", Collections.nCopies(associationValues.size(),
+                                                          "(associationKey = ? AND associationValue = ?)"))
+                + ")";
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        preparedStatement.setString(1, sagaType);
+        int index = 2;
+        for (AssociationValue associationValue : associationValues) {
+            preparedStatement.setString(index++, associationValue.getKey());
+            preparedStatement.setString(index++, associationValue.getValue());
+        }
+        return preparedStatement;
+    }
+
+    @Override
+    public PreparedStatement sql_findAssociations(Connection connection, Set<String> sagaIdentifiers,
+                                                  String sagaType) throws SQLException {
+        final String sql = "SELECT associationKey, associationValue, sagaId FROM "
+                + sagaSchema.associationValueEntryTable()
+                + " WHERE sagaType = ? AND sagaId IN (" + parameters(sagaIdentifiers.size()) + ")";
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        preparedStatement.setString(1, sagaType);
+        int index = 2;
+        for (String sagaIdentifier : sagaIdentifiers) {
+            preparedStatement.setString(index++, sagaIdentifier);
+        }
+        return preparedStatement;
+    }
+
+    @Override
+    public PreparedStatement sql_updateSagas(Connection connection, List<SagaEntry<?>> entries) throws SQLException {
+        final String sql = "UPDATE " + sagaSchema.sagaEntryTable()
+                + " SET serializedSaga = ?, revision = ? WHERE sagaId = ?";
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        for (SagaEntry<?> entry : entries) {
+            preparedStatement.setBytes(1, entry.getSerializedSaga());
+            preparedStatement.setString(2, entry.getRevision());
+            preparedStatement.setString(3, entry.getSagaId());
+            preparedStatement.addBatch();
+        }
+        return preparedStatement;
+    }
+
+    @Override
+    public PreparedStatement sql_storeAssocValues(Connection connection,
+                                                  List<AssociationValueEntry> entries) throws SQLException {
+        final String sql = "INSERT INTO " + sagaSchema.associationValueEntryTable()
+                + " (associationKey, associationValue, sagaType, sagaId)"
+                + " VALUES(?, ?, ?, ?)";
+        return associationValueBatch(connection, sql, entries);
+    }
+
+    @Override
+    public PreparedStatement sql_removeAssocValues(Connection connection,
+                                                   List<AssociationValueEntry> entries) throws SQLException {
+        final String sql = "DELETE FROM " + sagaSchema.associationValueEntryTable()
+                + " WHERE associationKey = ? AND associationValue = ?"
+                + " AND sagaType = ? AND sagaId = ?";
+        return associationValueBatch(connection, sql, entries);
+    }
+
+    private PreparedStatement associationValueBatch(Connection connection, String sql,
+                                                    List<AssociationValueEntry> entries) throws SQLException {
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        for (AssociationValueEntry entry : entries) {
+            preparedStatement.setString(1, entry.getAssociationValue().getKey());
+            preparedStatement.setString(2, entry.getAssociationValue().getValue());
+            preparedStatement.setString(3, entry.getSagaType());
+            preparedStatement.setString(4, entry.getSagaIdentifier());
+            preparedStatement.addBatch();
+        }
+        return preparedStatement;
+    }
+
+    private static String parameters(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
     @Override
     public String readToken(ResultSet resultSet) {
         // tokens not supported by this implementation
@@ -24,6 +24,7 @@
 import org.axonframework.modelling.saga.AssociationValues;
 import org.axonframework.modelling.saga.SagaStorageException;
 import org.axonframework.modelling.saga.repository.SagaStore;
+import org.axonframework.modelling.saga.repository.jpa.AssociationValueEntry;
 import org.axonframework.modelling.saga.repository.jpa.SagaEntry;
 import org.axonframework.serialization.SerializedObject;
 import org.axonframework.serialization.Serializer;
@@ -36,6 +37,13 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Supplier;
@@ -60,6 +68,11 @@ public class JdbcSagaStore implements SagaStore<Object> {
 
     private static final Logger logger = LoggerFactory.getLogger(JdbcSagaStore.class);
 
+    /**
+     * The maximum number of saga identifiers or association values used as parameters in a single query.
+     */
+    private static final int MAX_QUERY_PARAMETERS = 250;
+
     private final ConnectionProvider connectionProvider;
     private final SagaSqlSchema sqlSchema;
     private Serializer serializer;
@@ -256,6 +269,185 @@ public void insertSaga(Class<?> sagaType, String sagaIdentifier, Object saga,
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Resolves the association values in a single query per {@value #MAX_QUERY_PARAMETERS} values, if supported by
+     * the {@link SagaSqlSchema}.
+     */
+    @Override
+    public Map<AssociationValue, Set<String>> findSagasByAssociationValues(Class<?> sagaType,
+                                                                           Set<AssociationValue> associationValues) {
+        if (!sqlSchema.supportsBatchOperations()) {
+            return SagaStore.super.findSagasByAssociationValues(sagaType, associationValues);
+        }
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        Connection conn = null;
+        try {
+            conn = connectionProvider.getConnection();
+            for (Set<AssociationValue> chunk : chunks(associationValues)) {
+                PreparedStatement statement = null;
+                ResultSet resultSet = null;
+                try {
+                    statement = sqlSchema.sql_findAssocSagaIdentifiers(conn, chunk, sagaTypeName(sagaType));
+                    resultSet = statement.executeQuery();
+                    while (resultSet.next()) {
+                        result.computeIfAbsent(new AssociationValue(resultSet.getString(1), resultSet.getString(2)),
+                                               k -> new TreeSet<>())
+                              .add(resultSet.getString(3));
+                    }
+                } finally {
+                    closeQuietly(statement);
+                    closeQuietly(resultSet);
+                }
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new SagaStorageException("Exception while reading saga associations", e);
+        } finally {
+            closeQuietly(conn);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Loads the sagas and their associations in a single query each per {@value #MAX_QUERY_PARAMETERS} sagas, if
+     * supported by the {@link SagaSqlSchema}.
+     */
+    @Override
+    public <S> Map<String, Entry<S>> loadSagas(Class<S> sagaType, Set<String> sagaIdentifiers) {
+        if (!sqlSchema.supportsBatchOperations()) {
+            return SagaStore.super.loadSagas(sagaType, sagaIdentifiers);
+        }
+        Map<String, Entry<S>> result = new HashMap<>();
+        Connection conn = null;
+        try {
+            conn = connectionProvider.getConnection();
+            for (Set<String> chunk : chunks(sagaIdentifiers)) {
+                Map<String, S> sagas = new HashMap<>();
+                Map<String, Set<AssociationValue>> associations = new HashMap<>();
+                PreparedStatement statement = null;
+                ResultSet resultSet = null;
+                try {
+                    statement = sqlSchema.sql_loadSagas(conn, chunk);
+                    resultSet = statement.executeQuery();
+                    while (resultSet.next()) {
+                        S loadedSaga = serializer.deserialize(sqlSchema.readSerializedSaga(resultSet));
+                        sagas.put(resultSet.getString(4), loadedSaga);
+                    }
+                    closeQuietly(resultSet);
+                    closeQuietly(statement);
+                    statement = sqlSchema.sql_findAssociations(conn, sagas.keySet(), sagaTypeName(sagaType));
+                    resultSet = statement.executeQuery();
+                    while (resultSet.next()) {
+                        associations.computeIfAbsent(resultSet.getString(3), k -> new HashSet<>())
+                                    .add(new AssociationValue(resultSet.getString(1), resultSet.getString(2)));
+                    }
+                } finally {
+                    closeQuietly(statement);
+                    closeQuietly(resultSet);
+                }
+                sagas.forEach((sagaId, saga) -> result.put(
+                        sagaId, new EntryImpl<>(associations.getOrDefault(sagaId, new HashSet<>()), saga)
+                ));
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Loaded {} sagas of type [{}]", result.size(), sagaType.getName());
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new SagaStorageException("Exception while loading Sagas", e);
+        } finally {
+            closeQuietly(conn);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Writes the sagas, the added and the removed associations in a single JDBC batch each, if supported by the {@link
+     * SagaSqlSchema}.
+     */
+    @Override
+    public void updateSagas(Class<?> sagaType, Collection<? extends Update<?>> updates) {
+        if (!sqlSchema.supportsBatchOperations()) {
+            SagaStore.super.updateSagas(sagaType, updates);
+            return;
+        }
+        List<Update<?>> updateList = new ArrayList<>(updates);
+        List<SagaEntry<?>> entries = new ArrayList<>();
+        for (Update<?> update : updateList) {
+            entries.add(new SagaEntry<>(update.saga(), update.sagaIdentifier(), serializer));
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Updating {} sagas of type [{}]", entries.size(), sagaType.getName());
+        }
+
+        Connection conn = null;
+        PreparedStatement statement = null;
+        try {
+            conn = connectionProvider.getConnection();
+            statement = sqlSchema.sql_updateSagas(conn, entries);
+            int[] updateCounts = statement.executeBatch();
+            closeQuietly(statement);
+            statement = null;
+
+            List<AssociationValueEntry> addedAssociations = new ArrayList<>();
+            List<AssociationValueEntry> removedAssociations = new ArrayList<>();
+            String sagaTypeName = sagaTypeName(sagaType);
+            for (int i = 0; i < updateList.size(); i++) {
+                Update<?> update = updateList.get(i);
+                if (updateCounts[i] == 0) {
+                    logger.warn("Expected to be able to update Saga instance [{}], but no rows were found.",
+                                update.sagaIdentifier());
+                    continue;
+                }
+                for (AssociationValue associationValue : update.associationValues().addedAssociations()) {
+                    addedAssociations.add(
+                            new AssociationValueEntry(sagaTypeName, update.sagaIdentifier(), associationValue)
+                    );
+                }
+                for (AssociationValue associationValue : update.associationValues().removedAssociations()) {
+                    removedAssociations.add(
+                            new AssociationValueEntry(sagaTypeName, update.sagaIdentifier(), associationValue)
+                    );
+                }
+            }
+            if (!addedAssociations.isEmpty()) {
+                statement = sqlSchema.sql_storeAssocValues(conn, addedAssociations);
+                statement.executeBatch();
+                closeQuietly(statement);
+                statement = null;
+            }
+            if (!removedAssociations.isEmpty()) {
+                statement = sqlSchema.sql_removeAssocValues(conn, removedAssociations);
+                statement.executeBatch();
+            }
+        } catch (SQLException e) {
+            throw new SagaStorageException("Exception occurred while attempting to update Sagas", e);
+        } finally {
+            closeQuietly(statement);
+            closeQuietly(conn);
+        }
+    }
+
+    private static <E> List<Set<E>> chunks(Set<E> elements) {
+        List<Set<E>> chunks = new ArrayList<>();
+        Set<E> chunk = new LinkedHashSet<>();
+        for (E element : elements) {
+            chunk.add(element);
+            if (chunk.size() == MAX_QUERY_PARAMETERS) {
+                chunks.add(chunk);
+                chunk = new LinkedHashSet<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
     private Set<AssociationValue> loadAssociations(final Connection conn, final String sagaTypeName, final String sagaIdentifier) throws SQLException {
         PreparedStatement statement = null;
         ResultSet resultSet = null;
@@ -16,12 +16,15 @@
 package org.axonframework.modelling.saga.repository.jdbc;
 
 import org.axonframework.modelling.saga.AssociationValue;
+import org.axonframework.modelling.saga.repository.jpa.AssociationValueEntry;
+import org.axonframework.modelling.saga.repository.jpa.SagaEntry;
 import org.axonframework.serialization.SerializedObject;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -171,6 +174,129 @@ PreparedStatement sql_storeSaga(Connection connection, String sagaIdentifier, St
      */
     PreparedStatement sql_createTableSagaEntry(Connection connection) throws SQLException;
 
+    /**
+     * Indicates whether this schema provides the statements to load, find and update several Sagas at once. The {@link
+     * JdbcSagaStore} checks this before executing any statement, and uses the statements for single Sagas otherwise.
+     * <p>
+     * Defaults to {@code false}. Schemas returning {@code true} must implement {@link #sql_loadSagas(Connection,
+     * Set)}, {@link #sql_findAssocSagaIdentifiers(Connection, Set, String)}, {@link #sql_findAssociations(Connection,
+     * Set, String)}, {@link #sql_updateSagas(Connection, List)}, {@link #sql_storeAssocValues(Connection, List)} and
+     * {@link #sql_removeAssocValues(Connection, List)}.
+     *
+     * @return {@code true} if the statements for several Sagas at once are supported, {@code false} otherwise
+     */
+    default boolean supportsBatchOperations() {
+        return false;
+    }
+
+    /**
+     * Creates a PreparedStatement that loads all Sagas with any of the given {@code sagaIds}. The ResultSet of the
+     * statement should contain the columns expected by {@link #readSerializedSaga(ResultSet)}, followed by the
+     * identifier of the Saga.
+     * <p>
+     * Only invoked if {@link #supportsBatchOperations()} returns {@code true}. Defaults to throwing an {@link
+     * UnsupportedOperationException}.
+     *
+     * @param connection The connection to create the PreparedStatement for
+     * @param sagaIds    The identifiers of the Sagas to return
+     * @return a statement, that creates a result set to be processed by {@link #readSerializedSaga(ResultSet)}, when
+     * executed
+     * @throws SQLException when an error occurs creating the PreparedStatement
+     */
+    default PreparedStatement sql_loadSagas(Connection connection, Set<String> sagaIds) throws SQLException {
+        throw new UnsupportedOperationException("Loading multiple Sagas in one statement is not supported");
+    }
+
+    /**
+     * Creates a PreparedStatement that finds the identifiers of Sagas of given {@code sagaType} associated with any of
+     * the given {@code associationValues}. The ResultSet of the statement should contain the association key, the
+     * association value and the Saga identifier, in that order.
+     * <p>
+     * Only invoked if {@link #supportsBatchOperations()} returns {@code true}. Defaults to throwing an {@link
+     * UnsupportedOperationException}.
+     *
+     * @param connection        The connection to create the PreparedStatement for
+     * @param associationValues The association values to find the Saga identifiers for
+     * @param sagaType          The type of the Sagas to find
+     * @return a PreparedStatement that creates a ResultSet containing association keys, values and Saga identifiers
+     * @throws SQLException when an error occurs creating the PreparedStatement
+     */
+    default PreparedStatement sql_findAssocSagaIdentifiers(Connection connection,
+                                                           Set<AssociationValue> associationValues,
+                                                           String sagaType) throws SQLException {
+        throw new UnsupportedOperationException("Finding multiple associations in one statement is not supported");
+    }
+
+    /**
+     * Creates a PreparedStatement that finds the associations of all Sagas of given {@code sagaType} with any of the
+     * given {@code sagaIdentifiers}. The ResultSet of the statement should contain the association key, the association
+     * value and the Saga identifier, in that order.
+     * <p>
+     * Only invoked if {@link #supportsBatchOperations()} returns {@code true}. Defaults to throwing an {@link
+     * UnsupportedOperationException}.
+     *
+     * @param connection      The connection to create the PreparedStatement for
+     * @param sagaIdentifiers The identifiers of the Sagas
+     * @param sagaType        The type of saga to find associations for
+     * @return a PreparedStatement that creates a ResultSet containing association keys, values and Saga identifiers
+     * @throws SQLException when an error occurs while creating the PreparedStatement
+     */
+    default PreparedStatement sql_findAssociations(Connection connection, Set<String> sagaIdentifiers,
+                                                   String sagaType) throws SQLException {
+        throw new UnsupportedOperationException("Finding associations of multiple Sagas is not supported");
+    }
+
+    /**
+     * Creates a PreparedStatement containing a batch which updates the serialized form of each of the given Saga
+     * {@code entries}. The statement is executed through {@link PreparedStatement#executeBatch()}, returning an update
+     * count per entry, in the order of the given entries.
+     * <p>
+     * Only invoked if {@link #supportsBatchOperations()} returns {@code true}. Defaults to throwing an {@link
+     * UnsupportedOperationException}.
+     *
+     * @param connection The connection to create the PreparedStatement for
+     * @param entries    The Saga entries containing the new serialized form of the Sagas
+     * @return a PreparedStatement containing a batch of updates
+     * @throws SQLException when an error occurs creating the PreparedStatement
+     */
+    default PreparedStatement sql_updateSagas(Connection connection, List<SagaEntry<?>> entries) throws SQLException {
+        throw new UnsupportedOperationException("Updating multiple Sagas in one batch is not supported");
+    }
+
+    /**
+     * Creates a PreparedStatement containing a batch which stores each of the given association value {@code
+     * entries}. The statement is executed through {@link PreparedStatement#executeBatch()}.
+     * <p>
+     * Only invoked if {@link #supportsBatchOperations()} returns {@code true}. Defaults to throwing an {@link
+     * UnsupportedOperationException}.
+     *
+     * @param connection The connection to create the PreparedStatement for
+     * @param entries    The association value entries to store
+     * @return a PreparedStatement containing a batch of inserts
+     * @throws SQLException when an error occurs creating the PreparedStatement
+     */
+    default PreparedStatement sql_storeAssocValues(Connection connection,
+                                                   List<AssociationValueEntry> entries) throws SQLException {
+        throw new UnsupportedOperationException("Storing multiple associations in one batch is not supported");
+    }
+
+    /**
+     * Creates a PreparedStatement containing a batch which removes each of the given association value {@code
+     * entries}. The statement is executed through {@link PreparedStatement#executeBatch()}.
+     * <p>
+     * Only invoked if {@link #supportsBatchOperations()} returns {@code true}. Defaults to throwing an {@link
+     * UnsupportedOperationException}.
+     *
+     * @param connection The connection to create the PreparedStatement for
+     * @param entries    The association value entries to remove
+     * @return a PreparedStatement containing a batch of deletes
+     * @throws SQLException when an error occurs creating the PreparedStatement
+     */
+    default PreparedStatement sql_removeAssocValues(Connection connection,
+                                                    List<AssociationValueEntry> entries) throws SQLException {
+        throw new UnsupportedOperationException("Removing multiple associations in one batch is not supported");
+    }
+
     /**
      * Reads a SerializedObject from the given {@code resultSet}, which has been returned by executing the
      * Statement returned from {@link #sql_loadSaga(java.sql.Connection, String)}
@@ -31,8 +31,12 @@
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.EntityNotFoundException;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Supplier;
@@ -85,6 +89,23 @@ public class JpaSagaStore implements SagaStore<Object> {
     private static final String DELETE_ASSOCIATIONS_QUERY =
             "DELETE FROM AssociationValueEntry ae WHERE ae.sagaId = :sagaId";
 
+    // Bulk Queries
+    private final String LOAD_SAGAS_QUERY =
+            "SELECT se.sagaId, se.serializedSaga, se.sagaType, se.revision FROM " + sagaEntryEntityName() + " se " +
+                    "WHERE se.sagaId IN :sagaIds";
+
+    private static final String FIND_ASSOCIATIONS_BY_VALUES_QUERY =
+            "SELECT ae FROM AssociationValueEntry ae WHERE ae.sagaType = :sagaType " +
+                    "AND ae.associationValue IN :associationValues";
+
+    private static final String FIND_ASSOCIATIONS_BY_SAGA_IDS_QUERY =
+            "SELECT ae FROM AssociationValueEntry ae WHERE ae.sagaType = :sagaType AND ae.sagaId IN :sagaIds";
+
+    /**
+     * The maximum number of saga identifiers or association values used as parameters in a single query.
+     */
+    private static final int MAX_QUERY_PARAMETERS = 250;
+
     private static final String LOAD_SAGA_NAMED_QUERY = "LOAD_SAGA_NAMED_QUERY";
     private static final String DELETE_ASSOCIATION_NAMED_QUERY = "DELETE_ASSOCIATION_NAMED_QUERY";
     private static final String FIND_ASSOCIATION_IDS_NAMED_QUERY = "FIND_ASSOCIATION_IDS_NAMED_QUERY";
@@ -237,6 +258,77 @@ public Set<String> findSagas(Class<?> sagaType, AssociationValue associationValu
         return new TreeSet<>(entries);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Selects the associations in a single query per {@value #MAX_QUERY_PARAMETERS} association values.
+     */
+    @Override
+    public Map<AssociationValue, Set<String>> findSagasByAssociationValues(Class<?> sagaType,
+                                                                           Set<AssociationValue> associationValues) {
+        EntityManager entityManager = entityManagerProvider.getEntityManager();
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        for (List<AssociationValue> chunk : chunks(associationValues)) {
+            Set<String> values = chunk.stream().map(AssociationValue::getValue).collect(Collectors.toSet());
+            entityManager.createQuery(FIND_ASSOCIATIONS_BY_VALUES_QUERY, AssociationValueEntry.class)
+                         .setParameter("sagaType", getSagaTypeName(sagaType))
+                         .setParameter("associationValues", values)
+                         .getResultList()
+                         .stream()
+                         .filter(entry -> associationValues.contains(entry.getAssociationValue()))
+                         .forEach(entry -> result.computeIfAbsent(entry.getAssociationValue(), k -> new TreeSet<>())
+                                                 .add(entry.getSagaIdentifier()));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Loads the sagas and their associations in a single query each per {@value #MAX_QUERY_PARAMETERS} sagas.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public <S> Map<String, Entry<S>> loadSagas(Class<S> sagaType, Set<String> sagaIdentifiers) {
+        EntityManager entityManager = entityManagerProvider.getEntityManager();
+        Map<String, Entry<S>> result = new HashMap<>();
+        for (List<String> chunk : chunks(sagaIdentifiers)) {
+            Map<String, Set<AssociationValue>> associations = new HashMap<>();
+            entityManager.createQuery(FIND_ASSOCIATIONS_BY_SAGA_IDS_QUERY, AssociationValueEntry.class)
+                         .setParameter("sagaType", getSagaTypeName(sagaType))
+                         .setParameter("sagaIds", chunk)
+                         .getResultList()
+                         .forEach(entry -> associations.computeIfAbsent(entry.getSagaIdentifier(), k -> new HashSet<>())
+                                                       .add(entry.getAssociationValue()));
+            List<Object[]> rows = entityManager.createQuery(LOAD_SAGAS_QUERY, Object[].class)
+                                               .setParameter("sagaIds", chunk)
+                                               .getResultList();
+            for (Object[] row : rows) {
+                String sagaIdentifier = (String) row[0];
+                SimpleSerializedObject<?> serializedSaga = new SimpleSerializedObject(
+                        row[1], row[1].getClass(), (String) row[2], (String) row[3]
+                );
+                S loadedSaga = serializer.deserialize(serializedSaga);
+                result.put(sagaIdentifier, new EntryImpl<>(
+                        associations.getOrDefault(sagaIdentifier, new HashSet<>()), loadedSaga
+                ));
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Loaded {} sagas of type [{}]", result.size(), sagaType.getName());
+        }
+        return result;
+    }
+
+    private static <E> List<List<E>> chunks(Collection<E> elements) {
+        List<E> elementList = new ArrayList<>(elements);
+        List<List<E>> chunks = new ArrayList<>();
+        for (int i = 0; i < elementList.size(); i += MAX_QUERY_PARAMETERS) {
+            chunks.add(elementList.subList(i, Math.min(i + MAX_QUERY_PARAMETERS, elementList.size())));
+        }
+        return chunks;
+    }
+
     @Override
     public void deleteSaga(Class<?> sagaType, String sagaIdentifier, Set<AssociationValue> associationValues) {
         EntityManager entityManager = entityManagerProvider.getEntityManager();
@@ -260,6 +352,31 @@ public void deleteSaga(Class<?> sagaType, String sagaIdentifier, Set<Association
     @Override
     public void updateSaga(Class<?> sagaType, String sagaIdentifier, Object saga, AssociationValues associationValues) {
         EntityManager entityManager = entityManagerProvider.getEntityManager();
+        doUpdateSaga(entityManager, sagaType, sagaIdentifier, saga, associationValues);
+        if (useExplicitFlush) {
+            entityManager.flush();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Flushes the {@link EntityManager} once after all updates have been executed, allowing the JPA provider to batch
+     * the resulting statements.
+     */
+    @Override
+    public void updateSagas(Class<?> sagaType, Collection<? extends Update<?>> updates) {
+        EntityManager entityManager = entityManagerProvider.getEntityManager();
+        for (Update<?> update : updates) {
+            doUpdateSaga(entityManager, sagaType, update.sagaIdentifier(), update.saga(), update.associationValues());
+        }
+        if (useExplicitFlush) {
+            entityManager.flush();
+        }
+    }
+
+    private void doUpdateSaga(EntityManager entityManager, Class<?> sagaType, String sagaIdentifier, Object saga,
+                              AssociationValues associationValues) {
         AbstractSagaEntry<?> entry = createSagaEntry(saga, sagaIdentifier, serializer);
 
         if (logger.isDebugEnabled()) {
@@ -279,9 +396,6 @@ public void updateSaga(Class<?> sagaType, String sagaIdentifier, Object saga, As
         if (updateCount == 0) {
             logger.warn("Expected to be able to update a Saga instance, but no rows were found.");
         }
-        if (useExplicitFlush) {
-            entityManager.flush();
-        }
     }
 
     private String serializedSagaAsString(AbstractSagaEntry<?> entry) {
@@ -167,6 +167,29 @@ void testExpectEventsToBeRoutedToRightEntityOnlyForEntityCollectionViaMethod() {
         assertEquals(1L, entityThreePayload.get());
     }
 
+    @Test
+    void testExpectEventsToBeRoutedToRightEntityOnlyForIndexedEntityCollection() {
+        AggregateModel<SomeEventForwardingIndexedEntityCollectionAggregate> inspector =
+                inspectAggregate(SomeEventForwardingIndexedEntityCollectionAggregate.class);
+
+        SomeEventForwardingIndexedEntityCollectionAggregate target =
+                new SomeEventForwardingIndexedEntityCollectionAggregate();
+
+        // All called once, as there is an event per entity only
+        AtomicLong entityOnePayload = new AtomicLong();
+        inspector.publish(asEventMessage(new EntityRoutedEvent("entityId1", entityOnePayload)), target);
+        AtomicLong entityTwoPayload = new AtomicLong();
+        inspector.publish(asEventMessage(new EntityRoutedEvent("entityId2", entityTwoPayload)), target);
+        // Not called, as the entity is removed after the index has been built
+        target.entities.remove(2);
+        AtomicLong entityThreePayload = new AtomicLong();
+        inspector.publish(asEventMessage(new EntityRoutedEvent("entityId3", entityThreePayload)), target);
+
+        assertEquals(1L, entityOnePayload.get());
+        assertEquals(1L, entityTwoPayload.get());
+        assertEquals(0L, entityThreePayload.get());
+    }
+
     @Test
     void testExpectEventsToBeRoutedToRightEntityOnlyForEntityMap() {
         AggregateModel<SomeEventForwardingEntityMapAggregate> inspector =
@@ -323,6 +346,22 @@ private static class SomeEventForwardingEntityCollectionAggregate {
         }
     }
 
+    private static class SomeEventForwardingIndexedEntityCollectionAggregate {
+
+        @AggregateIdentifier
+        private String id = AGGREGATE_ID;
+
+        @AggregateMember(eventForwardingMode = ForwardMatchingInstances.class)
+        private List<SomeEventForwardedEntity> entities;
+
+        SomeEventForwardingIndexedEntityCollectionAggregate() {
+            this.entities = new IndexedEntityList<>();
+            entities.add(new SomeEventForwardedEntity("entityId1"));
+            entities.add(new SomeEventForwardedEntity("entityId2"));
+            entities.add(new SomeEventForwardedEntity("entityId3"));
+        }
+    }
+
     private static class SomeGetterEventForwardingEntityCollectionAggregate {
 
         @AggregateIdentifier
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.modelling.command;
+
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link IndexedEntityList}.
+ */
+class IndexedEntityListTest {
+
+    private final AtomicInteger resolveCount = new AtomicInteger();
+    private final Function<Entity, Object> identifierResolver = entity -> {
+        resolveCount.incrementAndGet();
+        return entity.id;
+    };
+
+    private IndexedEntityList<Entity> testSubject;
+
+    @BeforeEach
+    void setUp() {
+        testSubject = new IndexedEntityList<>(Arrays.asList(new Entity("1"), new Entity("2"), new Entity("3")));
+    }
+
+    @Test
+    void testFindByIdentifierUsesIndexAfterFirstLookup() {
+        assertEquals("2", testSubject.findByIdentifier("2", identifierResolver).get(0).id);
+        resolveCount.set(0);
+
+        assertEquals("3", testSubject.findByIdentifier("3", identifierResolver).get(0).id);
+        // only the found entity is resolved again, to verify its identifier
+        assertEquals(1, resolveCount.get());
+    }
+
+    @Test
+    void testLookupOfUnknownIdentifierDoesNotScanEntities() {
+        testSubject.findByIdentifier("1", identifierResolver);
+        resolveCount.set(0);
+
+        assertTrue(testSubject.findByIdentifier("4", identifierResolver).isEmpty());
+        assertEquals(0, resolveCount.get());
+    }
+
+    @Test
+    void testIndexIsKeptInSyncWithChanges() {
+        testSubject.findByIdentifier("1", identifierResolver);
+
+        Entity added = new Entity("4");
+        testSubject.add(added);
+        testSubject.remove(0);
+        testSubject.set(0, new Entity("5"));
+        testSubject.removeIf(entity -> entity.id.equals("3"));
+
+        assertEquals(Collections.singletonList(added), testSubject.findByIdentifier("4", identifierResolver));
+        assertEquals(1, testSubject.findByIdentifier("5", identifierResolver).size());
+        assertTrue(testSubject.findByIdentifier("1", identifierResolver).isEmpty());
+        assertTrue(testSubject.findByIdentifier("2", identifierResolver).isEmpty());
+        assertTrue(testSubject.findByIdentifier("3", identifierResolver).isEmpty());
+        assertEquals(2, testSubject.size());
+
+        testSubject.clear();
+        assertTrue(testSubject.findByIdentifier("4", identifierResolver).isEmpty());
+    }
+
+    @Test
+    void testChangedIdentifierIsDetected() {
+        Entity entity = testSubject.get(0);
+        testSubject.findByIdentifier("1", identifierResolver);
+
+        entity.id = "6";
+
+        assertTrue(testSubject.findByIdentifier("1", identifierResolver).isEmpty());
+        assertEquals(Collections.singletonList(entity), testSubject.findByIdentifier("6", identifierResolver));
+        testSubject.remove(entity);
+        assertTrue(testSubject.findByIdentifier("6", identifierResolver).isEmpty());
+    }
+
+    @Test
+    void testChangedIdentifierIsOnlyFoundOnceDetected() {
+        Entity entity = testSubject.get(0);
+        testSubject.findByIdentifier("1", identifierResolver);
+
+        entity.id = "6";
+
+        assertTrue(testSubject.findByIdentifier("6", identifierResolver).isEmpty());
+        assertTrue(testSubject.findByIdentifier("1", identifierResolver).isEmpty());
+        resolveCount.set(0);
+        assertEquals(Collections.singletonList(entity), testSubject.findByIdentifier("6", identifierResolver));
+        // the index was rebuilt, so the entity is found without scanning
+        assertEquals(1, resolveCount.get());
+    }
+
+    @Test
+    void testEntitiesWithoutIdentifierAreScanned() {
+        Entity entity = new Entity(null);
+        testSubject.add(entity);
+        testSubject.findByIdentifier("1", identifierResolver);
+
+        entity.id = "7";
+
+        assertEquals(Collections.singletonList(entity), testSubject.findByIdentifier("7", identifierResolver));
+    }
+
+    @Test
+    void testEntitiesWithDuplicateIdentifiersAreAllFound() {
+        testSubject.add(new Entity("1"));
+
+        assertEquals(2, testSubject.findByIdentifier("1", identifierResolver).size());
+    }
+
+    @Test
+    void testIndexIsRebuiltAfterDeserialization() throws Exception {
+        testSubject.findByIdentifier("1", identifierResolver);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(testSubject);
+        }
+        IndexedEntityList<Entity> deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            //noinspection unchecked
+            deserialized = (IndexedEntityList<Entity>) in.readObject();
+        }
+
+        assertEquals(3, deserialized.size());
+        assertEquals("2", deserialized.findByIdentifier("2", identifierResolver).get(0).id);
+    }
+
+    private static class Entity implements Serializable {
+
+        private String id;
+
+        private Entity(String id) {
+            this.id = id;
+        }
+    }
+}
@@ -22,6 +22,7 @@
 import org.axonframework.eventhandling.ListenerInvocationErrorHandler;
 import org.axonframework.eventhandling.Segment;
 import org.axonframework.messaging.ResultMessage;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
 import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.junit.jupiter.api.*;
@@ -216,6 +217,35 @@ void testExceptionSuppressed() throws Exception {
         verify(mockErrorHandler).onError(toBeThrown, event, mockSaga1);
     }
 
+    @Test
+    void testSagasOfBatchArePrefetchedOnceIfSupportedByRepository() throws Exception {
+        when(mockSagaRepository.supportsPrefetch()).thenReturn(true);
+        EventMessage<?> event1 = new GenericEventMessage<>(new Object());
+        EventMessage<?> event2 = new GenericEventMessage<>(new Object());
+        BatchingUnitOfWork<EventMessage<?>> unitOfWork = new BatchingUnitOfWork<>(Arrays.asList(event1, event2));
+        unitOfWork.executeWithResult(() -> {
+            testSubject.handle(unitOfWork.getMessage(), Segment.ROOT_SEGMENT);
+            return null;
+        });
+
+        verify(mockSagaRepository).prefetch(eq(singleton(associationValue)), any());
+    }
+
+    @Test
+    void testSagasOfBatchAreNotPrefetchedIfNotSupportedByRepository() throws Exception {
+        when(mockSagaRepository.supportsPrefetch()).thenReturn(false);
+        EventMessage<?> event1 = new GenericEventMessage<>(new Object());
+        EventMessage<?> event2 = new GenericEventMessage<>(new Object());
+        BatchingUnitOfWork<EventMessage<?>> unitOfWork = new BatchingUnitOfWork<>(Arrays.asList(event1, event2));
+        unitOfWork.executeWithResult(() -> {
+            testSubject.handle(unitOfWork.getMessage(), Segment.ROOT_SEGMENT);
+            return null;
+        });
+
+        verify(mockSagaRepository, never()).prefetch(any(), any());
+        verify(mockSaga1).handle(event1);
+    }
+
     @SuppressWarnings({"unchecked"})
     private <T> Set<T> setOf(T... items) {
         return new CopyOnWriteArraySet<>(Arrays.asList(items));
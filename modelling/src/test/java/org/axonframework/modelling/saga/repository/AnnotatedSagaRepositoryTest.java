@@ -26,6 +26,7 @@
 import org.junit.jupiter.api.*;
 import org.mockito.*;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -145,4 +146,70 @@ void testSagaAssociationsVisibleInOtherThreadsBeforeSagaIsCommitted() throws Exc
 
         assertEquals(singleton(sagaId), testSubject.find(associationValue));
     }
+
+    @Test
+    void testPrefetchLoadsSagasWithSingleStoreInvocation() {
+        AnnotatedSagaRepository<Object> batchingTestSubject =
+                AnnotatedSagaRepository.builder().sagaType(Object.class).sagaStore(store).batchOperations(true).build();
+        AssociationValue firstAssociation = new AssociationValue("test", "first");
+        AssociationValue secondAssociation = new AssociationValue("test", "second");
+        batchingTestSubject.createInstance("saga1", Object::new).getAssociationValues().add(firstAssociation);
+        batchingTestSubject.createInstance("saga2", Object::new).getAssociationValues().add(secondAssociation);
+        currentUnitOfWork.commit();
+        currentUnitOfWork = startAndGet(null);
+        reset(store);
+
+        batchingTestSubject.prefetch(new HashSet<>(Arrays.asList(firstAssociation, secondAssociation)), id -> true);
+
+        verify(store).findSagasByAssociationValues(eq(Object.class), any());
+        verify(store).loadSagas(eq(Object.class), eq(new HashSet<>(Arrays.asList("saga1", "saga2"))));
+        clearInvocations(store);
+
+        assertEquals(singleton("saga1"), batchingTestSubject.find(firstAssociation));
+        assertEquals(singleton("saga2"), batchingTestSubject.find(secondAssociation));
+        Saga<Object> firstSaga = batchingTestSubject.load("saga1");
+        Saga<Object> secondSaga = batchingTestSubject.load("saga2");
+        assertNotNull(firstSaga);
+        assertNotNull(secondSaga);
+        secondSaga.getAssociationValues().add(new AssociationValue("test", "third"));
+
+        verify(store, never()).findSagas(any(), any());
+        verify(store, never()).loadSaga(any(), any());
+
+        currentUnitOfWork.commit();
+
+        verify(store).updateSagas(eq(Object.class), argThat(updates -> updates.size() == 2));
+        assertEquals(singleton("saga2"), store.findSagas(Object.class, new AssociationValue("test", "third")));
+    }
+
+    @Test
+    void testPrefetchIsIgnoredWithoutBatchOperations() {
+        testSubject.prefetch(singleton(new AssociationValue("test", "value")), id -> true);
+
+        verify(store, never()).findSagasByAssociationValues(any(), any());
+        verify(store, never()).loadSagas(any(), any());
+    }
+
+    @Test
+    void testPrefetchOnlyLoadsSagasMatchingFilter() {
+        AnnotatedSagaRepository<Object> batchingTestSubject =
+                AnnotatedSagaRepository.builder().sagaType(Object.class).sagaStore(store).batchOperations(true).build();
+        AssociationValue association = new AssociationValue("test", "value");
+        batchingTestSubject.createInstance("saga1", Object::new).getAssociationValues().add(association);
+        batchingTestSubject.createInstance("saga2", Object::new).getAssociationValues().add(association);
+        currentUnitOfWork.commit();
+        currentUnitOfWork = startAndGet(null);
+        reset(store);
+
+        batchingTestSubject.prefetch(singleton(association), "saga1"::equals);
+
+        verify(store).loadSagas(eq(Object.class), eq(singleton("saga1")));
+        clearInvocations(store);
+
+        batchingTestSubject.load("saga1");
+        batchingTestSubject.load("saga2");
+
+        verify(store).loadSaga(Object.class, "saga2");
+        verify(store, never()).loadSaga(Object.class, "saga1");
+    }
 }
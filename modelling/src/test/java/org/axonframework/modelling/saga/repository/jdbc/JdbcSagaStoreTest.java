@@ -26,6 +26,9 @@
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static java.util.Collections.singleton;
@@ -104,4 +107,92 @@ void testUpdateSagaWhenDeleted() {
         testSubject.updateSaga(StubSaga.class, "123456", new StubSaga(), associationsValues);
         assertNull(testSubject.loadSaga(StubSaga.class, "123456"));
     }
+
+    @Test
+    void testFindLoadAndUpdateSagasInBulk() {
+        AssociationValue firstAssociation = new AssociationValue("key", "first");
+        AssociationValue secondAssociation = new AssociationValue("key", "second");
+        testSubject.insertSaga(StubSaga.class, "123", new StubSaga(), singleton(firstAssociation));
+        testSubject.insertSaga(StubSaga.class, "456", new StubSaga(), singleton(secondAssociation));
+
+        Map<AssociationValue, Set<String>> found = testSubject.findSagasByAssociationValues(
+                StubSaga.class, new HashSet<>(Arrays.asList(firstAssociation, secondAssociation))
+        );
+        assertEquals(singleton("123"), found.get(firstAssociation));
+        assertEquals(singleton("456"), found.get(secondAssociation));
+
+        Map<String, SagaStore.Entry<StubSaga>> loaded =
+                testSubject.loadSagas(StubSaga.class, new HashSet<>(Arrays.asList("123", "456", "789")));
+        assertEquals(2, loaded.size());
+        assertEquals(singleton(firstAssociation), loaded.get("123").associationValues());
+        assertEquals(singleton(secondAssociation), loaded.get("456").associationValues());
+
+        AssociationValues firstSagaAssociations = new AssociationValuesImpl(singleton(firstAssociation));
+        firstSagaAssociations.add(secondAssociation);
+        firstSagaAssociations.remove(firstAssociation);
+        testSubject.updateSagas(StubSaga.class, singleton(new SagaStore.Update<StubSaga>() {
+            @Override
+            public String sagaIdentifier() {
+                return "123";
+            }
+
+            @Override
+            public StubSaga saga() {
+                return loaded.get("123").saga();
+            }
+
+            @Override
+            public AssociationValues associationValues() {
+                return firstSagaAssociations;
+            }
+        }));
+
+        assertTrue(testSubject.findSagas(StubSaga.class, firstAssociation).isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList("123", "456")),
+                     testSubject.findSagas(StubSaga.class, secondAssociation));
+    }
+
+    @Test
+    void testBulkOperationsFallBackToSingleSagaStatementsIfNotSupportedBySchema() throws SQLException {
+        SagaSqlSchema sqlSchema = spy(new HsqlSagaSqlSchema());
+        when(sqlSchema.supportsBatchOperations()).thenReturn(false);
+        testSubject = JdbcSagaStore.builder().dataSource(dataSource).sqlSchema(sqlSchema).build();
+
+        AssociationValue firstAssociation = new AssociationValue("key", "first");
+        AssociationValue secondAssociation = new AssociationValue("key", "second");
+        testSubject.insertSaga(StubSaga.class, "123", new StubSaga(), singleton(firstAssociation));
+
+        Map<AssociationValue, Set<String>> found =
+                testSubject.findSagasByAssociationValues(StubSaga.class, singleton(firstAssociation));
+        assertEquals(singleton("123"), found.get(firstAssociation));
+        Map<String, SagaStore.Entry<StubSaga>> loaded = testSubject.loadSagas(StubSaga.class, singleton("123"));
+        assertEquals(singleton(firstAssociation), loaded.get("123").associationValues());
+
+        AssociationValues associations = new AssociationValuesImpl(singleton(firstAssociation));
+        associations.add(secondAssociation);
+        testSubject.updateSagas(StubSaga.class, singleton(new SagaStore.Update<StubSaga>() {
+            @Override
+            public String sagaIdentifier() {
+                return "123";
+            }
+
+            @Override
+            public StubSaga saga() {
+                return loaded.get("123").saga();
+            }
+
+            @Override
+            public AssociationValues associationValues() {
+                return associations;
+            }
+        }));
+
+        verify(sqlSchema, never()).sql_findAssocSagaIdentifiers(any(), anySet(), any());
+        verify(sqlSchema, never()).sql_loadSagas(any(), anySet());
+        verify(sqlSchema, never()).sql_findAssociations(any(), anySet(), any());
+        verify(sqlSchema, never()).sql_updateSagas(any(), anyList());
+        verify(sqlSchema, never()).sql_storeAssocValues(any(), anyList());
+        assertEquals(new HashSet<>(Arrays.asList(firstAssociation, secondAssociation)),
+                     testSubject.loadSaga(StubSaga.class, "123").associationValues());
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot;
+
+import org.axonframework.common.ThreadingMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Defines the properties for the threads Axon uses in the thread pools it creates by default, like those of the event
+ * processors and the command and query processing of the Axon Server connector.
+ *
+ * @since 4.6.0
+ */
+@ConfigurationProperties(prefix = "axon.threading")
+public class ThreadingProperties {
+
+    /**
+     * The kind of threads used by the thread pools Axon creates by default. Defaults to {@link
+     * ThreadingMode#PLATFORM}. When set to {@link ThreadingMode#VIRTUAL} on a JVM that does not support virtual
+     * threads, platform threads are used instead.
+     */
+    private ThreadingMode mode = ThreadingMode.PLATFORM;
+
+    /**
+     * Returns the kind of threads used by the thread pools Axon creates by default. Defaults to {@link
+     * ThreadingMode#PLATFORM}.
+     *
+     * @return the kind of threads used by the thread pools Axon creates by default
+     */
+    public ThreadingMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Sets the kind of threads used by the thread pools Axon creates by default. Defaults to {@link
+     * ThreadingMode#PLATFORM}.
+     *
+     * @param mode the kind of threads used by the thread pools Axon creates by default
+     */
+    public void setMode(ThreadingMode mode) {
+        this.mode = mode;
+    }
+}
@@ -23,7 +23,7 @@
 import org.axonframework.commandhandling.SimpleCommandBus;
 import org.axonframework.commandhandling.gateway.CommandGateway;
 import org.axonframework.commandhandling.gateway.DefaultCommandGateway;
-import org.axonframework.common.AxonThreadFactory;
+import org.axonframework.common.ThreadingMode;
 import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.config.Configuration;
 import org.axonframework.config.EventProcessingConfigurer;
@@ -68,6 +68,7 @@
 import org.axonframework.springboot.EventProcessorProperties;
 import org.axonframework.springboot.SerializerProperties;
 import org.axonframework.springboot.TagsConfigurationProperties;
+import org.axonframework.springboot.ThreadingProperties;
 import org.axonframework.springboot.util.ConditionalOnMissingQualifiedBean;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -82,7 +83,6 @@
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 
 import java.util.Map;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 
@@ -96,7 +96,8 @@
         EventProcessorProperties.class,
         DistributedCommandBusProperties.class,
         SerializerProperties.class,
-        TagsConfigurationProperties.class
+        TagsConfigurationProperties.class,
+        ThreadingProperties.class
 })
 public class AxonAutoConfiguration implements BeanClassLoaderAware {
 
@@ -122,6 +123,12 @@ public TagsConfiguration tagsConfiguration() {
         return tagsConfigurationProperties.toTagsConfiguration();
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public ThreadingMode threadingMode(ThreadingProperties threadingProperties) {
+        return threadingProperties.getMode();
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public RevisionResolver revisionResolver() {
@@ -266,14 +273,20 @@ public void configureEventHandling(EventProcessingConfigurer eventProcessingConf
                                                settings.getTokenClaimIntervalTimeUnit());
                 Function<Configuration, StreamableMessageSource<TrackedEventMessage<?>>> messageSource =
                         resolveMessageSource(applicationContext, settings);
-                eventProcessingConfigurer.registerTrackingEventProcessor(name, messageSource, c -> config);
+                eventProcessingConfigurer.registerTrackingEventProcessor(
+                        name,
+                        messageSource,
+                        c -> config.andThreadFactory(
+                                pn -> threadingMode(c).threadFactory("EventProcessor[" + pn + "]")
+                        )
+                );
             } else if (settings.getMode() == EventProcessorProperties.Mode.POOLED) {
                 eventProcessingConfigurer.registerPooledStreamingEventProcessor(
                         name,
                         resolveMessageSource(applicationContext, settings),
                         (config, builder) -> {
-                            ScheduledExecutorService workerExecutor = Executors.newScheduledThreadPool(
-                                    settings.getThreadCount(), new AxonThreadFactory("WorkPackage[" + name + "]")
+                            ScheduledExecutorService workerExecutor = threadingMode(config).scheduledExecutor(
+                                    "WorkPackage[" + name + "]", settings.getThreadCount()
                             );
                             config.onShutdown(workerExecutor::shutdown);
                             return builder.workerExecutor(workerExecutor)
@@ -295,6 +308,10 @@ public void configureEventHandling(EventProcessingConfigurer eventProcessingConf
         });
     }
 
+    private static ThreadingMode threadingMode(Configuration config) {
+        return config.getComponent(ThreadingMode.class, () -> ThreadingMode.PLATFORM);
+    }
+
     private int initialSegmentCount(EventProcessorProperties.ProcessorSettings settings, int defaultCount) {
         return settings.getInitialSegmentCount() != null ? settings.getInitialSegmentCount() : defaultCount;
     }
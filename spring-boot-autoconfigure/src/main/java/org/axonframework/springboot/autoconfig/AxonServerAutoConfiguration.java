@@ -29,10 +29,12 @@
 import org.axonframework.axonserver.connector.event.axon.EventProcessorInfoConfiguration;
 import org.axonframework.axonserver.connector.query.AxonServerQueryBus;
 import org.axonframework.axonserver.connector.query.QueryPriorityCalculator;
+import org.axonframework.axonserver.connector.util.ExecutorServiceBuilder;
 import org.axonframework.commandhandling.CommandBus;
 import org.axonframework.commandhandling.CommandMessage;
 import org.axonframework.commandhandling.distributed.AnnotationRoutingStrategy;
 import org.axonframework.commandhandling.distributed.RoutingStrategy;
+import org.axonframework.common.ThreadingMode;
 import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.config.EventProcessingConfiguration;
 import org.axonframework.eventhandling.scheduling.EventScheduler;
@@ -118,7 +120,8 @@ public AxonServerCommandBus axonServerCommandBus(AxonServerConnectionManager axo
                                                      RoutingStrategy routingStrategy,
                                                      CommandPriorityCalculator priorityCalculator,
                                                      CommandLoadFactorProvider loadFactorProvider,
-                                                     TargetContextResolver<? super CommandMessage<?>> targetContextResolver) {
+                                                     TargetContextResolver<? super CommandMessage<?>> targetContextResolver,
+                                                     ThreadingMode threadingMode) {
         return AxonServerCommandBus.builder()
                                    .axonServerConnectionManager(axonServerConnectionManager)
                                    .configuration(axonServerConfiguration)
@@ -128,6 +131,9 @@ public AxonServerCommandBus axonServerCommandBus(AxonServerConnectionManager axo
                                    .priorityCalculator(priorityCalculator)
                                    .loadFactorProvider(loadFactorProvider)
                                    .targetContextResolver(targetContextResolver)
+                                   .executorServiceBuilder(
+                                           ExecutorServiceBuilder.defaultCommandExecutorServiceBuilder(threadingMode)
+                                   )
                                    .build();
     }
 
@@ -171,7 +177,8 @@ public AxonServerQueryBus queryBus(AxonServerConnectionManager axonServerConnect
                                        Serializer genericSerializer,
                                        QueryPriorityCalculator priorityCalculator,
                                        QueryInvocationErrorHandler queryInvocationErrorHandler,
-                                       TargetContextResolver<? super QueryMessage<?, ?>> targetContextResolver) {
+                                       TargetContextResolver<? super QueryMessage<?, ?>> targetContextResolver,
+                                       ThreadingMode threadingMode) {
         SimpleQueryBus simpleQueryBus =
                 SimpleQueryBus.builder()
                               .messageMonitor(axonConfiguration.messageMonitor(QueryBus.class, "queryBus"))
@@ -192,6 +199,9 @@ public AxonServerQueryBus queryBus(AxonServerConnectionManager axonServerConnect
                                  .genericSerializer(genericSerializer)
                                  .priorityCalculator(priorityCalculator)
                                  .targetContextResolver(targetContextResolver)
+                                 .executorServiceBuilder(
+                                         ExecutorServiceBuilder.defaultQueryExecutorServiceBuilder(threadingMode)
+                                 )
                                  .build();
     }
 
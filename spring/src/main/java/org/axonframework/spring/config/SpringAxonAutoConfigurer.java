@@ -19,6 +19,7 @@
 import org.axonframework.commandhandling.CommandBus;
 import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.ObjectUtils;
+import org.axonframework.common.ThreadingMode;
 import org.axonframework.common.annotation.AnnotationUtils;
 import org.axonframework.common.caching.Cache;
 import org.axonframework.common.jpa.EntityManagerProvider;
@@ -191,6 +192,7 @@ public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, B
         registerComponent(ListenerInvocationErrorHandler.class, configurer);
         registerComponent(ErrorHandler.class, configurer);
         registerComponent(TagsConfiguration.class, configurer);
+        registerComponent(ThreadingMode.class, configurer);
         String resourceInjector = findComponent(
                 ResourceInjector.class, registry,
                 () -> genericBeanDefinition(SpringResourceInjector.class).getBeanDefinition()
@@ -160,6 +160,24 @@ public Builder transactionManager(TransactionManager transactionManager) {
             return this;
         }
 
+        @Override
+        public Builder queueCapacity(int queueCapacity) {
+            super.queueCapacity(queueCapacity);
+            return this;
+        }
+
+        @Override
+        public Builder parallelism(int parallelism) {
+            super.parallelism(parallelism);
+            return this;
+        }
+
+        @Override
+        public Builder maxSnapshotsPerSecond(int maxSnapshotsPerSecond) {
+            super.maxSnapshotsPerSecond(maxSnapshotsPerSecond);
+            return this;
+        }
+
         @Override
         public Builder repositoryProvider(RepositoryProvider repositoryProvider) {
             super.repositoryProvider(repositoryProvider);